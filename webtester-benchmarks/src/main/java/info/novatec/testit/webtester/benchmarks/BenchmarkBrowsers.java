@@ -0,0 +1,60 @@
+package info.novatec.testit.webtester.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.browser.WebDriverBrowser;
+
+
+/**
+ * Creates {@link Browser browsers} for benchmarks. The browsers are backed by
+ * a web driver which does nothing at all - so the benchmarks only measure the
+ * framework's own overhead.
+ */
+final class BenchmarkBrowsers {
+
+    static Browser createBrowser() {
+        ClassLoader classLoader = BenchmarkBrowsers.class.getClassLoader();
+        Class<?>[] interfaces = { WebDriver.class, JavascriptExecutor.class };
+        WebDriver webDriver = ( WebDriver ) Proxy.newProxyInstance(classLoader, interfaces, new NoOpWebDriver());
+        return WebDriverBrowser.buildForWebDriver(webDriver);
+    }
+
+    private static final class NoOpWebDriver implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            if ("equals".equals(name)) {
+                return proxy == args[0];
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            } else if ("toString".equals(name)) {
+                return "no-op web driver";
+            }
+            return defaultValue(method.getReturnType());
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            if (type == boolean.class) {
+                return Boolean.FALSE;
+            } else if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+
+    }
+
+    private BenchmarkBrowsers() {
+        // utility class constructor
+    }
+
+}
@@ -0,0 +1,68 @@
+package info.novatec.testit.webtester.benchmarks;
+
+import javax.annotation.PostConstruct;
+
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Page object classes used by the benchmarks. They resemble a typical page: a
+ * class hierarchy, several page fragments, a list and a post construct method.
+ */
+final class BenchmarkPages {
+
+    public static class BasePage extends PageObject {
+
+        @IdentifyUsing(value = "header", elementname = "Header")
+        Fragment header;
+
+        @IdentifyUsing(value = "footer", elementname = "Footer")
+        Fragment footer;
+
+        @PostConstruct
+        void assertBasePage() {
+            // intentionally empty
+        }
+
+    }
+
+    public static class Page extends BasePage {
+
+        @IdentifyUsing("username")
+        Fragment username;
+
+        @IdentifyUsing("password")
+        Fragment password;
+
+        @IdentifyUsing("login")
+        Fragment login;
+
+        @IdentifyUsing("message")
+        Fragment message;
+
+        @IdentifyUsing("#items li")
+        PageObjectList<Fragment> items;
+
+        String notInjected;
+
+        @PostConstruct
+        void assertPage() {
+            // intentionally empty
+        }
+
+    }
+
+    public static class Fragment extends PageObject {
+
+        @IdentifyUsing("label")
+        PageObject label;
+
+    }
+
+    private BenchmarkPages() {
+        // utility class constructor
+    }
+
+}
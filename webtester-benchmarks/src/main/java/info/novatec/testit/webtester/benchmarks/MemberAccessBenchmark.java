@@ -0,0 +1,111 @@
+package info.novatec.testit.webtester.benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import info.novatec.testit.webtester.internal.MemberAccessors;
+import info.novatec.testit.webtester.internal.MemberAccessors.ConstructorAccessor;
+import info.novatec.testit.webtester.internal.MemberAccessors.FieldAccessor;
+import info.novatec.testit.webtester.internal.MemberAccessors.MethodAccessor;
+import info.novatec.testit.webtester.internal.ReflectionUtils;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Compares the cached {@link MemberAccessors member accessors} with the
+ * {@link ReflectionUtils reflective} access they replaced on the page object
+ * hot path. The reflective variants resolve the member on each call - just
+ * like the page object factory did for the <code>model</code> field of
+ * {@link PageObject}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MemberAccessBenchmark {
+
+    private static final String FIELD_NAME = "model";
+    private static final String METHOD_NAME = "assertPage";
+
+    private BenchmarkPages.Page page;
+    private Object value;
+
+    private ConstructorAccessor<BenchmarkPages.Page> constructorAccessor;
+    private FieldAccessor fieldAccessor;
+    private MethodAccessor methodAccessor;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        page = new BenchmarkPages.Page();
+        value = null;
+        constructorAccessor = MemberAccessors.forConstructor(BenchmarkPages.Page.class.getDeclaredConstructor());
+        fieldAccessor = MemberAccessors.forField(PageObject.class.getDeclaredField(FIELD_NAME));
+        methodAccessor = MemberAccessors.forMethod(BenchmarkPages.Page.class.getDeclaredMethod(METHOD_NAME));
+    }
+
+    /* constructors */
+
+    @Benchmark
+    public Object constructorReflective() throws ReflectiveOperationException {
+        Constructor<BenchmarkPages.Page> constructor = BenchmarkPages.Page.class.getDeclaredConstructor();
+        return ReflectionUtils.forceCreateInstance(constructor);
+    }
+
+    @Benchmark
+    public Object constructorAccessor() throws ReflectiveOperationException {
+        return constructorAccessor.newInstance();
+    }
+
+    /* fields */
+
+    @Benchmark
+    public void setFieldReflective() throws ReflectiveOperationException {
+        Field field = PageObject.class.getDeclaredField(FIELD_NAME);
+        ReflectionUtils.forceSetField(field, page, value);
+    }
+
+    @Benchmark
+    public void setFieldAccessor() {
+        fieldAccessor.set(page, value);
+    }
+
+    @Benchmark
+    public Object getFieldReflective() throws ReflectiveOperationException {
+        Field field = PageObject.class.getDeclaredField(FIELD_NAME);
+        return ReflectionUtils.forceGetFieldValue(field, page);
+    }
+
+    @Benchmark
+    public Object getFieldAccessor() {
+        return fieldAccessor.get(page);
+    }
+
+    /* methods */
+
+    @Benchmark
+    public Object invokeMethodReflective() throws ReflectiveOperationException {
+        Method method = BenchmarkPages.Page.class.getDeclaredMethod(METHOD_NAME);
+        return ReflectionUtils.forceInvokeMethod(method, page);
+    }
+
+    @Benchmark
+    public Object invokeMethodAccessor() throws ReflectiveOperationException {
+        return methodAccessor.invoke(page);
+    }
+
+}
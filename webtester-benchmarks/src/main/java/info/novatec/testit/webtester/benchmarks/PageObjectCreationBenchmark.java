@@ -0,0 +1,64 @@
+package info.novatec.testit.webtester.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.internal.pageobjects.DefaultPageObjectFactory;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectInjectionPlan;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectModel;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Compares the creation of a page object (including all of its page
+ * fragments) using the cached {@link PageObjectInjectionPlan injection plans}
+ * of the {@link DefaultPageObjectFactory} with the
+ * {@link ReflectivePageObjectFactory reflective path} it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PageObjectCreationBenchmark {
+
+    private Browser browser;
+    private DefaultPageObjectFactory planBasedFactory;
+    private ReflectivePageObjectFactory reflectiveFactory;
+
+    @Setup
+    public void setUp() {
+        browser = BenchmarkBrowsers.createBrowser();
+        planBasedFactory = new DefaultPageObjectFactory();
+        reflectiveFactory = new ReflectivePageObjectFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        browser.close();
+    }
+
+    @Benchmark
+    public PageObject planBased() {
+        return planBasedFactory.create(BenchmarkPages.Page.class, PageObjectModel.forPage(browser));
+    }
+
+    @Benchmark
+    public PageObject reflective() throws ReflectiveOperationException {
+        return reflectiveFactory.create(BenchmarkPages.Page.class, PageObjectModel.forPage(browser));
+    }
+
+}
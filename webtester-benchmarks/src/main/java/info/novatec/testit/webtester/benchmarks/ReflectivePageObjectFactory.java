@@ -0,0 +1,157 @@
+package info.novatec.testit.webtester.benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.lang.StringUtils;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.annotations.Visible;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.pageobjects.Identification;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.internal.ReflectionUtils;
+import info.novatec.testit.webtester.internal.pageobjects.LazyLoadingPageObjectList;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectModel;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.Identifications;
+
+
+/**
+ * The reflective page object creation as it was done before the introduction
+ * of injection plans and member accessors: the class ancestry is walked for
+ * fields, post construct methods and visibility checks on every creation and
+ * all members are accessed using {@link ReflectionUtils}. Serves as the
+ * baseline of the {@link PageObjectCreationBenchmark}.
+ * <p>
+ * Visibility checks only look for {@link Visible @Visible} fields - the
+ * benchmark pages don't declare any, so no waiting is involved.
+ */
+@SuppressWarnings("unchecked")
+final class ReflectivePageObjectFactory {
+
+    <T extends PageObject> T create(Class<T> pageClazz, PageObjectModel model) throws ReflectiveOperationException {
+
+        Constructor<T> classConstructor = pageClazz.getDeclaredConstructor();
+        T pageInstance = ReflectionUtils.forceCreateInstance(classConstructor);
+        ReflectionUtils.forceSetField(PageObject.class.getDeclaredField("model"), pageInstance, model);
+        ReflectionUtils.forceSetField(PageObject.class.getDeclaredField("webElement"), pageInstance, null);
+
+        initializeOtherPageObjectTypeFields(pageInstance, pageClazz);
+        invokePostConstructMethods(pageInstance, pageClazz);
+        checkVisibilityOfAnnotatedFields(pageInstance, pageClazz);
+
+        return pageInstance;
+
+    }
+
+    private <T extends PageObject> void initializeOtherPageObjectTypeFields(T pageInstance, Class<T> pageClazz)
+        throws ReflectiveOperationException {
+        Browser browser = pageInstance.getBrowser();
+        Deque<Class<?>> classAncestry = ReflectionUtils.getClassAncestry(pageClazz);
+        while (!classAncestry.isEmpty()) {
+            for (Field field : classAncestry.pop().getDeclaredFields()) {
+                if (shouldInitializeField(field)) {
+                    initializeField(field, pageInstance, browser);
+                }
+            }
+        }
+    }
+
+    private boolean shouldInitializeField(Field field) {
+        return field.getAnnotation(IdentifyUsing.class) != null || field.getAnnotation(FindBy.class) != null
+            || field.getAnnotation(FindBys.class) != null;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private <T extends PageObject> void initializeField(Field field, T pageInstance, Browser browser)
+        throws ReflectiveOperationException {
+
+        Identification identification = getIdentificationForField(field);
+        PageObjectModel metaData = PageObjectModel.forPageFragment(browser, identification, pageInstance);
+        metaData.setName(getNameForField(field));
+
+        Class<?> fieldClass = field.getType();
+        if (PageObject.class.isAssignableFrom(fieldClass)) {
+            PageObject pageObject = create(( Class<? extends PageObject> ) fieldClass, metaData);
+            ReflectionUtils.forceSetField(field, pageInstance, pageObject);
+        } else if (List.class.isAssignableFrom(fieldClass) || PageObjectList.class.isAssignableFrom(fieldClass)) {
+            ParameterizedType genericType = ( ParameterizedType ) field.getGenericType();
+            Class<? extends PageObject> listType = ( Class<? extends PageObject> ) genericType.getActualTypeArguments()[0];
+            ReflectionUtils.forceSetField(field, pageInstance, new LazyLoadingPageObjectList(listType, metaData));
+        }
+
+    }
+
+    private Identification getIdentificationForField(Field field) {
+        IdentifyUsing identifyUsing = field.getAnnotation(IdentifyUsing.class);
+        if (identifyUsing != null) {
+            return Identifications.fromAnnotation(identifyUsing);
+        }
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        if (findBy != null) {
+            return Identifications.fromAnnotation(findBy);
+        }
+        return Identifications.fromAnnotation(field.getAnnotation(FindBys.class));
+    }
+
+    private String getNameForField(Field field) {
+        IdentifyUsing identificationUsing = field.getAnnotation(IdentifyUsing.class);
+        if (identificationUsing != null) {
+            return StringUtils.defaultString(identificationUsing.elementname());
+        }
+        return StringUtils.EMPTY;
+    }
+
+    private <T extends PageObject> void invokePostConstructMethods(T pageInstance, Class<T> pageClazz)
+        throws ReflectiveOperationException {
+        Deque<Class<?>> classAncestry = ReflectionUtils.getClassAncestry(pageClazz);
+        while (!classAncestry.isEmpty()) {
+            for (Method method : classAncestry.pop().getDeclaredMethods()) {
+                if (method.getAnnotation(PostConstruct.class) != null) {
+                    ReflectionUtils.forceInvokeMethod(method, pageInstance);
+                }
+            }
+        }
+    }
+
+    private <T extends PageObject> void checkVisibilityOfAnnotatedFields(T pageInstance, Class<T> pageClazz)
+        throws ReflectiveOperationException {
+        if (shouldCheckVisibility(pageInstance)) {
+            Deque<Class<?>> classAncestry = ReflectionUtils.getClassAncestry(pageClazz);
+            while (!classAncestry.isEmpty()) {
+                for (Field field : classAncestry.pop().getDeclaredFields()) {
+                    if (field.getAnnotation(Visible.class) != null) {
+                        throw new UnsupportedOperationException("benchmark pages must not declare @Visible fields");
+                    }
+                }
+            }
+        }
+    }
+
+    private <T extends PageObject> boolean shouldCheckVisibility(T pageInstance) throws ReflectiveOperationException {
+        PageObject parent = pageInstance.getParent();
+        if (parent == null) {
+            return true;
+        }
+        Set<Field> parentFields = ReflectionUtils.getAllFieldsOfClassHierarchy(parent.getClass());
+        for (Field field : parentFields) {
+            if (field.getDeclaringClass().isAssignableFrom(PageObject.class)) {
+                Object fieldValue = ReflectionUtils.forceGetFieldValue(field, parent);
+                if (fieldValue != null && fieldValue.equals(pageInstance)) {
+                    return field.getAnnotation(Visible.class) != null;
+                }
+            }
+        }
+        return false;
+    }
+
+}
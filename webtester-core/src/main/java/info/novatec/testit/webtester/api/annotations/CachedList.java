@@ -0,0 +1,45 @@
+package info.novatec.testit.webtester.api.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * This annotation can be added to {@link PageObjectList page object list}
+ * fields of {@link PageObject} subclasses in order to override the list
+ * caching behavior set in the {@link Configuration}.
+ * <p>
+ * A caching list keeps a snapshot of its elements and only re-queries the
+ * page if the DOM of the current page was changed since the snapshot was
+ * taken. Changes are detected by a mutation observer which is injected into
+ * the page the first time a caching list is used.
+ * <p>
+ * <b>Notes:</b>
+ * <ul>
+ * <li>Fields without this annotation use the setting of
+ * {@link Configuration#pageObjectListCachingIsActivated()}.</li>
+ * <li>If the browser does not support mutation observers, the list behaves
+ * like a non caching list.</li>
+ * </ul>
+ *
+ * @since 1.2.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface CachedList {
+
+    /**
+     * @return whether or not the annotated list should cache its elements
+     * @since 1.2.0
+     */
+    boolean value() default true;
+
+}
@@ -0,0 +1,52 @@
+package info.novatec.testit.webtester.api.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import javax.annotation.PostConstruct;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * This annotation can be added to {@link PageObject} subclasses in order to
+ * override the lazy initialization behavior set in the {@link Configuration}
+ * for the page fragments declared by the class.
+ * <p>
+ * The page fragment fields of a lazily initializing class are still
+ * populated when an instance is created, but the fragments are not
+ * initialized completely: their {@link PostConstruct} methods and their
+ * {@link Visible} checks (the fragment's own as well as those of its fields)
+ * are executed the first time the fragment's web element is needed. The
+ * visibility checks of the declaring page object skip these fragments.
+ * Fragments which are never used are therefore never checked.
+ * <p>
+ * <b>Notes:</b>
+ * <ul>
+ * <li>Classes without this annotation use the setting of
+ * {@link Configuration#lazyPageObjectInitializationIsActivated()}.</li>
+ * <li>Exceptions of post construct methods and visibility checks are thrown
+ * on first use of the fragment instead of when the page object is
+ * created.</li>
+ * </ul>
+ *
+ * @since 1.2.0
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface LazyInitialization {
+
+    /**
+     * @return whether or not the page fragments of the annotated class should
+     * be initialized lazily
+     * @since 1.2.0
+     */
+    boolean value() default true;
+
+}
@@ -0,0 +1,46 @@
+package info.novatec.testit.webtester.api.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
+import info.novatec.testit.webtester.eventsystem.EventBus;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+
+
+/**
+ * This annotation can be added to {@link EventListener event listener} classes
+ * in order to declare which types of {@link Event events} they are interested
+ * in. Listeners are only informed of events which are instances of at least
+ * one of the declared types (including their subtypes).
+ * <p>
+ * <b>Notes:</b>
+ * <ul>
+ * <li>Listeners without this annotation are informed of all events.</li>
+ * <li>The annotation is evaluated when the listener is registered with the
+ * {@link EventSystem event system} or an {@link EventBus event bus}. Listeners
+ * registered for an explicit event type ignore this annotation.</li>
+ * <li>Since events which nobody is listening to are not dispatched, the
+ * framework can skip gathering expensive event data for them.</li>
+ * </ul>
+ *
+ * @since 1.2.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ListensTo {
+
+    /**
+     * @return the types of events the annotated listener is interested in
+     * @since 1.2.0
+     */
+    Class<? extends Event>[] value();
+
+}
@@ -29,7 +29,8 @@ import info.novatec.testit.webtester.api.pageobjects.Validator;
  * <dd>Will be evaluated as 'valid' in case the web element has the tag 'input' and the 'type' attribute has either the
  * 'text' oder 'password' value.</dd>
  * <dt><b>@Mapping(validator=FooValidator.class)</b></dt>
- * <dd>Will create a new instance of the given validator class and use it to evaluate the web element.</dd>
+ * <dd>Will create an instance of the given validator class and use it to evaluate the web element. The instance is
+ * created once per page object class and shared by all its instances.</dd>
  * </dl>
  *
  * @since 1.2.0
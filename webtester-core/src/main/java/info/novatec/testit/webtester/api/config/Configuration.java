@@ -4,10 +4,25 @@ import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Set;
+import javax.annotation.PostConstruct;
 
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.Color;
 
+import info.novatec.testit.webtester.api.annotations.CachedList;
+import info.novatec.testit.webtester.api.annotations.LazyInitialization;
+import info.novatec.testit.webtester.api.annotations.Visible;
+import info.novatec.testit.webtester.api.enumerations.WaitPolling;
+import info.novatec.testit.webtester.api.events.Event;
 import info.novatec.testit.webtester.api.exceptions.config.SetNullValuesException;
+import info.novatec.testit.webtester.api.pageobjects.Identification;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
+import info.novatec.testit.webtester.api.utils.LenientJavaScriptCondition;
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+import info.novatec.testit.webtester.browser.BrowserPool;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.PageObjectFinder;
 import info.novatec.testit.webtester.utils.Waits;
 
 
@@ -235,6 +250,305 @@ public interface Configuration {
      */
     Configuration setWaitInterval(long waitInterval);
 
+    /**
+     * Returns the {@link WaitPolling polling} to use when checking conditions
+     * of wait operations. This is used for all {@link Waits waits} which are
+     * not given an explicit interval or {@link PollingStrategy strategy}.
+     *
+     * @return the wait polling
+     * @since 1.2.0
+     */
+    WaitPolling getWaitPolling();
+
+    /**
+     * Sets the {@link WaitPolling polling} to use when checking conditions of
+     * wait operations. This is used for all {@link Waits waits} which are not
+     * given an explicit interval or {@link PollingStrategy strategy}.
+     *
+     * @param waitPolling the wait polling to use
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setWaitPolling(WaitPolling waitPolling);
+
+    /**
+     * Returns whether or not wait operations on page objects using
+     * {@link JavaScriptCondition JavaScript capable conditions} should be
+     * executed inside the browser using a single asynchronous script instead of
+     * polling the browser from Java. This is used for all {@link Waits waits}
+     * which are not given an explicit interval or {@link PollingStrategy
+     * strategy}.
+     *
+     * @return true if waits should be executed inside the browser, false
+     * otherwise
+     * @since 1.2.0
+     */
+    boolean waitInBrowserIsActivated();
+
+    /**
+     * Sets whether or not wait operations on page objects using
+     * {@link JavaScriptCondition JavaScript capable conditions} should be
+     * executed inside the browser using a single asynchronous script instead of
+     * polling the browser from Java.
+     *
+     * @param activated true if waits should be executed inside the browser,
+     * false otherwise
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setWaitInBrowserActivated(boolean activated);
+
+    /**
+     * Returns the script timeout of the web driver in milliseconds. Wait
+     * operations executed inside the browser have to change the web driver's
+     * script timeout and restore it to this value afterwards - the current
+     * value can't be read from the web driver.
+     *
+     * @return the script timeout in milliseconds
+     * @since 1.2.0
+     */
+    long getWaitInBrowserScriptTimeout();
+
+    /**
+     * Sets the script timeout of the web driver in milliseconds which is
+     * restored after wait operations executed inside the browser.
+     *
+     * @param scriptTimeout the script timeout in milliseconds
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setWaitInBrowserScriptTimeout(long scriptTimeout);
+
+    /**
+     * Returns whether or not {@link PageObjectList page object lists} should
+     * cache their elements by default. Caching lists keep a snapshot of their
+     * elements until the DOM of the current page changes. This can be
+     * overridden for single fields using the {@link CachedList} annotation.
+     *
+     * @return true if lists should cache their elements, otherwise false
+     * @since 1.2.0
+     */
+    boolean pageObjectListCachingIsActivated();
+
+    /**
+     * Sets whether or not {@link PageObjectList page object lists} should
+     * cache their elements by default. Caching lists keep a snapshot of their
+     * elements until the DOM of the current page changes. This can be
+     * overridden for single fields using the {@link CachedList} annotation.
+     *
+     * @param activated whether or not lists should cache their elements
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setPageObjectListCachingActivated(boolean activated);
+
+    /**
+     * Returns whether or not {@link PageObjectList page object lists} should
+     * be filtered inside the browser. If activated, filtering a list by a
+     * {@link LenientJavaScriptCondition condition which can be evaluated
+     * leniently inside the browser} is done by a single script which returns
+     * the candidate elements. Only the candidates are checked in Java. Other
+     * conditions are still evaluated for each element.
+     *
+     * @return true if lists should be filtered inside the browser, otherwise
+     * false
+     * @since 1.2.0
+     */
+    boolean listFilteringInBrowserIsActivated();
+
+    /**
+     * Sets whether or not {@link PageObjectList page object lists} should be
+     * filtered inside the browser.
+     *
+     * @param activated whether or not lists should be filtered inside the
+     * browser
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setListFilteringInBrowserActivated(boolean activated);
+
+    /**
+     * Returns whether or not {@link PageObject page objects} should keep their
+     * resolved {@link WebElement web element} and reuse it for subsequent
+     * actions. Cached elements are dropped whenever the browser navigates to
+     * another page or switches windows or frames. Actions failing because of a
+     * stale cached element are retried once with a newly resolved element, if
+     * the element became stale before the action used it for the first time.
+     *
+     * @return true if page objects should cache their web elements, otherwise
+     * false
+     * @since 1.2.0
+     */
+    boolean webElementCachingIsActivated();
+
+    /**
+     * Sets whether or not {@link PageObject page objects} should keep their
+     * resolved {@link WebElement web element} and reuse it for subsequent
+     * actions.
+     *
+     * @param activated whether or not page objects should cache their web
+     * elements
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setWebElementCachingActivated(boolean activated);
+
+    /**
+     * Returns whether or not the page fragments of {@link PageObject page
+     * objects} should be initialized lazily. The {@link PostConstruct} methods
+     * and {@link Visible} checks of lazily initialized page fragments are
+     * executed the first time the fragment is used instead of when the page
+     * object is created. This can be overridden for single page object
+     * classes using the {@link LazyInitialization} annotation.
+     *
+     * @return true if page fragments should be initialized lazily, otherwise
+     * false
+     * @since 1.2.0
+     */
+    boolean lazyPageObjectInitializationIsActivated();
+
+    /**
+     * Sets whether or not the page fragments of {@link PageObject page
+     * objects} should be initialized lazily.
+     *
+     * @param activated whether or not page fragments should be initialized
+     * lazily
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setLazyPageObjectInitializationActivated(boolean activated);
+
+    /**
+     * Returns whether or not the {@link WebElement web elements} of all page
+     * fragments of a page should be resolved with a single script when the
+     * page is created. Fragments without a matching element look up their
+     * element as usual once they are used.
+     *
+     * @return true if page fragments should be prefetched, otherwise false
+     * @see PageObject#prefetch()
+     * @since 1.2.0
+     */
+    boolean pageFragmentPrefetchingIsActivated();
+
+    /**
+     * Sets whether or not the {@link WebElement web elements} of all page
+     * fragments of a page should be resolved with a single script when the
+     * page is created.
+     *
+     * @param activated whether or not page fragments should be prefetched
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setPageFragmentPrefetchingActivated(boolean activated);
+
+    /**
+     * Returns whether or not {@link PageObject page objects} created by
+     * {@link PageObjectFinder finders} should be reused. If activated, finding
+     * a page object with the same parent, {@link Identification
+     * identification} and class again returns the already created instance
+     * until the browser navigates to another page or switches windows or
+     * frames.
+     *
+     * @return true if found page objects should be reused, otherwise false
+     * @since 1.2.0
+     */
+    boolean finderCachingIsActivated();
+
+    /**
+     * Sets whether or not {@link PageObject page objects} created by
+     * {@link PageObjectFinder finders} should be reused until the browser
+     * navigates to another page.
+     *
+     * @param activated whether or not found page objects should be reused
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setFinderCachingActivated(boolean activated);
+
+    /**
+     * Returns whether or not {@link Event events} should capture the state of
+     * page objects before and after an action (i.e. the old and new text of a
+     * text field). Disabling this saves calls to the browser for each action,
+     * but the events will not include these states.
+     *
+     * @return true if states should be captured, otherwise false
+     * @since 1.2.0
+     */
+    boolean eventStateCaptureIsActivated();
+
+    /**
+     * Sets whether or not {@link Event events} should capture the state of
+     * page objects before and after an action (i.e. the old and new text of a
+     * text field). Disabling this saves calls to the browser for each action,
+     * but the events will not include these states.
+     *
+     * @param activated whether or not states should be captured
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setEventStateCaptureActivated(boolean activated);
+
+    /**
+     * Returns the maximum number of browsers (leased and idle) of the
+     * {@link BrowserPool#getDefault() default browser pool}.
+     *
+     * @return the maximum number of browsers
+     * @since 1.2.0
+     */
+    int getBrowserPoolMaxSize();
+
+    /**
+     * Sets the maximum number of browsers (leased and idle) of the
+     * {@link BrowserPool#getDefault() default browser pool}. Has no effect
+     * once the default pool was created.
+     *
+     * @param maxSize the maximum number of browsers
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setBrowserPoolMaxSize(int maxSize);
+
+    /**
+     * Returns the number of seconds after which idle browsers of the
+     * {@link BrowserPool#getDefault() default browser pool} are closed.
+     *
+     * @return the number of seconds
+     * @since 1.2.0
+     */
+    int getBrowserPoolMaxIdleTime();
+
+    /**
+     * Sets the number of seconds after which idle browsers of the
+     * {@link BrowserPool#getDefault() default browser pool} are closed. Has
+     * no effect once the default pool was created.
+     *
+     * @param maxIdleTime the idle time in seconds
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setBrowserPoolMaxIdleTime(int maxIdleTime);
+
+    /**
+     * Returns the maximum number of seconds to wait for a browser to be
+     * released if the {@link BrowserPool#getDefault() default browser pool}
+     * is exhausted.
+     *
+     * @return the number of seconds
+     * @since 1.2.0
+     */
+    int getBrowserPoolLeaseTimeout();
+
+    /**
+     * Sets the maximum number of seconds to wait for a browser to be released
+     * if the {@link BrowserPool#getDefault() default browser pool} is
+     * exhausted. Has no effect once the default pool was created.
+     *
+     * @param leaseTimeout the timeout in seconds
+     * @return the same configuration for fluent API
+     * @since 1.2.0
+     */
+    Configuration setBrowserPoolLeaseTimeout(int leaseTimeout);
+
     /**
      * Returns whether or not created browsers should tried to be closed when
      * the JVM is shut down. Depending on your Java and Selenium version this
@@ -0,0 +1,43 @@
+package info.novatec.testit.webtester.api.enumerations;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+import info.novatec.testit.webtester.utils.PollingStrategies;
+
+
+/**
+ * Enumeration of the {@link PollingStrategy polling strategies} which can be
+ * selected for wait operations using the {@link Configuration}. All of them are
+ * based on the configured {@link Configuration#getWaitInterval() wait
+ * interval}.
+ *
+ * @see PollingStrategies#forConfiguration(Configuration)
+ * @since 1.2.0
+ */
+public enum WaitPolling {
+
+    /**
+     * The condition is checked once every wait interval.
+     *
+     * @since 1.2.0
+     */
+    FIXED,
+
+    /**
+     * The condition is checked in short intervals at first. The interval is
+     * doubled after each check until it reaches the wait interval.
+     *
+     * @since 1.2.0
+     */
+    EXPONENTIAL_BACKOFF,
+
+    /**
+     * The condition is checked in very short intervals during the first
+     * moments of the wait operation. Afterwards it is checked once every wait
+     * interval.
+     *
+     * @since 1.2.0
+     */
+    FAST_START
+
+}
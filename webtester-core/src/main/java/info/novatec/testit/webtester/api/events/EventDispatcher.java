@@ -0,0 +1,50 @@
+package info.novatec.testit.webtester.api.events;
+
+import java.util.List;
+
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+
+
+/**
+ * Classes implementing this interface are used by the {@link EventSystem event
+ * system} in order to deliver fired {@link Event events} to the registered
+ * {@link EventListener event listeners}.
+ * <p>
+ * Implementations decide on which thread and at what time listeners are
+ * informed. They have to guarantee that events fired for the same browser are
+ * delivered in the order they were fired and that each listener is informed in
+ * the order of the given list.
+ *
+ * @see EventSystem#setDispatcher(EventDispatcher)
+ * @since 1.2.0
+ */
+public interface EventDispatcher {
+
+    /**
+     * Delivers the given {@link Event event} to all of the given
+     * {@link EventListener listeners}. The given list is an immutable snapshot
+     * of the listeners registered at the time the event was fired.
+     *
+     * @param event the event to deliver
+     * @param listeners the listeners to inform
+     * @since 1.2.0
+     */
+    void dispatch(Event event, List<EventListener> listeners);
+
+    /**
+     * Blocks until all {@link Event events} which were dispatched before this
+     * method was called have been delivered to their listeners.
+     *
+     * @since 1.2.0
+     */
+    void flush();
+
+    /**
+     * Delivers all pending {@link Event events} and releases any resources
+     * (like threads) held by this dispatcher.
+     *
+     * @since 1.2.0
+     */
+    void shutdown();
+
+}
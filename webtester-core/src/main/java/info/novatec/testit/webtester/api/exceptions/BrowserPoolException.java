@@ -0,0 +1,24 @@
+package info.novatec.testit.webtester.api.exceptions;
+
+import info.novatec.testit.webtester.browser.BrowserPool;
+
+
+/**
+ * This exception is thrown in case a {@link BrowserPool browser pool} can't
+ * provide a browser. Either because a new browser could not be created or
+ * because the pool was exhausted for too long.
+ *
+ * @since 1.2.0
+ */
+@SuppressWarnings("serial")
+public class BrowserPoolException extends WebTesterException {
+
+    public BrowserPoolException(String message) {
+        super(message);
+    }
+
+    public BrowserPoolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
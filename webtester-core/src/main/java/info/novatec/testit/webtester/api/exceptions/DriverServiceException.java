@@ -0,0 +1,23 @@
+package info.novatec.testit.webtester.api.exceptions;
+
+import info.novatec.testit.webtester.browser.SharedDriverService;
+
+
+/**
+ * This exception is thrown in case a {@link SharedDriverService shared driver
+ * service} could not be started or no free port could be allocated for it.
+ *
+ * @since 1.2.0
+ */
+@SuppressWarnings("serial")
+public class DriverServiceException extends WebTesterException {
+
+    public DriverServiceException(String message) {
+        super(message);
+    }
+
+    public DriverServiceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
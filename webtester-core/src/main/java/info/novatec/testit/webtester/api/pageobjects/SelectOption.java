@@ -0,0 +1,118 @@
+package info.novatec.testit.webtester.api.pageobjects;
+
+import info.novatec.testit.webtester.pageobjects.Select;
+
+
+/**
+ * Immutable snapshot of a single option of a {@link Select select}. Instances
+ * are created by {@link Select#readOptions()}, which reads all options of a
+ * select with a single call to the browser.
+ *
+ * @since 1.2.0
+ */
+public final class SelectOption {
+
+    private static final String TO_STRING_MSG = "option #%s [text: '%s', value: '%s', selected: %s]";
+
+    private final String text;
+    private final String value;
+    private final boolean selected;
+    private final int index;
+
+    /**
+     * Creates a new {@link SelectOption option} with the given data.
+     *
+     * @param text the visible text of the option
+     * @param value the value of the option
+     * @param selected whether or not the option is selected
+     * @param index the index of the option within its select
+     * @since 1.2.0
+     */
+    public SelectOption(String text, String value, boolean selected, int index) {
+        this.text = text;
+        this.value = value;
+        this.selected = selected;
+        this.index = index;
+    }
+
+    /**
+     * @return the visible text of the option
+     * @since 1.2.0
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return the value of the option
+     * @since 1.2.0
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @return whether or not the option was selected when it was read
+     * @since 1.2.0
+     */
+    public boolean isSelected() {
+        return selected;
+    }
+
+    /**
+     * @return the index of the option within its select
+     * @since 1.2.0
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + index;
+        result = prime * result + (selected ? 1231 : 1237);
+        result = prime * result + ((text == null) ? 0 : text.hashCode());
+        result = prime * result + ((value == null) ? 0 : value.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        SelectOption other = ( SelectOption ) obj;
+        if (index != other.index || selected != other.selected) {
+            return false;
+        }
+        if (text == null) {
+            if (other.text != null) {
+                return false;
+            }
+        } else if (!text.equals(other.text)) {
+            return false;
+        }
+        if (value == null) {
+            if (other.value != null) {
+                return false;
+            }
+        } else if (!value.equals(other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(TO_STRING_MSG, index, text, value, selected);
+    }
+
+}
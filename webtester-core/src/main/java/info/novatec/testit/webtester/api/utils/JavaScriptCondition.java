@@ -0,0 +1,57 @@
+package info.novatec.testit.webtester.api.utils;
+
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.utils.Waits;
+
+
+/**
+ * Conditions implementing this interface can be evaluated inside the browser.
+ * This allows {@link Waits wait operations} to wait for the condition using a
+ * single asynchronous script instead of polling the browser repeatedly and
+ * {@link PageObjectList lists} to be filtered by a single script.
+ * <p>
+ * The returned script is a JavaScript expression which evaluates to
+ * <code>true</code> if the condition is met. Within the expression the
+ * variable <code>element</code> references the DOM element of the page object
+ * (or <code>null</code> if it is not present) and the variable <code>wt</code>
+ * provides the following helper functions:
+ * <ul>
+ * <li><code>wt.visible(element)</code> - whether or not the element is
+ * displayed</li>
+ * <li><code>wt.enabled(element)</code> - whether or not the element is
+ * enabled</li>
+ * <li><code>wt.visibleText(element)</code> - the element's visible text with
+ * normalized white spaces</li>
+ * <li><code>wt.normalize(text)</code> - the given text with normalized white
+ * spaces</li>
+ * <li><code>wt.value(element)</code> - the element's value or an empty
+ * string</li>
+ * <li><code>wt.attribute(element, name)</code> - the element's property or
+ * attribute with the given name (like the web driver's attribute lookup) or
+ * <code>null</code></li>
+ * <li><code>wt.selectedValues(element)</code> - an array of the values of a
+ * select's selected options</li>
+ * </ul>
+ * The browser side evaluation of waits is an optimization: once it reports
+ * the condition as met, the condition is checked once more in Java. So the
+ * expression should never evaluate to <code>false</code> where the Java
+ * implementation would evaluate to <code>true</code>. Lists are only
+ * filtered inside the browser by conditions declaring this guarantee as
+ * {@link LenientJavaScriptCondition lenient conditions}; their matches are
+ * confirmed in Java as well.
+ *
+ * @since 1.2.0
+ */
+public interface JavaScriptCondition {
+
+    /**
+     * Returns the JavaScript expression equivalent to this condition or
+     * <code>null</code> if this condition can't be evaluated inside the
+     * browser.
+     *
+     * @return the expression or null
+     * @since 1.2.0
+     */
+    String toJavaScript();
+
+}
@@ -0,0 +1,24 @@
+package info.novatec.testit.webtester.api.utils;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+
+
+/**
+ * Marks {@link JavaScriptCondition conditions} whose JavaScript expression is
+ * guaranteed to evaluate to <code>true</code> for every element the Java
+ * implementation accepts. The expression may accept additional elements (e.g.
+ * the browser side notion of visibility ignores the opacity of an element).
+ * <p>
+ * Only conditions with this guarantee are used to
+ * {@link Configuration#listFilteringInBrowserIsActivated() filter}
+ * {@link PageObjectList lists} inside the browser: the script narrows the
+ * list down to candidates and each candidate is confirmed in Java. Wrapping
+ * conditions like <code>is(...)</code> are lenient if all of their wrapped
+ * conditions are lenient.
+ *
+ * @since 1.2.0
+ */
+public interface LenientJavaScriptCondition extends JavaScriptCondition {
+
+}
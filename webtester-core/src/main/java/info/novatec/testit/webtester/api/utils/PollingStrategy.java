@@ -0,0 +1,33 @@
+package info.novatec.testit.webtester.api.utils;
+
+import info.novatec.testit.webtester.utils.PollingStrategies;
+import info.novatec.testit.webtester.utils.Waits;
+
+
+/**
+ * Implementations of this interface define how long {@link Waits wait
+ * operations} pause between two checks of their condition.
+ * <p>
+ * Strategies are asked for each delay individually and must not keep any
+ * state between calls. This allows a single instance to be used by any number
+ * of concurrent wait operations.
+ *
+ * @see PollingStrategies
+ * @since 1.2.0
+ */
+public interface PollingStrategy {
+
+    /**
+     * Returns the number of milliseconds to wait before checking the condition
+     * again.
+     *
+     * @param polls the number of times the condition was already checked
+     * (always greater than zero)
+     * @param elapsedMillis the number of milliseconds which have passed since
+     * the wait operation was started
+     * @return the delay in milliseconds, never negative
+     * @since 1.2.0
+     */
+    long getDelay(int polls, long elapsedMillis);
+
+}
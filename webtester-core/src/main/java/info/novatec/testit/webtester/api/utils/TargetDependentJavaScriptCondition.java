@@ -0,0 +1,29 @@
+package info.novatec.testit.webtester.api.utils;
+
+import info.novatec.testit.webtester.utils.Waits;
+
+
+/**
+ * Marks {@link JavaScriptCondition conditions} whose JavaScript expression is
+ * only equivalent to the Java implementation for certain targets. For example
+ * the text of a text field is its value, while other page objects might
+ * define their text differently. {@link Waits Wait operations} only evaluate
+ * such a condition inside the browser if it
+ * {@link #canBeEvaluatedInBrowserFor(Object) supports} the waited on object.
+ *
+ * @since 1.2.0
+ */
+public interface TargetDependentJavaScriptCondition extends JavaScriptCondition {
+
+    /**
+     * Returns whether or not the {@link #toJavaScript() expression} of this
+     * condition is equivalent to the Java implementation for the given target.
+     *
+     * @param target the object the condition is applied to
+     * @return true if the expression can be used for the target, otherwise
+     * false
+     * @since 1.2.0
+     */
+    boolean canBeEvaluatedInBrowserFor(Object target);
+
+}
@@ -0,0 +1,616 @@
+package info.novatec.testit.webtester.browser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserFactory;
+import info.novatec.testit.webtester.api.browser.ProxyConfiguration;
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.exceptions.BrowserPoolException;
+import info.novatec.testit.webtester.config.DefaultConfigurationBuilder;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+import info.novatec.testit.webtester.internal.pageobjects.FinderCache;
+import info.novatec.testit.webtester.internal.pageobjects.NavigationEpochs;
+
+
+/**
+ * This pool keeps started {@link Browser browsers} in order to reuse them
+ * instead of starting a new browser every time one is needed. Browsers are
+ * pooled per {@link BrowserFactory factory} and {@link ProxyConfiguration proxy
+ * configuration} class.
+ * <p>
+ * A browser is {@link #lease(Class, Class) leased} from the pool and
+ * {@link #release(Browser) released} back to it when it is no longer needed.
+ * On release the browser's state is reset:
+ * <ul>
+ * <li>all but one window are closed</li>
+ * <li>local and session storage as well as all IndexedDB databases are
+ * cleared</li>
+ * <li>all cookies are deleted</li>
+ * <li><code>about:blank</code> is opened</li>
+ * <li>all listeners of the browser's {@link EventSystem#getEventBus(Browser)
+ * event bus} are removed (before anything else, so they are not informed
+ * about the reset)</li>
+ * <li>the web driver's script timeout is set to the configured
+ * {@link Configuration#getWaitInBrowserScriptTimeout() script timeout}</li>
+ * <li>cached web elements and page objects of finders are dropped</li>
+ * </ul>
+ * Since web drivers only have access to the storage and cookies of the current
+ * page, only the data of the last opened origin can be cleared. Browsers which
+ * can't be reset are closed instead of being reused.
+ * <p>
+ * <b>Note:</b> Other timeouts of the web driver (implicit wait and page load
+ * timeout) can't be read from the web driver and are <u>not</u> reset. The
+ * same goes for changes of the browser's {@link Configuration configuration}.
+ * Changes like these made during one lease are visible to all following
+ * leases of the browser.
+ * <p>
+ * Idle browsers are checked for their health before they are leased again and
+ * browsers which were idle for longer than the maximum idle time are closed.
+ * The pool never holds more than its maximum number of browsers (leased and
+ * idle). If all of them are leased, {@link #lease(Class, Class)} waits until
+ * one is released or the lease timeout is reached.
+ * <p>
+ * All operations are thread-safe. Browsers are started, reset and closed
+ * outside of the pool's lock, so slow browser operations don't block other
+ * threads using the pool.
+ *
+ * @see BrowserRegistry
+ * @since 1.2.0
+ */
+public final class BrowserPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserPool.class);
+
+    private static final String BLANK_PAGE = "about:blank";
+
+    /** Calls back once all IndexedDB databases are deleted (or blocked until the page is left). */
+    private static final String CLEAR_STORAGE_SCRIPT = ""
+        + "var done = arguments[arguments.length - 1];"
+        + "try { window.localStorage.clear(); } catch (e) {}"
+        + "try { window.sessionStorage.clear(); } catch (e) {}"
+        + "if (!window.indexedDB || !window.indexedDB.databases) { done(); return; }"
+        + "window.indexedDB.databases().then(function (databases) {"
+        + "  var pending = databases.length;"
+        + "  var deleted = function () { if (--pending === 0) { done(); } };"
+        + "  if (pending === 0) { done(); return; }"
+        + "  for (var i = 0; i < databases.length; i++) {"
+        + "    var request = window.indexedDB.deleteDatabase(databases[i].name);"
+        + "    request.onsuccess = request.onerror = request.onblocked = deleted;"
+        + "  }"
+        + "}, function () { done(); });";
+
+    private static final long CLEAR_STORAGE_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    private static BrowserPool defaultPool;
+
+    private final int maxSize;
+    private final long maxIdleTime;
+    private final long leaseTimeout;
+
+    private final Map<Key, LinkedList<IdleBrowser>> idleBrowsers = new HashMap<Key, LinkedList<IdleBrowser>>();
+    private final Map<Browser, Key> leasedBrowsers = new IdentityHashMap<Browser, Key>();
+
+    private int size;
+    private boolean closed;
+
+    private long created;
+    private long reused;
+    private long discarded;
+    private long evicted;
+
+    /**
+     * Creates a new {@link BrowserPool browser pool}.
+     *
+     * @param maxSize the maximum number of browsers (leased and idle)
+     * @param maxIdleTime the time after which idle browsers are closed
+     * @param leaseTimeout the time to wait for a browser if the pool is
+     * exhausted
+     * @param unit the unit of both times
+     * @since 1.2.0
+     */
+    public BrowserPool(int maxSize, long maxIdleTime, long leaseTimeout, TimeUnit unit) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("max size must be at least 1: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.maxIdleTime = unit.toMillis(maxIdleTime);
+        this.leaseTimeout = unit.toMillis(leaseTimeout);
+    }
+
+    /**
+     * Returns the default {@link BrowserPool browser pool} of this JVM. It is
+     * created when it is first used and closed when the JVM shuts down. Its
+     * maximum size, maximum idle time and lease timeout are taken from the
+     * {@link DefaultConfigurationBuilder default configuration}.
+     *
+     * @return the default pool
+     * @see Configuration#getBrowserPoolMaxSize()
+     * @see Configuration#getBrowserPoolMaxIdleTime()
+     * @see Configuration#getBrowserPoolLeaseTimeout()
+     * @since 1.2.0
+     */
+    public static synchronized BrowserPool getDefault() {
+        if (defaultPool == null) {
+            Configuration configuration = DefaultConfigurationBuilder.create();
+            final BrowserPool pool = new BrowserPool(configuration.getBrowserPoolMaxSize(),
+                configuration.getBrowserPoolMaxIdleTime(), configuration.getBrowserPoolLeaseTimeout(), TimeUnit.SECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread("webtester-browser-pool-shutdown") {
+
+                @Override
+                public void run() {
+                    pool.close();
+                }
+
+            });
+            defaultPool = pool;
+        }
+        return defaultPool;
+    }
+
+    /**
+     * Leases a {@link Browser browser} created by the given factory with the
+     * given proxy configuration. An idle browser is reused if there is a
+     * healthy one - otherwise a new browser is created.
+     *
+     * @param factoryClass the class of the factory to create browsers with
+     * @param proxyConfigurationClass the class of the proxy configuration to
+     * use or <code>null</code> in order to use the factory's default
+     * @return the leased browser - has to be {@link #release(Browser)
+     * released} after use
+     * @throws BrowserPoolException if no browser could be created or if the
+     * pool was exhausted until the lease timeout was reached
+     * @since 1.2.0
+     */
+    public Browser lease(Class<? extends BrowserFactory> factoryClass,
+        Class<? extends ProxyConfiguration> proxyConfigurationClass) {
+
+        Key key = new Key(factoryClass, proxyConfigurationClass);
+        long deadline = System.currentTimeMillis() + leaseTimeout;
+
+        while (true) {
+
+            List<Browser> browsersToClose = new ArrayList<Browser>();
+            IdleBrowser idleBrowser;
+            synchronized (this) {
+                assertNotClosed();
+                browsersToClose.addAll(removeExpiredBrowsers());
+                idleBrowser = pollIdleBrowser(key);
+                if (idleBrowser == null && !reserveSlot(browsersToClose)) {
+                    waitForRelease(key, deadline);
+                    continue;
+                }
+            }
+            closeQuietly(browsersToClose);
+
+            if (idleBrowser == null) {
+                return createBrowser(key);
+            }
+            if (isHealthy(idleBrowser.browser)) {
+                synchronized (this) {
+                    leasedBrowsers.put(idleBrowser.browser, key);
+                    reused++;
+                }
+                logger.debug("leased pooled browser: {}", idleBrowser.browser);
+                return idleBrowser.browser;
+            }
+            logger.debug("discarding unhealthy pooled browser: {}", idleBrowser.browser);
+            discard(idleBrowser.browser);
+
+        }
+
+    }
+
+    /**
+     * Releases the given leased {@link Browser browser} back to the pool. Its
+     * state is reset so it can be leased again. If that fails, or if the pool
+     * was closed in the meantime, the browser is closed instead.
+     *
+     * @param browser the browser to release
+     * @throws IllegalArgumentException if the browser was not leased from this
+     * pool
+     * @since 1.2.0
+     */
+    public void release(Browser browser) {
+
+        Key key;
+        synchronized (this) {
+            key = leasedBrowsers.remove(browser);
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("browser was not leased from this pool: " + browser);
+        }
+
+        if (isClosed() || !reset(browser)) {
+            discard(browser);
+            return;
+        }
+
+        synchronized (this) {
+            if (!closed) {
+                getIdleBrowsers(key).addFirst(new IdleBrowser(browser, System.currentTimeMillis()));
+                notifyAll();
+                logger.debug("released browser back to pool: {}", browser);
+                return;
+            }
+        }
+        discard(browser);
+
+    }
+
+    /**
+     * Closes all idle {@link Browser browsers} which were idle for longer than
+     * the maximum idle time. This is also done every time a browser is leased.
+     *
+     * @since 1.2.0
+     */
+    public void evictIdleBrowsers() {
+        List<Browser> expiredBrowsers;
+        synchronized (this) {
+            expiredBrowsers = removeExpiredBrowsers();
+        }
+        closeQuietly(expiredBrowsers);
+    }
+
+    /**
+     * Closes the pool and all of its idle {@link Browser browsers}. Leased
+     * browsers are closed when they are released.
+     *
+     * @since 1.2.0
+     */
+    public void close() {
+        List<Browser> browsersToClose = new ArrayList<Browser>();
+        synchronized (this) {
+            closed = true;
+            for (List<IdleBrowser> browsers : idleBrowsers.values()) {
+                for (IdleBrowser idleBrowser : browsers) {
+                    browsersToClose.add(idleBrowser.browser);
+                }
+            }
+            idleBrowsers.clear();
+            size -= browsersToClose.size();
+            notifyAll();
+        }
+        closeQuietly(browsersToClose);
+    }
+
+    /**
+     * @return a snapshot of this pool's current state and statistics
+     * @since 1.2.0
+     */
+    public synchronized Metrics getMetrics() {
+        int idle = 0;
+        for (List<IdleBrowser> browsers : idleBrowsers.values()) {
+            idle += browsers.size();
+        }
+        return new Metrics(size, idle, leasedBrowsers.size(), created, reused, discarded, evicted);
+    }
+
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private void assertNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("browser pool is closed");
+        }
+    }
+
+    /* the following methods have to be called while holding the pool's lock */
+
+    private IdleBrowser pollIdleBrowser(Key key) {
+        LinkedList<IdleBrowser> browsers = idleBrowsers.get(key);
+        return browsers != null ? browsers.pollFirst() : null;
+    }
+
+    private LinkedList<IdleBrowser> getIdleBrowsers(Key key) {
+        LinkedList<IdleBrowser> browsers = idleBrowsers.get(key);
+        if (browsers == null) {
+            browsers = new LinkedList<IdleBrowser>();
+            idleBrowsers.put(key, browsers);
+        }
+        return browsers;
+    }
+
+    /**
+     * Reserves a slot for a new browser. If the pool is full, the least
+     * recently used idle browser (of any other key) is given up in order to
+     * make room.
+     */
+    private boolean reserveSlot(List<Browser> browsersToClose) {
+        if (size < maxSize) {
+            size++;
+            return true;
+        }
+        IdleBrowser oldest = null;
+        LinkedList<IdleBrowser> oldestBrowsers = null;
+        for (LinkedList<IdleBrowser> browsers : idleBrowsers.values()) {
+            IdleBrowser candidate = browsers.peekLast();
+            if (candidate != null && (oldest == null || candidate.idleSince < oldest.idleSince)) {
+                oldest = candidate;
+                oldestBrowsers = browsers;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+        oldestBrowsers.removeLast();
+        browsersToClose.add(oldest.browser);
+        evicted++;
+        return true;
+    }
+
+    private void waitForRelease(Key key, long deadline) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+            throw new BrowserPoolException("no browser for " + key + " was released within the lease timeout");
+        }
+        try {
+            wait(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BrowserPoolException("interrupted while waiting for a browser", e);
+        }
+    }
+
+    private List<Browser> removeExpiredBrowsers() {
+        List<Browser> expiredBrowsers = new ArrayList<Browser>();
+        long expiredBefore = System.currentTimeMillis() - maxIdleTime;
+        for (List<IdleBrowser> browsers : idleBrowsers.values()) {
+            Iterator<IdleBrowser> iterator = browsers.iterator();
+            while (iterator.hasNext()) {
+                IdleBrowser idleBrowser = iterator.next();
+                if (idleBrowser.idleSince <= expiredBefore) {
+                    iterator.remove();
+                    expiredBrowsers.add(idleBrowser.browser);
+                }
+            }
+        }
+        size -= expiredBrowsers.size();
+        evicted += expiredBrowsers.size();
+        if (!expiredBrowsers.isEmpty()) {
+            notifyAll();
+        }
+        return expiredBrowsers;
+    }
+
+    /* the following methods are called without holding the pool's lock */
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Browser createBrowser(Key key) {
+        Browser browser;
+        try {
+            BrowserFactory factory = key.factoryClass.newInstance();
+            if (key.proxyConfigurationClass != null) {
+                factory.withProxyConfiguration(key.proxyConfigurationClass.newInstance());
+            }
+            browser = factory.createBrowser();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            synchronized (this) {
+                size--;
+                notifyAll();
+            }
+            throw new BrowserPoolException("could not create browser for " + key, e);
+        }
+        synchronized (this) {
+            leasedBrowsers.put(browser, key);
+            created++;
+        }
+        logger.debug("leased new browser: {}", browser);
+        return browser;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean isHealthy(Browser browser) {
+        try {
+            return !browser.getWebDriver().getWindowHandles().isEmpty();
+        } catch (RuntimeException e) {
+            logger.debug("health check of pooled browser failed", e);
+            return false;
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean reset(Browser browser) {
+        try {
+            // listeners of the previous lease must not be informed about the reset
+            EventSystem.getEventBus(browser).clearListeners();
+            WebDriver webDriver = browser.getWebDriver();
+            Iterator<String> windowHandles = webDriver.getWindowHandles().iterator();
+            String firstWindow = windowHandles.next();
+            while (windowHandles.hasNext()) {
+                webDriver.switchTo().window(windowHandles.next());
+                webDriver.close();
+            }
+            webDriver.switchTo().window(firstWindow);
+            webDriver.switchTo().defaultContent();
+            if (webDriver instanceof JavascriptExecutor) {
+                clearStorage(browser, webDriver);
+            }
+            webDriver.manage().deleteAllCookies();
+            webDriver.get(BLANK_PAGE);
+            NavigationEpochs.advance(browser);
+            FinderCache.forget(browser);
+            return true;
+        } catch (RuntimeException e) {
+            logger.debug("could not reset browser, discarding it: " + browser, e);
+            return false;
+        }
+    }
+
+    private static void clearStorage(Browser browser, WebDriver webDriver) {
+        webDriver.manage().timeouts().setScriptTimeout(CLEAR_STORAGE_TIMEOUT, TimeUnit.MILLISECONDS);
+        try {
+            (( JavascriptExecutor ) webDriver).executeAsyncScript(CLEAR_STORAGE_SCRIPT);
+        } finally {
+            long scriptTimeout = browser.getConfiguration().getWaitInBrowserScriptTimeout();
+            webDriver.manage().timeouts().setScriptTimeout(scriptTimeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void discard(Browser browser) {
+        synchronized (this) {
+            size--;
+            discarded++;
+            notifyAll();
+        }
+        closeQuietly(browser);
+    }
+
+    private static void closeQuietly(List<Browser> browsers) {
+        for (Browser browser : browsers) {
+            closeQuietly(browser);
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static void closeQuietly(Browser browser) {
+        try {
+            browser.close();
+        } catch (RuntimeException e) {
+            logger.warn("exception while closing pooled browser: " + browser, e);
+        }
+    }
+
+    /**
+     * A snapshot of a {@link BrowserPool browser pool's} state and statistics.
+     *
+     * @since 1.2.0
+     */
+    public static final class Metrics {
+
+        private final int size;
+        private final int idle;
+        private final int leased;
+        private final long created;
+        private final long reused;
+        private final long discarded;
+        private final long evicted;
+
+        Metrics(int size, int idle, int leased, long created, long reused, long discarded, long evicted) {
+            this.size = size;
+            this.idle = idle;
+            this.leased = leased;
+            this.created = created;
+            this.reused = reused;
+            this.discarded = discarded;
+            this.evicted = evicted;
+        }
+
+        /**
+         * @return the number of browsers (leased, idle and being created)
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return the number of idle browsers
+         */
+        public int getIdle() {
+            return idle;
+        }
+
+        /**
+         * @return the number of leased browsers
+         */
+        public int getLeased() {
+            return leased;
+        }
+
+        /**
+         * @return the number of browsers created by the pool
+         */
+        public long getCreated() {
+            return created;
+        }
+
+        /**
+         * @return the number of leases served by idle browsers
+         */
+        public long getReused() {
+            return reused;
+        }
+
+        /**
+         * @return the number of browsers closed because they were unhealthy
+         * or could not be reset
+         */
+        public long getDiscarded() {
+            return discarded;
+        }
+
+        /**
+         * @return the number of idle browsers closed because they were idle
+         * for too long or their slot was needed
+         */
+        public long getEvicted() {
+            return evicted;
+        }
+
+        @Override
+        public String toString() {
+            return "size=" + size + ", idle=" + idle + ", leased=" + leased + ", created=" + created + ", reused="
+                + reused + ", discarded=" + discarded + ", evicted=" + evicted;
+        }
+
+    }
+
+    private static final class IdleBrowser {
+
+        private final Browser browser;
+        private final long idleSince;
+
+        IdleBrowser(Browser browser, long idleSince) {
+            this.browser = browser;
+            this.idleSince = idleSince;
+        }
+
+    }
+
+    private static final class Key {
+
+        private final Class<? extends BrowserFactory> factoryClass;
+        private final Class<? extends ProxyConfiguration> proxyConfigurationClass;
+
+        Key(Class<? extends BrowserFactory> factoryClass, Class<? extends ProxyConfiguration> proxyConfigurationClass) {
+            this.factoryClass = factoryClass;
+            this.proxyConfigurationClass = proxyConfigurationClass;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = ( Key ) obj;
+            return factoryClass.equals(other.factoryClass) && (proxyConfigurationClass == null
+                ? other.proxyConfigurationClass == null : proxyConfigurationClass.equals(other.proxyConfigurationClass));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * factoryClass.hashCode() + (proxyConfigurationClass != null ? proxyConfigurationClass.hashCode() : 0);
+        }
+
+        @Override
+        public String toString() {
+            String proxy = proxyConfigurationClass != null ? proxyConfigurationClass.getSimpleName() : "default proxy";
+            return factoryClass.getSimpleName() + " (" + proxy + ')';
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package info.novatec.testit.webtester.browser;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserBuilder;
+import info.novatec.testit.webtester.api.browser.BrowserFactory;
+
+
+/**
+ * Creates {@link Browser browsers} in the background. Starting a browser
+ * usually takes several seconds - using this class the startup can overlap
+ * with other work (like the setup of a test) or several browsers can be
+ * started at the same time.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * Future&lt;Browser&gt; future = BrowserProvisioning.createBrowser(new FooBrowserFactory());
+ * // do something else while the browser is started
+ * Browser browser = future.get();
+ * </pre>
+ * The browsers are created by daemon threads which are started as needed and
+ * reused for later provisioning.
+ *
+ * @see BrowserFactory
+ * @see BrowserBuilder
+ * @since 1.2.0
+ */
+public final class BrowserProvisioning {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserProvisioning.class);
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ProvisioningThreadFactory());
+
+    /**
+     * Creates a {@link Browser browser} in the background using the given
+     * factory's {@link BrowserFactory#createBrowser()} method.
+     *
+     * @param factory the factory to create the browser with
+     * @return the future browser
+     * @since 1.2.0
+     */
+    public static Future<Browser> createBrowser(final BrowserFactory factory) {
+        return provide(new Callable<Browser>() {
+
+            @Override
+            public Browser call() {
+                return factory.createBrowser();
+            }
+
+        });
+    }
+
+    /**
+     * Builds a {@link Browser browser} in the background using the given
+     * builder's {@link BrowserBuilder#build()} method.
+     *
+     * @param builder the builder to build the browser with
+     * @return the future browser
+     * @since 1.2.0
+     */
+    public static Future<Browser> build(final BrowserBuilder builder) {
+        return provide(new Callable<Browser>() {
+
+            @Override
+            public Browser call() {
+                return builder.build();
+            }
+
+        });
+    }
+
+    /**
+     * Provides a {@link Browser browser} in the background using the given
+     * callable. Any exception thrown by the callable is reported by the
+     * returned future.
+     *
+     * @param creation the callable creating the browser
+     * @return the future browser
+     * @since 1.2.0
+     */
+    public static Future<Browser> provide(Callable<Browser> creation) {
+        logger.debug("provisioning browser in the background: {}", creation);
+        return EXECUTOR.submit(creation);
+    }
+
+    private static final class ProvisioningThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "webtester-browser-provisioning-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+    private BrowserProvisioning() {
+        // utility class constructor
+    }
+
+}
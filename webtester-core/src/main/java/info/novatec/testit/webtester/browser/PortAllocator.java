@@ -0,0 +1,81 @@
+package info.novatec.testit.webtester.browser;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashSet;
+import java.util.Set;
+
+import info.novatec.testit.webtester.api.exceptions.DriverServiceException;
+
+
+/**
+ * Allocates free local ports for driver servers. A port is considered free if
+ * a server socket can be bound to it and it was not already allocated (and
+ * not yet {@link #release(int) released}) within this JVM. The latter prevents
+ * two driver servers started in parallel from getting the same port, because
+ * the operating system might hand out a port again as soon as the probing
+ * socket is closed.
+ * <p>
+ * All operations are thread-safe.
+ *
+ * @see SharedDriverService
+ * @since 1.2.0
+ */
+public final class PortAllocator {
+
+    private static final int MAX_ATTEMPTS = 100;
+
+    private static final Set<Integer> ALLOCATED_PORTS = new HashSet<Integer>();
+
+    /**
+     * Allocates a free local port. The port stays allocated until it is
+     * {@link #release(int) released}.
+     *
+     * @return the allocated port
+     * @throws DriverServiceException if no free port could be found
+     * @since 1.2.0
+     */
+    public static synchronized int allocate() {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int port = probeFreePort();
+            if (ALLOCATED_PORTS.add(port)) {
+                return port;
+            }
+        }
+        throw new DriverServiceException("could not find a free port after " + MAX_ATTEMPTS + " attempts");
+    }
+
+    /**
+     * Releases the given port so it can be allocated again.
+     *
+     * @param port the port to release
+     * @since 1.2.0
+     */
+    public static synchronized void release(int port) {
+        ALLOCATED_PORTS.remove(port);
+    }
+
+    /**
+     * Returns whether or not the given port is currently allocated.
+     *
+     * @param port the port to check
+     * @return true if the port is allocated, false otherwise
+     * @since 1.2.0
+     */
+    public static synchronized boolean isAllocated(int port) {
+        return ALLOCATED_PORTS.contains(port);
+    }
+
+    private static int probeFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new DriverServiceException("could not probe for a free port", e);
+        }
+    }
+
+    private PortAllocator() {
+        // utility class constructor
+    }
+
+}
@@ -0,0 +1,231 @@
+package info.novatec.testit.webtester.browser;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.exceptions.DriverServiceException;
+
+
+/**
+ * A long-lived {@link DriverService driver service} (like a chromedriver
+ * process) which is shared by many browser sessions instead of starting a new
+ * driver server for every browser.
+ * <p>
+ * The service is started lazily when the first session is requested. Its port
+ * is taken from the {@link PortAllocator} so services can be started in
+ * parallel. Before each session the service is checked: if the driver server
+ * crashed, a new one is started on a fresh port. Once started, the service is
+ * stopped when the JVM shuts down (or when {@link #stop()} is called).
+ * <p>
+ * Sessions are created as {@link RemoteWebDriver remote web drivers} connected
+ * to the service's URL. Driver specific web driver classes (like
+ * <code>ChromeDriver</code>) would stop the service as soon as one of their
+ * sessions is quit.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * SharedDriverService&lt;ChromeDriverService&gt; service = new SharedDriverService&lt;ChromeDriverService&gt;(new ChromeDriverService.Builder());
+ * WebDriver webDriver = service.startSession(DesiredCapabilities.chrome());
+ * </pre>
+ * All operations are thread-safe. A service can either be used JVM wide (by
+ * keeping it in a static field) or per {@link BrowserPool pool}.
+ *
+ * @param <S> the type of the driver service
+ * @see PortAllocator
+ * @since 1.2.0
+ */
+public class SharedDriverService<S extends DriverService> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedDriverService.class);
+
+    private final DriverService.Builder<S, ?> builder;
+
+    private S service;
+    private int port;
+    private int restarts;
+    private Thread shutdownHook;
+
+    /**
+     * Creates a new shared driver service. The service is built using the
+     * given builder whenever it needs to be (re-)started. The builder's port is
+     * set on each start.
+     *
+     * @param builder the builder to create the driver service with
+     * @since 1.2.0
+     */
+    public SharedDriverService(DriverService.Builder<S, ?> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Starts a new session on this service. If the session could not be
+     * started because the driver server crashed in the meantime, the service is
+     * restarted and the session creation is tried once more.
+     *
+     * @param capabilities the desired capabilities of the session
+     * @return the web driver of the new session
+     * @throws DriverServiceException if the service could not be started
+     * @since 1.2.0
+     */
+    public RemoteWebDriver startSession(Capabilities capabilities) {
+        URL url = getUrl();
+        try {
+            return newSession(url, capabilities);
+        } catch (WebDriverException e) {
+            if (isRunning()) {
+                throw e;
+            }
+            logger.warn("driver service crashed while starting a session, restarting it", e);
+            return newSession(getUrl(), capabilities);
+        }
+    }
+
+    /**
+     * Creates the web driver for a new session on the service with the given
+     * URL.
+     *
+     * @param url the URL of the driver service
+     * @param capabilities the desired capabilities of the session
+     * @return the web driver of the new session
+     * @since 1.2.0
+     */
+    protected RemoteWebDriver newSession(URL url, Capabilities capabilities) {
+        return new RemoteWebDriver(url, capabilities);
+    }
+
+    /**
+     * Returns the URL of this service. The service is (re-)started if it
+     * isn't running.
+     *
+     * @return the URL of the running driver service
+     * @throws DriverServiceException if the service could not be started
+     * @since 1.2.0
+     */
+    public synchronized URL getUrl() {
+        return ensureRunning().getUrl();
+    }
+
+    /**
+     * Returns the running driver service. The service is (re-)started if it
+     * isn't running.
+     *
+     * @return the running driver service
+     * @throws DriverServiceException if the service could not be started
+     * @since 1.2.0
+     */
+    public synchronized S getService() {
+        return ensureRunning();
+    }
+
+    /**
+     * Returns whether or not the driver service is currently running.
+     *
+     * @return true if the service is running, false otherwise
+     * @since 1.2.0
+     */
+    public synchronized boolean isRunning() {
+        return service != null && service.isRunning();
+    }
+
+    /**
+     * Returns the number of times the driver service had to be restarted
+     * because it crashed.
+     *
+     * @return the number of restarts
+     * @since 1.2.0
+     */
+    public synchronized int getRestarts() {
+        return restarts;
+    }
+
+    /**
+     * Stops the driver service. All sessions of the service are lost. The
+     * service is started again when the next session is requested.
+     *
+     * @since 1.2.0
+     */
+    public synchronized void stop() {
+        stopService();
+        removeShutdownHook();
+    }
+
+    private S ensureRunning() {
+        if (service != null) {
+            if (service.isRunning()) {
+                return service;
+            }
+            logger.warn("driver service on port {} is no longer running, restarting it", port);
+            restarts++;
+            stopService();
+        }
+        return startService();
+    }
+
+    private S startService() {
+        int newPort = PortAllocator.allocate();
+        builder.usingPort(newPort);
+        S newService = builder.build();
+        try {
+            newService.start();
+        } catch (IOException e) {
+            PortAllocator.release(newPort);
+            throw new DriverServiceException("could not start driver service on port " + newPort, e);
+        }
+        logger.debug("started driver service on port {}", newPort);
+        service = newService;
+        port = newPort;
+        addShutdownHook();
+        return newService;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void stopService() {
+        if (service == null) {
+            return;
+        }
+        try {
+            service.stop();
+            logger.debug("stopped driver service on port {}", port);
+        } catch (RuntimeException e) {
+            logger.warn("could not stop driver service on port " + port, e);
+        } finally {
+            PortAllocator.release(port);
+            service = null;
+        }
+    }
+
+    private void addShutdownHook() {
+        if (shutdownHook == null) {
+            shutdownHook = new Thread("webtester-driver-service-shutdown") {
+
+                @Override
+                public void run() {
+                    synchronized (SharedDriverService.this) {
+                        stopService();
+                    }
+                }
+
+            };
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    private void removeShutdownHook() {
+        if (shutdownHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                logger.debug("JVM is already shutting down", e);
+            }
+            shutdownHook = null;
+        }
+    }
+
+}
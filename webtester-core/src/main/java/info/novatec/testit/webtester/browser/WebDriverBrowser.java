@@ -31,6 +31,8 @@ import info.novatec.testit.webtester.api.pageobjects.Identification;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
 import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.eventsystem.EventBus;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.browser.AcceptedAlertEvent;
 import info.novatec.testit.webtester.eventsystem.events.browser.ClosedBrowserEvent;
 import info.novatec.testit.webtester.eventsystem.events.browser.ClosedWindowEvent;
@@ -46,6 +48,8 @@ import info.novatec.testit.webtester.eventsystem.events.browser.SwitchedToDefaul
 import info.novatec.testit.webtester.eventsystem.events.browser.SwitchedToFrameEvent;
 import info.novatec.testit.webtester.eventsystem.events.browser.SwitchedToWindowEvent;
 import info.novatec.testit.webtester.eventsystem.events.browser.TookScreenshotEvent;
+import info.novatec.testit.webtester.internal.pageobjects.FinderCache;
+import info.novatec.testit.webtester.internal.pageobjects.NavigationEpochs;
 import info.novatec.testit.webtester.internal.pageobjects.PageObjectModel;
 import info.novatec.testit.webtester.pageobjects.GenericElement;
 import info.novatec.testit.webtester.pageobjects.PageObject;
@@ -73,6 +77,7 @@ public class WebDriverBrowser implements Browser {
 
     private PageObjectFactory pageObjectFactory;
     private Configuration configuration;
+    private EventBus eventBus;
 
     private final WebDriver webDriver;
     private final BrowserIdentification identification;
@@ -127,6 +132,7 @@ public class WebDriverBrowser implements Browser {
             @Override
             public void execute(Browser browser) {
                 getWebDriver().get(url);
+                NavigationEpochs.advance(browser);
                 fireEvent(new OpenedUrlEvent(browser, url));
             }
 
@@ -141,6 +147,7 @@ public class WebDriverBrowser implements Browser {
             @Override
             public T execute(Browser browser) {
                 getWebDriver().get(url);
+                NavigationEpochs.advance(browser);
                 fireEvent(new OpenedUrlEvent(browser, url));
                 return browser.create(pageObjectClass);
             }
@@ -164,6 +171,9 @@ public class WebDriverBrowser implements Browser {
                     try {
                         fireEvent(new ClosedBrowserEvent(browser));
                     } finally {
+                        EventSystem.deregisterEventBus(identification);
+                        NavigationEpochs.forget(browser);
+                        FinderCache.forget(browser);
                         getWebDriver().quit();
                         closed = true;
                     }
@@ -181,6 +191,7 @@ public class WebDriverBrowser implements Browser {
             public void execute(Browser browser) {
                 ClosedWindowEvent event = new ClosedWindowEvent(browser);
                 getWebDriver().close();
+                NavigationEpochs.advance(browser);
                 fireEvent(event);
             }
 
@@ -232,6 +243,7 @@ public class WebDriverBrowser implements Browser {
             @Override
             public void execute(Browser browser) {
                 getWebDriver().navigate().back();
+                NavigationEpochs.advance(browser);
                 fireEvent(new NavigatedBackwardsEvent(browser));
             }
 
@@ -246,6 +258,7 @@ public class WebDriverBrowser implements Browser {
             @Override
             public void execute(Browser browser) {
                 getWebDriver().navigate().forward();
+                NavigationEpochs.advance(browser);
                 fireEvent(new NavigatedForwardsEvent(browser));
             }
 
@@ -260,6 +273,7 @@ public class WebDriverBrowser implements Browser {
             @Override
             public void execute(Browser browser) {
                 getWebDriver().navigate().refresh();
+                NavigationEpochs.advance(browser);
                 fireEvent(new RefreshedPageEvent(browser));
             }
 
@@ -437,6 +451,7 @@ public class WebDriverBrowser implements Browser {
             @Override
             public void execute(Browser browser) {
                 browser.getWebDriver().switchTo().frame(index);
+                NavigationEpochs.advance(browser);
                 fireEvent(new SwitchedToFrameEvent(browser, index));
             }
 
@@ -451,6 +466,7 @@ public class WebDriverBrowser implements Browser {
             @Override
             public void execute(Browser browser) {
                 browser.getWebDriver().switchTo().frame(nameOrId);
+                NavigationEpochs.advance(browser);
                 fireEvent(new SwitchedToFrameEvent(browser, nameOrId));
             }
 
@@ -465,6 +481,7 @@ public class WebDriverBrowser implements Browser {
             @Override
             public void execute(Browser browser) {
                 browser.getWebDriver().switchTo().window(nameOrHandle);
+                NavigationEpochs.advance(browser);
                 fireEvent(new SwitchedToWindowEvent(browser, nameOrHandle));
             }
 
@@ -479,6 +496,7 @@ public class WebDriverBrowser implements Browser {
             @Override
             public void execute(Browser browser) {
                 browser.getWebDriver().switchTo().defaultContent();
+                NavigationEpochs.advance(browser);
                 fireEvent(new SwitchedToDefaultContentEvent(browser));
             }
 
@@ -574,6 +592,22 @@ public class WebDriverBrowser implements Browser {
         this.configuration = configuration;
     }
 
+    /**
+     * Returns the {@link EventBus event bus} of this browser. Equivalent to
+     * {@link EventSystem#getEventBus(Browser)}.
+     *
+     * @return the event bus
+     * @since 1.2.0
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    public void setEventBus(EventBus eventBus) {
+        this.eventBus = eventBus;
+        EventSystem.registerEventBus(identification, eventBus);
+    }
+
     /* factories */
 
     /**
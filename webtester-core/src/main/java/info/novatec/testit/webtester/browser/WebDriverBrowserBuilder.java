@@ -9,6 +9,7 @@ import info.novatec.testit.webtester.api.browser.BrowserBuilder;
 import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
 import info.novatec.testit.webtester.config.DefaultConfigurationBuilder;
+import info.novatec.testit.webtester.eventsystem.EventBus;
 import info.novatec.testit.webtester.internal.pageobjects.DefaultPageObjectFactory;
 
 
@@ -29,6 +30,7 @@ public class WebDriverBrowserBuilder implements BrowserBuilder {
     private WebDriver webDriver;
     private PageObjectFactory customPageObjectFactory;
     private Configuration customConfiguration;
+    private EventBus customEventBus;
 
     public WebDriverBrowserBuilder(WebDriver webDriver) {
         this.webDriver = webDriver;
@@ -49,12 +51,31 @@ public class WebDriverBrowserBuilder implements BrowserBuilder {
         return this;
     }
 
+    /**
+     * Defines the {@link EventBus event bus} to be used by the created
+     * {@link Browser browser}. If this method is not called each created
+     * browser gets its own new event bus.
+     * <p>
+     * Setting the same bus for multiple browsers allows listeners to observe a
+     * group of browsers without being informed of the events of all browsers.
+     *
+     * @param eventBus the event bus to use
+     * @return the same builder instance for fluent API
+     * @since 1.2.0
+     */
+    public WebDriverBrowserBuilder withEventBus(EventBus eventBus) {
+        this.customEventBus = eventBus;
+        logger.trace("set event bus for builder: {}", eventBus);
+        return this;
+    }
+
     @Override
     public Browser build() {
         logger.trace("building new browser using: {}", WebDriverBrowser.class);
         WebDriverBrowser browser = new WebDriverBrowser(webDriver);
         setPageObjectFactory(browser);
         setConfiguration(browser);
+        setEventBus(browser);
         addShutdownHook(browser);
         return browser;
     }
@@ -79,6 +100,16 @@ public class WebDriverBrowserBuilder implements BrowserBuilder {
         }
     }
 
+    private void setEventBus(WebDriverBrowser browser) {
+        if (customEventBus != null) {
+            browser.setEventBus(customEventBus);
+            logger.trace("using custom event bus: {}", customEventBus);
+        } else {
+            browser.setEventBus(new EventBus());
+            logger.trace("using new event bus");
+        }
+    }
+
     private void addShutdownHook(final WebDriverBrowser browser) {
         if (browser.getConfiguration().cleanupLeftoverBrowsers()) {
             Runtime.getRuntime().addShutdownHook(new Thread() {
@@ -19,6 +19,7 @@ import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.config.ConfigurationAdapter;
 import info.novatec.testit.webtester.api.config.ConfigurationBuilder;
 import info.novatec.testit.webtester.api.config.ConfigurationExporter;
+import info.novatec.testit.webtester.api.enumerations.WaitPolling;
 import info.novatec.testit.webtester.api.exceptions.config.InvalidValueTypeException;
 import info.novatec.testit.webtester.api.exceptions.config.SetNullValuesException;
 import info.novatec.testit.webtester.internal.NamedProperties;
@@ -154,6 +155,136 @@ public class BaseConfiguration implements Configuration {
         return setProperty(key(NamedProperties.WAIT_INTERVAL), waitInterval);
     }
 
+    @Override
+    public WaitPolling getWaitPolling() {
+        return WaitPolling.valueOf(getStringProperty(key(NamedProperties.WAIT_POLLING), WaitPolling.FIXED.name()));
+    }
+
+    @Override
+    public BaseConfiguration setWaitPolling(WaitPolling waitPolling) {
+        return setProperty(key(NamedProperties.WAIT_POLLING), waitPolling.name());
+    }
+
+    @Override
+    public boolean waitInBrowserIsActivated() {
+        return getBooleanProperty(key(NamedProperties.WAIT_IN_BROWSER), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setWaitInBrowserActivated(boolean activated) {
+        return setProperty(key(NamedProperties.WAIT_IN_BROWSER), activated);
+    }
+
+    @Override
+    public long getWaitInBrowserScriptTimeout() {
+        return getLongProperty(key(NamedProperties.WAIT_IN_BROWSER_SCRIPT_TIMEOUT), 30000L);
+    }
+
+    @Override
+    public BaseConfiguration setWaitInBrowserScriptTimeout(long scriptTimeout) {
+        return setProperty(key(NamedProperties.WAIT_IN_BROWSER_SCRIPT_TIMEOUT), scriptTimeout);
+    }
+
+    @Override
+    public boolean pageObjectListCachingIsActivated() {
+        return getBooleanProperty(key(NamedProperties.PAGEOBJECTS_LIST_CACHING), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setPageObjectListCachingActivated(boolean activated) {
+        return setProperty(key(NamedProperties.PAGEOBJECTS_LIST_CACHING), activated);
+    }
+
+    @Override
+    public boolean listFilteringInBrowserIsActivated() {
+        return getBooleanProperty(key(NamedProperties.PAGEOBJECTS_LIST_FILTERING_IN_BROWSER), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setListFilteringInBrowserActivated(boolean activated) {
+        return setProperty(key(NamedProperties.PAGEOBJECTS_LIST_FILTERING_IN_BROWSER), activated);
+    }
+
+    @Override
+    public boolean webElementCachingIsActivated() {
+        return getBooleanProperty(key(NamedProperties.PAGEOBJECTS_ELEMENT_CACHING), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setWebElementCachingActivated(boolean activated) {
+        return setProperty(key(NamedProperties.PAGEOBJECTS_ELEMENT_CACHING), activated);
+    }
+
+    @Override
+    public boolean lazyPageObjectInitializationIsActivated() {
+        return getBooleanProperty(key(NamedProperties.PAGEOBJECTS_LAZY_INITIALIZATION), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setLazyPageObjectInitializationActivated(boolean activated) {
+        return setProperty(key(NamedProperties.PAGEOBJECTS_LAZY_INITIALIZATION), activated);
+    }
+
+    @Override
+    public boolean pageFragmentPrefetchingIsActivated() {
+        return getBooleanProperty(key(NamedProperties.PAGEOBJECTS_PREFETCHING), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setPageFragmentPrefetchingActivated(boolean activated) {
+        return setProperty(key(NamedProperties.PAGEOBJECTS_PREFETCHING), activated);
+    }
+
+    @Override
+    public boolean finderCachingIsActivated() {
+        return getBooleanProperty(key(NamedProperties.PAGEOBJECTS_FINDER_CACHING), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setFinderCachingActivated(boolean activated) {
+        return setProperty(key(NamedProperties.PAGEOBJECTS_FINDER_CACHING), activated);
+    }
+
+    @Override
+    public boolean eventStateCaptureIsActivated() {
+        return getBooleanProperty(key(NamedProperties.EVENTS_CAPTURE_STATE), Boolean.TRUE);
+    }
+
+    @Override
+    public BaseConfiguration setEventStateCaptureActivated(boolean activated) {
+        return setProperty(key(NamedProperties.EVENTS_CAPTURE_STATE), activated);
+    }
+
+    @Override
+    public int getBrowserPoolMaxSize() {
+        return getIntegerProperty(key(NamedProperties.BROWSER_POOL_MAX_SIZE), 4);
+    }
+
+    @Override
+    public BaseConfiguration setBrowserPoolMaxSize(int maxSize) {
+        return setProperty(key(NamedProperties.BROWSER_POOL_MAX_SIZE), maxSize);
+    }
+
+    @Override
+    public int getBrowserPoolMaxIdleTime() {
+        return getIntegerProperty(key(NamedProperties.BROWSER_POOL_MAX_IDLE_TIME), 300);
+    }
+
+    @Override
+    public BaseConfiguration setBrowserPoolMaxIdleTime(int maxIdleTime) {
+        return setProperty(key(NamedProperties.BROWSER_POOL_MAX_IDLE_TIME), maxIdleTime);
+    }
+
+    @Override
+    public int getBrowserPoolLeaseTimeout() {
+        return getIntegerProperty(key(NamedProperties.BROWSER_POOL_LEASE_TIMEOUT), 60);
+    }
+
+    @Override
+    public BaseConfiguration setBrowserPoolLeaseTimeout(int leaseTimeout) {
+        return setProperty(key(NamedProperties.BROWSER_POOL_LEASE_TIMEOUT), leaseTimeout);
+    }
+
     @Override
     public boolean cleanupLeftoverBrowsers() {
         return getBooleanProperty(key(NamedProperties.CLEANUP_LEFTOVER_BROWSERS), Boolean.FALSE);
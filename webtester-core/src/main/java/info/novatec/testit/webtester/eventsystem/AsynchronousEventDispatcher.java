@@ -0,0 +1,316 @@
+package info.novatec.testit.webtester.eventsystem;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventDispatcher;
+import info.novatec.testit.webtester.api.events.EventListener;
+import info.novatec.testit.webtester.eventsystem.events.LazyEvent;
+import info.novatec.testit.webtester.eventsystem.events.LazyValue;
+
+
+/**
+ * This {@link EventDispatcher dispatcher} decouples the thread firing an
+ * {@link Event event} from the {@link EventListener listeners}. Fired events
+ * are put into a bounded ring buffer and delivered by a single dedicated
+ * consumer thread. Since there is only one consumer, events are delivered in
+ * the order they were fired - which preserves the order of events of each
+ * browser.
+ * <p>
+ * What happens if the buffer is full is defined by the
+ * {@link BackPressurePolicy back-pressure policy}.
+ * <p>
+ * <b>Note:</b> Listeners are informed after the action which fired the event
+ * has already returned. Listeners which inspect the state of the browser (e.g.
+ * taking screenshots) might therefore see a later state of the page. Use
+ * {@link EventSystem#flush()} (i.e. at the end of each test) in order to wait
+ * for all pending events to be delivered.
+ * <p>
+ * The {@link LazyValue lazy values} of {@link LazyEvent lazy events} are
+ * computed by the thread firing the event before it is buffered. Listeners
+ * therefore never cause calls to the browser from the consumer thread.
+ * <p>
+ * Should the consumer thread ever die, new events are delivered synchronously
+ * by the thread firing them instead of waiting for buffer space which would
+ * never become available.
+ *
+ * @since 1.2.0
+ */
+public class AsynchronousEventDispatcher implements EventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsynchronousEventDispatcher.class);
+
+    private static final String THREAD_NAME = "webtester-event-dispatcher";
+
+    private static final long CONSUMER_CHECK_INTERVAL_MILLIS = 100L;
+
+    /** Enqueued on shutdown in order to stop the consumer thread after all pending events. */
+    private static final PendingEvent POISON_PILL = new PendingEvent(null, null);
+
+    /**
+     * Defines how the {@link AsynchronousEventDispatcher dispatcher} reacts to
+     * new {@link Event events} in case its buffer is full.
+     *
+     * @since 1.2.0
+     */
+    public enum BackPressurePolicy {
+
+        /**
+         * The thread firing the event waits until there is space in the buffer.
+         * No events are lost.
+         *
+         * @since 1.2.0
+         */
+        BLOCK,
+
+        /**
+         * The newly fired event is discarded.
+         *
+         * @since 1.2.0
+         */
+        DROP_NEWEST,
+
+        /**
+         * The oldest pending event is discarded to make room for the newly fired
+         * event.
+         *
+         * @since 1.2.0
+         */
+        DROP_OLDEST
+
+    }
+
+    private final BlockingQueue<PendingEvent> buffer;
+    private final BackPressurePolicy policy;
+    private final Thread consumer;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final Object progressMonitor = new Object();
+
+    private volatile boolean running = true;
+
+    /**
+     * Creates a new {@link AsynchronousEventDispatcher dispatcher} with the
+     * given buffer capacity and {@link BackPressurePolicy back-pressure
+     * policy}. The consumer thread is started immediately.
+     *
+     * @param capacity the maximum number of pending events
+     * @param policy the policy to apply if the buffer is full
+     * @throws IllegalArgumentException if the capacity is less than 1
+     * @since 1.2.0
+     */
+    public AsynchronousEventDispatcher(int capacity, BackPressurePolicy policy) {
+        this.buffer = new ArrayBlockingQueue<PendingEvent>(capacity);
+        this.policy = policy;
+        this.consumer = new Thread(new Consumer(), THREAD_NAME);
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    @Override
+    public void dispatch(Event event, List<EventListener> listeners) {
+
+        if (!running) {
+            logger.debug("dispatcher was shut down - informing listeners synchronously about: {}", event);
+            EventSystem.informListeners(event, listeners);
+            return;
+        }
+
+        if (!consumer.isAlive()) {
+            logger.warn("event dispatcher thread is dead - informing listeners synchronously about: {}", event);
+            EventSystem.informListeners(event, listeners);
+            return;
+        }
+
+        EventSystem.resolveLazyValues(event);
+        PendingEvent pendingEvent = new PendingEvent(event, listeners);
+        switch (policy) {
+            case DROP_NEWEST:
+                enqueueOrDropNewest(pendingEvent);
+                break;
+            case DROP_OLDEST:
+                enqueueOrDropOldest(pendingEvent);
+                break;
+            default:
+                enqueueOrBlock(pendingEvent);
+                break;
+        }
+
+    }
+
+    private void enqueueOrBlock(PendingEvent pendingEvent) {
+        try {
+            while (!buffer.offer(pendingEvent, CONSUMER_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!consumer.isAlive()) {
+                    // nobody will ever make room in the buffer
+                    logger.warn("event dispatcher thread is dead - informing listeners synchronously about: {}",
+                        pendingEvent.event);
+                    EventSystem.informListeners(pendingEvent.event, pendingEvent.listeners);
+                    return;
+                }
+            }
+            accepted.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("interrupted while waiting for buffer space - dropped event: {}", pendingEvent.event);
+        }
+    }
+
+    private void enqueueOrDropNewest(PendingEvent pendingEvent) {
+        if (buffer.offer(pendingEvent)) {
+            accepted.incrementAndGet();
+        } else {
+            logger.warn("event buffer is full - dropped event: {}", pendingEvent.event);
+        }
+    }
+
+    private void enqueueOrDropOldest(PendingEvent pendingEvent) {
+        while (!buffer.offer(pendingEvent)) {
+            PendingEvent droppedEvent = buffer.poll();
+            if (droppedEvent == POISON_PILL) {
+                // shut down concurrently - the consumer must still be stopped
+                enqueuePoisonPill();
+            } else if (droppedEvent != null) {
+                logger.warn("event buffer is full - dropped event: {}", droppedEvent.event);
+                markCompleted();
+            }
+        }
+        accepted.incrementAndGet();
+    }
+
+    @Override
+    public void flush() {
+
+        if (Thread.currentThread() == consumer) {
+            // called by a listener - waiting would dead lock the consumer
+            return;
+        }
+
+        long target = accepted.get();
+        synchronized (progressMonitor) {
+            while (completed.get() < target && consumer.isAlive()) {
+                try {
+                    // timed wait in order to notice a dead consumer thread
+                    progressMonitor.wait(CONSUMER_CHECK_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warn("interrupted while flushing events");
+                    return;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Shuts the dispatcher down after all pending events were delivered. The
+     * consumer thread is not interrupted - it stops by itself after the
+     * currently delivered event. Events fired after the shutdown are delivered
+     * synchronously.
+     *
+     * @since 1.2.0
+     */
+    @Override
+    public void shutdown() {
+        flush();
+        running = false;
+        if (consumer.isAlive()) {
+            enqueuePoisonPill();
+        }
+        logger.debug("shut down asynchronous event dispatcher");
+    }
+
+    private void enqueuePoisonPill() {
+        try {
+            while (!buffer.offer(POISON_PILL, CONSUMER_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!consumer.isAlive()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("interrupted while shutting down event dispatcher");
+        }
+    }
+
+    /**
+     * @return the number of events waiting to be delivered
+     * @since 1.2.0
+     */
+    public int getNumberOfPendingEvents() {
+        return buffer.size();
+    }
+
+    private void markCompleted() {
+        completed.incrementAndGet();
+        synchronized (progressMonitor) {
+            progressMonitor.notifyAll();
+        }
+    }
+
+    private class Consumer implements Runnable {
+
+        @Override
+        public void run() {
+            PendingEvent pendingEvent = nextEvent();
+            while (pendingEvent != POISON_PILL) {
+                deliver(pendingEvent);
+                pendingEvent = nextEvent();
+            }
+            // deliver events which were accepted while shutting down
+            pendingEvent = buffer.poll();
+            while (pendingEvent != null) {
+                if (pendingEvent != POISON_PILL) {
+                    deliver(pendingEvent);
+                }
+                pendingEvent = buffer.poll();
+            }
+            logger.trace("event dispatcher thread stopped");
+        }
+
+        private PendingEvent nextEvent() {
+            while (true) {
+                try {
+                    return buffer.take();
+                } catch (InterruptedException e) {
+                    // the consumer is only stopped by the poison pill
+                    logger.trace("event dispatcher thread was interrupted");
+                }
+            }
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        private void deliver(PendingEvent pendingEvent) {
+            try {
+                EventSystem.informListeners(pendingEvent.event, pendingEvent.listeners);
+            } catch (Throwable e) {
+                // errors of listeners must not kill the consumer thread
+                logger.error("error while informing listeners about event: " + pendingEvent.event, e);
+            } finally {
+                markCompleted();
+            }
+        }
+
+    }
+
+    private static class PendingEvent {
+
+        private final Event event;
+        private final List<EventListener> listeners;
+
+        PendingEvent(Event event, List<EventListener> listeners) {
+            this.event = event;
+            this.listeners = listeners;
+        }
+
+    }
+
+}
@@ -0,0 +1,233 @@
+package info.novatec.testit.webtester.eventsystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.annotations.ListensTo;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
+
+
+/**
+ * A registry of {@link EventListener event listeners} which are only interested
+ * in the {@link Event events} of a specific {@link Browser browser}. Each
+ * browser owns an event bus which can be accessed via
+ * {@link EventSystem#getEventBus(Browser)}.
+ * <p>
+ * Events are still {@link EventSystem#fireEvent(Event) fired} via the
+ * {@link EventSystem event system}. It routes each event to the listeners of the
+ * originating browser's bus first and to the globally registered listeners
+ * afterwards. Listeners registered on a bus therefore don't need to filter
+ * events by their browser.
+ * <p>
+ * Listeners can subscribe to specific types of events, either by being
+ * {@link #registerListener(Class, EventListener) registered for a type} or by
+ * being annotated with {@link ListensTo @ListensTo}. The listeners of each
+ * concrete event class are resolved once and kept in a dispatch table until
+ * the registry is changed.
+ * <p>
+ * Like the global registry, the registry of a bus is copy-on-write: routing an
+ * event does not need any locks or copies of the registry.
+ *
+ * @since 1.2.0
+ */
+public class EventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventBus.class);
+
+    private final Object lock = new Object();
+    private volatile Registry registry = new Registry(Collections.<Subscription> emptyList());
+
+    /**
+     * Registers an {@link EventListener event listener}. It will be informed of
+     * any {@link Event events} of the browser(s) using this bus. If the
+     * listener's class is annotated with {@link ListensTo @ListensTo} it is
+     * only informed of events of the declared types.
+     *
+     * @param listener the {@link EventListener event listener} to register.
+     * @since 1.2.0
+     */
+    public void registerListener(EventListener listener) {
+        addSubscription(new Subscription(getDeclaredEventTypes(listener), listener));
+        logger.debug("registered listener: {}", listener);
+    }
+
+    /**
+     * Registers an {@link EventListener event listener} for the given type of
+     * {@link Event events}. It will only be informed of events of the
+     * browser(s) using this bus which are instances of the given type.
+     *
+     * @param eventType the type of events the listener is interested in
+     * @param listener the {@link EventListener event listener} to register.
+     * @since 1.2.0
+     */
+    public void registerListener(Class<? extends Event> eventType, EventListener listener) {
+        addSubscription(new Subscription(Collections.<Class<?>> singletonList(eventType), listener));
+        logger.debug("registered listener for {}: {}", eventType, listener);
+    }
+
+    private void addSubscription(Subscription subscription) {
+        synchronized (lock) {
+            List<Subscription> newSubscriptions = new ArrayList<Subscription>(registry.subscriptions);
+            newSubscriptions.add(subscription);
+            registry = new Registry(newSubscriptions);
+        }
+    }
+
+    /**
+     * Deregisters an {@link EventListener event listener}. It will no longer be
+     * informed of any {@link Event events} of the browser(s) using this bus.
+     *
+     * @param listener the {@link EventListener event listener} to unregister.
+     * @since 1.2.0
+     */
+    public void deregisterListener(EventListener listener) {
+        synchronized (lock) {
+            List<Subscription> newSubscriptions = new ArrayList<Subscription>(registry.subscriptions.size());
+            for (Subscription subscription : registry.subscriptions) {
+                if (!subscription.listener.equals(listener)) {
+                    newSubscriptions.add(subscription);
+                }
+            }
+            registry = new Registry(newSubscriptions);
+        }
+        logger.debug("deregistered listener: {}", listener);
+    }
+
+    /**
+     * Removes all {@link EventListener event listeners} from this bus.
+     *
+     * @since 1.2.0
+     */
+    public void clearListeners() {
+        synchronized (lock) {
+            registry = new Registry(Collections.<Subscription> emptyList());
+        }
+        logger.debug("cleared all listener");
+    }
+
+    /**
+     * Returns an immutable snapshot of all currently registered
+     * {@link EventListener event listeners} in the order of their registration
+     * - regardless of the types of events they are interested in.
+     *
+     * @return the registered listeners
+     * @since 1.2.0
+     */
+    public List<EventListener> getListeners() {
+        return registry.allListeners;
+    }
+
+    /**
+     * Returns an immutable snapshot of the currently registered
+     * {@link EventListener event listeners} which are interested in
+     * {@link Event events} of the given class, in the order of their
+     * registration.
+     *
+     * @param eventClass the concrete class of an event
+     * @return the listeners to inform of events of that class
+     * @since 1.2.0
+     */
+    public List<EventListener> getListenersFor(Class<? extends Event> eventClass) {
+        return registry.getListenersFor(eventClass);
+    }
+
+    /**
+     * Returns whether or not there are any {@link EventListener event listeners}
+     * interested in {@link Event events} of the given class.
+     *
+     * @param eventClass the concrete class of an event
+     * @return true if at least one listener would be informed
+     * @since 1.2.0
+     */
+    public boolean hasListenersFor(Class<? extends Event> eventClass) {
+        return !getListenersFor(eventClass).isEmpty();
+    }
+
+    private static List<Class<?>> getDeclaredEventTypes(EventListener listener) {
+        ListensTo listensTo = listener.getClass().getAnnotation(ListensTo.class);
+        if (listensTo == null) {
+            return Collections.<Class<?>> singletonList(Event.class);
+        }
+        List<Class<?>> eventTypes = new ArrayList<Class<?>>();
+        Collections.addAll(eventTypes, listensTo.value());
+        return eventTypes;
+    }
+
+    private static class Subscription {
+
+        private final List<Class<?>> eventTypes;
+        private final EventListener listener;
+
+        Subscription(List<Class<?>> eventTypes, EventListener listener) {
+            this.eventTypes = eventTypes;
+            this.listener = listener;
+        }
+
+        boolean isInterestedIn(Class<?> eventClass) {
+            for (Class<?> eventType : eventTypes) {
+                if (eventType.isAssignableFrom(eventClass)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * Immutable state of the bus. The dispatch table is filled lazily for each
+     * concrete event class and discarded together with the registry whenever a
+     * listener is registered or deregistered.
+     */
+    private static class Registry {
+
+        private final List<Subscription> subscriptions;
+        private final List<EventListener> allListeners;
+        private final ConcurrentMap<Class<?>, List<EventListener>> dispatchTable =
+            new ConcurrentHashMap<Class<?>, List<EventListener>>();
+
+        Registry(List<Subscription> subscriptions) {
+            this.subscriptions = Collections.unmodifiableList(subscriptions);
+            List<EventListener> listeners = new ArrayList<EventListener>(subscriptions.size());
+            for (Subscription subscription : subscriptions) {
+                listeners.add(subscription.listener);
+            }
+            this.allListeners = Collections.unmodifiableList(listeners);
+        }
+
+        List<EventListener> getListenersFor(Class<?> eventClass) {
+            if (subscriptions.isEmpty()) {
+                return allListeners;
+            }
+            List<EventListener> listeners = dispatchTable.get(eventClass);
+            if (listeners == null) {
+                listeners = resolveListenersFor(eventClass);
+                dispatchTable.putIfAbsent(eventClass, listeners);
+            }
+            return listeners;
+        }
+
+        private List<EventListener> resolveListenersFor(Class<?> eventClass) {
+            List<EventListener> listeners = new ArrayList<EventListener>();
+            for (Subscription subscription : subscriptions) {
+                if (subscription.isInterestedIn(eventClass)) {
+                    listeners.add(subscription.listener);
+                }
+            }
+            if (listeners.isEmpty()) {
+                return Collections.emptyList();
+            }
+            return Collections.unmodifiableList(listeners);
+        }
+
+    }
+
+}
@@ -1,13 +1,21 @@
 package info.novatec.testit.webtester.eventsystem;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.MapMaker;
+
+import info.novatec.testit.webtester.api.annotations.ListensTo;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
 import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventDispatcher;
 import info.novatec.testit.webtester.api.events.EventListener;
+import info.novatec.testit.webtester.eventsystem.events.LazyEvent;
 
 
 /**
@@ -18,14 +26,42 @@ import info.novatec.testit.webtester.api.events.EventListener;
  * are {@link #fireEvent(Event) fired} in via this class as well.
  * <p>
  * Event listeners will be informed of events in the order they were registered.
- * Each call to an event listener is done synchronously.
+ * How and when they are informed is defined by the {@link EventDispatcher
+ * dispatcher}. By default each call to an event listener is done
+ * synchronously. An {@link AsynchronousEventDispatcher asynchronous dispatcher}
+ * can be {@link #setDispatcher(EventDispatcher) set} in order to decouple slow
+ * listeners from the test thread.
+ * <p>
+ * The registry of listeners is copy-on-write: firing an event does not need
+ * any locks or copies of the registry.
+ * <p>
+ * Listeners which are only interested in the events of a single browser should
+ * be registered on that browser's {@link EventBus event bus} (see
+ * {@link #getEventBus(Browser)}) instead. Fired events are routed to the bus of
+ * their originating browser before the globally registered listeners are
+ * informed. The buses are only weakly referenced by the event system: the bus
+ * of a browser which is never closed is removed once the browser's
+ * {@link BrowserIdentification identification} is garbage collected.
+ * <p>
+ * Listeners can subscribe to specific types of events by being
+ * {@link #registerListener(Class, EventListener) registered for a type} or by
+ * being annotated with {@link ListensTo @ListensTo}. Events nobody is listening
+ * to are not dispatched at all and {@link #hasListenersFor(Class, BrowserIdentification)}
+ * can be used to avoid gathering expensive event data for them.
  *
  * @since 0.9.0
  */
 public final class EventSystem {
 
     private static final Logger logger = LoggerFactory.getLogger(EventSystem.class);
-    private static final List<EventListener> LISTENERS = new LinkedList<EventListener>();
+    private static final Object LOCK = new Object();
+
+    private static final EventBus GLOBAL_BUS = new EventBus();
+    /* weak keys (compared by identity) - browsers which are never closed must not leak their buses */
+    private static final ConcurrentMap<BrowserIdentification, EventBus> BROWSER_BUSES =
+        new MapMaker().weakKeys().makeMap();
+
+    private static volatile EventDispatcher dispatcher = new SynchronousEventDispatcher();
 
     /**
      * Registers an {@link EventListener event listener}. It will be informed of
@@ -35,10 +71,20 @@ public final class EventSystem {
      * @since 0.9.0
      */
     public static void registerListener(EventListener listener) {
-        synchronized ( LISTENERS ) {
-            LISTENERS.add(listener);
-        }
-        logger.debug("registered listener: {}", listener);
+        GLOBAL_BUS.registerListener(listener);
+    }
+
+    /**
+     * Registers an {@link EventListener event listener} for the given type of
+     * {@link Event events}. It will only be informed of reported events which
+     * are instances of that type.
+     *
+     * @param eventType the type of events the listener is interested in
+     * @param listener the {@link EventListener event listener} to register.
+     * @since 1.2.0
+     */
+    public static void registerListener(Class<? extends Event> eventType, EventListener listener) {
+        GLOBAL_BUS.registerListener(eventType, listener);
     }
 
     /**
@@ -49,10 +95,7 @@ public final class EventSystem {
      * @since 0.9.0
      */
     public static void deregisterListener(EventListener listener) {
-        synchronized ( LISTENERS ) {
-            LISTENERS.remove(listener);
-        }
-        logger.debug("deregistered listener: {}", listener);
+        GLOBAL_BUS.deregisterListener(listener);
     }
 
     /**
@@ -61,31 +104,187 @@ public final class EventSystem {
      * @since 0.9.0
      */
     public static void clearListeners() {
-        synchronized ( LISTENERS ) {
-            LISTENERS.clear();
+        GLOBAL_BUS.clearListeners();
+    }
+
+    /**
+     * Returns the {@link EventBus event bus} of the given {@link Browser
+     * browser}. Listeners registered on this bus are only informed of events
+     * fired by this browser. Listeners interested in the events of all browsers
+     * can still be registered globally.
+     * <p>
+     * The bus is usually registered while building the browser. If the browser
+     * doesn't have a bus yet, a new one is created and registered.
+     *
+     * @param browser the browser to get the bus for
+     * @return the event bus of the browser
+     * @since 1.2.0
+     */
+    public static EventBus getEventBus(Browser browser) {
+        BrowserIdentification browserId = browser.getIdentification();
+        EventBus eventBus = BROWSER_BUSES.get(browserId);
+        if (eventBus == null) {
+            eventBus = new EventBus();
+            EventBus existingBus = BROWSER_BUSES.putIfAbsent(browserId, eventBus);
+            if (existingBus != null) {
+                eventBus = existingBus;
+            } else {
+                logger.debug("registered new event bus of browser: {}", browserId);
+            }
+        }
+        return eventBus;
+    }
+
+    /**
+     * Registers the {@link EventBus event bus} of the browser with the given
+     * {@link BrowserIdentification identification}. Events of that browser will
+     * be routed to the listeners of the bus. This is done by the browser itself
+     * and should not be called by client code.
+     *
+     * @param browserId the identification of the browser owning the bus
+     * @param eventBus the bus to register
+     * @since 1.2.0
+     */
+    public static void registerEventBus(BrowserIdentification browserId, EventBus eventBus) {
+        BROWSER_BUSES.put(browserId, eventBus);
+        logger.debug("registered event bus of browser: {}", browserId);
+    }
+
+    /**
+     * Deregisters the {@link EventBus event bus} of the browser with the given
+     * {@link BrowserIdentification identification}. This is done by the browser
+     * itself when it is closed and should not be called by client code.
+     *
+     * @param browserId the identification of the browser owning the bus
+     * @since 1.2.0
+     */
+    public static void deregisterEventBus(BrowserIdentification browserId) {
+        BROWSER_BUSES.remove(browserId);
+        logger.debug("deregistered event bus of browser: {}", browserId);
+    }
+
+    /**
+     * Sets the {@link EventDispatcher dispatcher} to use when informing
+     * listeners of fired {@link Event events}. The previous dispatcher is
+     * {@link EventDispatcher#shutdown() shut down}, delivering all of its
+     * pending events.
+     *
+     * @param newDispatcher the dispatcher to use from now on
+     * @since 1.2.0
+     */
+    public static void setDispatcher(EventDispatcher newDispatcher) {
+        EventDispatcher oldDispatcher;
+        synchronized ( LOCK ) {
+            oldDispatcher = dispatcher;
+            dispatcher = newDispatcher;
         }
-        logger.debug("cleared all listener");
+        oldDispatcher.shutdown();
+        logger.debug("changed event dispatcher to: {}", newDispatcher);
+    }
+
+    /**
+     * Blocks until all {@link Event events} which were fired before this method
+     * was called have been delivered to their listeners. This should be called
+     * before evaluating the results of listeners (i.e. at the end of a test)
+     * in case an {@link AsynchronousEventDispatcher asynchronous dispatcher} is
+     * used.
+     *
+     * @since 1.2.0
+     */
+    public static void flush() {
+        dispatcher.flush();
     }
 
     /**
      * Informs all of the currently registered {@link EventListener event
-     * listeners} of the given {@link Event event}. Any {@link RuntimeException
-     * undeclared exceptions} thrown by any of the registered listeners will be
-     * logged and otherwise ignored.
+     * listeners} of the given {@link Event event}. Listeners registered on the
+     * {@link EventBus event bus} of the event's browser are informed before the
+     * global listeners. Any {@link RuntimeException undeclared exceptions}
+     * thrown by any of the registered listeners will be logged and otherwise
+     * ignored.
+     * <p>
+     * Lazy values of {@link LazyEvent lazy events} are resolved on the calling
+     * thread once the event was dispatched. Listeners keeping the event can
+     * therefore read these values later on without accessing the browser.
      *
      * @param event the {@link Event event} to fire.
      * @since 0.9.0
      */
     public static void fireEvent(Event event) {
         logger.debug("firing event: {}", event);
-        for (EventListener listener : threadSafelyGetEventListeners()) {
+        List<EventListener> currentListeners = getListenersFor(event);
+        if (!currentListeners.isEmpty()) {
+            dispatcher.dispatch(event, currentListeners);
+            resolveLazyValues(event);
+        }
+    }
+
+    /**
+     * Returns whether or not any {@link EventListener event listener} would be
+     * informed of an {@link Event event} of the given class fired for the
+     * browser with the given {@link BrowserIdentification identification}. This
+     * can be used to skip gathering expensive data for events which nobody is
+     * listening to.
+     *
+     * @param eventClass the concrete class of the event
+     * @param browserId the identification of the browser the event would be
+     * fired for
+     * @return true if at least one listener would be informed
+     * @since 1.2.0
+     */
+    public static boolean hasListenersFor(Class<? extends Event> eventClass, BrowserIdentification browserId) {
+        if (GLOBAL_BUS.hasListenersFor(eventClass)) {
+            return true;
+        }
+        EventBus browserBus = lookupEventBus(browserId);
+        return browserBus != null && browserBus.hasListenersFor(eventClass);
+    }
+
+    private static List<EventListener> getListenersFor(Event event) {
+
+        Class<? extends Event> eventClass = event.getClass();
+        List<EventListener> globalListeners = GLOBAL_BUS.getListenersFor(eventClass);
+
+        EventBus browserBus = lookupEventBus(event.getBrowserIdentification());
+        if (browserBus == null) {
+            return globalListeners;
+        }
+
+        List<EventListener> browserListeners = browserBus.getListenersFor(eventClass);
+        if (browserListeners.isEmpty()) {
+            return globalListeners;
+        }
+        if (globalListeners.isEmpty()) {
+            return browserListeners;
+        }
+
+        List<EventListener> combinedListeners =
+            new ArrayList<EventListener>(browserListeners.size() + globalListeners.size());
+        combinedListeners.addAll(browserListeners);
+        combinedListeners.addAll(globalListeners);
+        return combinedListeners;
+
+    }
+
+    private static EventBus lookupEventBus(BrowserIdentification browserId) {
+        return browserId != null ? BROWSER_BUSES.get(browserId) : null;
+    }
+
+    static void informListeners(Event event, List<EventListener> listenersToInform) {
+        for (EventListener listener : listenersToInform) {
             tryToInformListenerOfEvent(event, listener);
         }
     }
 
-    private static List<EventListener> threadSafelyGetEventListeners() {
-        synchronized ( LISTENERS ) {
-            return new LinkedList<EventListener>(LISTENERS);
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    static void resolveLazyValues(Event event) {
+        if (event instanceof LazyEvent) {
+            try {
+                LazyEvent lazyEvent = ( LazyEvent ) event;
+                lazyEvent.resolveLazyValues();
+            } catch (RuntimeException e) {
+                logger.warn("could not resolve lazy values of event: " + event, e);
+            }
         }
     }
 
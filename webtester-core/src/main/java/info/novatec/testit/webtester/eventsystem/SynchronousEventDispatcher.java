@@ -0,0 +1,34 @@
+package info.novatec.testit.webtester.eventsystem;
+
+import java.util.List;
+
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventDispatcher;
+import info.novatec.testit.webtester.api.events.EventListener;
+
+
+/**
+ * This {@link EventDispatcher dispatcher} informs all listeners on the thread
+ * firing the {@link Event event}, before the fire method returns. This is the
+ * default dispatcher of the {@link EventSystem event system}.
+ *
+ * @since 1.2.0
+ */
+public class SynchronousEventDispatcher implements EventDispatcher {
+
+    @Override
+    public void dispatch(Event event, List<EventListener> listeners) {
+        EventSystem.informListeners(event, listeners);
+    }
+
+    @Override
+    public void flush() {
+        // events are always delivered immediately
+    }
+
+    @Override
+    public void shutdown() {
+        // no resources to release
+    }
+
+}
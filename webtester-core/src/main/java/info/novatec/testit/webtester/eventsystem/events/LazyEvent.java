@@ -0,0 +1,32 @@
+package info.novatec.testit.webtester.eventsystem.events;
+
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventDispatcher;
+import info.novatec.testit.webtester.eventsystem.AsynchronousEventDispatcher;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+
+
+/**
+ * An {@link Event event} carrying {@link LazyValue lazy values}. Lazy values
+ * may only be computed by the thread which fired the event, while the browser
+ * is still in the state the event describes. The {@link EventSystem event
+ * system} resolves all lazy values of such an event on the firing thread once
+ * it was dispatched. {@link EventDispatcher Dispatchers} which inform
+ * listeners later or on another thread (like the
+ * {@link AsynchronousEventDispatcher asynchronous dispatcher}) resolve them
+ * before the event leaves the firing thread.
+ *
+ * @see LazyValue
+ * @since 1.2.0
+ */
+public interface LazyEvent extends Event {
+
+    /**
+     * Computes all {@link LazyValue lazy values} of this event which were not
+     * computed yet.
+     *
+     * @since 1.2.0
+     */
+    void resolveLazyValues();
+
+}
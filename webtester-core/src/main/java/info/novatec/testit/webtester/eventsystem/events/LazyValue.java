@@ -0,0 +1,91 @@
+package info.novatec.testit.webtester.eventsystem.events;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import com.google.common.base.Supplier;
+
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
+
+
+/**
+ * Holds a value of an {@link Event event} which is only computed when it is
+ * read for the first time - usually by an {@link EventListener event listener}.
+ * This allows events to carry data which is expensive to gather (i.e. needs
+ * additional calls to the browser) without paying for it if nobody is
+ * interested in it.
+ * <p>
+ * The computed value is kept, so the supplier is called at most once - even if
+ * it fails, in which case the value stays <code>null</code>. Events holding
+ * lazy values should implement {@link LazyEvent} so that dispatchers which
+ * inform listeners asynchronously can compute the values on the firing thread
+ * (while the browser is still in the state described by the event). Serializing
+ * the holder computes the value before it is written.
+ *
+ * @param <T> the type of the value
+ * @since 1.2.0
+ */
+@SuppressWarnings("serial")
+public final class LazyValue<T extends Serializable> implements Serializable {
+
+    private transient Supplier<T> supplier;
+    private T value;
+
+    private LazyValue(Supplier<T> supplier, T value) {
+        this.supplier = supplier;
+        this.value = value;
+    }
+
+    /**
+     * Creates a new {@link LazyValue} for an already known value.
+     *
+     * @param <T> the type of the value
+     * @param value the value
+     * @return the new holder
+     * @since 1.2.0
+     */
+    public static <T extends Serializable> LazyValue<T> of(T value) {
+        return new LazyValue<T>(null, value);
+    }
+
+    /**
+     * Creates a new {@link LazyValue} which computes its value using the given
+     * {@link Supplier supplier} when it is read for the first time.
+     *
+     * @param <T> the type of the value
+     * @param supplier the supplier to compute the value with
+     * @return the new holder
+     * @since 1.2.0
+     */
+    public static <T extends Serializable> LazyValue<T> from(Supplier<T> supplier) {
+        return new LazyValue<T>(supplier, null);
+    }
+
+    /**
+     * Returns the value, computing it in case this is the first call.
+     *
+     * @return the value
+     * @since 1.2.0
+     */
+    public synchronized T get() {
+        if (supplier != null) {
+            Supplier<T> currentSupplier = supplier;
+            supplier = null;
+            value = currentSupplier.get();
+        }
+        return value;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        get();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(get());
+    }
+
+}
@@ -2,7 +2,12 @@ package info.novatec.testit.webtester.eventsystem.events.pageobject;
 
 import static java.lang.String.format;
 
+import com.google.common.base.Supplier;
+
 import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+import info.novatec.testit.webtester.eventsystem.events.LazyEvent;
+import info.novatec.testit.webtester.eventsystem.events.LazyValue;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -13,15 +18,35 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  * @since 0.9.0
  */
 @SuppressWarnings("serial")
-public class TextAppendedEvent extends AbstractPageObjectEvent {
+public class TextAppendedEvent extends AbstractPageObjectEvent implements LazyEvent {
 
     private static final String MESSAGE_FORMAT = "changed text of %s from '%s' to '%s' by trying to append '%s'";
 
     private String before;
-    private String after;
+    private LazyValue<String> after;
     private String textToAppend;
 
     public TextAppendedEvent(PageObject pageObject, String before, String after, String textToAppend) {
+        this(pageObject, before, LazyValue.of(after), textToAppend);
+    }
+
+    /**
+     * Creates a new event which reads the text after the action from the
+     * given supplier when it is first needed. The {@link EventSystem event
+     * system} reads it at the latest after the event was dispatched.
+     *
+     * @param pageObject the page object the event occurred on
+     * @param before the text before the action
+     * @param after supplies the text after the action
+     * @param textToAppend the text which was to be appended
+     * @since 1.2.0
+     */
+    public static TextAppendedEvent withLazyAfter(PageObject pageObject, String before, Supplier<String> after,
+        String textToAppend) {
+        return new TextAppendedEvent(pageObject, before, LazyValue.from(after), textToAppend);
+    }
+
+    private TextAppendedEvent(PageObject pageObject, String before, LazyValue<String> after, String textToAppend) {
         super(pageObject);
         this.before = before;
         this.after = after;
@@ -30,7 +55,7 @@ public class TextAppendedEvent extends AbstractPageObjectEvent {
 
     @Override
     public String getEventMessage() {
-        return format(MESSAGE_FORMAT, getSubjectName(), before, after, textToAppend);
+        return format(MESSAGE_FORMAT, getSubjectName(), before, getAfter(), textToAppend);
     }
 
     public String getBefore() {
@@ -38,7 +63,12 @@ public class TextAppendedEvent extends AbstractPageObjectEvent {
     }
 
     public String getAfter() {
-        return after;
+        return after.get();
+    }
+
+    @Override
+    public void resolveLazyValues() {
+        after.get();
     }
 
     public String getTextToAppend() {
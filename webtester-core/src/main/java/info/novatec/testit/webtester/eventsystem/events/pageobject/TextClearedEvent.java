@@ -2,7 +2,12 @@ package info.novatec.testit.webtester.eventsystem.events.pageobject;
 
 import static java.lang.String.format;
 
+import com.google.common.base.Supplier;
+
 import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+import info.novatec.testit.webtester.eventsystem.events.LazyEvent;
+import info.novatec.testit.webtester.eventsystem.events.LazyValue;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -12,14 +17,32 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  * @since 0.9.0
  */
 @SuppressWarnings("serial")
-public class TextClearedEvent extends AbstractPageObjectEvent {
+public class TextClearedEvent extends AbstractPageObjectEvent implements LazyEvent {
 
     private static final String MESSAGE_FORMAT = "changed text of %s from '%s' to '%s' by clearing it";
 
     private String before;
-    private String after;
+    private LazyValue<String> after;
 
     public TextClearedEvent(PageObject pageObject, String before, String after) {
+        this(pageObject, before, LazyValue.of(after));
+    }
+
+    /**
+     * Creates a new event which reads the text after the action from the
+     * given supplier when it is first needed. The {@link EventSystem event
+     * system} reads it at the latest after the event was dispatched.
+     *
+     * @param pageObject the page object the event occurred on
+     * @param before the text before the action
+     * @param after supplies the text after the action
+     * @since 1.2.0
+     */
+    public static TextClearedEvent withLazyAfter(PageObject pageObject, String before, Supplier<String> after) {
+        return new TextClearedEvent(pageObject, before, LazyValue.from(after));
+    }
+
+    private TextClearedEvent(PageObject pageObject, String before, LazyValue<String> after) {
         super(pageObject);
         this.before = before;
         this.after = after;
@@ -27,7 +50,7 @@ public class TextClearedEvent extends AbstractPageObjectEvent {
 
     @Override
     public String getEventMessage() {
-        return format(MESSAGE_FORMAT, getSubjectName(), before, after);
+        return format(MESSAGE_FORMAT, getSubjectName(), before, getAfter());
     }
 
     public String getBefore() {
@@ -35,7 +58,12 @@ public class TextClearedEvent extends AbstractPageObjectEvent {
     }
 
     public String getAfter() {
-        return after;
+        return after.get();
+    }
+
+    @Override
+    public void resolveLazyValues() {
+        after.get();
     }
 
 }
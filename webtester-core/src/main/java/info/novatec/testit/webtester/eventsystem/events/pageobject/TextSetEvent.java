@@ -2,7 +2,12 @@ package info.novatec.testit.webtester.eventsystem.events.pageobject;
 
 import static java.lang.String.format;
 
+import com.google.common.base.Supplier;
+
 import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+import info.novatec.testit.webtester.eventsystem.events.LazyEvent;
+import info.novatec.testit.webtester.eventsystem.events.LazyValue;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -13,15 +18,35 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  * @since 0.9.0
  */
 @SuppressWarnings("serial")
-public class TextSetEvent extends AbstractPageObjectEvent {
+public class TextSetEvent extends AbstractPageObjectEvent implements LazyEvent {
 
     private static final String MESSAGE_FORMAT = "changed text of %s from '%s' to '%s' by trying to set it to '%s'";
 
     private String before;
-    private String after;
+    private LazyValue<String> after;
     private String textToSet;
 
     public TextSetEvent(PageObject pageObject, String before, String after, String textToSet) {
+        this(pageObject, before, LazyValue.of(after), textToSet);
+    }
+
+    /**
+     * Creates a new event which reads the text after the action from the
+     * given supplier when it is first needed. The {@link EventSystem event
+     * system} reads it at the latest after the event was dispatched.
+     *
+     * @param pageObject the page object the event occurred on
+     * @param before the text before the action
+     * @param after supplies the text after the action
+     * @param textToSet the text which was to be set
+     * @since 1.2.0
+     */
+    public static TextSetEvent withLazyAfter(PageObject pageObject, String before, Supplier<String> after,
+        String textToSet) {
+        return new TextSetEvent(pageObject, before, LazyValue.from(after), textToSet);
+    }
+
+    private TextSetEvent(PageObject pageObject, String before, LazyValue<String> after, String textToSet) {
         super(pageObject);
         this.before = before;
         this.after = after;
@@ -30,7 +55,7 @@ public class TextSetEvent extends AbstractPageObjectEvent {
 
     @Override
     public String getEventMessage() {
-        return format(MESSAGE_FORMAT, getSubjectName(), before, after, textToSet);
+        return format(MESSAGE_FORMAT, getSubjectName(), before, getAfter(), textToSet);
     }
 
     public String getBefore() {
@@ -38,7 +63,12 @@ public class TextSetEvent extends AbstractPageObjectEvent {
     }
 
     public String getAfter() {
-        return after;
+        return after.get();
+    }
+
+    @Override
+    public void resolveLazyValues() {
+        after.get();
     }
 
     public String getTextToSet() {
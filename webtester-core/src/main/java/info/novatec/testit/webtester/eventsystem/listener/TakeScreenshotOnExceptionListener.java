@@ -5,6 +5,7 @@ import static info.novatec.testit.webtester.browser.BrowserRegistry.lookupBrowse
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import info.novatec.testit.webtester.api.annotations.ListensTo;
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.events.Event;
 import info.novatec.testit.webtester.api.events.EventListener;
@@ -16,6 +17,7 @@ import info.novatec.testit.webtester.eventsystem.events.browser.ExceptionEvent;
  * each occurrence of an {@link ExceptionEvent exception event} and
  * stores it in the configured default screenshot folder.
  */
+@ListensTo(ExceptionEvent.class)
 public class TakeScreenshotOnExceptionListener implements EventListener {
 
     private static final Logger logger = LoggerFactory.getLogger(TakeScreenshotOnExceptionListener.class);
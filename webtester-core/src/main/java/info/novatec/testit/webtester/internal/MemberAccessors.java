@@ -0,0 +1,291 @@
+package info.novatec.testit.webtester.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+
+
+/**
+ * Provides cached {@link MethodHandle method handle} based accessors for
+ * constructors, fields and methods.
+ * <p>
+ * In contrast to the methods of {@link ReflectionUtils} the member is only
+ * looked up and made accessible once, when the accessor is created. Using the
+ * accessor afterwards does not involve any reflective lookups or access
+ * checks. Accessors are cached per member and can be shared between threads.
+ *
+ * @since 1.2.0
+ */
+@Internal
+public final class MemberAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ConcurrentMap<Constructor<?>, ConstructorAccessor<?>> CONSTRUCTOR_CACHE =
+        new ConcurrentHashMap<Constructor<?>, ConstructorAccessor<?>>();
+    private static final ConcurrentMap<Field, FieldAccessor> FIELD_CACHE = new ConcurrentHashMap<Field, FieldAccessor>();
+    private static final ConcurrentMap<Method, MethodAccessor> METHOD_CACHE =
+        new ConcurrentHashMap<Method, MethodAccessor>();
+
+    /* creating accessors */
+
+    /**
+     * Returns the cached {@link ConstructorAccessor accessor} for the given
+     * constructor. The accessor is created in case the constructor is
+     * requested for the first time.
+     *
+     * @param constructor the constructor to get the accessor for
+     * @param <T> the type of the instances created by the constructor
+     * @return the accessor
+     * @throws IllegalAccessException in case the constructor could not be
+     * made accessible
+     * @since 1.2.0
+     */
+    @Internal
+    @SuppressWarnings("unchecked")
+    public static <T> ConstructorAccessor<T> forConstructor(Constructor<T> constructor) throws IllegalAccessException {
+        ConstructorAccessor<?> accessor = CONSTRUCTOR_CACHE.get(constructor);
+        if (accessor == null) {
+            ConstructorAccessor<T> newAccessor = new ConstructorAccessor<T>(constructor);
+            accessor = CONSTRUCTOR_CACHE.putIfAbsent(constructor, newAccessor);
+            if (accessor == null) {
+                accessor = newAccessor;
+            }
+        }
+        return ( ConstructorAccessor<T> ) accessor;
+    }
+
+    /**
+     * Returns the cached {@link FieldAccessor accessor} for the given field.
+     * The accessor is created in case the field is requested for the first
+     * time.
+     *
+     * @param field the field to get the accessor for
+     * @return the accessor
+     * @throws IllegalAccessException in case the field could not be made
+     * accessible
+     * @since 1.2.0
+     */
+    @Internal
+    public static FieldAccessor forField(Field field) throws IllegalAccessException {
+        FieldAccessor accessor = FIELD_CACHE.get(field);
+        if (accessor == null) {
+            FieldAccessor newAccessor = new FieldAccessor(field);
+            accessor = FIELD_CACHE.putIfAbsent(field, newAccessor);
+            if (accessor == null) {
+                accessor = newAccessor;
+            }
+        }
+        return accessor;
+    }
+
+    /**
+     * Returns the cached {@link MethodAccessor accessor} for the given method.
+     * The accessor is created in case the method is requested for the first
+     * time.
+     *
+     * @param method the method to get the accessor for
+     * @return the accessor
+     * @throws IllegalAccessException in case the method could not be made
+     * accessible
+     * @since 1.2.0
+     */
+    @Internal
+    public static MethodAccessor forMethod(Method method) throws IllegalAccessException {
+        MethodAccessor accessor = METHOD_CACHE.get(method);
+        if (accessor == null) {
+            MethodAccessor newAccessor = new MethodAccessor(method);
+            accessor = METHOD_CACHE.putIfAbsent(method, newAccessor);
+            if (accessor == null) {
+                accessor = newAccessor;
+            }
+        }
+        return accessor;
+    }
+
+    /* accessors */
+
+    /**
+     * Creates new instances using a constructor.
+     *
+     * @param <T> the type of the created instances
+     * @since 1.2.0
+     */
+    @Internal
+    public static final class ConstructorAccessor<T> {
+
+        private final Constructor<T> constructor;
+        private final MethodHandle handle;
+
+        private ConstructorAccessor(Constructor<T> constructor) throws IllegalAccessException {
+            constructor.setAccessible(true);
+            int parameterCount = constructor.getParameterTypes().length;
+            MethodHandle constructorHandle = LOOKUP.unreflectConstructor(constructor);
+            this.constructor = constructor;
+            this.handle = constructorHandle.asType(MethodType.genericMethodType(parameterCount))
+                .asSpreader(Object[].class, parameterCount);
+        }
+
+        public Constructor<T> getConstructor() {
+            return constructor;
+        }
+
+        /**
+         * Creates a new instance using the given parameters.
+         *
+         * @param parameters the parameters to pass to the constructor
+         * @return the created instance
+         * @throws InvocationTargetException in case the constructor threw an
+         * exception - errors are not wrapped
+         * @since 1.2.0
+         */
+        @SuppressWarnings({ "unchecked", "PMD.AvoidCatchingThrowable" })
+        public T newInstance(Object... parameters) throws InvocationTargetException {
+            try {
+                return ( T ) handle.invokeExact(parameters);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+    }
+
+    /**
+     * Reads and writes the value of a field.
+     *
+     * @since 1.2.0
+     */
+    @Internal
+    public static final class FieldAccessor {
+
+        private final Field field;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private FieldAccessor(Field field) throws IllegalAccessException {
+            field.setAccessible(true);
+            MethodHandle getterHandle = LOOKUP.unreflectGetter(field);
+            MethodHandle setterHandle = LOOKUP.unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getterHandle = MethodHandles.dropArguments(getterHandle, 0, Object.class);
+                setterHandle = MethodHandles.dropArguments(setterHandle, 0, Object.class);
+            }
+            this.field = field;
+            this.getter = getterHandle.asType(MethodType.methodType(Object.class, Object.class));
+            this.setter = setterHandle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * Returns the value of the field for the given instance.
+         *
+         * @param instance the instance to read the field of - ignored for
+         * static fields
+         * @return the value of the field
+         * @throws ClassCastException in case the instance is of the wrong type
+         * @since 1.2.0
+         */
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        public Object get(Object instance) {
+            try {
+                return getter.invokeExact(instance);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Sets the value of the field for the given instance.
+         *
+         * @param instance the instance to set the field of - ignored for
+         * static fields
+         * @param value the value to set
+         * @throws ClassCastException in case the instance or value are of the
+         * wrong type
+         * @since 1.2.0
+         */
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        public void set(Object instance, Object value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+    /**
+     * Invokes a method.
+     *
+     * @since 1.2.0
+     */
+    @Internal
+    public static final class MethodAccessor {
+
+        private final Method method;
+        private final MethodHandle handle;
+
+        private MethodAccessor(Method method) throws IllegalAccessException {
+            method.setAccessible(true);
+            int parameterCount = method.getParameterTypes().length;
+            MethodHandle methodHandle = LOOKUP.unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+            }
+            this.method = method;
+            this.handle = methodHandle.asType(MethodType.genericMethodType(parameterCount + 1))
+                .asSpreader(Object[].class, parameterCount);
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        /**
+         * Invokes the method on the given instance using the given parameters.
+         *
+         * @param instance the instance to invoke the method on - ignored for
+         * static methods
+         * @param parameters the parameters to pass to the method
+         * @return the return value of the method or <code>null</code> in case
+         * of <code>void</code> methods
+         * @throws InvocationTargetException in case the method threw an
+         * exception - errors are not wrapped
+         * @since 1.2.0
+         */
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        public Object invoke(Object instance, Object... parameters) throws InvocationTargetException {
+            try {
+                return handle.invokeExact(instance, parameters);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+    }
+
+    private MemberAccessors() {
+    }
+
+}
@@ -66,7 +66,92 @@ public enum NamedProperties {
     @Documentation("Default interval in which to check a condition for wait operations.")
     @TypeDefinition(Constants.MILISECONDS_AS_INT)
     @DefaultValue("100")
-    WAIT_INTERVAL("wait.interval");
+    WAIT_INTERVAL("wait.interval"),
+
+    @Documentation("Strategy to use when checking a condition for wait operations. All strategies are based on the"
+        + " wait interval:\nFIXED checks once every interval, EXPONENTIAL_BACKOFF starts with short delays and doubles"
+        + " them up to the interval, FAST_START checks every few milliseconds at first and once every interval"
+        + " afterwards.")
+    @TypeDefinition("String [FIXED, EXPONENTIAL_BACKOFF, FAST_START]")
+    @DefaultValue("FIXED")
+    WAIT_POLLING("wait.polling"),
+
+    @Documentation("Whether or not wait operations using built-in conditions should be executed inside the browser"
+        + " using a single asynchronous script instead of polling the browser. Conditions which can't be evaluated"
+        + " inside the browser are still checked by polling.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    WAIT_IN_BROWSER("wait.inBrowser"),
+
+    @Documentation("Script timeout of the web driver which is restored after a wait operation was executed inside the"
+        + " browser.\nThe web driver's current script timeout can't be read, so it has to be configured here in case it"
+        + " was changed from the driver's default.")
+    @TypeDefinition(Constants.MILISECONDS_AS_INT)
+    @DefaultValue("30000")
+    WAIT_IN_BROWSER_SCRIPT_TIMEOUT("wait.inBrowser.scriptTimeout"),
+
+    @Documentation("Whether or not lists of page objects should keep a snapshot of their elements until the DOM of the"
+        + " page changes.\nThis can be overridden for single fields using the @CachedList annotation.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    PAGEOBJECTS_LIST_CACHING("pageobjects.lists.caching"),
+
+    @Documentation("Whether or not lists of page objects should be pre-filtered inside the browser using a single script"
+        + " if the filter condition can be evaluated leniently inside the browser.\nThe remaining elements are checked"
+        + " in Java as well, other conditions are still evaluated for each element.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    PAGEOBJECTS_LIST_FILTERING_IN_BROWSER("pageobjects.lists.filterInBrowser"),
+
+    @Documentation("Whether or not page objects should keep their resolved web element until the browser navigates to"
+        + " another page.\nActions failing because of a stale cached element are retried once with a newly resolved"
+        + " element, if the element became stale before the action used it for the first time.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    PAGEOBJECTS_ELEMENT_CACHING("pageobjects.elements.caching"),
+
+    @Documentation("Whether or not page fragments of page objects should be initialized lazily. Post construct methods"
+        + " and visibility checks of a page fragment are executed the first time it is used instead of when the page"
+        + " object is created.\nThis can be overridden for single page object classes using the @LazyInitialization"
+        + " annotation.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    PAGEOBJECTS_LAZY_INITIALIZATION("pageobjects.lazyInitialization"),
+
+    @Documentation("Whether or not the web elements of all page fragments of a page should be resolved with a single"
+        + " script when the page is created.\nPage fragments without a matching element look up their element as usual"
+        + " once they are used.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    PAGEOBJECTS_PREFETCHING("pageobjects.prefetching"),
+
+    @Documentation("Whether or not page objects created by finders (i.e. browser.find(\"#id\")) should be reused for"
+        + " the same parent, identification and class until the browser navigates to another page.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    PAGEOBJECTS_FINDER_CACHING("pageobjects.finder.caching"),
+
+    @Documentation("Whether or not events should capture the state of page objects before and after an action (i.e."
+        + " the old and new text of a text field).\nDisabling this saves additional calls to the browser for each"
+        + " action but events will not include these states.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("true")
+    EVENTS_CAPTURE_STATE("events.captureState"),
+
+    @Documentation("Maximum number of browsers (leased and idle) of the default browser pool.")
+    @TypeDefinition("int [number of browsers]")
+    @DefaultValue("4")
+    BROWSER_POOL_MAX_SIZE("browserPool.maxSize"),
+
+    @Documentation("Time after which idle browsers of the default browser pool are closed.")
+    @TypeDefinition(Constants.SECONDS_AS_INT)
+    @DefaultValue("300")
+    BROWSER_POOL_MAX_IDLE_TIME("browserPool.maxIdleTime"),
+
+    @Documentation("Maximum time to wait for a browser to be released if the default browser pool is exhausted.")
+    @TypeDefinition(Constants.SECONDS_AS_INT)
+    @DefaultValue("60")
+    BROWSER_POOL_LEASE_TIMEOUT("browserPool.leaseTimeout");
 
     private final String key;
 
@@ -3,13 +3,17 @@ package info.novatec.testit.webtester.internal;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import info.novatec.testit.webtester.api.annotations.Internal;
 
@@ -18,6 +22,8 @@ import info.novatec.testit.webtester.api.annotations.Internal;
 public final class ReflectionUtils {
 
     private static final Map<Class<?>, Set<Field>> FIELDS_OF_CLASS_CACHE = new HashMap<Class<?>, Set<Field>>();
+    private static final ConcurrentMap<List<Object>, Class<?>> DECLARING_CLASS_CACHE =
+        new ConcurrentHashMap<List<Object>, Class<?>>();
 
     /* creating instances */
 
@@ -164,6 +170,35 @@ public final class ReflectionUtils {
 
     }
 
+    /**
+     * Returns whether or not the public method with the given name and no
+     * parameters is overridden by the given class (or any of its super
+     * classes below the given base class). The result is cached per class and
+     * method name.
+     *
+     * @param clazz the class to check
+     * @param baseClass the class declaring the method which might be
+     * overridden
+     * @param methodName the name of the method
+     * @return true if the method is not declared by the base class, otherwise
+     * false
+     * @throws IllegalArgumentException if there is no such method
+     */
+    @Internal
+    public static boolean isOverridden(Class<?> clazz, Class<?> baseClass, String methodName) {
+        List<Object> key = Arrays.<Object> asList(clazz, methodName);
+        Class<?> declaringClass = DECLARING_CLASS_CACHE.get(key);
+        if (declaringClass == null) {
+            try {
+                declaringClass = clazz.getMethod(methodName).getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("no public method " + methodName + "() in " + clazz, e);
+            }
+            DECLARING_CLASS_CACHE.put(key, declaringClass);
+        }
+        return declaringClass != baseClass;
+    }
+
     private ReflectionUtils() {
     }
 
@@ -2,6 +2,9 @@ package info.novatec.testit.webtester.internal.pageobjects;
 
 import org.openqa.selenium.ElementNotVisibleException;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import info.novatec.testit.webtester.api.annotations.Internal;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
@@ -25,6 +28,10 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  * <li>{@link #executeAction(PageObjectCallback)}</li>
  * <li>{@link #executeAction(PageObjectCallbackWithReturnValue)}</li>
  * </ol>
+ * <p>
+ * While an action is executed (including all actions nested within it) the
+ * page object's {@link WebElement web element} is resolved and validated only
+ * once. See {@link #getResolvedWebElement()}.
  *
  * @since 1.1.0
  */
@@ -32,17 +39,66 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
 @SuppressWarnings("PMD.AvoidCatchingGenericException")
 public class ActionTemplate {
 
+    private static final Logger logger = LoggerFactory.getLogger(ActionTemplate.class);
+
     private PageObject pageObject;
 
+    private int actionDepth;
+    private WebElement resolvedWebElement;
+    private int webElementUses;
+
     public ActionTemplate(PageObject pageObject) {
         this.pageObject = pageObject;
     }
 
+    /**
+     * Returns the {@link WebElement web element} which was already resolved
+     * and validated during the currently executed action. Outside of an action
+     * or before the element was resolved for the first time <code>null</code>
+     * is returned.
+     *
+     * @return the resolved web element or null
+     * @since 1.2.0
+     */
+    public WebElement getResolvedWebElement() {
+        return resolvedWebElement;
+    }
+
+    /**
+     * Stores the given resolved and validated {@link WebElement web element}
+     * for the remainder of the currently executed action. Outside of an action
+     * nothing is stored.
+     *
+     * @param webElement the resolved web element
+     * @since 1.2.0
+     */
+    public void setResolvedWebElement(WebElement webElement) {
+        if (actionDepth > 0) {
+            resolvedWebElement = webElement;
+        }
+    }
+
+    /**
+     * Counts a request of the page object's {@link WebElement web element}
+     * within the currently executed action (including all actions nested
+     * within it). An action failing because of a stale element is only
+     * retried if the element was requested no more than once, since only then
+     * no command could have been executed on the element before.
+     *
+     * @since 1.2.0
+     */
+    public void countWebElementUse() {
+        if (actionDepth > 0) {
+            webElementUses++;
+        }
+    }
+
     /**
      * Execute the given callback and handle exceptional cases.
      * <ul>
      * <li>{@link StaleElementReferenceException}
-     * - try to recover by invalidating the page object and retrying the same operation</li>
+     * - if web element caching is active and the stale element was used for the first time: try to recover by
+     * invalidating the page object (and its parents) and retrying the same operation once</li>
      * <li>{@link ElementNotVisibleException}
      * - throw new {@link PageObjectIsInvisibleException} as well as fire exception event</li>
      * <li>{@link RuntimeException}
@@ -54,12 +110,20 @@ public class ActionTemplate {
      * @since 1.1.0
      */
     public void executeAction(PageObjectCallback callback) {
+        startAction();
         try {
-            callback.execute(pageObject);
+            try {
+                callback.execute(pageObject);
+            } catch (StaleElementReferenceException e) {
+                recoverFromStaleElement(e);
+                callback.execute(pageObject);
+            }
         } catch (ElementNotVisibleException e) {
             throw fireExceptionEventAndReturn(new PageObjectIsInvisibleException(pageObject, e));
         } catch (RuntimeException e) {
             throw fireExceptionEventAndReturn(e);
+        } finally {
+            endAction();
         }
     }
 
@@ -67,7 +131,8 @@ public class ActionTemplate {
      * Execute the given callback, returns the callbacks return value and handle exceptional cases.
      * <ul>
      * <li>{@link StaleElementReferenceException}
-     * - try to recover by invalidating the page object and retrying the same operation</li>
+     * - if web element caching is active and the stale element was used for the first time: try to recover by
+     * invalidating the page object (and its parents) and retrying the same operation once</li>
      * <li>{@link ElementNotVisibleException}
      * - throw new {@link PageObjectIsInvisibleException} as well as fire exception event</li>
      * <li>{@link RuntimeException}
@@ -81,18 +146,64 @@ public class ActionTemplate {
      */
     public <B> B executeAction(PageObjectCallbackWithReturnValue<B> callback) {
         B value;
+        startAction();
         try {
-            value = callback.execute(pageObject);
+            try {
+                value = callback.execute(pageObject);
+            } catch (StaleElementReferenceException e) {
+                recoverFromStaleElement(e);
+                value = callback.execute(pageObject);
+            }
         } catch (ElementNotVisibleException e) {
             throw fireExceptionEventAndReturn(new PageObjectIsInvisibleException(pageObject, e));
         } catch (RuntimeException e) {
             throw fireExceptionEventAndReturn(e);
+        } finally {
+            endAction();
         }
         return value;
     }
 
+    /**
+     * Prepares the retry of an action which failed because of a stale (cached)
+     * web element. Only the outermost action retries - and only if caching is
+     * active and the exception was thrown by the first use of the element.
+     * Otherwise commands might already have been executed on the element and
+     * the exception is rethrown.
+     */
+    private void recoverFromStaleElement(StaleElementReferenceException e) {
+        if (actionDepth > 1 || webElementUses > 1 || !webElementCachingIsActive()) {
+            throw e;
+        }
+        logger.debug("stale web element - retrying action with newly resolved element", e);
+        resolvedWebElement = null;
+        webElementUses = 0;
+        for (PageObject current = pageObject; current != null; current = current.getParent()) {
+            current.invalidate();
+        }
+    }
+
+    private boolean webElementCachingIsActive() {
+        return pageObject.getBrowser().getConfiguration().webElementCachingIsActivated();
+    }
+
+    private void startAction() {
+        actionDepth++;
+    }
+
+    private void endAction() {
+        actionDepth--;
+        if (actionDepth == 0) {
+            resolvedWebElement = null;
+            webElementUses = 0;
+        }
+    }
+
     private <T extends RuntimeException> T fireExceptionEventAndReturn(T exception) {
-        EventSystem.fireEvent(new ExceptionEvent(pageObject, exception));
+        if (actionDepth == 1) {
+            // nested actions leave this to the outermost action
+            EventSystem.fireEvent(new ExceptionEvent(pageObject, exception));
+        }
         return exception;
     }
 
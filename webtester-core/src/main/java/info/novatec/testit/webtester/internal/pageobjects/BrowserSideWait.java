@@ -0,0 +1,200 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
+import info.novatec.testit.webtester.internal.MemberAccessors;
+import info.novatec.testit.webtester.internal.MemberAccessors.FieldAccessor;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.conditions.ConditionScripts;
+
+
+/**
+ * Waits for a {@link JavaScriptCondition condition} to be met by a
+ * {@link PageObject page object} inside the browser. The element is located
+ * and the condition is checked by a single asynchronous script on every
+ * animation frame and DOM mutation until it is met or the timeout is reached.
+ * <p>
+ * Only page objects identified by id, CSS selector, XPath, name, class name or
+ * tag name (or wrapping a fixed web element) are supported. In all other cases,
+ * as well as in case the script fails for any reason, no result is returned
+ * and the caller has to fall back to polling the condition from Java.
+ * <p>
+ * <b>Note:</b> The script timeout of the web driver has to be raised for the
+ * duration of the wait. Since Selenium doesn't allow to read the current
+ * script timeout, it is reset to the
+ * {@link Configuration#getWaitInBrowserScriptTimeout() configured script
+ * timeout} afterwards - a script timeout set directly on the web driver is
+ * lost.
+ *
+ * @since 1.2.0
+ */
+@Internal
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class BrowserSideWait {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserSideWait.class);
+
+    /** Additional time the driver gives the script before aborting it. */
+    private static final long SCRIPT_TIMEOUT_MARGIN = 1000L;
+
+    private static final String SCRIPT_START = ""
+        + "var fixed = arguments[0], context = arguments[1] || document, how = arguments[2], what = arguments[3];"
+        + "var callback = arguments[arguments.length - 1];"
+        + "var deadline = new Date().getTime() + arguments[4];"
+        + "var STALE = {}, finished = false, pending = false, observer = null;"
+        + ConditionScripts.HELPERS
+        + "function attached(node) { return node === document || document.documentElement.contains(node); }"
+        + ScriptLocators.LOCATE_FUNCTION
+        + "function locate() {"
+        + "  if (fixed) { return attached(fixed) ? fixed : STALE; }"
+        + "  if (!attached(context)) { return STALE; }"
+        + "  return wtLocate(context, how, what);"
+        + "}"
+        + "function test(element) { return !!(";
+
+    private static final String SCRIPT_END = ""
+        + "); }"
+        + "function done(result) {"
+        + "  if (finished) { return; }"
+        + "  finished = true;"
+        + "  if (observer) { observer.disconnect(); }"
+        + "  callback(result);"
+        + "}"
+        + "function check() {"
+        + "  if (finished) { return; }"
+        + "  try {"
+        + "    var element = locate();"
+        + "    if (element === STALE) { done('stale'); return; }"
+        + "    if (test(element)) { done('met'); return; }"
+        + "  } catch (e) { done('error'); return; }"
+        + "  if (new Date().getTime() >= deadline) { done('timeout'); return; }"
+        + "  schedule();"
+        + "}"
+        + "function schedule() {"
+        + "  if (pending) { return; }"
+        + "  pending = true;"
+        + "  var run = function () { pending = false; check(); };"
+        + "  if (window.requestAnimationFrame && !document.hidden) { window.requestAnimationFrame(run); }"
+        + "  else { setTimeout(run, 16); }"
+        + "}"
+        + "if (window.MutationObserver) {"
+        + "  observer = new MutationObserver(check);"
+        + "  observer.observe(document, { attributes: true, childList: true, characterData: true, subtree: true });"
+        + "}"
+        + "setTimeout(check, Math.max(0, deadline - new Date().getTime()));"
+        + "check();";
+
+    private static final String MET = "met";
+    private static final String TIMEOUT = "timeout";
+
+    private static FieldAccessor modelField;
+    private static FieldAccessor webElementField;
+
+    /**
+     * Waits inside the browser until the given JavaScript condition expression
+     * is met by the given page object or the timeout is reached.
+     *
+     * @param pageObject the page object to check the condition for
+     * @param condition the JavaScript expression of the condition
+     * @param timeout the timeout in milliseconds
+     * @return <code>true</code> if the condition was met, <code>false</code>
+     * if it wasn't met within the timeout and <code>null</code> if the wait
+     * could not be executed inside the browser
+     * @see JavaScriptCondition#toJavaScript()
+     * @since 1.2.0
+     */
+    public static Boolean waitFor(PageObject pageObject, String condition, long timeout) {
+        try {
+            Object[] arguments = getLocatorArguments(pageObject, timeout);
+            if (arguments == null) {
+                logger.debug("page object can't be located inside the browser, falling back to polling");
+                return null;
+            }
+
+            WebDriver webDriver = pageObject.getBrowser().getWebDriver();
+            if (!(webDriver instanceof JavascriptExecutor)) {
+                return null;
+            }
+            long scriptTimeout = pageObject.getBrowser().getConfiguration().getWaitInBrowserScriptTimeout();
+            Object result;
+            webDriver.manage().timeouts().setScriptTimeout(timeout + SCRIPT_TIMEOUT_MARGIN, TimeUnit.MILLISECONDS);
+            try {
+                String script = SCRIPT_START + condition + SCRIPT_END;
+                result = (( JavascriptExecutor ) webDriver).executeAsyncScript(script, arguments);
+            } finally {
+                webDriver.manage().timeouts().setScriptTimeout(scriptTimeout, TimeUnit.MILLISECONDS);
+            }
+            logger.trace("browser side wait for '{}' ended with: {}", condition, result);
+
+            if (MET.equals(result)) {
+                return Boolean.TRUE;
+            } else if (TIMEOUT.equals(result)) {
+                return Boolean.FALSE;
+            }
+            return null;
+        } catch (IllegalAccessException | RuntimeException e) {
+            logger.debug("browser side wait failed, falling back to polling", e);
+            return null;
+        }
+    }
+
+    private static Object[] getLocatorArguments(PageObject pageObject, long timeout) throws IllegalAccessException {
+
+        WebElement webElement = ( WebElement ) getWebElementField().get(pageObject);
+        if (webElement != null) {
+            return new Object[] { webElement, null, null, null, timeout };
+        }
+
+        PageObjectModel model = ( PageObjectModel ) getModelField().get(pageObject);
+        if (model == null || model.getIdentification() == null) {
+            return null;
+        }
+
+        String[] locator = ScriptLocators.parse(model.getSeleniumBy());
+        if (locator == null) {
+            return null;
+        }
+
+        PageObject parent = model.getParent();
+        WebElement context = parent != null ? parent.getWebElement() : null;
+        return new Object[] { null, context, locator[0], locator[1], timeout };
+
+    }
+
+    private static FieldAccessor getModelField() throws IllegalAccessException {
+        if (modelField == null) {
+            modelField = MemberAccessors.forField(getPageObjectField("model"));
+        }
+        return modelField;
+    }
+
+    private static FieldAccessor getWebElementField() throws IllegalAccessException {
+        if (webElementField == null) {
+            webElementField = MemberAccessors.forField(getPageObjectField("webElement"));
+        }
+        return webElementField;
+    }
+
+    private static Field getPageObjectField(String name) {
+        try {
+            return PageObject.class.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private BrowserSideWait() {
+        // utility class constructor
+    }
+
+}
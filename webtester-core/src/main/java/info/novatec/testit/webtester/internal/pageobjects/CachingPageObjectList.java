@@ -0,0 +1,91 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import info.novatec.testit.webtester.api.annotations.CachedList;
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * A {@link LazyLoadingPageObjectList lazy loading list} which keeps a snapshot
+ * of its elements. The snapshot is reused as long as the {@link DomGeneration
+ * DOM generation} of the page did not change. Checking the generation costs a
+ * single script execution, instead of re-querying and re-wrapping all
+ * elements.
+ * <p>
+ * If the generation can't be determined, every call re-queries the page, just
+ * like the non caching list.
+ *
+ * @see CachedList
+ * @since 1.2.0
+ */
+@Internal
+public class CachingPageObjectList<E extends PageObject> extends LazyLoadingPageObjectList<E> {
+
+    private final Browser browser;
+
+    private PageObjectList<E> snapshot;
+    private String snapshotGeneration;
+
+    public CachingPageObjectList(Class<E> elementClass, PageObjectModel model) {
+        super(elementClass, model);
+        this.browser = model.getBrowser();
+    }
+
+    @Override
+    protected PageObjectList<E> getInternalList() {
+
+        String generation = DomGeneration.read(browser);
+        if (generation == null) {
+            snapshot = null;
+            return super.getInternalList();
+        }
+
+        if (snapshot == null || !generation.equals(snapshotGeneration)) {
+            snapshot = super.getInternalList();
+            snapshotGeneration = generation;
+        }
+        return snapshot;
+
+    }
+
+    /**
+     * Invalidate the list - effectively dropping its current snapshot.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void invalidate() {
+        snapshot = null;
+        snapshotGeneration = null;
+    }
+
+    /* The snapshot is shared between calls - views on it must not allow any
+     * modifications. */
+
+    @Override
+    public Iterator<E> iterator() {
+        return Collections.unmodifiableList(getInternalList()).iterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return Collections.unmodifiableList(getInternalList()).listIterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return Collections.unmodifiableList(getInternalList()).listIterator(index);
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return Collections.unmodifiableList(getInternalList()).subList(fromIndex, toIndex);
+    }
+
+}
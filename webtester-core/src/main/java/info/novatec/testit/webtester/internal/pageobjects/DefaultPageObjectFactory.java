@@ -1,32 +1,18 @@
 package info.novatec.testit.webtester.internal.pageobjects;
 
-import static info.novatec.testit.webtester.utils.Conditions.is;
-import static info.novatec.testit.webtester.utils.Conditions.visible;
-
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-import java.util.Deque;
-import java.util.List;
-import java.util.Set;
-import javax.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.lang.StringUtils;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.FindBys;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.annotations.CachedList;
 import info.novatec.testit.webtester.api.annotations.Internal;
-import info.novatec.testit.webtester.api.annotations.Visible;
+import info.novatec.testit.webtester.api.annotations.LazyInitialization;
 import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.ConstructorException;
-import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.GettingPageObjectFieldException;
-import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.GettingPageObjectListFieldException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.ModelFieldException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.PageObjectFieldException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.PostConstructMethodException;
@@ -34,14 +20,15 @@ import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.U
 import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.VisiblePageObjectFieldException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.VisiblePageObjectListFieldException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.WebElementFieldException;
-import info.novatec.testit.webtester.api.pageobjects.Identification;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
 import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.browser.ExceptionEvent;
-import info.novatec.testit.webtester.internal.ReflectionUtils;
+import info.novatec.testit.webtester.internal.MemberAccessors.MethodAccessor;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectInjectionPlan.FieldInjector;
+import info.novatec.testit.webtester.internal.pageobjects.VisibleFieldsCheck.Constraint;
 import info.novatec.testit.webtester.pageobjects.PageObject;
-import info.novatec.testit.webtester.utils.Identifications;
+import info.novatec.testit.webtester.utils.PollingStrategies;
 import info.novatec.testit.webtester.utils.Waits;
 
 
@@ -49,15 +36,28 @@ import info.novatec.testit.webtester.utils.Waits;
  * This class is responsible for initializing {@link PageObject} instances.
  * These classes should only be initialized via this Factory and never manually
  * via a constructor!
+ * <p>
+ * The reflective analysis of a page object class is done only once and cached
+ * as a {@link PageObjectInjectionPlan injection plan}.
+ * <p>
+ * Page fragments of {@link LazyInitialization lazily initializing} classes are
+ * created without executing their post construct methods and visibility
+ * checks. These steps are handed to the fragment as a
+ * {@link DeferredInitialization deferred initialization} instead. The
+ * visibility checks of the page skip these fragments, the deferred
+ * initialization checks the fragment and its fields when it is first used.
+ * <p>
+ * If {@link PageObject#prefetch() prefetching} is activated, the web elements
+ * of the page fragments of a page are resolved right after the fragments were
+ * created.
  */
 @Internal
 @SuppressWarnings("unchecked")
 public final class DefaultPageObjectFactory implements PageObjectFactory {
 
-    private static final Logger logger = LoggerFactory.getLogger(DefaultPageObjectFactory.class);
-
-    private static final String FIELD_NAME_MODEL = "model";
-    private static final String FIELD_NAME_WEB_ELEMENT = "webElement";
+    static final String FIELD_NAME_MODEL = "model";
+    static final String FIELD_NAME_WEB_ELEMENT = "webElement";
+    static final String FIELD_NAME_DEFERRED_INITIALIZATION = "deferredInitialization";
 
     @Override
     public <T extends PageObject> T create(Class<T> pageClazz, PageObjectModel model) {
@@ -65,19 +65,30 @@ public final class DefaultPageObjectFactory implements PageObjectFactory {
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public <T extends PageObject> T create(Class<T> pageClazz, PageObjectModel model, WebElement webElement) {
+        return create(pageClazz, model, webElement, false);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <T extends PageObject> T create(Class<T> pageClazz, PageObjectModel model, WebElement webElement,
+        boolean deferInitialization) {
 
         try {
 
-            T pageInstance = createInstance(pageClazz);
-            initializeModel(pageInstance, model);
-            initializeWebElement(pageInstance, webElement);
+            PageObjectInjectionPlan<T> plan = getInjectionPlan(pageClazz);
 
-            initializeOtherPageObjectTypeFields(pageInstance, pageClazz);
+            T pageInstance = createInstance(plan);
+            initializeModel(pageInstance, plan, model);
+            initializeWebElement(pageInstance, plan, webElement);
 
-            invokePostConstructMethods(pageInstance, pageClazz);
-            checkVisibilityOfAnnotatedFields(pageInstance, pageClazz);
+            initializeOtherPageObjectTypeFields(pageInstance, plan);
+            prefetchPageFragments(pageInstance, plan, model, webElement);
+
+            if (deferInitialization) {
+                initializeDeferredInitialization(pageInstance, plan);
+            } else {
+                completeInitialization(pageInstance, plan);
+            }
 
             return pageInstance;
 
@@ -90,289 +101,223 @@ public final class DefaultPageObjectFactory implements PageObjectFactory {
 
     @Override
     public <T extends PageObject> PageObjectList<T> createList(Class<T> pageClazz, PageObjectModel model) {
+        return createList(pageClazz, model, null);
+    }
+
+    private <T extends PageObject> PageObjectList<T> createList(Class<T> pageClazz, PageObjectModel model,
+        CachedList cachedList) {
+        if (shouldCacheList(model.getBrowser(), cachedList)) {
+            return new CachingPageObjectList<T>(pageClazz, model);
+        }
         return new LazyLoadingPageObjectList<T>(pageClazz, model);
     }
 
+    private boolean shouldCacheList(Browser browser, CachedList cachedList) {
+        if (cachedList != null) {
+            return cachedList.value();
+        }
+        return browser.getConfiguration().pageObjectListCachingIsActivated();
+    }
+
+    private boolean shouldInitializeLazily(Browser browser, LazyInitialization lazyInitialization) {
+        if (lazyInitialization != null) {
+            return lazyInitialization.value();
+        }
+        return browser.getConfiguration().lazyPageObjectInitializationIsActivated();
+    }
+
     /* details */
 
-    private <T extends PageObject> T createInstance(Class<T> pageClazz) {
+    private <T extends PageObject> PageObjectInjectionPlan<T> getInjectionPlan(Class<T> pageClazz) {
         try {
-            Constructor<T> classConstructor = pageClazz.getDeclaredConstructor();
-            return ReflectionUtils.forceCreateInstance(classConstructor);
+            return PageObjectInjectionPlan.forClass(pageClazz);
         } catch (ReflectiveOperationException e) {
             throw exception(pageClazz, e).inConstructor();
         }
     }
 
-    private <T extends PageObject> void initializeModel(T pageInstance, PageObjectModel model) {
+    private <T extends PageObject> T createInstance(PageObjectInjectionPlan<T> plan) {
         try {
-            Field field = PageObject.class.getDeclaredField(FIELD_NAME_MODEL);
-            ReflectionUtils.forceSetField(field, pageInstance, model);
+            return plan.getConstructor().newInstance();
         } catch (ReflectiveOperationException e) {
-            throw exception(pageInstance, e).inModelFieldInjection();
+            throw exception(plan.getPageObjectClass(), e).inConstructor();
         }
     }
 
-    private <T extends PageObject> void initializeWebElement(T pageInstance, WebElement webElement) {
+    private <T extends PageObject> void initializeModel(T pageInstance, PageObjectInjectionPlan<T> plan,
+        PageObjectModel model) {
         try {
-            Field field = PageObject.class.getDeclaredField(FIELD_NAME_WEB_ELEMENT);
-            ReflectionUtils.forceSetField(field, pageInstance, webElement);
-        } catch (ReflectiveOperationException e) {
-            throw exception(pageInstance, e).inWebElementFieldInjection();
+            plan.getModelField().set(pageInstance, model);
+        } catch (ClassCastException e) {
+            throw exception(pageInstance, e).inModelFieldInjection();
         }
     }
 
-    private <T extends PageObject> void initializeOtherPageObjectTypeFields(T pageInstance, Class<T> pageClazz) {
-        Browser browser = pageInstance.getBrowser();
-        Deque<Class<?>> classAncestry = ReflectionUtils.getClassAncestry(pageClazz);
-        while (!classAncestry.isEmpty()) {
-            initializeFieldsOfClass(classAncestry.pop(), pageInstance, browser);
+    private <T extends PageObject> void initializeWebElement(T pageInstance, PageObjectInjectionPlan<T> plan,
+        WebElement webElement) {
+        try {
+            plan.getWebElementField().set(pageInstance, webElement);
+        } catch (ClassCastException e) {
+            throw exception(pageInstance, e).inWebElementFieldInjection();
         }
     }
 
-    private <T extends PageObject> void initializeFieldsOfClass(Class<?> clazz, T pageInstance, Browser browser) {
-        for (Field field : clazz.getDeclaredFields()) {
-            if (shouldInitializeField(field)) {
-                initializeField(field, pageInstance, browser);
+    private <T extends PageObject> void initializeDeferredInitialization(final T pageInstance,
+        final PageObjectInjectionPlan<T> plan) {
+        DeferredInitialization deferredInitialization = new DeferredInitialization() {
+
+            @Override
+            @SuppressWarnings("PMD.AvoidCatchingGenericException")
+            public void complete() {
+                try {
+                    invokePostConstructMethods(pageInstance, plan);
+                    checkVisibilityOfDeferredFragment(pageInstance, plan);
+                } catch (RuntimeException e) {
+                    EventSystem.fireEvent(new ExceptionEvent(pageInstance.getBrowser(), e));
+                    throw e;
+                }
             }
+
+        };
+        plan.getDeferredInitializationField().set(pageInstance, deferredInitialization);
+    }
+
+    private <T extends PageObject> void prefetchPageFragments(T pageInstance, PageObjectInjectionPlan<T> plan,
+        PageObjectModel model, WebElement webElement) {
+        boolean isPage = model.getParent() == null && webElement == null;
+        if (isPage && !plan.getFieldInjectors().isEmpty()
+            && model.getBrowser().getConfiguration().pageFragmentPrefetchingIsActivated()) {
+            pageInstance.prefetch();
         }
     }
 
-    private boolean shouldInitializeField(Field field) {
-        return field.getAnnotation(IdentifyUsing.class) != null || field.getAnnotation(FindBy.class) != null
-            || field.getAnnotation(FindBys.class) != null;
+    private <T extends PageObject> void completeInitialization(T pageInstance, PageObjectInjectionPlan<T> plan) {
+        invokePostConstructMethods(pageInstance, plan);
+        checkVisibilityOfAnnotatedFields(pageInstance, plan);
     }
 
-    private <T extends PageObject> void initializeField(Field field, T pageInstance, Browser browser) {
-        Class<?> fieldClass = field.getType();
-        if (PageObject.class.isAssignableFrom(fieldClass)) {
-            initializeFieldAsPageObject(field, pageInstance, browser);
-        } else if (List.class.isAssignableFrom(fieldClass) || PageObjectList.class.isAssignableFrom(fieldClass)) {
-            initializeFieldAsPageObjectList(field, pageInstance, browser);
-        } else {
-            throw exception(pageInstance).unsupportedFieldClass(field, field.getType());
+    private <T extends PageObject> void initializeOtherPageObjectTypeFields(T pageInstance,
+        PageObjectInjectionPlan<T> plan) {
+        Browser browser = pageInstance.getBrowser();
+        boolean lazy = !plan.getFieldInjectors().isEmpty()
+            && shouldInitializeLazily(browser, plan.getLazyInitialization());
+        for (FieldInjector injector : plan.getFieldInjectors()) {
+            initializeField(injector, pageInstance, browser, lazy);
         }
     }
 
-    private <T extends PageObject> void initializeFieldAsPageObject(Field field, T pageInstance, Browser browser) {
+    private <T extends PageObject> void initializeField(FieldInjector injector, T pageInstance, Browser browser,
+        boolean lazy) {
+        switch (injector.getType()) {
+            case PAGE_OBJECT:
+                initializeFieldAsPageObject(injector, pageInstance, browser, lazy);
+                break;
+            case LIST:
+                initializeFieldAsPageObjectList(injector, pageInstance, browser);
+                break;
+            default:
+                Field field = injector.getField();
+                throw exception(pageInstance).unsupportedFieldClass(field, field.getType());
+        }
+    }
 
-        Identification identification = getIdentificationForField(field);
+    private <T extends PageObject> void initializeFieldAsPageObject(FieldInjector injector, T pageInstance,
+        Browser browser, boolean lazy) {
 
-        PageObjectModel metaData = PageObjectModel.forPageFragment(browser, identification, pageInstance);
-        metaData.setName(getNameForField(field));
+        Field field = injector.getField();
+        PageObjectModel metaData =
+            PageObjectModel.forPageFragment(browser, injector.getIdentification(), pageInstance);
+        metaData.setName(injector.getName());
 
         try {
-            PageObject pageObject = create(( Class<? extends PageObject> ) field.getType(), metaData);
-            ReflectionUtils.forceSetField(field, pageInstance, pageObject);
-        } catch (ReflectiveOperationException | ClassCastException e) {
+            PageObject pageObject = create(( Class<? extends PageObject> ) field.getType(), metaData, null, lazy);
+            injector.getAccessor().set(pageInstance, pageObject);
+        } catch (ClassCastException e) {
             throw exception(pageInstance, e).inPageObjectFieldInjection(field);
         }
 
     }
 
-    @SuppressWarnings("rawtypes")
-    private <T extends PageObject> void initializeFieldAsPageObjectList(Field field, T pageInstance, Browser browser) {
+    private <T extends PageObject> void initializeFieldAsPageObjectList(FieldInjector injector, T pageInstance,
+        Browser browser) {
 
-        Identification identification = getIdentificationForField(field);
-        Class<? extends PageObject> listType = getPageObjectClassFromListField(pageInstance, field);
+        Field field = injector.getField();
+        Class<? extends PageObject> listType = getPageObjectClassFromListField(pageInstance, injector);
 
-        PageObjectModel listMetaData = PageObjectModel.forPageFragment(browser, identification, pageInstance);
-        listMetaData.setName(getNameForField(field));
+        PageObjectModel listMetaData =
+            PageObjectModel.forPageFragment(browser, injector.getIdentification(), pageInstance);
+        listMetaData.setName(injector.getName());
 
         try {
-            PageObjectList<? extends PageObject> pageObjectList = new LazyLoadingPageObjectList(listType, listMetaData);
-            ReflectionUtils.forceSetField(field, pageInstance, pageObjectList);
-        } catch (ReflectiveOperationException | ClassCastException e) {
+            PageObjectList<? extends PageObject> pageObjectList =
+                createList(listType, listMetaData, injector.getCachedList());
+            injector.getAccessor().set(pageInstance, pageObjectList);
+        } catch (ClassCastException e) {
             throw exception(pageInstance, e).inPageObjectFieldInjection(field);
         }
 
     }
 
-    private <T extends PageObject> Class<T> getPageObjectClassFromListField(T pageInstance, Field listField) {
-        ParameterizedType genericType = ( ParameterizedType ) listField.getGenericType();
-        Class<T> genericTypeClass = ( Class<T> ) genericType.getActualTypeArguments()[0];
-        if (!PageObject.class.isAssignableFrom(genericTypeClass)) {
-            throw exception(pageInstance).unsupportedFieldClass(listField, genericTypeClass);
-        }
-        return genericTypeClass;
-    }
-
-    private <T extends PageObject> void invokePostConstructMethods(T pageInstance, Class<T> pageClazz) {
-        Deque<Class<?>> classStack = ReflectionUtils.getClassAncestry(pageClazz);
-        while (!classStack.isEmpty()) {
-            invokePostConstructMethodsOfClass(pageInstance, classStack.pop());
+    private <T extends PageObject> Class<? extends PageObject> getPageObjectClassFromListField(T pageInstance,
+        FieldInjector injector) {
+        Class<?> elementClass = injector.getListElementClass();
+        if (elementClass == null || !PageObject.class.isAssignableFrom(elementClass)) {
+            throw exception(pageInstance).unsupportedFieldClass(injector.getField(), elementClass);
         }
+        return ( Class<? extends PageObject> ) elementClass;
     }
 
-    private <T extends PageObject> void invokePostConstructMethodsOfClass(T pageInstance, Class<?> clazz) {
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (shouldExecuteMethod(method)) {
-                tryToInvokePostConstructMethod(pageInstance, method);
-            }
+    private <T extends PageObject> void invokePostConstructMethods(T pageInstance, PageObjectInjectionPlan<T> plan) {
+        for (MethodAccessor method : plan.getPostConstructMethods()) {
+            tryToInvokePostConstructMethod(pageInstance, method);
         }
     }
 
-    private <T extends PageObject> void tryToInvokePostConstructMethod(T pageInstance, Method method) {
+    private <T extends PageObject> void tryToInvokePostConstructMethod(T pageInstance, MethodAccessor method) {
         try {
-            ReflectionUtils.forceInvokeMethod(method, pageInstance);
+            method.invoke(pageInstance);
         } catch (ReflectiveOperationException e) {
-            throw exception(pageInstance, e).whenExecutingPostConstructMethod(method);
-        }
-    }
-
-    private boolean shouldExecuteMethod(Method method) {
-        return method.getAnnotation(PostConstruct.class) != null;
-    }
-
-    private <T extends PageObject> void checkVisibilityOfAnnotatedFields(T pageInstance, Class<T> pageClazz) {
-        if (shouldCheckVisibilty(pageInstance)) {
-            Deque<Class<?>> classStack = ReflectionUtils.getClassAncestry(pageClazz);
-            while (!classStack.isEmpty()) {
-                checkVisibilityOfAnnotatedFieldsOfClass(pageInstance, classStack.pop());
-            }
-        }
-    }
-
-    private <T extends PageObject> boolean shouldCheckVisibilty(T pageInstance) {
-        PageObject parent = pageInstance.getParent();
-        if (parent == null) {
-            return true;
-        }
-
-        Set<Field> parentFields = ReflectionUtils.getAllFieldsOfClassHierarchy(parent.getClass());
-        for (Field field : parentFields) {
-            if (field.getDeclaringClass().isAssignableFrom(PageObject.class)) {
-                try {
-                    Object fieldValue = ReflectionUtils.forceGetFieldValue(field, parent);
-                    if (fieldValue != null && fieldValue.equals(pageInstance)) {
-                        return isAnnotatedWithVisible(field);
-                    }
-                } catch (ReflectiveOperationException e) {
-                    continue;
-                }
-            }
-        }
-        return false;
-    }
-
-    private <T extends PageObject> void checkVisibilityOfAnnotatedFieldsOfClass(T pageInstance, Class<?> clazz) {
-        for (Field field : clazz.getDeclaredFields()) {
-            checkVisibilityOfAnnotatedFieldOfClass(pageInstance, field);
+            throw exception(pageInstance, e).whenExecutingPostConstructMethod(method.getMethod());
         }
     }
 
-    private <T extends PageObject> void checkVisibilityOfAnnotatedFieldOfClass(T pageInstance, Field field) {
-
-        if (!isAnnotatedWithVisible(field)) {
+    private <T extends PageObject> void checkVisibilityOfAnnotatedFields(T pageInstance,
+        PageObjectInjectionPlan<T> plan) {
+        if (plan.getVisibleFields().isEmpty() || pageInstance.getParent() != null) {
+            // page fragments are checked as part of the page object they belong to
             return;
         }
-
-        if (isPageObjectField(field)) {
-            tryToWaitOnPageObjectsVisibility(pageInstance, field);
-        } else if (isListField(field) || isPageObjectListField(field)) {
-            tryToWaitOnPageObjectListVisibility(pageInstance, field);
-        }
-
-    }
-
-    private boolean isAnnotatedWithVisible(Field field) {
-        return field.getAnnotation(Visible.class) != null;
+        waitForVisibility(pageInstance, new VisibleFieldsCheck(pageInstance, plan));
     }
 
-    private boolean isPageObjectField(Field field) {
-        return PageObject.class.isAssignableFrom(field.getType());
-    }
-
-    private boolean isListField(Field field) {
-        return List.class.isAssignableFrom(field.getType());
-    }
-
-    private boolean isPageObjectListField(Field field) {
-        return PageObjectList.class.isAssignableFrom(field.getType());
-    }
-
-    private <T extends PageObject> void tryToWaitOnPageObjectsVisibility(T pageInstance, Field field) {
-        try {
-            waitOnPageObjectsVisibility(pageInstance, field);
-        } catch (TimeoutException e) {
-            throw exception(pageInstance, e).whenWaitingForVisibilityOfPageObjectField(field);
+    private <T extends PageObject> void checkVisibilityOfDeferredFragment(T pageInstance,
+        PageObjectInjectionPlan<T> plan) {
+        // includes the constraint of the field holding the fragment
+        VisibleFieldsCheck check = new VisibleFieldsCheck(pageInstance, plan);
+        if (check.hasConstraints()) {
+            waitForVisibility(pageInstance, check);
         }
     }
 
-    private <T extends PageObject> void waitOnPageObjectsVisibility(T pageInstance, Field field) {
-        PageObject pageObject = getPageObjectFromOf(field, pageInstance);
-        Waits.waitUntil(pageObject, is(visible()));
-    }
-
-    private <T extends PageObject> void tryToWaitOnPageObjectListVisibility(T pageInstance, Field field) {
+    private void waitForVisibility(PageObject pageInstance, VisibleFieldsCheck check) {
+        Configuration configuration = pageInstance.getBrowser().getConfiguration();
         try {
-            waitOnPageObjectListsVisibility(pageInstance, field);
-        } catch (IllegalStateException e) {
-            throw exception(pageInstance, e).whenWaitingForVisibilityOfPageObjectListField(field);
+            Waits.waitUntil(configuration.getWaitTimeout(), TimeUnit.SECONDS,
+                PollingStrategies.forConfiguration(configuration), check);
+        } catch (TimeoutException e) {
+            throw exceptionForUnmetConstraint(check.getFirstUnmetConstraint(), e);
         }
     }
 
-    private <T extends PageObject> void waitOnPageObjectListsVisibility(T pageInstance, Field field) {
-
-        PageObjectList<PageObject> list = getPageObjectListFromOf(field, pageInstance);
-        int expected = field.getAnnotation(Visible.class).value();
-
-        int actual = 0;
-        for (PageObject pageObject : list) {
-            try {
-                Waits.waitUntil(pageObject, is(visible()));
-                actual++;
-            } catch (TimeoutException e) {
-                // ignore timeout for present but not visible objects
-                logger.debug("page object {} of list wasn't visible within the timeout - ignoring");
-            }
-        }
-
-        if (actual != expected) {
+    private RuntimeException exceptionForUnmetConstraint(Constraint constraint, TimeoutException e) {
+        Field field = constraint.getInjector().getField();
+        if (constraint.isList()) {
             String message = "Expected %s elements of page object list (%s) to be visible, but there were %s.";
-            throw new IllegalStateException(String.format(message, expected, field, actual));
+            IllegalStateException cause = new IllegalStateException(
+                String.format(message, constraint.getExpected(), field, constraint.getActual()), e);
+            return exception(constraint.getOwner(), cause).whenWaitingForVisibilityOfPageObjectListField(field);
         }
-
-    }
-
-    private <T extends PageObject> PageObject getPageObjectFromOf(Field field, T pageInstance) {
-        try {
-            return ( PageObject ) ReflectionUtils.forceGetFieldValue(field, pageInstance);
-        } catch (ReflectiveOperationException | ClassCastException e) {
-            throw exception(pageInstance, e).whenGettingPageObjectField(field);
-        }
-    }
-
-    private <T extends PageObject> PageObjectList<PageObject> getPageObjectListFromOf(Field field, T pageInstance) {
-        try {
-            return ( PageObjectList<PageObject> ) ReflectionUtils.forceGetFieldValue(field, pageInstance);
-        } catch (ReflectiveOperationException | ClassCastException e) {
-            throw exception(pageInstance, e).whenGettingPageObjectListField(field);
-        }
-    }
-
-    private Identification getIdentificationForField(Field field) {
-        IdentifyUsing identifyUsing = field.getAnnotation(IdentifyUsing.class);
-        if (identifyUsing != null) {
-            return Identifications.fromAnnotation(identifyUsing);
-        }
-        FindBy findBy = field.getAnnotation(FindBy.class);
-        if (findBy != null) {
-            return Identifications.fromAnnotation(findBy);
-        }
-        FindBys findBys = field.getAnnotation(FindBys.class);
-        if (findBys != null) {
-            return Identifications.fromAnnotation(findBys);
-        }
-        return null;
-    }
-
-    private String getNameForField(Field field) {
-        IdentifyUsing identificationUsing = field.getAnnotation(IdentifyUsing.class);
-        if (identificationUsing != null) {
-            return StringUtils.defaultString(identificationUsing.elementname());
-        }
-        return StringUtils.EMPTY;
+        return exception(constraint.getOwner(), e).whenWaitingForVisibilityOfPageObjectField(field);
     }
 
     /* exception handling */
@@ -447,19 +392,6 @@ public final class DefaultPageObjectFactory implements PageObjectFactory {
             return new PostConstructMethodException(formattedMessage);
         }
 
-        public GettingPageObjectFieldException whenGettingPageObjectField(Field field) {
-            String messageFormat = "exception while retrieving page object field '%s' of instance of page object class: %s";
-            String formattedMessage = String.format(messageFormat, field, pageObjectClass);
-            return new GettingPageObjectFieldException(formattedMessage);
-        }
-
-        public GettingPageObjectListFieldException whenGettingPageObjectListField(Field field) {
-            String messageFormat =
-                "exception while retrieving page object list field '%s' of instance of page object class: %s";
-            String formattedMessage = String.format(messageFormat, field, pageObjectClass);
-            return new GettingPageObjectListFieldException(formattedMessage);
-        }
-
         public VisiblePageObjectFieldException whenWaitingForVisibilityOfPageObjectField(Field field) {
             String messageFormat =
                 "exception while waiting on page object field '%s' of instance of page object class: %s to become visible";
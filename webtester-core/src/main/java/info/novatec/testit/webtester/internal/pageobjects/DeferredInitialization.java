@@ -0,0 +1,27 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.annotations.LazyInitialization;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * The part of a {@link PageObject page object's} initialization which was
+ * postponed by the {@link DefaultPageObjectFactory factory} because the page
+ * object is a {@link LazyInitialization lazily initialized} page fragment.
+ * The page object completes its initialization the first time its web
+ * element is needed.
+ *
+ * @since 1.2.0
+ */
+@Internal
+public interface DeferredInitialization {
+
+    /**
+     * Completes the initialization of the page object.
+     *
+     * @since 1.2.0
+     */
+    void complete();
+
+}
@@ -0,0 +1,60 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.browser.Browser;
+
+
+/**
+ * Reads the 'generation' of the DOM currently displayed by a {@link Browser
+ * browser}.
+ * <p>
+ * The first time the generation is read for a page, a mutation observer is
+ * injected into it. This observer increments a counter whenever the DOM is
+ * changed in any way. The generation is a combination of a random token,
+ * which identifies the page instance, and that counter. Two equal generations
+ * therefore guarantee that the DOM was not changed in between.
+ *
+ * @since 1.2.0
+ */
+@Internal
+public final class DomGeneration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomGeneration.class);
+
+    private static final String SCRIPT = ""
+        + "var w = window;"
+        + "if (w.__webtesterDomToken === undefined) {"
+        + "  if (typeof MutationObserver === 'undefined') { return null; }"
+        + "  w.__webtesterDomGeneration = 0;"
+        + "  new MutationObserver(function () { w.__webtesterDomGeneration++; }).observe(document, "
+        + "    { childList: true, subtree: true, attributes: true, characterData: true });"
+        + "  w.__webtesterDomToken = new Date().getTime() + '-' + Math.random();"
+        + "}"
+        + "return w.__webtesterDomToken + ':' + w.__webtesterDomGeneration;";
+
+    /**
+     * Reads the current DOM generation of the given {@link Browser browser}.
+     *
+     * @param browser the browser to read the generation of
+     * @return the current generation or <code>null</code> if it could not be
+     * determined (i.e. no JavaScript or mutation observer support)
+     * @since 1.2.0
+     */
+    public static String read(Browser browser) {
+        try {
+            Object generation = browser.javaScript().executeWithReturn(SCRIPT);
+            return generation != null ? generation.toString() : null;
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            LOGGER.debug("could not read DOM generation: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private DomGeneration() {
+    }
+
+}
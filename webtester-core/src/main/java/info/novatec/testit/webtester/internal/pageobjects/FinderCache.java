@@ -0,0 +1,150 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
+import info.novatec.testit.webtester.api.pageobjects.Identification;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.PageObjectFinder;
+
+
+/**
+ * Remembers the {@link PageObject page objects} created by
+ * {@link PageObjectFinder finders} for the current
+ * {@link NavigationEpochs navigation epoch} of each {@link Browser browser}.
+ * Page objects are identified by their parent (compared by identity), their
+ * {@link Identification identification} and their class. All page objects of
+ * a browser are dropped as soon as its navigation epoch changes.
+ *
+ * @since 1.2.0
+ */
+@Internal
+public final class FinderCache {
+
+    private static final ConcurrentMap<BrowserIdentification, EpochEntries> ENTRIES =
+        new ConcurrentHashMap<BrowserIdentification, EpochEntries>();
+
+    /**
+     * Returns the page object created for the given parent, identification
+     * and class within the current navigation epoch of the given browser.
+     *
+     * @param browser the browser
+     * @param parent the parent of the page object - might be <code>null</code>
+     * @param identification the identification of the page object
+     * @param pageObjectClass the class of the page object
+     * @param <T> the type of the page object
+     * @return the page object or <code>null</code> if there is none
+     * @since 1.2.0
+     */
+    public static <T extends PageObject> T get(Browser browser, PageObject parent, Identification identification,
+        Class<T> pageObjectClass) {
+        EpochEntries entries = getEntries(browser, false);
+        if (entries == null) {
+            return null;
+        }
+        PageObject pageObject = entries.pageObjects.get(new Key(parent, identification, pageObjectClass));
+        return pageObjectClass.cast(pageObject);
+    }
+
+    /**
+     * Remembers the given page object for the current navigation epoch of the
+     * given browser.
+     *
+     * @param browser the browser
+     * @param parent the parent of the page object - might be <code>null</code>
+     * @param identification the identification of the page object
+     * @param pageObjectClass the class the page object was requested as
+     * @param pageObject the page object
+     * @param <T> the type of the page object
+     * @since 1.2.0
+     */
+    public static <T extends PageObject> void put(Browser browser, PageObject parent, Identification identification,
+        Class<T> pageObjectClass, T pageObject) {
+        EpochEntries entries = getEntries(browser, true);
+        if (entries != null) {
+            entries.pageObjects.put(new Key(parent, identification, pageObjectClass), pageObject);
+        }
+    }
+
+    /**
+     * Forgets all page objects of the given browser. Should be called when the
+     * browser is closed.
+     *
+     * @param browser the browser
+     * @since 1.2.0
+     */
+    public static void forget(Browser browser) {
+        BrowserIdentification identification = browser.getIdentification();
+        if (identification != null) {
+            ENTRIES.remove(identification);
+        }
+    }
+
+    private static EpochEntries getEntries(Browser browser, boolean create) {
+        BrowserIdentification identification = browser.getIdentification();
+        if (identification == null) {
+            return null;
+        }
+        long epoch = NavigationEpochs.get(browser);
+        EpochEntries entries = ENTRIES.get(identification);
+        if (entries != null && entries.epoch == epoch) {
+            return entries;
+        }
+        if (!create) {
+            return null;
+        }
+        // entries of older epochs are simply replaced - losing a concurrently added entry is harmless
+        EpochEntries newEntries = new EpochEntries(epoch);
+        ENTRIES.put(identification, newEntries);
+        return newEntries;
+    }
+
+    private static final class EpochEntries {
+
+        private final long epoch;
+        private final ConcurrentMap<Key, PageObject> pageObjects = new ConcurrentHashMap<Key, PageObject>();
+
+        EpochEntries(long epoch) {
+            this.epoch = epoch;
+        }
+
+    }
+
+    private static final class Key {
+
+        private final PageObject parent;
+        private final String by;
+        private final Class<?> pageObjectClass;
+
+        Key(PageObject parent, Identification identification, Class<?> pageObjectClass) {
+            this.parent = parent;
+            this.by = String.valueOf(identification.getSeleniumBy());
+            this.pageObjectClass = pageObjectClass;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = ( Key ) obj;
+            return parent == other.parent && by.equals(other.by) && pageObjectClass.equals(other.pageObjectClass);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(parent);
+            hash = 31 * hash + by.hashCode();
+            return 31 * hash + pageObjectClass.hashCode();
+        }
+
+    }
+
+    private FinderCache() {
+        // utility class constructor
+    }
+
+}
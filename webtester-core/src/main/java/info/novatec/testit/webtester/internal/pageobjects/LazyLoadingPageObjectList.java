@@ -6,16 +6,24 @@ import java.util.List;
 import java.util.ListIterator;
 
 import org.apache.commons.lang.StringUtils;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
 
 import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.internal.validation.MappingValidator;
 import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.ListProjections;
+import info.novatec.testit.webtester.utils.conditions.ConditionScripts;
 
 
 @Internal
@@ -26,6 +34,16 @@ public class LazyLoadingPageObjectList<E extends PageObject> implements PageObje
     private static final String LIST_ELEMENT_NAME = "%s - element no. %s";
     private static final String THIS_LIST_IS_IMMUTABLE = "This list is immutable!";
 
+    private static final String FILTER_SCRIPT_START = ScriptLocators.LOCATE_ALL_FUNCTION + ConditionScripts.HELPERS
+        + "var elements = arguments[0] || wtLocateAll(arguments[1] || document, arguments[2], arguments[3]);"
+        + "var matches = [];"
+        + "function test(element) { return !!(";
+
+    private static final String FILTER_SCRIPT_END = ""
+        + "); }"
+        + "for (var i = 0; i < elements.length; i++) { if (test(elements[i])) { matches.push(i, elements[i]); } }"
+        + "return matches;";
+
     private Class<E> elementClass;
     private PageObjectModel model;
 
@@ -34,7 +52,17 @@ public class LazyLoadingPageObjectList<E extends PageObject> implements PageObje
         this.model = model;
     }
 
-    private PageObjectList<E> getInternalList() {
+    PageObjectModel getModel() {
+        return model;
+    }
+
+    /**
+     * Queries the page for the current elements of this list and wraps them as
+     * page objects.
+     *
+     * @return the current elements of this list
+     */
+    protected PageObjectList<E> getInternalList() {
         int number = 0;
         PageObjectList<E> list = new DefaultPageObjectList<>();
         for (WebElement element : findElementsForList()) {
@@ -190,9 +218,93 @@ public class LazyLoadingPageObjectList<E extends PageObject> implements PageObje
         return getInternalList().subList(fromIndex, toIndex);
     }
 
+    /**
+     * Returns a new list containing the elements matching the given
+     * condition. If {@link Configuration#listFilteringInBrowserIsActivated()
+     * filtering inside the browser} is active and the condition is
+     * {@link ConditionScripts#isLenient(Predicate) lenient}, the elements are
+     * located and pre-filtered by a single script and only the candidates are
+     * wrapped as page objects. Since the script may accept more elements than the
+     * condition, each candidate is checked once more in Java. Elements of
+     * classes which have to be {@link MappingValidator validated} are never
+     * pre-filtered, because skipping elements would skip their validation.
+     * Otherwise (or if the script fails) all elements are wrapped and the
+     * condition is evaluated for each of them.
+     */
     @Override
     public PageObjectList<E> filter(Predicate<? super E> condition) {
+        String expression = ConditionScripts.isLenient(condition) ? ConditionScripts.of(condition) : null;
+        if (expression != null && canFilterInBrowser()) {
+            PageObjectList<E> candidates = filterInBrowser(expression);
+            if (candidates != null) {
+                return candidates.filter(condition);
+            }
+        }
         return getInternalList().filter(condition);
     }
 
+    private boolean canFilterInBrowser() {
+        return model.getBrowser().getConfiguration().listFilteringInBrowserIsActivated()
+            && !MappingValidator.forClass(elementClass).needsValidation();
+    }
+
+    private PageObjectList<E> filterInBrowser(String expression) {
+
+        WebDriver webDriver = model.getBrowser().getWebDriver();
+        if (!(webDriver instanceof JavascriptExecutor)) {
+            return null;
+        }
+
+        Object result;
+        try {
+            String script = FILTER_SCRIPT_START + expression + FILTER_SCRIPT_END;
+            result = (( JavascriptExecutor ) webDriver).executeScript(script, getScriptArguments());
+        } catch (WebDriverException e) {
+            LOGGER.debug("could not filter list inside the browser, filtering in Java instead", e);
+            return null;
+        }
+        if (!(result instanceof List)) {
+            return null;
+        }
+
+        List<?> matches = ( List<?> ) result;
+        PageObjectList<E> filtered = new DefaultPageObjectList<>();
+        for (int i = 0; i + 1 < matches.size(); i += 2) {
+            int number = (( Number ) matches.get(i)).intValue() + 1;
+            filtered.add(wrapElement(( WebElement ) matches.get(i + 1), getElementName(number)));
+        }
+        return filtered;
+
+    }
+
+    /**
+     * Returns a projection of this list's elements. The projection's script
+     * locates the elements itself - no page objects are created unless the
+     * script can't be executed.
+     *
+     * @return the projection
+     * @see ListProjections
+     * @since 1.2.0
+     */
+    public ListProjection<E> projection() {
+        return new ListProjection<E>(model.getBrowser(), getScriptArguments(), new Supplier<List<E>>() {
+
+            @Override
+            public List<E> get() {
+                return getInternalList();
+            }
+
+        });
+    }
+
+    private Object[] getScriptArguments() {
+        String[] locator = ScriptLocators.parse(model.getSeleniumBy());
+        if (locator == null) {
+            return new Object[] { findElementsForList(), null, null, null };
+        }
+        SearchContext searchContext = model.getSearchContext();
+        Object context = searchContext instanceof WebElement ? searchContext : null;
+        return new Object[] { null, context, locator[0], locator[1] };
+    }
+
 }
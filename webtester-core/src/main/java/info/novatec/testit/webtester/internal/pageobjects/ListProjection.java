@@ -0,0 +1,233 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.ListProjections;
+import info.novatec.testit.webtester.utils.conditions.ConditionScripts;
+
+
+/**
+ * Gathers data (texts, attributes, visibility) of all elements of a
+ * {@link PageObjectList page object list} with a single script. Used by
+ * {@link ListProjections}. The elements
+ * are either given as web elements or located by the script itself.
+ * <p>
+ * If the script can't be executed (e.g. because the web driver doesn't support
+ * JavaScript) the data is gathered from each page object instead.
+ * <p>
+ * All returned lists and maps are immutable.
+ *
+ * @param <E> the type of the list's page objects
+ * @since 1.2.0
+ */
+@Internal
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class ListProjection<E extends PageObject> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListProjection.class);
+
+    private static final String SCRIPT_START = ScriptLocators.LOCATE_ALL_FUNCTION + ConditionScripts.HELPERS
+        + "var elements = arguments[0] || wtLocateAll(arguments[1] || document, arguments[2], arguments[3]);"
+        + "var results = [];"
+        + "function project(element) { return ";
+
+    private static final String SCRIPT_END = ""
+        + "; }"
+        + "for (var i = 0; i < elements.length; i++) { results.push(project(elements[i])); }"
+        + "return results;";
+
+    private static final String TEXT = "wt.visibleText(element)";
+    private static final String VISIBLE = "wt.visible(element)";
+
+    private final Browser browser;
+    private final Object[] scriptArguments;
+    private final Supplier<? extends List<E>> pageObjects;
+
+    /**
+     * @param browser the browser to execute the script with - might be
+     * <code>null</code> if no script should be executed
+     * @param scriptArguments the web elements (first argument) or the search
+     * context, kind and value of the locator (second to fourth argument) of the
+     * list's elements
+     * @param pageObjects supplies the list's page objects in case the data has
+     * to be gathered from each of them
+     */
+    ListProjection(Browser browser, Object[] scriptArguments, Supplier<? extends List<E>> pageObjects) {
+        this.browser = browser;
+        this.scriptArguments = scriptArguments;
+        this.pageObjects = pageObjects;
+    }
+
+    /**
+     * Creates a projection of the given page objects. Their web elements are
+     * passed to the script, which is executed by the browser of the first page
+     * object.
+     *
+     * @param pageObjects the page objects
+     * @param <E> the type of the page objects
+     * @return the projection
+     * @since 1.2.0
+     */
+    public static <E extends PageObject> ListProjection<E> forPageObjects(List<E> pageObjects) {
+        Supplier<List<E>> supplier = Suppliers.ofInstance(pageObjects);
+        if (pageObjects.isEmpty()) {
+            return new ListProjection<E>(null, null, supplier);
+        }
+        Browser browser = pageObjects.get(0).getBrowser();
+        List<WebElement> webElements = new ArrayList<WebElement>(pageObjects.size());
+        for (E pageObject : pageObjects) {
+            webElements.add(pageObject.getWebElement());
+        }
+        Object[] scriptArguments = { webElements, null, null, null };
+        return new ListProjection<E>(browser, scriptArguments, supplier);
+    }
+
+    /**
+     * @return the whitespace normalized visible texts of all elements
+     * @since 1.2.0
+     */
+    public List<String> texts() {
+        List<?> results = executeScript(TEXT);
+        if (results == null) {
+            List<String> texts = new ArrayList<String>();
+            for (E pageObject : pageObjects.get()) {
+                texts.add(normalize(pageObject.getVisibleText()));
+            }
+            return Collections.unmodifiableList(texts);
+        }
+        return Collections.unmodifiableList(toStrings(results));
+    }
+
+    /**
+     * @param attributeName the name of the attribute
+     * @return the values of the given attribute of all elements
+     * @since 1.2.0
+     */
+    public List<String> attributes(String attributeName) {
+        List<?> results = executeScript(attributeExpression(attributeName));
+        if (results == null) {
+            List<String> values = new ArrayList<String>();
+            for (E pageObject : pageObjects.get()) {
+                values.add(pageObject.getAttribute(attributeName));
+            }
+            return Collections.unmodifiableList(values);
+        }
+        return Collections.unmodifiableList(toStrings(results));
+    }
+
+    /**
+     * Returns the visibility of all elements. The script considers an element
+     * visible if it takes up space and isn't hidden by its style - opacity is
+     * ignored. The per element fallback uses {@link PageObject#isVisible()}.
+     *
+     * @return the visibility of all elements
+     * @since 1.2.0
+     */
+    public List<Boolean> visibility() {
+        List<?> results = executeScript(VISIBLE);
+        List<Boolean> visibility = new ArrayList<Boolean>();
+        if (results == null) {
+            for (E pageObject : pageObjects.get()) {
+                visibility.add(pageObject.isVisible());
+            }
+        } else {
+            for (Object result : results) {
+                visibility.add(Boolean.TRUE.equals(result));
+            }
+        }
+        return Collections.unmodifiableList(visibility);
+    }
+
+    /**
+     * @param attributeNames the names of the attributes
+     * @return a map of the given attributes and their values for each element
+     * @since 1.2.0
+     */
+    public List<Map<String, String>> project(String... attributeNames) {
+        List<?> results = executeScript(projectionExpression(attributeNames));
+        List<Map<String, String>> projections = new ArrayList<Map<String, String>>();
+        if (results == null) {
+            for (E pageObject : pageObjects.get()) {
+                Map<String, String> projection = new LinkedHashMap<String, String>();
+                for (String attributeName : attributeNames) {
+                    projection.put(attributeName, pageObject.getAttribute(attributeName));
+                }
+                projections.add(Collections.unmodifiableMap(projection));
+            }
+        } else {
+            for (Object result : results) {
+                Map<?, ?> values = result instanceof Map ? ( Map<?, ?> ) result : Collections.emptyMap();
+                Map<String, String> projection = new LinkedHashMap<String, String>();
+                for (String attributeName : attributeNames) {
+                    projection.put(attributeName, toString(values.get(attributeName)));
+                }
+                projections.add(Collections.unmodifiableMap(projection));
+            }
+        }
+        return Collections.unmodifiableList(projections);
+    }
+
+    private List<?> executeScript(String expression) {
+        if (browser == null || scriptArguments == null) {
+            return null;
+        }
+        try {
+            Object result = browser.javaScript().executeWithReturn(SCRIPT_START + expression + SCRIPT_END, scriptArguments);
+            if (result instanceof List) {
+                return ( List<?> ) result;
+            }
+        } catch (UnsupportedOperationException | WebDriverException e) {
+            logger.debug("could not gather list data using a script, gathering it per element instead", e);
+        }
+        return null;
+    }
+
+    private static String attributeExpression(String attributeName) {
+        return "wt.attribute(element, " + ConditionScripts.quote(attributeName) + ')';
+    }
+
+    private static String projectionExpression(String... attributeNames) {
+        StringBuilder expression = new StringBuilder("{");
+        for (int i = 0; i < attributeNames.length; i++) {
+            if (i > 0) {
+                expression.append(", ");
+            }
+            String name = ConditionScripts.quote(attributeNames[i]);
+            expression.append(name).append(": wt.attribute(element, ").append(name).append(')');
+        }
+        return expression.append('}').toString();
+    }
+
+    private static List<String> toStrings(List<?> results) {
+        List<String> strings = new ArrayList<String>(results.size());
+        for (Object result : results) {
+            strings.add(toString(result));
+        }
+        return strings;
+    }
+
+    private static String toString(Object value) {
+        return value != null ? String.valueOf(value) : null;
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.replaceAll("[\\s\\u00a0]+", " ").trim() : null;
+    }
+
+}
@@ -0,0 +1,141 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang.StringUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Resolves a chain of locators - from the outermost ancestor of a nested
+ * {@link PageObject page object} down to the page object itself - with a
+ * single lookup instead of one lookup per level. Each level is searched
+ * within the first element found by the previous level, just as if the
+ * levels were resolved one after another.
+ * <ul>
+ * <li>If all levels are XPath expressions, they are combined into a single
+ * XPath expression.</li>
+ * <li>Otherwise, if all levels are supported by {@link ScriptLocators}, the
+ * chain is walked by a single script.</li>
+ * <li>In all other cases nothing is resolved and the levels have to be
+ * resolved one after another.</li>
+ * </ul>
+ *
+ * @since 1.2.0
+ */
+@Internal
+public final class LocatorChains {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocatorChains.class);
+
+    private static final String XPATH_PREFIX = "By.xpath: ";
+
+    private static final String WALK_SCRIPT = ScriptLocators.LOCATE_FUNCTION
+        + "var element = arguments[0] || document, chain = arguments[1];"
+        + "for (var i = 0; i < chain.length && element; i += 2) {"
+        + "  element = wtLocate(element, chain[i], chain[i + 1]);"
+        + "}"
+        + "return element;";
+
+    /**
+     * Finds the element described by the given chain of locators within the
+     * given root search context.
+     *
+     * @param webDriver the web driver to use for script execution
+     * @param root the search context of the first locator
+     * @param chain the locators from the outermost to the innermost level
+     * @return the found element or <code>null</code> if the chain can't be
+     * resolved with a single lookup
+     * @throws NoSuchElementException if the chain was resolved but there is no
+     * matching element
+     * @since 1.2.0
+     */
+    public static WebElement find(WebDriver webDriver, SearchContext root, List<By> chain) {
+
+        String xpath = composeXPath(chain);
+        if (xpath != null) {
+            logger.trace("resolving locator chain {} using combined XPath: {}", chain, xpath);
+            return root.findElement(By.xpath(xpath));
+        }
+
+        List<String> levels = toScriptLevels(chain);
+        if (levels == null || !(webDriver instanceof JavascriptExecutor)) {
+            return null;
+        }
+
+        Object element;
+        try {
+            Object context = root instanceof WebElement ? root : null;
+            element = (( JavascriptExecutor ) webDriver).executeScript(WALK_SCRIPT, context, levels);
+        } catch (NoSuchElementException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            logger.debug("could not resolve locator chain using a script, falling back to lookups per level", e);
+            return null;
+        }
+
+        if (element instanceof WebElement) {
+            return ( WebElement ) element;
+        }
+        throw new NoSuchElementException("Unable to locate element using locator chain: " + chain);
+
+    }
+
+    /**
+     * Combines the given XPath locators into a single XPath expression. Each
+     * level is applied to the first element matched by the previous levels.
+     * Absolute expressions start over from the document root.
+     *
+     * @param chain the locators from the outermost to the innermost level
+     * @return the combined expression or <code>null</code> if not all levels
+     * are XPath expressions or an expression can't be combined
+     */
+    static String composeXPath(List<By> chain) {
+        String combined = null;
+        for (By by : chain) {
+            String description = String.valueOf(by);
+            if (!description.startsWith(XPATH_PREFIX)) {
+                return null;
+            }
+            String xpath = description.substring(XPATH_PREFIX.length()).trim();
+            if (combined == null || xpath.startsWith("/")) {
+                combined = xpath;
+            } else if (xpath.startsWith("./") && !StringUtils.contains(xpath, '|')) {
+                combined = '(' + combined + ")[1]" + xpath.substring(1);
+            } else {
+                return null;
+            }
+        }
+        return combined;
+    }
+
+    private static List<String> toScriptLevels(List<By> chain) {
+        List<String> levels = new ArrayList<String>(chain.size() * 2);
+        for (By by : chain) {
+            String[] locator = ScriptLocators.parse(by);
+            if (locator == null) {
+                return null;
+            }
+            levels.add(locator[0]);
+            levels.add(locator[1]);
+        }
+        return levels;
+    }
+
+    private LocatorChains() {
+        // utility class constructor
+    }
+
+}
@@ -0,0 +1,89 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
+
+
+/**
+ * Keeps track of the navigation epoch of each {@link Browser browser}. The
+ * epoch is advanced every time the browser navigates to another page (opening
+ * an URL, refreshing, navigating backwards or forwards) or switches to
+ * another window or frame.
+ * <p>
+ * Everything derived from the current page (like cached web elements) can be
+ * kept as long as the epoch did not change. The epoch is advanced
+ * synchronously by the browser itself, so it never lags behind the navigation
+ * - independent of how events are dispatched.
+ *
+ * @since 1.2.0
+ */
+@Internal
+public final class NavigationEpochs {
+
+    private static final ConcurrentMap<BrowserIdentification, AtomicLong> EPOCHS =
+        new ConcurrentHashMap<BrowserIdentification, AtomicLong>();
+
+    /**
+     * Returns the current navigation epoch of the given browser.
+     *
+     * @param browser the browser
+     * @return the current epoch
+     * @since 1.2.0
+     */
+    public static long get(Browser browser) {
+        BrowserIdentification identification = browser.getIdentification();
+        if (identification == null) {
+            return 0L;
+        }
+        AtomicLong epoch = EPOCHS.get(identification);
+        return epoch != null ? epoch.get() : 0L;
+    }
+
+    /**
+     * Advances the navigation epoch of the given browser. Should be called
+     * whenever the browser navigates to another page or switches its window or
+     * frame.
+     *
+     * @param browser the browser
+     * @since 1.2.0
+     */
+    public static void advance(Browser browser) {
+        BrowserIdentification identification = browser.getIdentification();
+        if (identification == null) {
+            return;
+        }
+        AtomicLong epoch = EPOCHS.get(identification);
+        if (epoch == null) {
+            AtomicLong newEpoch = new AtomicLong();
+            epoch = EPOCHS.putIfAbsent(identification, newEpoch);
+            if (epoch == null) {
+                epoch = newEpoch;
+            }
+        }
+        epoch.incrementAndGet();
+    }
+
+    /**
+     * Forgets the navigation epoch of the given browser. Should be called when
+     * the browser is closed.
+     *
+     * @param browser the browser
+     * @since 1.2.0
+     */
+    public static void forget(Browser browser) {
+        BrowserIdentification identification = browser.getIdentification();
+        if (identification != null) {
+            EPOCHS.remove(identification);
+        }
+    }
+
+    private NavigationEpochs() {
+        // utility class constructor
+    }
+
+}
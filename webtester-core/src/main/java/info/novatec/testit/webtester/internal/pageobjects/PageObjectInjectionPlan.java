@@ -0,0 +1,330 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.lang.StringUtils;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+
+import info.novatec.testit.webtester.api.annotations.CachedList;
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.annotations.LazyInitialization;
+import info.novatec.testit.webtester.api.annotations.Visible;
+import info.novatec.testit.webtester.api.pageobjects.Identification;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.internal.MemberAccessors;
+import info.novatec.testit.webtester.internal.MemberAccessors.ConstructorAccessor;
+import info.novatec.testit.webtester.internal.MemberAccessors.FieldAccessor;
+import info.novatec.testit.webtester.internal.MemberAccessors.MethodAccessor;
+import info.novatec.testit.webtester.internal.ReflectionUtils;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.Identifications;
+
+
+/**
+ * Pre-computed description of everything the {@link DefaultPageObjectFactory}
+ * needs to know about a {@link PageObject page object} class in order to
+ * initialize instances of it.
+ * <p>
+ * Resolving the class ancestry, the annotated fields, their
+ * {@link Identification identifications} and the {@link PostConstruct} methods
+ * is done exactly once per class. All members are accessed via
+ * {@link MemberAccessors accessors}, so initializing an instance does not
+ * involve any reflective lookups. The resulting plan is immutable and cached,
+ * so it can be shared between threads and browsers.
+ *
+ * @since 1.2.0
+ */
+@Internal
+public final class PageObjectInjectionPlan<T extends PageObject> {
+
+    private static final ConcurrentMap<Class<?>, PageObjectInjectionPlan<?>> PLAN_CACHE =
+        new ConcurrentHashMap<Class<?>, PageObjectInjectionPlan<?>>();
+
+    private final Class<T> pageObjectClass;
+    private final ConstructorAccessor<T> constructor;
+    private final FieldAccessor modelField;
+    private final FieldAccessor webElementField;
+    private final FieldAccessor deferredInitializationField;
+    private final List<FieldInjector> fieldInjectors;
+    private final List<MethodAccessor> postConstructMethods;
+    private final List<FieldInjector> visibleFields;
+    private final LazyInitialization lazyInitialization;
+
+    private PageObjectInjectionPlan(Class<T> pageObjectClass) throws ReflectiveOperationException {
+
+        this.pageObjectClass = pageObjectClass;
+        this.constructor = MemberAccessors.forConstructor(pageObjectClass.getDeclaredConstructor());
+        this.modelField = getPageObjectField(DefaultPageObjectFactory.FIELD_NAME_MODEL);
+        this.webElementField = getPageObjectField(DefaultPageObjectFactory.FIELD_NAME_WEB_ELEMENT);
+        this.deferredInitializationField =
+            getPageObjectField(DefaultPageObjectFactory.FIELD_NAME_DEFERRED_INITIALIZATION);
+        this.lazyInitialization = pageObjectClass.getAnnotation(LazyInitialization.class);
+
+        List<FieldInjector> injectors = new ArrayList<FieldInjector>();
+        List<MethodAccessor> methods = new ArrayList<MethodAccessor>();
+        List<FieldInjector> visible = new ArrayList<FieldInjector>();
+
+        Deque<Class<?>> classAncestry = ReflectionUtils.getClassAncestry(pageObjectClass);
+        while (!classAncestry.isEmpty()) {
+            Class<?> clazz = classAncestry.pop();
+            for (Field field : clazz.getDeclaredFields()) {
+                if (isInjectable(field)) {
+                    FieldInjector injector = new FieldInjector(field);
+                    injectors.add(injector);
+                    if (injector.isVisibilityChecked()) {
+                        visible.add(injector);
+                    }
+                }
+            }
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.getAnnotation(PostConstruct.class) != null) {
+                    methods.add(MemberAccessors.forMethod(method));
+                }
+            }
+        }
+
+        this.fieldInjectors = Collections.unmodifiableList(injectors);
+        this.postConstructMethods = Collections.unmodifiableList(methods);
+        this.visibleFields = Collections.unmodifiableList(visible);
+
+    }
+
+    /**
+     * Returns the cached plan for the given {@link PageObject page object}
+     * class. The plan is created in case this is the first time the class is
+     * requested.
+     *
+     * @param pageObjectClass the class to get the plan for
+     * @param <T> the type of the page object
+     * @return the plan for the class
+     * @throws ReflectiveOperationException in case the class could not be
+     * analyzed (i.e. it has no default constructor)
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends PageObject> PageObjectInjectionPlan<T> forClass(Class<T> pageObjectClass)
+        throws ReflectiveOperationException {
+        PageObjectInjectionPlan<?> plan = PLAN_CACHE.get(pageObjectClass);
+        if (plan == null) {
+            PageObjectInjectionPlan<T> newPlan = new PageObjectInjectionPlan<T>(pageObjectClass);
+            plan = PLAN_CACHE.putIfAbsent(pageObjectClass, newPlan);
+            if (plan == null) {
+                plan = newPlan;
+            }
+        }
+        return ( PageObjectInjectionPlan<T> ) plan;
+    }
+
+    private static FieldAccessor getPageObjectField(String fieldName) throws ReflectiveOperationException {
+        return MemberAccessors.forField(PageObject.class.getDeclaredField(fieldName));
+    }
+
+    private static boolean isInjectable(Field field) {
+        return field.getAnnotation(IdentifyUsing.class) != null || field.getAnnotation(FindBy.class) != null
+            || field.getAnnotation(FindBys.class) != null;
+    }
+
+    public Class<T> getPageObjectClass() {
+        return pageObjectClass;
+    }
+
+    public ConstructorAccessor<T> getConstructor() {
+        return constructor;
+    }
+
+    public FieldAccessor getModelField() {
+        return modelField;
+    }
+
+    public FieldAccessor getWebElementField() {
+        return webElementField;
+    }
+
+    public FieldAccessor getDeferredInitializationField() {
+        return deferredInitializationField;
+    }
+
+    /**
+     * @return all injectable fields of the class hierarchy - ordered from the
+     * top most super class down to the class itself
+     */
+    public List<FieldInjector> getFieldInjectors() {
+        return fieldInjectors;
+    }
+
+    /**
+     * @return all {@link PostConstruct} methods of the class hierarchy -
+     * ordered from the top most super class down to the class itself
+     */
+    public List<MethodAccessor> getPostConstructMethods() {
+        return postConstructMethods;
+    }
+
+    /**
+     * @return all injectable fields of the class hierarchy which are annotated
+     * with {@link Visible}
+     */
+    public List<FieldInjector> getVisibleFields() {
+        return visibleFields;
+    }
+
+    /**
+     * @return the {@link LazyInitialization} annotation of the class - might
+     * be <code>null</code> if the class is not annotated
+     */
+    public LazyInitialization getLazyInitialization() {
+        return lazyInitialization;
+    }
+
+    /**
+     * Describes a single field of a {@link PageObject page object} class which
+     * should be initialized by the factory.
+     *
+     * @since 1.2.0
+     */
+    public static final class FieldInjector {
+
+        private final Field field;
+        private final FieldAccessor accessor;
+        private final FieldType type;
+        private final Identification identification;
+        private final String name;
+        private final Class<?> listElementClass;
+        private final Visible visible;
+        private final CachedList cachedList;
+
+        private FieldInjector(Field field) throws IllegalAccessException {
+            this.field = field;
+            this.accessor = MemberAccessors.forField(field);
+            this.type = FieldType.of(field.getType());
+            this.identification = getIdentificationForField(field);
+            this.name = getNameForField(field);
+            this.listElementClass = type == FieldType.LIST ? getListElementClass(field) : null;
+            this.visible = field.getAnnotation(Visible.class);
+            this.cachedList = field.getAnnotation(CachedList.class);
+        }
+
+        private static Identification getIdentificationForField(Field field) {
+            IdentifyUsing identifyUsing = field.getAnnotation(IdentifyUsing.class);
+            if (identifyUsing != null) {
+                return Identifications.fromAnnotation(identifyUsing);
+            }
+            FindBy findBy = field.getAnnotation(FindBy.class);
+            if (findBy != null) {
+                return Identifications.fromAnnotation(findBy);
+            }
+            FindBys findBys = field.getAnnotation(FindBys.class);
+            if (findBys != null) {
+                return Identifications.fromAnnotation(findBys);
+            }
+            return null;
+        }
+
+        private static String getNameForField(Field field) {
+            IdentifyUsing identificationUsing = field.getAnnotation(IdentifyUsing.class);
+            if (identificationUsing != null) {
+                return StringUtils.defaultString(identificationUsing.elementname());
+            }
+            return StringUtils.EMPTY;
+        }
+
+        private static Class<?> getListElementClass(Field listField) {
+            Type genericType = listField.getGenericType();
+            if (!(genericType instanceof ParameterizedType)) {
+                return null;
+            }
+            Type typeArgument = (( ParameterizedType ) genericType).getActualTypeArguments()[0];
+            return typeArgument instanceof Class ? ( Class<?> ) typeArgument : null;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public FieldAccessor getAccessor() {
+            return accessor;
+        }
+
+        public FieldType getType() {
+            return type;
+        }
+
+        public Identification getIdentification() {
+            return identification;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the generic type argument of a list field - might be
+         * <code>null</code> if the field is no list or the type could not be
+         * resolved
+         */
+        public Class<?> getListElementClass() {
+            return listElementClass;
+        }
+
+        public boolean isVisibilityChecked() {
+            return visible != null;
+        }
+
+        /**
+         * @return the number of list elements expected to be visible - only
+         * relevant for list fields annotated with {@link Visible}
+         */
+        public int getExpectedNumberOfVisibleElements() {
+            return visible != null ? visible.value() : 0;
+        }
+
+        /**
+         * @return the {@link CachedList} annotation of the field - might be
+         * <code>null</code> if the field is not annotated
+         */
+        public CachedList getCachedList() {
+            return cachedList;
+        }
+
+        @Override
+        public String toString() {
+            return field.toString();
+        }
+
+    }
+
+    /**
+     * The different kinds of fields the factory is able to inject.
+     *
+     * @since 1.2.0
+     */
+    public enum FieldType {
+
+        PAGE_OBJECT,
+        LIST,
+        UNSUPPORTED;
+
+        static FieldType of(Class<?> fieldClass) {
+            if (PageObject.class.isAssignableFrom(fieldClass)) {
+                return PAGE_OBJECT;
+            } else if (List.class.isAssignableFrom(fieldClass) || PageObjectList.class.isAssignableFrom(fieldClass)) {
+                return LIST;
+            }
+            return UNSUPPORTED;
+        }
+
+    }
+
+}
@@ -0,0 +1,146 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectInjectionPlan.FieldInjector;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectInjectionPlan.FieldType;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Resolves the web elements of several {@link PageObject page objects} with a
+ * single script instead of one lookup per page object. Only locators
+ * supported by {@link ScriptLocators} can be resolved this way.
+ *
+ * @since 1.2.0
+ */
+@Internal
+public final class Prefetching {
+
+    private static final Logger logger = LoggerFactory.getLogger(Prefetching.class);
+
+    private static final String FIND_SCRIPT = ScriptLocators.LOCATE_FUNCTION
+        + "var context = arguments[0] || document, locators = arguments[1], elements = [];"
+        + "if (arguments[2]) { context = wtLocate(document, arguments[2], arguments[3]); }"
+        + "for (var i = 0; i < locators.length; i += 2) {"
+        + "  if (!context) { elements.push(null); continue; }"
+        + "  elements.push(wtLocate(context, locators[i], locators[i + 1]));"
+        + "}"
+        + "return elements;";
+
+    /**
+     * Returns the page objects injected into the page object fields of the
+     * given page object. Lists of page objects are not included.
+     *
+     * @param pageObject the page object to get the children of
+     * @return the children - might be empty
+     * @since 1.2.0
+     */
+    public static List<PageObject> getChildren(PageObject pageObject) {
+        PageObjectInjectionPlan<? extends PageObject> plan;
+        try {
+            plan = PageObjectInjectionPlan.forClass(pageObject.getClass());
+        } catch (ReflectiveOperationException e) {
+            logger.debug("could not analyze page object class, no children to prefetch", e);
+            return Collections.emptyList();
+        }
+        List<PageObject> children = new ArrayList<PageObject>();
+        for (FieldInjector injector : plan.getFieldInjectors()) {
+            if (injector.getType() == FieldType.PAGE_OBJECT) {
+                Object child = injector.getAccessor().get(pageObject);
+                if (child != null) {
+                    children.add(( PageObject ) child);
+                }
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Finds the first element for each of the given locators within the given
+     * context element using a single script.
+     *
+     * @param webDriver the web driver to use for script execution
+     * @param context the element to search in
+     * @param locators the locators - all of them must be supported by
+     * {@link ScriptLocators}
+     * @return the found elements in the order of the locators with
+     * <code>null</code> for each locator without a matching element - or
+     * <code>null</code> if the script could not be executed
+     * @since 1.2.0
+     */
+    public static List<WebElement> find(WebDriver webDriver, WebElement context, List<By> locators) {
+        return find(webDriver, context, null, locators);
+    }
+
+    /**
+     * Finds the first element for each of the given locators within the
+     * element located by the given context locator using a single script. The
+     * context element is looked up within the whole document by the same
+     * script.
+     *
+     * @param webDriver the web driver to use for script execution
+     * @param contextLocator the locator of the element to search in - must be
+     * supported by {@link ScriptLocators}
+     * @param locators the locators - all of them must be supported by
+     * {@link ScriptLocators}
+     * @return the found elements in the order of the locators with
+     * <code>null</code> for each locator without a matching element - or
+     * <code>null</code> if the script could not be executed
+     * @since 1.2.0
+     */
+    public static List<WebElement> find(WebDriver webDriver, By contextLocator, List<By> locators) {
+        return find(webDriver, null, contextLocator, locators);
+    }
+
+    private static List<WebElement> find(WebDriver webDriver, WebElement context, By contextLocator,
+        List<By> locators) {
+
+        if (!(webDriver instanceof JavascriptExecutor)) {
+            return null;
+        }
+
+        List<String> arguments = new ArrayList<String>(locators.size() * 2);
+        for (By by : locators) {
+            String[] locator = ScriptLocators.parse(by);
+            arguments.add(locator[0]);
+            arguments.add(locator[1]);
+        }
+
+        Object result;
+        try {
+            String[] contextArguments = contextLocator != null ? ScriptLocators.parse(contextLocator) : new String[2];
+            result = (( JavascriptExecutor ) webDriver).executeScript(FIND_SCRIPT, context, arguments,
+                contextArguments[0], contextArguments[1]);
+        } catch (WebDriverException e) {
+            logger.debug("could not prefetch elements using a script", e);
+            return null;
+        }
+
+        if (!(result instanceof List) || (( List<?> ) result).size() != locators.size()) {
+            return null;
+        }
+        List<WebElement> elements = new ArrayList<WebElement>(locators.size());
+        for (Object element : ( List<?> ) result) {
+            elements.add(element instanceof WebElement ? ( WebElement ) element : null);
+        }
+        return elements;
+
+    }
+
+    private Prefetching() {
+        // utility class constructor
+    }
+
+}
@@ -0,0 +1,99 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import org.openqa.selenium.By;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+
+
+/**
+ * Translates Selenium {@link By locators} into a form which can be evaluated
+ * by scripts executed inside the browser. Scripts include the
+ * {@link #LOCATE_FUNCTION} and call <code>wtLocate(context, how, what)</code>
+ * with the parts returned by {@link #parse(By)}. The function returns the
+ * first matching element within the context (document or element) or
+ * <code>null</code>. Scripts including the {@link #LOCATE_ALL_FUNCTION} can
+ * call <code>wtLocateAll(context, how, what)</code> in order to get an array
+ * of all matching elements.
+ * <p>
+ * Only locators using id, CSS selector, XPath, name, class name or tag name
+ * are supported.
+ *
+ * @since 1.2.0
+ */
+@Internal
+public final class ScriptLocators {
+
+    /** JavaScript function <code>wtLocate(context, how, what)</code>. */
+    public static final String LOCATE_FUNCTION = ""
+        + "function wtLocate(context, how, what) {"
+        + "  var first = function (elements, matches) {"
+        + "    for (var i = 0; i < elements.length; i++) { if (matches(elements[i])) { return elements[i]; } }"
+        + "    return null;"
+        + "  };"
+        + "  switch (how) {"
+        + "    case 'id':"
+        + "      if (context === document) { return document.getElementById(what); }"
+        + "      return first(context.getElementsByTagName('*'), function (e) { return e.id === what; });"
+        + "    case 'name':"
+        + "      return first(context.getElementsByTagName('*'), function (e) { return e.getAttribute('name') === what; });"
+        + "    case 'className': return context.getElementsByClassName(what)[0] || null;"
+        + "    case 'tagName': return context.getElementsByTagName(what)[0] || null;"
+        + "    case 'cssSelector': return context.querySelector(what);"
+        + "    case 'xpath':"
+        + "      return document.evaluate(what, context, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+        + "  }"
+        + "  throw new Error('unsupported locator: ' + how);"
+        + "}";
+
+    /** JavaScript function <code>wtLocateAll(context, how, what)</code>. */
+    public static final String LOCATE_ALL_FUNCTION = ""
+        + "function wtLocateAll(context, how, what) {"
+        + "  var all = function (elements, matches) {"
+        + "    var result = [];"
+        + "    for (var i = 0; i < elements.length; i++) { if (!matches || matches(elements[i])) { result.push(elements[i]); } }"
+        + "    return result;"
+        + "  };"
+        + "  switch (how) {"
+        + "    case 'id': return all(context.getElementsByTagName('*'), function (e) { return e.id === what; });"
+        + "    case 'name':"
+        + "      return all(context.getElementsByTagName('*'), function (e) { return e.getAttribute('name') === what; });"
+        + "    case 'className': return all(context.getElementsByClassName(what));"
+        + "    case 'tagName': return all(context.getElementsByTagName(what));"
+        + "    case 'cssSelector': return all(context.querySelectorAll(what));"
+        + "    case 'xpath':"
+        + "      var snapshot = document.evaluate(what, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+        + "      var nodes = [];"
+        + "      for (var j = 0; j < snapshot.snapshotLength; j++) { nodes.push(snapshot.snapshotItem(j)); }"
+        + "      return nodes;"
+        + "  }"
+        + "  throw new Error('unsupported locator: ' + how);"
+        + "}";
+
+    private static final String[] SUPPORTED_LOCATORS =
+        { "id", "cssSelector", "xpath", "name", "className", "tagName" };
+
+    /**
+     * Splits the given locator into the kind of locator (e.g.
+     * <code>cssSelector</code>) and its value.
+     *
+     * @param by the locator to parse
+     * @return the kind and value of the locator or <code>null</code> if the
+     * locator is not supported
+     * @since 1.2.0
+     */
+    public static String[] parse(By by) {
+        String description = String.valueOf(by);
+        for (String how : SUPPORTED_LOCATORS) {
+            String prefix = "By." + how + ": ";
+            if (description.startsWith(prefix)) {
+                return new String[] { how, description.substring(prefix.length()) };
+            }
+        }
+        return null;
+    }
+
+    private ScriptLocators() {
+        // utility class constructor
+    }
+
+}
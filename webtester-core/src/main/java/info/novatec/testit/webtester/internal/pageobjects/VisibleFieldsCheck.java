@@ -0,0 +1,307 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Supplier;
+
+import info.novatec.testit.webtester.api.annotations.Visible;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectInjectionPlan.FieldInjector;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectInjectionPlan.FieldType;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.conditions.ConditionScripts;
+
+
+/**
+ * Checks all {@link Visible} constraints of a page object at once. This
+ * includes the page object's own annotated fields as well as the annotated
+ * fields of its visible page fragments (recursively).
+ * <p>
+ * Lazily initialized page fragments are excluded - they are checked by their
+ * own {@link DeferredInitialization deferred initialization} instead. Such a
+ * check is rooted at the fragment and includes the constraint of the field
+ * holding the fragment.
+ * <p>
+ * Each evaluation checks all constraints with a single script if all of them
+ * can be located inside the browser. A positive script result is confirmed by
+ * checking the constraints from Java, so the result is always based on the
+ * web driver's notion of visibility. If the constraints can't be checked by
+ * a script, each of them is checked from Java.
+ * <p>
+ * Instances are meant to be used as the condition of a single wait, so that
+ * all constraints share one deadline.
+ *
+ * @since 1.2.0
+ */
+final class VisibleFieldsCheck implements Supplier<Boolean> {
+
+    private static final Logger logger = LoggerFactory.getLogger(VisibleFieldsCheck.class);
+
+    private static final String SINGLE = "single";
+    private static final String LIST = "list";
+
+    private static final String CHECK_SCRIPT = ScriptLocators.LOCATE_FUNCTION + ScriptLocators.LOCATE_ALL_FUNCTION
+        + ConditionScripts.HELPERS
+        + "var context = arguments[0] || document, checks = arguments[1], results = [];"
+        + "for (var c = 0; c < checks.length; c++) {"
+        + "  var check = checks[c], element = context, last = check.length - 2;"
+        + "  for (var i = 1; i < last && element; i += 2) { element = wtLocate(element, check[i], check[i + 1]); }"
+        + "  if (!element) { results.push(0); continue; }"
+        + "  if (check[0] === 'list') {"
+        + "    var elements = wtLocateAll(element, check[last], check[last + 1]), count = 0;"
+        + "    for (var j = 0; j < elements.length; j++) { if (wt.visible(elements[j])) { count++; } }"
+        + "    results.push(count);"
+        + "  } else {"
+        + "    results.push(wt.visible(wtLocate(element, check[last], check[last + 1])) ? 1 : 0);"
+        + "  }"
+        + "}"
+        + "return results;";
+
+    private final PageObject pageObject;
+    private final List<Constraint> constraints = new ArrayList<Constraint>();
+
+    private WebElement scriptContext;
+    private List<List<String>> scriptChecks;
+
+    VisibleFieldsCheck(PageObject pageObject, PageObjectInjectionPlan<?> plan) {
+        this.pageObject = pageObject;
+        List<String> rootLevels = getRootLevels(pageObject, plan);
+        collectOwnConstraint(pageObject, rootLevels);
+        collectConstraints(pageObject, plan, rootLevels);
+        this.scriptChecks = rootLevels != null ? getScriptChecks() : null;
+    }
+
+    boolean hasConstraints() {
+        return !constraints.isEmpty();
+    }
+
+    /**
+     * @return the first constraint which was not met by the last evaluation
+     * or <code>null</code> if all were met
+     */
+    Constraint getFirstUnmetConstraint() {
+        for (Constraint constraint : constraints) {
+            if (!constraint.met) {
+                return constraint;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Boolean get() {
+        if (scriptChecks != null && !allMetInBrowser()) {
+            return false;
+        }
+        return allMetInJava();
+    }
+
+    private boolean allMetInBrowser() {
+        WebDriver webDriver = pageObject.getBrowser().getWebDriver();
+        if (!(webDriver instanceof JavascriptExecutor)) {
+            scriptChecks = null;
+            return true;
+        }
+
+        Object result;
+        try {
+            result = (( JavascriptExecutor ) webDriver).executeScript(CHECK_SCRIPT, scriptContext, scriptChecks);
+        } catch (WebDriverException e) {
+            logger.debug("could not check visibility using a script, checking from Java instead", e);
+            scriptChecks = null;
+            return true;
+        }
+        if (!(result instanceof List) || (( List<?> ) result).size() != constraints.size()) {
+            scriptChecks = null;
+            return true;
+        }
+
+        boolean allMet = true;
+        List<?> counts = ( List<?> ) result;
+        for (int i = 0; i < constraints.size(); i++) {
+            Constraint constraint = constraints.get(i);
+            constraint.actual = (( Number ) counts.get(i)).intValue();
+            constraint.met = constraint.actual == constraint.expected;
+            allMet &= constraint.met;
+        }
+        return allMet;
+    }
+
+    private boolean allMetInJava() {
+        boolean allMet = true;
+        for (Constraint constraint : constraints) {
+            constraint.met = false;
+        }
+        for (Constraint constraint : constraints) {
+            if (constraint.list != null) {
+                constraint.actual = countVisible(constraint.list);
+            } else {
+                constraint.actual = countVisible(constraint.single);
+            }
+            constraint.met = constraint.actual == constraint.expected;
+            allMet &= constraint.met;
+        }
+        return allMet;
+    }
+
+    private static int countVisible(PageObject single) {
+        return single.isVisible() ? 1 : 0;
+    }
+
+    private static int countVisible(PageObjectList<?> list) {
+        int visible = 0;
+        for (PageObject element : list) {
+            if (element.isVisible()) {
+                visible++;
+            }
+        }
+        return visible;
+    }
+
+    /* collecting constraints */
+
+    private void collectOwnConstraint(PageObject fragment, List<String> levels) {
+        PageObject owner = fragment.getParent();
+        if (owner == null) {
+            return;
+        }
+        for (FieldInjector injector : getPlan(owner).getVisibleFields()) {
+            if (injector.getType() == FieldType.PAGE_OBJECT && injector.getAccessor().get(owner) == fragment) {
+                constraints.add(new Constraint(owner, injector, fragment, null, 1, levels));
+            }
+        }
+    }
+
+    private void collectConstraints(PageObject owner, PageObjectInjectionPlan<?> plan, List<String> ownerLevels) {
+        for (FieldInjector injector : plan.getVisibleFields()) {
+            Object value = injector.getAccessor().get(owner);
+            if (injector.getType() == FieldType.PAGE_OBJECT && value != null) {
+                PageObject fragment = ( PageObject ) value;
+                PageObjectInjectionPlan<?> fragmentPlan = getPlan(fragment);
+                if (fragmentPlan.getDeferredInitializationField().get(fragment) != null) {
+                    // lazily initialized fragments are checked on first use
+                    continue;
+                }
+                PageObjectModel model = ( PageObjectModel ) fragmentPlan.getModelField().get(fragment);
+                List<String> levels = append(ownerLevels, model);
+                constraints.add(new Constraint(owner, injector, fragment, null, 1, levels));
+                collectConstraints(fragment, fragmentPlan, levels);
+            } else if (injector.getType() == FieldType.LIST && value instanceof PageObjectList) {
+                PageObjectList<?> list = ( PageObjectList<?> ) value;
+                PageObjectModel model = value instanceof LazyLoadingPageObjectList
+                    ? (( LazyLoadingPageObjectList<?> ) value).getModel() : null;
+                List<String> levels = append(ownerLevels, model);
+                int expected = injector.getExpectedNumberOfVisibleElements();
+                constraints.add(new Constraint(owner, injector, null, list, expected, levels));
+            }
+        }
+    }
+
+    private List<String> getRootLevels(PageObject root, PageObjectInjectionPlan<?> plan) {
+        WebElement webElement = ( WebElement ) plan.getWebElementField().get(root);
+        if (webElement != null) {
+            scriptContext = webElement;
+            return Collections.emptyList();
+        }
+        PageObjectModel model = ( PageObjectModel ) plan.getModelField().get(root);
+        PageObject parent = model != null ? model.getParent() : null;
+        List<String> parentLevels =
+            parent != null ? getRootLevels(parent, getPlan(parent)) : Collections.<String> emptyList();
+        return append(parentLevels, model);
+    }
+
+    private static List<String> append(List<String> levels, PageObjectModel model) {
+        if (levels == null || model == null || model.getIdentification() == null) {
+            return null;
+        }
+        String[] locator = ScriptLocators.parse(model.getSeleniumBy());
+        if (locator == null) {
+            return null;
+        }
+        List<String> appended = new ArrayList<String>(levels.size() + 2);
+        appended.addAll(levels);
+        appended.add(locator[0]);
+        appended.add(locator[1]);
+        return appended;
+    }
+
+    private List<List<String>> getScriptChecks() {
+        List<List<String>> checks = new ArrayList<List<String>>(constraints.size());
+        for (Constraint constraint : constraints) {
+            if (constraint.levels == null) {
+                return null;
+            }
+            List<String> check = new ArrayList<String>(constraint.levels.size() + 1);
+            check.add(constraint.list != null ? LIST : SINGLE);
+            check.addAll(constraint.levels);
+            checks.add(check);
+        }
+        return checks;
+    }
+
+    private static PageObjectInjectionPlan<?> getPlan(PageObject pageObject) {
+        try {
+            return PageObjectInjectionPlan.forClass(pageObject.getClass());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A single {@link Visible} annotated field and the number of visible
+     * elements expected for it.
+     */
+    static final class Constraint {
+
+        private final PageObject owner;
+        private final FieldInjector injector;
+        private final PageObject single;
+        private final PageObjectList<?> list;
+        private final int expected;
+        private final List<String> levels;
+
+        private boolean met;
+        private int actual;
+
+        Constraint(PageObject owner, FieldInjector injector, PageObject single, PageObjectList<?> list, int expected,
+            List<String> levels) {
+            this.owner = owner;
+            this.injector = injector;
+            this.single = single;
+            this.list = list;
+            this.expected = expected;
+            this.levels = levels;
+        }
+
+        PageObject getOwner() {
+            return owner;
+        }
+
+        FieldInjector getInjector() {
+            return injector;
+        }
+
+        boolean isList() {
+            return list != null;
+        }
+
+        int getExpected() {
+            return expected;
+        }
+
+        int getActual() {
+            return actual;
+        }
+
+    }
+
+}
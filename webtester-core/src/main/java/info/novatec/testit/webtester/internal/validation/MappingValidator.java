@@ -1,8 +1,13 @@
 package info.novatec.testit.webtester.internal.validation;
 
 import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.StringUtils;
 import org.openqa.selenium.WebElement;
@@ -12,25 +17,57 @@ import info.novatec.testit.webtester.api.annotations.Mapping;
 import info.novatec.testit.webtester.api.annotations.Mappings;
 import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
 import info.novatec.testit.webtester.api.pageobjects.Validator;
+import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
 /**
  * Allows for the validation of {@link WebElement web elements} for a {@link info.novatec.testit.webtester.pageobjects.PageObject
  * page object} instance by the {@link Mapping} annotations of it's class.
+ * <p>
+ * Validators are created once per class (see {@link #forClass(Class)}) and shared between all instances of that class.
+ * Successfully validated web elements are remembered for as long as the element reference exists, so each element is
+ * only validated once.
  *
  * @since 1.2.0
  */
 @Internal
 public class MappingValidator {
 
+    private static final ConcurrentMap<Class<?>, MappingValidator> CACHE =
+        new ConcurrentHashMap<Class<?>, MappingValidator>();
+
     private final Class<?> type;
     private final List<Validator> validConstellations;
     private final List<String> validConstellationDescriptions;
+    private final boolean correctClassCheckOverridden;
+    private final Map<WebElement, Boolean> validatedElements =
+        Collections.synchronizedMap(new WeakHashMap<WebElement, Boolean>());
+
+    /**
+     * Returns the shared validator for the given class. The validator is
+     * created in case the class is requested for the first time.
+     *
+     * @param type the class to get the validator for
+     * @return the validator
+     * @since 1.2.0
+     */
+    public static MappingValidator forClass(Class<?> type) {
+        MappingValidator validator = CACHE.get(type);
+        if (validator == null) {
+            MappingValidator newValidator = new MappingValidator(type);
+            validator = CACHE.putIfAbsent(type, newValidator);
+            if (validator == null) {
+                validator = newValidator;
+            }
+        }
+        return validator;
+    }
 
     public MappingValidator(Class<?> type) {
         this.type = type;
         this.validConstellations = extractValidationInformation(type);
         this.validConstellationDescriptions = getValidConstellationDescriptions();
+        this.correctClassCheckOverridden = overridesCorrectClassCheck(type);
     }
 
     private static List<Validator> extractValidationInformation(Class<?> type) {
@@ -91,8 +128,34 @@ public class MappingValidator {
         return !validConstellations.isEmpty();
     }
 
+    /**
+     * Returns whether or not web elements have to be validated before they
+     * can be used by instances of the class. This is the case if the class has
+     * {@link Mapping mappings} or overrides the deprecated
+     * <code>isCorrectClassForWebElement(WebElement)</code> check.
+     *
+     * @return true if web elements have to be validated, false otherwise
+     * @since 1.2.0
+     */
+    public boolean needsValidation() {
+        return canValidate() || correctClassCheckOverridden;
+    }
+
+    private static boolean overridesCorrectClassCheck(Class<?> type) {
+        for (Class<?> current = type; current != null && current != PageObject.class;
+            current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod("isCorrectClassForWebElement", WebElement.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not overridden on this level
+            }
+        }
+        return false;
+    }
+
     public void assertValidity(WebElement webElement) {
-        if (validConstellations.isEmpty()) {
+        if (validConstellations.isEmpty() || validatedElements.containsKey(webElement)) {
             return;
         }
         boolean valid = false;
@@ -105,6 +168,7 @@ public class MappingValidator {
         if (!valid) {
             throw new WrongElementClassException(getInvalidityMessage(webElement));
         }
+        validatedElements.put(webElement, Boolean.TRUE);
     }
 
     private String getInvalidityMessage(WebElement webElement) {
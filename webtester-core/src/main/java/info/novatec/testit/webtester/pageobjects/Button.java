@@ -4,6 +4,7 @@ import org.apache.commons.lang.StringUtils;
 
 import info.novatec.testit.webtester.api.annotations.Mapping;
 import info.novatec.testit.webtester.api.annotations.Mappings;
+import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
 import info.novatec.testit.webtester.api.pageobjects.traits.HasLabel;
@@ -73,8 +74,15 @@ public class Button extends PageObject implements HasValue<String>, HasLabel {
      */
     @Override
     public Button click() {
-        Asserts.assertEnabledAndVisible(this);
-        super.click();
+        executeAction(new PageObjectCallback() {
+
+            @Override
+            public void execute(PageObject pageObject) {
+                Asserts.assertEnabledAndVisible(pageObject);
+                Button.super.click();
+            }
+
+        });
         return this;
     }
 
@@ -92,8 +92,15 @@ public class Checkbox extends PageObject implements Selectable {
      */
     @Override
     public Checkbox click() {
-        Asserts.assertEnabledAndVisible(this);
-        super.click();
+        executeAction(new PageObjectCallback() {
+
+            @Override
+            public void execute(PageObject pageObject) {
+                Asserts.assertEnabledAndVisible(pageObject);
+                Checkbox.super.click();
+            }
+
+        });
         return this;
     }
 
@@ -5,6 +5,7 @@ import java.io.File;
 import org.apache.commons.lang.StringUtils;
 
 import info.novatec.testit.webtester.api.annotations.Mapping;
+import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallbackWithReturnValue;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
@@ -72,8 +73,15 @@ public class Image extends PageObject implements HasSourcePath, HasFileName {
      */
     @Override
     public Image click() {
-        Asserts.assertEnabledAndVisible(this);
-        super.click();
+        executeAction(new PageObjectCallback() {
+
+            @Override
+            public void execute(PageObject pageObject) {
+                Asserts.assertEnabledAndVisible(pageObject);
+                Image.super.click();
+            }
+
+        });
         return this;
     }
 
@@ -1,6 +1,7 @@
 package info.novatec.testit.webtester.pageobjects;
 
 import info.novatec.testit.webtester.api.annotations.Mapping;
+import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
 import info.novatec.testit.webtester.utils.Asserts;
@@ -28,8 +29,15 @@ public class Link extends PageObject {
      */
     @Override
     public Link click() {
-        Asserts.assertEnabledAndVisible(this);
-        super.click();
+        executeAction(new PageObjectCallback() {
+
+            @Override
+            public void execute(PageObject pageObject) {
+                Asserts.assertEnabledAndVisible(pageObject);
+                Link.super.click();
+            }
+
+        });
         return this;
     }
 
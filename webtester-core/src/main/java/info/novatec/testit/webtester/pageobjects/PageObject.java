@@ -1,8 +1,14 @@
 package info.novatec.testit.webtester.pageobjects;
 
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
 import org.apache.commons.lang.StringUtils;
+import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +17,7 @@ import info.novatec.testit.webtester.api.annotations.Mapping;
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallbackWithReturnValue;
+import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.events.Event;
 import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
 import info.novatec.testit.webtester.api.pageobjects.Identification;
@@ -20,7 +27,12 @@ import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.ClickedEvent;
 import info.novatec.testit.webtester.internal.annotations.SetViaInjection;
 import info.novatec.testit.webtester.internal.pageobjects.ActionTemplate;
+import info.novatec.testit.webtester.internal.pageobjects.DeferredInitialization;
+import info.novatec.testit.webtester.internal.pageobjects.LocatorChains;
+import info.novatec.testit.webtester.internal.pageobjects.NavigationEpochs;
 import info.novatec.testit.webtester.internal.pageobjects.PageObjectModel;
+import info.novatec.testit.webtester.internal.pageobjects.Prefetching;
+import info.novatec.testit.webtester.internal.pageobjects.ScriptLocators;
 import info.novatec.testit.webtester.internal.validation.MappingValidator;
 import info.novatec.testit.webtester.utils.Identifications;
 import info.novatec.testit.webtester.utils.Marker;
@@ -52,9 +64,33 @@ public class PageObject {
      */
     private WebElement webElement;
 
+    /**
+     * The resolved {@link WebElement} in case caching is active and the
+     * navigation epoch it was resolved in.
+     */
+    private WebElement cachedWebElement;
+    private long cachedEpoch;
+
+    /**
+     * The web element (or its absence) resolved in advance by the parent's
+     * {@link #prefetch()} and the navigation epoch it was resolved in.
+     */
+    private boolean prefetched;
+    private WebElement prefetchedWebElement;
+    private long prefetchedEpoch;
+
+    /**
+     * The remaining initialization of a lazily initialized page fragment.
+     * Completed and removed the first time the web element is needed.
+     */
+    @SetViaInjection
+    private DeferredInitialization deferredInitialization;
+    /** Whether the deferred initialization is currently completed (it might use the web element itself). */
+    private boolean completingDeferredInitialization;
+
     protected PageObject() {
         this.actionTemplate = new ActionTemplate(this);
-        this.validator = new MappingValidator(getClass());
+        this.validator = MappingValidator.forClass(getClass());
     }
 
     /**
@@ -65,21 +101,139 @@ public class PageObject {
      * successfully found and future invocations of this method will return the
      * cached instance. If caching is not active the web element will be
      * resolved anew with each invocation.
+     * <p>
+     * While an {@link #executeAction(PageObjectCallback) action} is executed
+     * the web element is only resolved and validated once.
+     * <p>
+     * If this page object or one of its parents is a lazily initialized page
+     * fragment, its initialization is completed before the web element is
+     * resolved.
      *
      * @return the web element of this page object.
      * @throws NoSuchElementException if the web element could not be found.
      * @since 0.9.9
      */
     public WebElement getWebElement() {
-        if(webElement != null) {
-            return validate(webElement);
+        actionTemplate.countWebElementUse();
+        WebElement resolvedWebElement = actionTemplate.getResolvedWebElement();
+        if (resolvedWebElement != null) {
+            return resolvedWebElement;
+        }
+        completeDeferredInitialization();
+        if (webElement != null) {
+            resolvedWebElement = validate(webElement);
+        } else if (webElementCachingIsActive()) {
+            resolvedWebElement = getCachedWebElement();
+        } else {
+            resolvedWebElement = validate(findWebElement());
+        }
+        actionTemplate.setResolvedWebElement(resolvedWebElement);
+        return resolvedWebElement;
+    }
+
+    private void completeDeferredInitialization() {
+        PageObject parent = model != null ? model.getParent() : null;
+        if (parent != null) {
+            parent.completeDeferredInitialization();
+        }
+        DeferredInitialization initialization = deferredInitialization;
+        if (initialization != null && !completingDeferredInitialization) {
+            completingDeferredInitialization = true;
+            try {
+                initialization.complete();
+                // only removed if successful - otherwise it is tried again the next time
+                deferredInitialization = null;
+            } finally {
+                completingDeferredInitialization = false;
+            }
         }
-        return validate(findWebElement());
     }
 
+    private boolean webElementCachingIsActive() {
+        return getBrowser().getConfiguration().webElementCachingIsActivated();
+    }
+
+    private WebElement getCachedWebElement() {
+        long currentEpoch = NavigationEpochs.get(getBrowser());
+        if (cachedWebElement == null || cachedEpoch != currentEpoch) {
+            cachedWebElement = validate(findWebElement());
+            cachedEpoch = currentEpoch;
+        }
+        return cachedWebElement;
+    }
+
+    /**
+     * Finds the web element of this page object. Ancestors which neither have
+     * an already resolved web element nor need to be validated are not
+     * resolved on their own. Instead their locators are combined with this
+     * page object's locator into a {@link LocatorChains single lookup}.
+     */
     private WebElement findWebElement() {
-        SearchContext searchContext = model.getSearchContext();
+
+        WebElement prefetchedElement = takePrefetchedWebElement();
+        if (prefetchedElement != null) {
+            return prefetchedElement;
+        }
+
+        LinkedList<By> chain = new LinkedList<By>();
+        chain.add(model.getSeleniumBy());
+
+        SearchContext searchContext = getBrowser().getWebDriver();
+        PageObject ancestor = model.getParent();
+        while (ancestor != null) {
+            WebElement resolvedWebElement = ancestor.getAlreadyResolvedWebElement();
+            if (resolvedWebElement != null) {
+                searchContext = resolvedWebElement;
+                break;
+            }
+            if (!ancestor.canBeSkippedInLocatorChain()) {
+                searchContext = ancestor.getWebElement();
+                break;
+            }
+            chain.addFirst(ancestor.model.getSeleniumBy());
+            ancestor = ancestor.model.getParent();
+        }
+
+        if (chain.size() > 1) {
+            WebElement element = LocatorChains.find(getBrowser().getWebDriver(), searchContext, chain);
+            if (element != null) {
+                return element;
+            }
+            searchContext = model.getSearchContext();
+        }
         return searchContext.findElement(model.getSeleniumBy());
+
+    }
+
+    private WebElement takePrefetchedWebElement() {
+        if (!prefetched) {
+            return null;
+        }
+        WebElement element = prefetchedWebElement;
+        prefetched = false;
+        prefetchedWebElement = null;
+        if (element == null || prefetchedEpoch != NavigationEpochs.get(getBrowser()) || isStale(element)) {
+            // the element might have been added or replaced since prefetching - look it up again
+            return null;
+        }
+        return element;
+    }
+
+    private WebElement getAlreadyResolvedWebElement() {
+        WebElement resolvedWebElement = actionTemplate.getResolvedWebElement();
+        if (resolvedWebElement == null && cachedWebElement != null && webElementCachingIsActive()
+            && cachedEpoch == NavigationEpochs.get(getBrowser())) {
+            resolvedWebElement = cachedWebElement;
+        }
+        return resolvedWebElement;
+    }
+
+    private boolean canBeSkippedInLocatorChain() {
+        return webElement == null && model != null && model.getIdentification() != null && !needsValidation();
+    }
+
+    private boolean needsValidation() {
+        return validator.needsValidation();
     }
 
     /**
@@ -212,6 +366,9 @@ public class PageObject {
     /**
      * Returns whether or not this {@link PageObject} is part of the current page's DOM.
      * This can be used to avoid catching the {@link NoSuchElementException} in order to check if an element exists.
+     * <p>
+     * If {@link Configuration#webElementCachingIsActivated() web element caching} is active, the cached web element
+     * is checked first. If it was removed from the DOM, the cache is reset and the web element is looked up again.
      *
      * @return true if the object is part of the page's DOM
      * @see WebElement
@@ -219,13 +376,27 @@ public class PageObject {
      */
     public boolean isPresent() {
         try {
-            getWebElement();
+            WebElement resolvedWebElement = getWebElement();
+            if (resolvedWebElement == cachedWebElement && isStale(resolvedWebElement)) {
+                // the cached element was removed from the DOM - check if there is a new one
+                invalidate();
+                getWebElement();
+            }
             return true;
         } catch (NoSuchElementException e) {
             return false;
         }
     }
 
+    private static boolean isStale(WebElement element) {
+        try {
+            element.isEnabled();
+            return false;
+        } catch (StaleElementReferenceException e) {
+            return true;
+        }
+    }
+
     /**
      * @return whether or not the {@linkplain PageObject} is currently enabled
      * @since 0.9.0
@@ -475,17 +646,75 @@ public class PageObject {
     }
 
     /**
-     * Invalidates this {@linkplain PageObject} forcing it to reinitialize
-     * itself when it is used again. This can be necessary when the element is
-     * modified by the system under test (e.g. moved).
+     * Invalidates this {@linkplain PageObject} forcing it to resolve its
+     * {@link WebElement web element} again when it is used the next time. This
+     * is only relevant if {@link Configuration#webElementCachingIsActivated()
+     * web element caching} is active and the element is modified by the system
+     * under test (e.g. moved) without navigating to another page.
      *
      * @since 0.9.9
-     * @deprecated caching was removed in v1.2 - this exists in order to NOT break the API till v1.3
      */
-    @Deprecated
     public void invalidate() {
-        // TODO: remove in v1.3
-        logger.warn("deprecated method 'invalidate()' used...");
+        cachedWebElement = null;
+        prefetched = false;
+        prefetchedWebElement = null;
+    }
+
+    /**
+     * Resolves the {@link WebElement web elements} of all page objects
+     * injected into the fields of this {@link PageObject page object} with a
+     * single script execution instead of one lookup per page object. The
+     * resolved elements are used the next time the page objects need their
+     * element. Page objects without a matching element and page objects whose
+     * prefetched element was removed from the DOM in the meantime look their
+     * element up as usual.
+     * <p>
+     * Prefetched elements are only used once (or kept if
+     * {@link Configuration#webElementCachingIsActivated() web element caching}
+     * is active) and are dropped if the browser navigates to another page in
+     * the meantime. Page objects which can't be resolved by a script (e.g.
+     * identified by a partial link text) are not prefetched.
+     *
+     * @since 1.2.0
+     */
+    public void prefetch() {
+
+        List<PageObject> children = new ArrayList<PageObject>();
+        List<By> locators = new ArrayList<By>();
+        for (PageObject child : Prefetching.getChildren(this)) {
+            if (child.canBePrefetched()) {
+                children.add(child);
+                locators.add(child.model.getSeleniumBy());
+            }
+        }
+        if (children.isEmpty()) {
+            return;
+        }
+
+        List<WebElement> elements;
+        if (canBePrefetched() && model.getParent() == null && getAlreadyResolvedWebElement() == null) {
+            elements = Prefetching.find(getBrowser().getWebDriver(), model.getSeleniumBy(), locators);
+        } else {
+            elements = Prefetching.find(getBrowser().getWebDriver(), getWebElement(), locators);
+        }
+        if (elements == null) {
+            return;
+        }
+
+        long epoch = NavigationEpochs.get(getBrowser());
+        for (int i = 0; i < children.size(); i++) {
+            PageObject child = children.get(i);
+            child.prefetched = true;
+            child.prefetchedWebElement = elements.get(i);
+            child.prefetchedEpoch = epoch;
+        }
+        logger.debug(logMessage("prefetched web elements of {} page objects"), children.size());
+
+    }
+
+    private boolean canBePrefetched() {
+        return webElement == null && model != null && model.getIdentification() != null
+            && ScriptLocators.parse(model.getSeleniumBy()) != null;
     }
 
     /**
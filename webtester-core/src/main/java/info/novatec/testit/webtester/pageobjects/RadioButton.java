@@ -1,6 +1,7 @@
 package info.novatec.testit.webtester.pageobjects;
 
 import info.novatec.testit.webtester.api.annotations.Mapping;
+import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallbackWithReturnValue;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
@@ -62,8 +63,15 @@ public class RadioButton extends PageObject implements Selectable {
      */
     @Override
     public RadioButton click() {
-        Asserts.assertEnabledAndVisible(this);
-        super.click();
+        executeAction(new PageObjectCallback() {
+
+            @Override
+            public void execute(PageObject pageObject) {
+                Asserts.assertEnabledAndVisible(pageObject);
+                RadioButton.super.click();
+            }
+
+        });
         return this;
     }
 
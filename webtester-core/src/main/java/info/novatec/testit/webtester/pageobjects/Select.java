@@ -1,7 +1,10 @@
 package info.novatec.testit.webtester.pageobjects;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
@@ -11,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import info.novatec.testit.webtester.api.annotations.Mapping;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallbackWithReturnValue;
+import info.novatec.testit.webtester.api.pageobjects.SelectOption;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByIndexEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByTextEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByValueEvent;
@@ -38,6 +42,14 @@ public class Select extends PageObject {
     private static final String NOTHING_SELECTED_INDEX =
         "Could not return selected option's index since there is nothing selected!";
 
+    private static final String READ_OPTIONS_SCRIPT = ""
+        + "var options = arguments[0].options, result = [];"
+        + "for (var i = 0; i < options.length; i++) {"
+        + "  var o = options[i];"
+        + "  result.push({ text: o.text, value: o.value, selected: o.selected, index: o.index });"
+        + "}"
+        + "return result;";
+
     /**
      * Selects all options by their visible text. Giving no texts as parameters
      * will simply deselect all options. If this {@link Select select} is not a
@@ -55,9 +67,10 @@ public class Select extends PageObject {
             @Override
             public void execute(PageObject pageObject) {
                 Asserts.assertEnabledAndVisible(pageObject);
-                deselectIfMultiple();
+                org.openqa.selenium.support.ui.Select select = getSelect();
+                deselectIfMultiple(select);
                 for (String text : texts) {
-                    getSelect().selectByVisibleText(text);
+                    select.selectByVisibleText(text);
                     logger.debug(logMessage("selected option with text: {}"), text);
                     fireEventAndMarkAsUsed(new SelectedByTextEvent(pageObject, text));
                 }
@@ -83,9 +96,10 @@ public class Select extends PageObject {
             @Override
             public void execute(PageObject pageObject) {
                 Asserts.assertEnabledAndVisible(pageObject);
-                deselectIfMultiple();
+                org.openqa.selenium.support.ui.Select select = getSelect();
+                deselectIfMultiple(select);
                 for (String value : values) {
-                    getSelect().selectByValue(value);
+                    select.selectByValue(value);
                     logger.debug(logMessage("selected option with value: {}"), value);
                     fireEventAndMarkAsUsed(new SelectedByValueEvent(pageObject, value));
                 }
@@ -111,9 +125,10 @@ public class Select extends PageObject {
             @Override
             public void execute(PageObject pageObject) {
                 Asserts.assertEnabledAndVisible(pageObject);
-                deselectIfMultiple();
+                org.openqa.selenium.support.ui.Select select = getSelect();
+                deselectIfMultiple(select);
                 for (int index : indices) {
-                    getSelect().selectByIndex(index);
+                    select.selectByIndex(index);
                     logger.debug(logMessage("selected option with index: {}"), index);
                     fireEventAndMarkAsUsed(new SelectedByIndexEvent(pageObject, index));
                 }
@@ -312,6 +327,44 @@ public class Select extends PageObject {
         });
     }
 
+    /**
+     * Reads the text, value, selected state and index of all available options
+     * with a single call to the browser. If there are no options the returned
+     * list will be empty. The returned list is unmodifiable and in the same
+     * order as the options of the {@link Select select}.
+     * <p>
+     * Use this instead of combining {@link #getAllTexts()},
+     * {@link #getAllValues()} and {@link #getAllSelectedIndices()} when more
+     * than one property of the options is needed, since each of those issues
+     * one browser command per option.
+     *
+     * @return snapshots of all available options
+     * @since 1.2.0
+     */
+    public List<SelectOption> readOptions() {
+        return executeAction(new PageObjectCallbackWithReturnValue<List<SelectOption>>() {
+
+            @Override
+            public List<SelectOption> execute(PageObject pageObject) {
+                List<?> rawOptions = getBrowser().javaScript().executeWithReturn(READ_OPTIONS_SCRIPT, pageObject);
+                List<SelectOption> options = new ArrayList<SelectOption>(rawOptions.size());
+                for (Object rawOption : rawOptions) {
+                    options.add(toSelectOption(( Map<?, ?> ) rawOption));
+                }
+                return Collections.unmodifiableList(options);
+            }
+
+        });
+    }
+
+    private static SelectOption toSelectOption(Map<?, ?> rawOption) {
+        String text = String.valueOf(rawOption.get("text"));
+        String value = String.valueOf(rawOption.get("value"));
+        boolean selected = Boolean.TRUE.equals(rawOption.get("selected"));
+        int index = (( Number ) rawOption.get("index")).intValue();
+        return new SelectOption(text, value, selected, index);
+    }
+
     /**
      * Returns the number of selected options.
      *
@@ -380,9 +433,9 @@ public class Select extends PageObject {
         return getSelect().getFirstSelectedOption();
     }
 
-    private void deselectIfMultiple() {
-        if (isMultselect()) {
-            getSelect().deselectAll();
+    private void deselectIfMultiple(org.openqa.selenium.support.ui.Select select) {
+        if (select.isMultiple()) {
+            select.deselectAll();
         }
     }
 
@@ -1,5 +1,6 @@
 package info.novatec.testit.webtester.pageobjects;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -20,6 +21,22 @@ import info.novatec.testit.webtester.api.enumerations.Method;
 @Mapping(tag = "table")
 public class Table extends PageObject {
 
+    private static final String READ_ALL_SCRIPT = TableRow.READ_ROW_FUNCTION
+        + "var table = arguments[0], rows = [];"
+        + "for (var i = 0; i < table.children.length; i++) {"
+        + "  var child = table.children[i];"
+        + "  if (child.tagName.toLowerCase() === 'tr') {"
+        + "    rows.push(readRow(child));"
+        + "  } else {"
+        + "    for (var j = 0; j < child.children.length; j++) {"
+        + "      if (child.children[j].tagName.toLowerCase() === 'tr') {"
+        + "        rows.push(readRow(child.children[j]));"
+        + "      }"
+        + "    }"
+        + "  }"
+        + "}"
+        + "return rows;";
+
     @IdentifyUsing(method = Method.XPATH, value = "./tr | ./*/tr")
     private List<TableRow> tableRows;
 
@@ -51,6 +68,35 @@ public class Table extends PageObject {
         return Collections.unmodifiableList(tableRows);
     }
 
+    /**
+     * Reads the texts of all {@link TableField fields} of all {@link TableRow
+     * rows} of this {@link Table table} with a single call to the browser. The
+     * same rows as for {@link #getRows()} are considered. The returned lists
+     * are unmodifiable and in the same order as the rows and fields of the
+     * table.
+     * <p>
+     * Use this instead of iterating over {@link #getRows()} when only the texts
+     * are needed, since that issues several browser commands per field.
+     *
+     * @return the texts of all fields of this table - one list per row
+     * @since 1.2.0
+     */
+    public List<List<String>> readAll() {
+        return executeAction(new PageObjectCallbackWithReturnValue<List<List<String>>>() {
+
+            @Override
+            public List<List<String>> execute(PageObject pageObject) {
+                List<?> rawRows = getBrowser().javaScript().executeWithReturn(READ_ALL_SCRIPT, pageObject);
+                List<List<String>> rows = new ArrayList<List<String>>(rawRows.size());
+                for (Object rawRow : rawRows) {
+                    rows.add(TableRow.toTexts(( List<?> ) rawRow));
+                }
+                return Collections.unmodifiableList(rows);
+            }
+
+        });
+    }
+
     /**
      * Returns the {@link TableRow row} for the given index.
      *
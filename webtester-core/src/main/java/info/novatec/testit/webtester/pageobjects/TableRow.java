@@ -1,5 +1,6 @@
 package info.novatec.testit.webtester.pageobjects;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,6 +22,22 @@ import info.novatec.testit.webtester.api.enumerations.Method;
 @Mapping(tag = "tr")
 public class TableRow extends PageObject {
 
+    /** JavaScript function returning the trimmed texts of a row's 'th' and 'td' children. */
+    static final String READ_ROW_FUNCTION = ""
+        + "function readRow(row) {"
+        + "  var texts = [];"
+        + "  for (var i = 0; i < row.children.length; i++) {"
+        + "    var cell = row.children[i], tag = cell.tagName.toLowerCase();"
+        + "    if (tag === 'th' || tag === 'td') {"
+        + "      var text = cell.innerText !== undefined ? cell.innerText : cell.textContent;"
+        + "      texts.push(text.replace(/^\\s+|\\s+$/g, ''));"
+        + "    }"
+        + "  }"
+        + "  return texts;"
+        + "}";
+
+    private static final String READ_ALL_SCRIPT = READ_ROW_FUNCTION + "return readRow(arguments[0]);";
+
     @IdentifyUsing(method = Method.XPATH, value = "./th | ./td")
     private List<TableField> tableFields;
 
@@ -62,6 +79,37 @@ public class TableRow extends PageObject {
         return Collections.unmodifiableList(tableFields);
     }
 
+    /**
+     * Reads the texts of all {@link TableField fields} of this {@link TableRow
+     * row} with a single call to the browser. The returned list is
+     * unmodifiable and in the same order as the fields of the row.
+     * <p>
+     * Use this instead of iterating over {@link #getFields()} when only the
+     * texts are needed, since that issues one browser command per field.
+     *
+     * @return the texts of all fields of this row
+     * @since 1.2.0
+     */
+    public List<String> readAll() {
+        return executeAction(new PageObjectCallbackWithReturnValue<List<String>>() {
+
+            @Override
+            public List<String> execute(PageObject pageObject) {
+                List<?> rawTexts = getBrowser().javaScript().executeWithReturn(READ_ALL_SCRIPT, pageObject);
+                return toTexts(rawTexts);
+            }
+
+        });
+    }
+
+    static List<String> toTexts(List<?> rawTexts) {
+        List<String> texts = new ArrayList<String>(rawTexts.size());
+        for (Object rawText : rawTexts) {
+            texts.add(String.valueOf(rawText));
+        }
+        return Collections.unmodifiableList(texts);
+    }
+
     /**
      * Returns the {@link TableField field} for the given index.
      *
@@ -5,11 +5,17 @@ import org.openqa.selenium.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
 import info.novatec.testit.webtester.api.annotations.Mapping;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
+import info.novatec.testit.webtester.api.events.Event;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
 import info.novatec.testit.webtester.api.pageobjects.traits.HasText;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+import info.novatec.testit.webtester.eventsystem.events.LazyEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextAppendedEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextClearedEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextSetEvent;
@@ -65,15 +71,22 @@ public class TextField extends PageObject implements HasText {
     public TextField clearText() {
         executeAction(new AbstractTextFieldCallback() {
 
+            @Override
+            protected Class<? extends Event> getEventType() {
+                return TextClearedEvent.class;
+            }
+
             @Override
             public void executeAction(TextField textField) {
                 getWebElement().clear();
             }
 
             @Override
-            protected void executeAfterAction(TextField textField, String oldText, String newText) {
-                logger.debug(logMessage(CLEARED_TEXT), oldText, newText);
-                fireEventAndMarkAsUsed(new TextClearedEvent(textField, oldText, newText));
+            protected void executeAfterAction(TextField textField, String oldText, Supplier<String> newText) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug(logMessage(CLEARED_TEXT), oldText, newText.get());
+                }
+                fireEventAndMarkAsUsed(TextClearedEvent.withLazyAfter(textField, oldText, newText));
             }
 
         });
@@ -96,6 +109,11 @@ public class TextField extends PageObject implements HasText {
     public TextField setText(final String textToSet) {
         executeAction(new AbstractTextFieldCallback() {
 
+            @Override
+            protected Class<? extends Event> getEventType() {
+                return TextSetEvent.class;
+            }
+
             @Override
             public void executeAction(TextField textField) {
                 getWebElement().clear();
@@ -103,9 +121,11 @@ public class TextField extends PageObject implements HasText {
             }
 
             @Override
-            protected void executeAfterAction(TextField textField, String oldText, String newText) {
-                logger.debug(logMessage(SET_TEXT), oldText, newText, textToSet);
-                fireEventAndMarkAsUsed(new TextSetEvent(textField, oldText, newText, textToSet));
+            protected void executeAfterAction(TextField textField, String oldText, Supplier<String> newText) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug(logMessage(SET_TEXT), oldText, newText.get(), textToSet);
+                }
+                fireEventAndMarkAsUsed(TextSetEvent.withLazyAfter(textField, oldText, newText, textToSet));
             }
 
         });
@@ -128,15 +148,22 @@ public class TextField extends PageObject implements HasText {
     public TextField appendText(final String textToAppend) {
         executeAction(new AbstractTextFieldCallback() {
 
+            @Override
+            protected Class<? extends Event> getEventType() {
+                return TextAppendedEvent.class;
+            }
+
             @Override
             public void executeAction(TextField textField) {
                 getWebElement().sendKeys(textToAppend);
             }
 
             @Override
-            protected void executeAfterAction(TextField textField, String oldText, String newText) {
-                logger.debug(logMessage(APPEND_TEXT), oldText, newText, textToAppend);
-                fireEventAndMarkAsUsed(new TextAppendedEvent(textField, oldText, newText, textToAppend));
+            protected void executeAfterAction(TextField textField, String oldText, Supplier<String> newText) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug(logMessage(APPEND_TEXT), oldText, newText.get(), textToAppend);
+                }
+                fireEventAndMarkAsUsed(TextAppendedEvent.withLazyAfter(textField, oldText, newText, textToAppend));
             }
 
         });
@@ -175,10 +202,49 @@ public class TextField extends PageObject implements HasText {
         public final void execute(PageObject pageObject) {
             TextField textField = ( TextField ) pageObject;
             Asserts.assertEnabledAndVisible(textField);
-            String oldText = textField.getText();
+            boolean captureTexts = shouldCaptureTexts(textField);
+            String oldText = captureTexts ? textField.getText() : null;
             executeAction(textField);
-            String newText = textField.getText();
-            executeAfterAction(textField, oldText, newText);
+            executeAfterAction(textField, oldText, newTextSupplier(textField, captureTexts));
+        }
+
+        private boolean shouldCaptureTexts(TextField textField) {
+            if (!textField.getBrowser().getConfiguration().eventStateCaptureIsActivated()) {
+                return false;
+            }
+            Class<? extends Event> eventType = getEventType();
+            if (eventType == null || logger.isDebugEnabled()) {
+                return true;
+            }
+            return EventSystem.hasListenersFor(eventType, textField.getBrowser().getIdentification());
+        }
+
+        private Supplier<String> newTextSupplier(final TextField textField, boolean captureTexts) {
+            if (!captureTexts) {
+                return Suppliers.<String> ofInstance(null);
+            }
+            return Suppliers.memoize(new Supplier<String>() {
+
+                @Override
+                public String get() {
+                    return textField.getText();
+                }
+
+            });
+        }
+
+        /**
+         * Returns the type of {@link Event event} fired by
+         * {@link #executeAfterAction(TextField, String, String)}. The texts of
+         * the text field before and after the action are only read if anyone
+         * is listening to events of that type. If <code>null</code> is returned
+         * (default) the texts are always read.
+         *
+         * @return the type of the fired event or null if unknown
+         * @since 1.2.0
+         */
+        protected Class<? extends Event> getEventType() {
+            return null;
         }
 
         /**
@@ -195,11 +261,35 @@ public class TextField extends PageObject implements HasText {
          *
          * @param textField the text field
          * @param oldText the text of the text field before the action was
-         * executed
+         * executed - or null if it was not captured
          * @param newText the text of the text field after the action was
-         * executed
+         * executed - or null if it was not captured
          */
-        protected abstract void executeAfterAction(TextField textField, String oldText, String newText);
+        protected void executeAfterAction(TextField textField, String oldText, String newText) {
+            // override this or executeAfterAction(TextField, String, Supplier)
+        }
+
+        /**
+         * Execute after action tasks like logging or firing events. The text of
+         * the text field after the action is only read when the given
+         * {@link Supplier supplier} is called for the first time. This allows
+         * events to read it only if a listener is interested in it. Events
+         * holding the supplier should implement {@link LazyEvent} so it is
+         * never called after the event left the current thread.
+         * <p>
+         * By default this reads the new text and calls
+         * {@link #executeAfterAction(TextField, String, String)}.
+         *
+         * @param textField the text field
+         * @param oldText the text of the text field before the action was
+         * executed - or null if it was not captured
+         * @param newText supplies the text of the text field after the action
+         * was executed - or null if it is not captured
+         * @since 1.2.0
+         */
+        protected void executeAfterAction(TextField textField, String oldText, Supplier<String> newText) {
+            executeAfterAction(textField, oldText, newText.get());
+        }
 
     }
 
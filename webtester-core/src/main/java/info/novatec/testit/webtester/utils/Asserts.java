@@ -1,8 +1,13 @@
 package info.novatec.testit.webtester.utils;
 
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
+import info.novatec.testit.webtester.internal.ReflectionUtils;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -14,6 +19,18 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  */
 public final class Asserts {
 
+    private static final String ENABLED_AND_VISIBLE_SCRIPT = ""
+        + "var element = arguments[0];"
+        + "if (element.matches ? element.matches(':disabled') : element.disabled) { return false; }"
+        + "if (!(element.offsetWidth > 0 || element.offsetHeight > 0 || element.getClientRects().length > 0)) {"
+        + "  return false;"
+        + "}"
+        + "if (window.getComputedStyle(element).visibility !== 'visible') { return false; }"
+        + "for (var node = element; node && node.nodeType === 1; node = node.parentNode) {"
+        + "  if (window.getComputedStyle(node).opacity === '0') { return false; }"
+        + "}"
+        + "return true;";
+
     /**
      * Asserts that the given {@link PageObject page object} is enabled and
      * visible.
@@ -24,8 +41,47 @@ public final class Asserts {
      * @since 0.9.6
      */
     public static void assertEnabledAndVisible(PageObject pageObject) {
-        assertEnabled(pageObject);
-        assertVisible(pageObject);
+        pageObject.executeAction(new PageObjectCallback() {
+
+            @Override
+            public void execute(PageObject po) {
+                if (!isObviouslyEnabledAndVisible(po)) {
+                    assertEnabled(po);
+                    assertVisible(po);
+                }
+            }
+
+        });
+    }
+
+    /**
+     * Checks both states with a single script. Only a positive result is
+     * trusted, everything else is checked again using the web driver's own
+     * (more thorough) implementations. Page objects overriding
+     * {@link PageObject#isEnabled()} or {@link PageObject#isVisible()} are
+     * always checked using these methods.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static boolean isObviouslyEnabledAndVisible(PageObject pageObject) {
+        Class<?> pageObjectClass = pageObject.getClass();
+        if (ReflectionUtils.isOverridden(pageObjectClass, PageObject.class, "isEnabled")
+            || ReflectionUtils.isOverridden(pageObjectClass, PageObject.class, "isVisible")) {
+            return false;
+        }
+        WebDriver webDriver = pageObject.getBrowser().getWebDriver();
+        if (!(webDriver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        try {
+            Object result = (( JavascriptExecutor ) webDriver).executeScript(ENABLED_AND_VISIBLE_SCRIPT,
+                pageObject.getWebElement());
+            return Boolean.TRUE.equals(result);
+        } catch (StaleElementReferenceException e) {
+            // the element won't be usable by the other checks either - let the action recover from it
+            throw e;
+        } catch (RuntimeException e) {
+            return false;
+        }
     }
 
     /**
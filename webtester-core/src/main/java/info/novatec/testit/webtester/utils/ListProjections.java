@@ -0,0 +1,99 @@
+package info.novatec.testit.webtester.utils;
+
+import java.util.List;
+import java.util.Map;
+
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.internal.pageobjects.LazyLoadingPageObjectList;
+import info.novatec.testit.webtester.internal.pageobjects.ListProjection;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * This class provides bulk projections of lists of {@link PageObject page
+ * objects}. The data of all page objects is gathered with a single script
+ * execution if possible. For {@link PageObjectList page object lists}
+ * injected into page objects the script also locates the elements, so no page
+ * objects are created at all. If the script can't be executed, the data is
+ * gathered from each page object instead.
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * for (Map&lt;String, String&gt; link : ListProjections.project(links, "href", "title")) {
+ *     System.out.println(link.get("title") + ": " + link.get("href"));
+ * }
+ * </pre>
+ *
+ * @since 1.2.0
+ */
+public final class ListProjections {
+
+    /**
+     * Returns the visible texts of all given page objects. Whitespace within
+     * the texts is normalized.
+     *
+     * @param pageObjects the page objects
+     * @return an immutable list of the visible texts in the order of the page
+     * objects
+     * @since 1.2.0
+     */
+    public static List<String> texts(List<? extends PageObject> pageObjects) {
+        return projectionOf(pageObjects).texts();
+    }
+
+    /**
+     * Returns the values of the given attribute of all given page objects.
+     *
+     * @param pageObjects the page objects
+     * @param attributeName the name of the attribute
+     * @return an immutable list of the values (<code>null</code> if not set)
+     * in the order of the page objects
+     * @since 1.2.0
+     */
+    public static List<String> attributes(List<? extends PageObject> pageObjects, String attributeName) {
+        return projectionOf(pageObjects).attributes(attributeName);
+    }
+
+    /**
+     * Returns whether or not each of the given page objects is visible.
+     * <p>
+     * <b>Note:</b> If the visibility is determined by a script, an element
+     * counts as visible if it takes up space and its style doesn't hide it.
+     * The opacity of the element is not taken into account. This might differ
+     * from {@link PageObject#isVisible()} which is used if the script can't be
+     * executed.
+     *
+     * @param pageObjects the page objects
+     * @return an immutable list of the visibility in the order of the page
+     * objects
+     * @since 1.2.0
+     */
+    public static List<Boolean> visibility(List<? extends PageObject> pageObjects) {
+        return projectionOf(pageObjects).visibility();
+    }
+
+    /**
+     * Returns the values of the given attributes of all given page objects.
+     *
+     * @param pageObjects the page objects
+     * @param attributeNames the names of the attributes
+     * @return an immutable list of immutable maps (attribute name to value) in
+     * the order of the page objects
+     * @since 1.2.0
+     */
+    public static List<Map<String, String>> project(List<? extends PageObject> pageObjects, String... attributeNames) {
+        return projectionOf(pageObjects).project(attributeNames);
+    }
+
+    private static ListProjection<? extends PageObject> projectionOf(List<? extends PageObject> pageObjects) {
+        if (pageObjects instanceof LazyLoadingPageObjectList) {
+            return (( LazyLoadingPageObjectList<?> ) pageObjects).projection();
+        }
+        return ListProjection.forPageObjects(pageObjects);
+    }
+
+    private ListProjections() {
+        // utility class constructor
+    }
+
+}
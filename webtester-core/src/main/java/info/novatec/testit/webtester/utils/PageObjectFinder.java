@@ -3,9 +3,11 @@ package info.novatec.testit.webtester.utils;
 import static info.novatec.testit.webtester.utils.Identifications.css;
 
 import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.pageobjects.Identification;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.internal.pageobjects.FinderCache;
 import info.novatec.testit.webtester.internal.pageobjects.PageObjectModel;
 import info.novatec.testit.webtester.pageobjects.GenericElement;
 import info.novatec.testit.webtester.pageobjects.PageObject;
@@ -20,6 +22,10 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  * Even though it is possible to initialize a finder directly, the preferred way
  * is to use {@link Browser#finder()}, {@link PageObject#finder()} or any of
  * their shorthand methods.
+ * <p>
+ * If {@link Configuration#finderCachingIsActivated() finder caching} is
+ * active, single page objects are only created once per parent,
+ * identification and class until the browser navigates to another page.
  *
  * @since 0.9.9
  */
@@ -117,6 +123,21 @@ public final class PageObjectFinder {
         return new TypedFinder<T>(pageObjectClass);
     }
 
+    private <T extends PageObject> T create(Class<T> pageObjectClass, Identification identification) {
+
+        if (!browser.getConfiguration().finderCachingIsActivated()) {
+            return pageObjectFactory.create(pageObjectClass, createModel(identification));
+        }
+
+        T pageObject = FinderCache.get(browser, parent, identification, pageObjectClass);
+        if (pageObject == null) {
+            pageObject = pageObjectFactory.create(pageObjectClass, createModel(identification));
+            FinderCache.put(browser, parent, identification, pageObjectClass, pageObject);
+        }
+        return pageObject;
+
+    }
+
     private PageObjectModel createModel(Identification identification) {
         PageObjectModel model;
         if (hasParent()) {
@@ -171,8 +192,7 @@ public final class PageObjectFinder {
          * @since 0.9.9
          */
         public <T extends PageObject> T as(Class<T> pageObjectClass) {
-            PageObjectModel model = createModel(identification);
-            return pageObjectFactory.create(pageObjectClass, model);
+            return create(pageObjectClass, identification);
         }
 
         /**
@@ -248,8 +268,7 @@ public final class PageObjectFinder {
          * @since 0.9.9
          */
         public T by(Identification identification) {
-            PageObjectModel model = createModel(identification);
-            return pageObjectFactory.create(pageObjectClass, model);
+            return create(pageObjectClass, identification);
         }
 
         /**
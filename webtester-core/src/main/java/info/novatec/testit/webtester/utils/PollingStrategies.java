@@ -0,0 +1,175 @@
+package info.novatec.testit.webtester.utils;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.enumerations.WaitPolling;
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+
+
+/**
+ * Utility class used to produce {@link PollingStrategy polling strategies} to
+ * be used by the {@link Waits} API.
+ *
+ * @since 1.2.0
+ */
+public final class PollingStrategies {
+
+    /** The shortest delay used by the strategies derived from a configuration. */
+    private static final long SHORT_INTERVAL = 10L;
+
+    /** How long {@link WaitPolling#FAST_START} polls with the shortest delay. */
+    private static final long FAST_PHASE = 500L;
+
+    /**
+     * Creates a {@link PollingStrategy polling strategy} which always waits the
+     * given number of milliseconds between two checks.
+     *
+     * @param interval the delay in milliseconds
+     * @return the new strategy
+     * @since 1.2.0
+     */
+    public static PollingStrategy fixed(long interval) {
+        return new FixedPolling(interval);
+    }
+
+    /**
+     * Creates a {@link PollingStrategy polling strategy} which starts with the
+     * given initial delay and doubles it after each check until the given
+     * maximum delay is reached.
+     *
+     * @param initialInterval the first delay in milliseconds
+     * @param maxInterval the maximum delay in milliseconds
+     * @return the new strategy
+     * @since 1.2.0
+     */
+    public static PollingStrategy exponentialBackoff(long initialInterval, long maxInterval) {
+        return exponentialBackoff(initialInterval, 2.0d, maxInterval);
+    }
+
+    /**
+     * Creates a {@link PollingStrategy polling strategy} which starts with the
+     * given initial delay and multiplies it with the given factor after each
+     * check until the given maximum delay is reached.
+     *
+     * @param initialInterval the first delay in milliseconds
+     * @param factor the factor to multiply the delay with after each check
+     * @param maxInterval the maximum delay in milliseconds
+     * @return the new strategy
+     * @since 1.2.0
+     */
+    public static PollingStrategy exponentialBackoff(long initialInterval, double factor, long maxInterval) {
+        return new ExponentialBackoffPolling(initialInterval, factor, maxInterval);
+    }
+
+    /**
+     * Creates a {@link PollingStrategy polling strategy} which polls with the
+     * given (usually very short) interval during the first milliseconds of a
+     * wait operation and delegates to the given strategy afterwards.
+     *
+     * @param fastPhase how many milliseconds the fast interval should be used
+     * @param fastInterval the delay in milliseconds during the fast phase
+     * @param then the strategy to use after the fast phase
+     * @return the new strategy
+     * @since 1.2.0
+     */
+    public static PollingStrategy fastStart(long fastPhase, long fastInterval, PollingStrategy then) {
+        return new FastStartPolling(fastPhase, fastInterval, then);
+    }
+
+    /**
+     * Creates the {@link PollingStrategy polling strategy} selected by the
+     * {@link Configuration#getWaitPolling() wait polling} setting of the given
+     * {@link Configuration configuration}, based on its
+     * {@link Configuration#getWaitInterval() wait interval}.
+     *
+     * @param configuration the configuration to use
+     * @return the new strategy
+     * @since 1.2.0
+     */
+    public static PollingStrategy forConfiguration(Configuration configuration) {
+        long interval = configuration.getWaitInterval();
+        WaitPolling polling = configuration.getWaitPolling();
+        if (polling == WaitPolling.EXPONENTIAL_BACKOFF) {
+            return exponentialBackoff(Math.min(SHORT_INTERVAL, interval), interval);
+        } else if (polling == WaitPolling.FAST_START) {
+            return fastStart(FAST_PHASE, Math.min(SHORT_INTERVAL, interval), fixed(interval));
+        }
+        return fixed(interval);
+    }
+
+    private static class FixedPolling implements PollingStrategy {
+
+        private final long interval;
+
+        FixedPolling(long interval) {
+            this.interval = Math.max(0L, interval);
+        }
+
+        @Override
+        public long getDelay(int polls, long elapsedMillis) {
+            return interval;
+        }
+
+        @Override
+        public String toString() {
+            return "fixed polling every " + interval + "ms";
+        }
+
+    }
+
+    private static class ExponentialBackoffPolling implements PollingStrategy {
+
+        private final long initialInterval;
+        private final double factor;
+        private final long maxInterval;
+
+        ExponentialBackoffPolling(long initialInterval, double factor, long maxInterval) {
+            this.initialInterval = Math.max(0L, initialInterval);
+            this.factor = factor;
+            this.maxInterval = Math.max(this.initialInterval, maxInterval);
+        }
+
+        @Override
+        public long getDelay(int polls, long elapsedMillis) {
+            double delay = initialInterval * Math.pow(factor, Math.max(0, polls - 1));
+            return delay >= maxInterval ? maxInterval : ( long ) delay;
+        }
+
+        @Override
+        public String toString() {
+            return "exponential backoff polling from " + initialInterval + "ms to " + maxInterval + "ms";
+        }
+
+    }
+
+    private static class FastStartPolling implements PollingStrategy {
+
+        private final long fastPhase;
+        private final long fastInterval;
+        private final PollingStrategy then;
+
+        FastStartPolling(long fastPhase, long fastInterval, PollingStrategy then) {
+            this.fastPhase = fastPhase;
+            this.fastInterval = Math.max(0L, fastInterval);
+            this.then = then;
+        }
+
+        @Override
+        public long getDelay(int polls, long elapsedMillis) {
+            if (elapsedMillis < fastPhase) {
+                return Math.min(fastInterval, fastPhase - elapsedMillis);
+            }
+            return then.getDelay(polls, elapsedMillis);
+        }
+
+        @Override
+        public String toString() {
+            return "fast polling every " + fastInterval + "ms for " + fastPhase + "ms, then " + then;
+        }
+
+    }
+
+    private PollingStrategies() {
+        // utility class constructor
+    }
+
+}
@@ -12,9 +12,13 @@ import com.google.common.base.Supplier;
 
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
 import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.browser.ExceptionEvent;
+import info.novatec.testit.webtester.internal.pageobjects.BrowserSideWait;
 import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.conditions.ConditionScripts;
 
 
 /**
@@ -154,23 +158,54 @@ public final class Waits {
      * <code>true</code> within the allowed time frame
      * @since 0.9.8
      */
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public static void waitUntil(long timeout, TimeUnit unit, long interval, Supplier<Boolean> condition) {
+        waitUntil(timeout, unit, PollingStrategies.fixed(interval), condition);
+    }
+
+    /**
+     * Waits until the given {@link Supplier condition} is met within the
+     * allowed time frame (timeout). ALlows for the configuration of the used
+     * {@link TimeUnit time unit} and {@link PollingStrategy polling strategy}.
+     * <p>
+     * All runtime exceptions occurring within the callback's method will be
+     * ignored until the timeout is reached. At which point the latest exception
+     * (if any) will be used as the cause of the thrown {@link TimeoutException}
+     * .
+     *
+     * @param timeout the maximum amount of time the operation is retried - the
+     * unit decides if its milliseconds, seconds or weeks
+     * @param unit the time unit to use when interpreting the timeout
+     * @param polling the strategy deciding how long to wait between two checks
+     * of the condition
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @throws TimeoutException in case the callback did not return
+     * <code>true</code> within the allowed time frame
+     * @see PollingStrategies
+     * @since 1.2.0
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public static void waitUntil(long timeout, TimeUnit unit, PollingStrategy polling, Supplier<Boolean> condition) {
 
-        long effectiveTimeout = unit.toMillis(timeout);
+        long effectiveTimeout = unit.toNanos(timeout);
         long start = now();
 
         boolean conditionMet = false;
         RuntimeException lastException = null;
+        int polls = 0;
 
         do {
             try {
                 conditionMet = condition.get();
                 logger.trace("condition '{}' met: {}", condition, conditionMet);
-                waitMilliseconds(interval);
             } catch (RuntimeException e) {
                 lastException = e;
             }
+            polls++;
+            if (!conditionMet) {
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(timeSince(start));
+                waitMilliseconds(polling.getDelay(polls, elapsedMillis));
+            }
         } while (!conditionMet && timeSince(start) < effectiveTimeout);
 
         if (!conditionMet) {
@@ -294,8 +329,8 @@ public final class Waits {
     /**
      * Waits until the given {@link Predicate condition} is met by the provided
      * {@link PageObject page object}. Allows for the configuration of the
-     * timeout's {@link TimeUnit time unit}. The check interval of the page
-     * object's browser's configuration is used.
+     * timeout's {@link TimeUnit time unit}. The check interval and polling of
+     * the page object's browser's configuration are used.
      * <p>
      * All runtime exceptions occurring within the callback's method will be
      * ignored until the timeout is reached. At which point the latest exception
@@ -316,7 +351,59 @@ public final class Waits {
      */
     public static <T extends PageObject> T waitUntil(long timeout, TimeUnit unit, T pageObject,
         Predicate<? super T> condition) {
-        return waitUntil(timeout, unit, getWaitInterval(pageObject), pageObject, condition);
+        if (pageObject.getBrowser().getConfiguration().waitInBrowserIsActivated()) {
+            return waitInBrowserUntil(timeout, unit, pageObject, condition);
+        }
+        return waitUntil(timeout, unit, getPollingStrategy(pageObject), pageObject, condition);
+    }
+
+    /**
+     * Waits until the given {@link Predicate condition} is met by the provided
+     * {@link PageObject page object}. If the condition is a
+     * {@link JavaScriptCondition} it is checked inside the browser by a single
+     * asynchronous script, which reacts to changes of the page without any
+     * additional calls to the browser. Once the browser reports the condition
+     * as met it is checked once more in Java.
+     * <p>
+     * If the condition or the page object's identification can't be evaluated
+     * inside the browser (or the script fails) the condition is polled for the
+     * remaining time using the polling of the page object's browser's
+     * configuration.
+     * <p>
+     * All runtime exceptions occurring within the callback's method will be
+     * ignored until the timeout is reached. At which point the latest exception
+     * (if any) will be used as the cause of the thrown {@link TimeoutException}
+     * .
+     *
+     * @param timeout the maximum amount of time the operation is retried - the
+     * unit decides if its milliseconds, seconds or weeks
+     * @param unit the time unit to use when interpreting the timeout
+     * @param pageObject the page object on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page object
+     * @return the page object instance from the parameters for use in fluent API calls
+     * @throws TimeoutException in case the callback did not return
+     * <code>true</code> within the allowed time frame
+     * @since 1.2.0
+     */
+    public static <T extends PageObject> T waitInBrowserUntil(long timeout, TimeUnit unit, T pageObject,
+        Predicate<? super T> condition) {
+
+        long start = now();
+
+        String script = ConditionScripts.of(condition, pageObject);
+        if (script != null) {
+            Boolean conditionMet = BrowserSideWait.waitFor(pageObject, script, unit.toMillis(timeout));
+            if (Boolean.TRUE.equals(conditionMet) && isMet(pageObject, condition)) {
+                logger.debug("condition met: {}", condition);
+                return pageObject;
+            }
+        }
+
+        long remaining = Math.max(0L, unit.toNanos(timeout) - timeSince(start));
+        return waitUntil(remaining, TimeUnit.NANOSECONDS, getPollingStrategy(pageObject), pageObject, condition);
+
     }
 
     /**
@@ -343,11 +430,42 @@ public final class Waits {
      * <code>true</code> within the allowed time frame
      * @since 0.9.8
      */
+    public static <T extends PageObject> T waitUntil(long timeout, TimeUnit unit, long interval, T pageObject,
+        Predicate<? super T> condition) {
+        return waitUntil(timeout, unit, PollingStrategies.fixed(interval), pageObject, condition);
+    }
+
+    /**
+     * Waits until the given {@link Predicate condition} is met by the given
+     * {@link PageObject page object}. Allows for the configuration of the
+     * timeout's {@link TimeUnit time unit} and {@link PollingStrategy polling
+     * strategy}.
+     * <p>
+     * All runtime exceptions occurring within the callback's method will be
+     * ignored until the timeout is reached. At which point the latest exception
+     * (if any) will be used as the cause of the thrown {@link TimeoutException}
+     * .
+     *
+     * @param timeout the maximum amount of time the operation is retried - the
+     * unit decides if its milliseconds, seconds or weeks
+     * @param unit the time unit to use when interpreting the timeout
+     * @param polling the strategy deciding how long to wait between two checks
+     * of the condition
+     * @param pageObject the page object on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page object
+     * @return the page object instance from the parameters for use in fluent API calls
+     * @throws TimeoutException in case the callback did not return
+     * <code>true</code> within the allowed time frame
+     * @see PollingStrategies
+     * @since 1.2.0
+     */
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    public static <T extends PageObject> T waitUntil(long timeout, TimeUnit unit, long interval, final T pageObject,
-        final Predicate<? super T> condition) {
+    public static <T extends PageObject> T waitUntil(long timeout, TimeUnit unit, PollingStrategy polling,
+        final T pageObject, final Predicate<? super T> condition) {
         try {
-            waitUntil(timeout, unit, interval, new Supplier<Boolean>() {
+            waitUntil(timeout, unit, polling, new Supplier<Boolean>() {
 
                 @Override
                 public Boolean get() {
@@ -367,20 +485,30 @@ public final class Waits {
         return pageObject;
     }
 
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static <T extends PageObject> boolean isMet(T pageObject, Predicate<? super T> condition) {
+        try {
+            return condition.apply(pageObject);
+        } catch (RuntimeException e) {
+            logger.trace("condition '{}' could not be confirmed: {}", condition, e);
+            return false;
+        }
+    }
+
     private static long timeSince(long start) {
         return now() - start;
     }
 
     private static long now() {
-        return System.currentTimeMillis();
+        return System.nanoTime();
     }
 
     private static int getWaitTimeout(PageObject pageObject) {
         return pageObject.getBrowser().getConfiguration().getWaitTimeout();
     }
 
-    private static long getWaitInterval(PageObject pageObject) {
-        return pageObject.getBrowser().getConfiguration().getWaitInterval();
+    private static PollingStrategy getPollingStrategy(PageObject pageObject) {
+        return PollingStrategies.forConfiguration(pageObject.getBrowser().getConfiguration());
     }
 
     private Waits() {
@@ -3,6 +3,7 @@ package info.novatec.testit.webtester.utils.conditions;
 import com.google.common.base.Objects;
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -12,7 +13,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class AttributeWithValue implements Predicate<PageObject> {
+public class AttributeWithValue implements Predicate<PageObject>, JavaScriptCondition {
 
     private String attributeName;
     private String expectedValue;
@@ -28,6 +29,12 @@ public class AttributeWithValue implements Predicate<PageObject> {
         return Objects.equal(expectedValue, actualValue);
     }
 
+    @Override
+    public String toJavaScript() {
+        return "wt.attribute(element, " + ConditionScripts.quote(attributeName) + ") === "
+            + ConditionScripts.quote(expectedValue);
+    }
+
     @Override
     public String toString() {
         return String.format("attribute '%s' with value '%s'", attributeName, expectedValue);
@@ -0,0 +1,189 @@
+package info.novatec.testit.webtester.utils.conditions;
+
+import com.google.common.base.Predicate;
+
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
+import info.novatec.testit.webtester.api.utils.LenientJavaScriptCondition;
+import info.novatec.testit.webtester.api.utils.TargetDependentJavaScriptCondition;
+import info.novatec.testit.webtester.utils.conditions.syntax.Either;
+import info.novatec.testit.webtester.utils.conditions.syntax.Has;
+import info.novatec.testit.webtester.utils.conditions.syntax.Is;
+import info.novatec.testit.webtester.utils.conditions.syntax.Not;
+
+
+/**
+ * Utility class used when creating the JavaScript equivalents of
+ * {@link JavaScriptCondition conditions}.
+ *
+ * @since 1.2.0
+ */
+public final class ConditionScripts {
+
+    /**
+     * JavaScript statement defining the <code>wt</code> helper object which
+     * is available to the expressions of all
+     * {@link JavaScriptCondition conditions}.
+     *
+     * @since 1.2.0
+     */
+    public static final String HELPERS = ""
+        + "var wt = {"
+        + "  normalize: function (text) { return String(text).replace(/[\\s\\u00a0]+/g, ' ').replace(/^ | $/g, ''); },"
+        + "  visible: function (element) {"
+        + "    if (element == null) { return false; }"
+        + "    var style = window.getComputedStyle(element);"
+        + "    return style.visibility !== 'hidden' && style.visibility !== 'collapse'"
+        + "      && (element.offsetWidth > 0 || element.offsetHeight > 0 || element.getClientRects().length > 0);"
+        + "  },"
+        + "  enabled: function (element) { return element != null && !element.disabled; },"
+        + "  visibleText: function (element) {"
+        + "    return wt.visible(element) ? wt.normalize(element.innerText || element.textContent || '') : '';"
+        + "  },"
+        + "  value: function (element) { return element == null || element.value == null ? '' : String(element.value); },"
+        + "  attribute: function (element, name) {"
+        + "    if (element == null) { return null; }"
+        + "    var property = element[name];"
+        + "    if (property != null && typeof property !== 'object' && typeof property !== 'function') {"
+        + "      return String(property);"
+        + "    }"
+        + "    return element.getAttribute(name);"
+        + "  },"
+        + "  selectedValues: function (element) {"
+        + "    var values = [], options = element && element.options ? element.options : [];"
+        + "    for (var i = 0; i < options.length; i++) { if (options[i].selected) { values.push(options[i].value); } }"
+        + "    return values;"
+        + "  }"
+        + "};";
+
+    /**
+     * Returns the JavaScript expression of the given condition. If the
+     * condition is not a {@link JavaScriptCondition} or can't be evaluated
+     * inside the browser <code>null</code> is returned.
+     *
+     * @param condition the condition
+     * @return the expression or null
+     * @since 1.2.0
+     */
+    public static String of(Predicate<?> condition) {
+        if (condition instanceof JavaScriptCondition) {
+            return (( JavaScriptCondition ) condition).toJavaScript();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the JavaScript expression of the given condition if it can be
+     * evaluated inside the browser for the given target. Conditions wrapped by
+     * {@link Is}, {@link Has}, {@link Either} or {@link Not} are checked as
+     * well. If any of them is a {@link TargetDependentJavaScriptCondition}
+     * which doesn't support the target <code>null</code> is returned.
+     *
+     * @param condition the condition
+     * @param target the object the condition is applied to
+     * @return the expression or null
+     * @since 1.2.0
+     */
+    public static String of(Predicate<?> condition, Object target) {
+        return canBeEvaluatedInBrowserFor(condition, target) ? of(condition) : null;
+    }
+
+    private static boolean canBeEvaluatedInBrowserFor(Predicate<?> condition, Object target) {
+        if (condition instanceof TargetDependentJavaScriptCondition) {
+            return (( TargetDependentJavaScriptCondition ) condition).canBeEvaluatedInBrowserFor(target);
+        }
+        if (condition instanceof Is) {
+            return canBeEvaluatedInBrowserFor((( Is<?> ) condition).getPredicate(), target);
+        }
+        if (condition instanceof Has) {
+            return canBeEvaluatedInBrowserFor((( Has<?> ) condition).getPredicate(), target);
+        }
+        if (condition instanceof Not) {
+            return canBeEvaluatedInBrowserFor((( Not<?> ) condition).getPredicate(), target);
+        }
+        if (condition instanceof Either) {
+            for (Predicate<?> predicate : (( Either<?> ) condition).getPredicates()) {
+                if (!canBeEvaluatedInBrowserFor(predicate, target)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether or not the given condition is a
+     * {@link LenientJavaScriptCondition lenient condition}. Conditions wrapped
+     * by {@link Is}, {@link Has} or {@link Either} are lenient if all wrapped
+     * conditions are lenient. Negated conditions are never lenient.
+     *
+     * @param condition the condition
+     * @return true if the condition is lenient, false otherwise
+     * @since 1.2.0
+     */
+    public static boolean isLenient(Predicate<?> condition) {
+        if (condition instanceof LenientJavaScriptCondition) {
+            return true;
+        }
+        if (condition instanceof Is) {
+            return isLenient((( Is<?> ) condition).getPredicate());
+        }
+        if (condition instanceof Has) {
+            return isLenient((( Has<?> ) condition).getPredicate());
+        }
+        if (condition instanceof Either) {
+            for (Predicate<?> predicate : (( Either<?> ) condition).getPredicates()) {
+                if (!isLenient(predicate)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the given text as a quoted JavaScript string literal. All
+     * characters which could end the literal are escaped.
+     *
+     * @param text the text to quote
+     * @return the JavaScript string literal
+     * @since 1.2.0
+     */
+    public static String quote(String text) {
+        if (text == null) {
+            return "null";
+        }
+        StringBuilder literal = new StringBuilder(text.length() + 2).append('\'');
+        for (char character : text.toCharArray()) {
+            switch (character) {
+                case '\'':
+                    literal.append("\\'");
+                    break;
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                default:
+                    if (character < ' ' || character == '\u2028' || character == '\u2029') {
+                        literal.append(String.format("\\u%04x", ( int ) character));
+                    } else {
+                        literal.append(character);
+                    }
+            }
+        }
+        return literal.append('\'').toString();
+    }
+
+    private ConditionScripts() {
+        // utility class constructor
+    }
+
+}
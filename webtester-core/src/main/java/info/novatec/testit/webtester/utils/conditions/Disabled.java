@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.utils.conditions;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -11,7 +12,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class Disabled implements Predicate<PageObject> {
+public class Disabled implements Predicate<PageObject>, JavaScriptCondition {
 
     private Enabled enabled = new Enabled();
 
@@ -20,6 +21,11 @@ public class Disabled implements Predicate<PageObject> {
         return !enabled.apply(pageObject);
     }
 
+    @Override
+    public String toJavaScript() {
+        return "element != null && !wt.enabled(element)";
+    }
+
     @Override
     public String toString() {
         return "disabled";
@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.utils.conditions;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.LenientJavaScriptCondition;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -11,7 +12,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class Interactable implements Predicate<PageObject> {
+public class Interactable implements Predicate<PageObject>, LenientJavaScriptCondition {
 
     private Enabled enabled = new Enabled();
     private Visible visible = new Visible();
@@ -29,6 +30,11 @@ public class Interactable implements Predicate<PageObject> {
         return visible.apply(pageObject);
     }
 
+    @Override
+    public String toJavaScript() {
+        return "wt.enabled(element) && wt.visible(element)";
+    }
+
     @Override
     public String toString() {
         return "interactable";
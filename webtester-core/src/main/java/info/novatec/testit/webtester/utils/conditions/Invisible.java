@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.utils.conditions;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -11,7 +12,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class Invisible implements Predicate<PageObject> {
+public class Invisible implements Predicate<PageObject>, JavaScriptCondition {
 
     private Visible visible = new Visible();
 
@@ -20,6 +21,11 @@ public class Invisible implements Predicate<PageObject> {
         return !visible.apply(pageObject);
     }
 
+    @Override
+    public String toJavaScript() {
+        return "!wt.visible(element)";
+    }
+
     @Override
     public String toString() {
         return "invisible";
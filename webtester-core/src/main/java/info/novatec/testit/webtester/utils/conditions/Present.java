@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.utils.conditions;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.LenientJavaScriptCondition;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -10,18 +11,24 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  * present. This is determined by checking if the page object's web element can
  * be found.
  * <p>
- * <b>Note:</b> This will reset the page object's cache in order to guarantee
- * the presence of the web element!
+ * <b>Note:</b> This will reset the page object's cache if the cached web
+ * element was removed from the DOM in order to guarantee the presence of the
+ * web element!
  *
  * @since 0.9.9
  */
-public class Present implements Predicate<PageObject> {
+public class Present implements Predicate<PageObject>, LenientJavaScriptCondition {
 
     @Override
     public boolean apply(PageObject pageObject) {
         return pageObject.isPresent();
     }
 
+    @Override
+    public String toJavaScript() {
+        return "element != null";
+    }
+
     @Override
     public String toString() {
         return "present";
@@ -3,6 +3,7 @@ package info.novatec.testit.webtester.utils.conditions;
 import com.google.common.base.Predicate;
 
 import info.novatec.testit.webtester.api.pageobjects.traits.Selectable;
+import info.novatec.testit.webtester.api.utils.LenientJavaScriptCondition;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -12,13 +13,18 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class Selected implements Predicate<Selectable> {
+public class Selected implements Predicate<Selectable>, LenientJavaScriptCondition {
 
     @Override
     public boolean apply(Selectable selectable) {
         return selectable.isSelected();
     }
 
+    @Override
+    public String toJavaScript() {
+        return "element != null && !!(element.selected || element.checked)";
+    }
+
     @Override
     public String toString() {
         return "selected";
@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.utils.conditions;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
 import info.novatec.testit.webtester.pageobjects.Select;
 
 
@@ -15,7 +16,7 @@ import info.novatec.testit.webtester.pageobjects.Select;
  *
  * @since 0.9.9
  */
-public class SelectedValue implements Predicate<Select> {
+public class SelectedValue implements Predicate<Select>, JavaScriptCondition {
 
     private String value;
 
@@ -28,6 +29,11 @@ public class SelectedValue implements Predicate<Select> {
         return select.getAllSelectedValues().contains(value);
     }
 
+    @Override
+    public String toJavaScript() {
+        return "element != null && wt.selectedValues(element).indexOf(" + ConditionScripts.quote(value) + ") >= 0";
+    }
+
     @Override
     public String toString() {
         return String.format("selected value: %s", value);
@@ -3,7 +3,10 @@ package info.novatec.testit.webtester.utils.conditions;
 import com.google.common.base.Predicate;
 
 import info.novatec.testit.webtester.api.pageobjects.traits.HasText;
+import info.novatec.testit.webtester.api.utils.TargetDependentJavaScriptCondition;
+import info.novatec.testit.webtester.internal.ReflectionUtils;
 import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.pageobjects.TextField;
 
 
 /**
@@ -12,7 +15,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class TextContains implements Predicate<HasText> {
+public class TextContains implements Predicate<HasText>, TargetDependentJavaScriptCondition {
 
     private String partialText;
 
@@ -25,6 +28,22 @@ public class TextContains implements Predicate<HasText> {
         return hasText.getText().contains(partialText);
     }
 
+    /**
+     * The expression compares the value of the element, which is only the
+     * text of {@link TextField text fields} not overriding
+     * {@link TextField#getText()}.
+     */
+    @Override
+    public boolean canBeEvaluatedInBrowserFor(Object target) {
+        return target instanceof TextField
+            && !ReflectionUtils.isOverridden(target.getClass(), TextField.class, "getText");
+    }
+
+    @Override
+    public String toJavaScript() {
+        return "element != null && wt.value(element).indexOf(" + ConditionScripts.quote(partialText) + ") >= 0";
+    }
+
     @Override
     public String toString() {
         return String.format("text contains: %s", partialText);
@@ -3,8 +3,11 @@ package info.novatec.testit.webtester.utils.conditions;
 import com.google.common.base.Predicate;
 
 import info.novatec.testit.webtester.api.pageobjects.traits.HasText;
+import info.novatec.testit.webtester.api.utils.TargetDependentJavaScriptCondition;
+import info.novatec.testit.webtester.internal.ReflectionUtils;
 import info.novatec.testit.webtester.internal.Objects;
 import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.pageobjects.TextField;
 
 
 /**
@@ -13,7 +16,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class TextEquals implements Predicate<HasText> {
+public class TextEquals implements Predicate<HasText>, TargetDependentJavaScriptCondition {
 
     private String text;
 
@@ -26,6 +29,22 @@ public class TextEquals implements Predicate<HasText> {
         return Objects.equals(text, hasText.getText());
     }
 
+    /**
+     * The expression compares the value of the element, which is only the
+     * text of {@link TextField text fields} not overriding
+     * {@link TextField#getText()}.
+     */
+    @Override
+    public boolean canBeEvaluatedInBrowserFor(Object target) {
+        return target instanceof TextField
+            && !ReflectionUtils.isOverridden(target.getClass(), TextField.class, "getText");
+    }
+
+    @Override
+    public String toJavaScript() {
+        return "element != null && wt.value(element) === " + ConditionScripts.quote(text);
+    }
+
     @Override
     public String toString() {
         return String.format("text equals: %s", text);
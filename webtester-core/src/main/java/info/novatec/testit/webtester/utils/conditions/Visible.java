@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.utils.conditions;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.LenientJavaScriptCondition;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -11,13 +12,18 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class Visible implements Predicate<PageObject> {
+public class Visible implements Predicate<PageObject>, LenientJavaScriptCondition {
 
     @Override
     public boolean apply(PageObject pageObject) {
         return pageObject.isVisible();
     }
 
+    @Override
+    public String toJavaScript() {
+        return "wt.visible(element)";
+    }
+
     @Override
     public String toString() {
         return "visible";
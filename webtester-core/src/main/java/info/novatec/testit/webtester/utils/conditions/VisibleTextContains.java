@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.utils.conditions;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -11,7 +12,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class VisibleTextContains implements Predicate<PageObject> {
+public class VisibleTextContains implements Predicate<PageObject>, JavaScriptCondition {
 
     private String partialText;
 
@@ -24,6 +25,11 @@ public class VisibleTextContains implements Predicate<PageObject> {
         return pageObject.getVisibleText().contains(partialText);
     }
 
+    @Override
+    public String toJavaScript() {
+        return "element != null && wt.visibleText(element).indexOf(wt.normalize(" + ConditionScripts.quote(partialText) + ")) >= 0";
+    }
+
     @Override
     public String toString() {
         return String.format("visible text contains: %s", partialText);
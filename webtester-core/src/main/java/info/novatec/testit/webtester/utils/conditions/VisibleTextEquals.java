@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.utils.conditions;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
 import info.novatec.testit.webtester.internal.Objects;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
@@ -12,7 +13,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class VisibleTextEquals implements Predicate<PageObject> {
+public class VisibleTextEquals implements Predicate<PageObject>, JavaScriptCondition {
 
     private String text;
 
@@ -25,6 +26,11 @@ public class VisibleTextEquals implements Predicate<PageObject> {
         return Objects.equals(text, pageObject.getVisibleText());
     }
 
+    @Override
+    public String toJavaScript() {
+        return "element != null && wt.visibleText(element) === wt.normalize(" + ConditionScripts.quote(text) + ")";
+    }
+
     @Override
     public String toString() {
         return String.format("visible text equals: %s", text);
@@ -1,12 +1,17 @@
 package info.novatec.testit.webtester.utils.conditions.syntax;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.lang.StringUtils;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
+import info.novatec.testit.webtester.utils.conditions.ConditionScripts;
+
 
 /**
  * Predicate which returns the result of any number of OR evaluated predicates.
@@ -19,7 +24,7 @@ import com.google.common.base.Predicate;
  * @param <T> type of the wrapped predicate
  * @since 0.9.9
  */
-public class Either<T> implements Predicate<T> {
+public class Either<T> implements Predicate<T>, JavaScriptCondition {
 
     private List<Predicate<T>> predicates;
 
@@ -38,6 +43,29 @@ public class Either<T> implements Predicate<T> {
         return false;
     }
 
+    /**
+     * Returns the OR evaluated predicates.
+     *
+     * @return an unmodifiable list of the predicates
+     * @since 1.2.0
+     */
+    public List<Predicate<T>> getPredicates() {
+        return Collections.unmodifiableList(predicates);
+    }
+
+    @Override
+    public String toJavaScript() {
+        List<String> scripts = new ArrayList<String>(predicates.size());
+        for (Predicate<T> predicate : predicates) {
+            String script = ConditionScripts.of(predicate);
+            if (script == null) {
+                return null;
+            }
+            scripts.add('(' + script + ')');
+        }
+        return scripts.isEmpty() ? "false" : StringUtils.join(scripts, " || ");
+    }
+
     @Override
     public String toString() {
         return "either(" + StringUtils.join(predicates, ", ") + ')';
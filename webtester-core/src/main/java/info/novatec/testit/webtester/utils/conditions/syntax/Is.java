@@ -2,6 +2,9 @@ package info.novatec.testit.webtester.utils.conditions.syntax;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
+import info.novatec.testit.webtester.utils.conditions.ConditionScripts;
+
 
 /**
  * Predicate which returns the result of another predicate. This is intended to
@@ -13,7 +16,7 @@ import com.google.common.base.Predicate;
  * @param <T> type of the wrapped predicate
  * @since 0.9.9
  */
-public class Is<T> implements Predicate<T> {
+public class Is<T> implements Predicate<T>, JavaScriptCondition {
 
     private Predicate<T> predicate;
 
@@ -26,6 +29,21 @@ public class Is<T> implements Predicate<T> {
         return predicate.apply(pageObject);
     }
 
+    /**
+     * Returns the wrapped predicate.
+     *
+     * @return the wrapped predicate
+     * @since 1.2.0
+     */
+    public Predicate<T> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public String toJavaScript() {
+        return ConditionScripts.of(predicate);
+    }
+
     @Override
     public String toString() {
         return "is(" + predicate + ')';
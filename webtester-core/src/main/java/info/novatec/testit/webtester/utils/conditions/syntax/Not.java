@@ -2,6 +2,9 @@ package info.novatec.testit.webtester.utils.conditions.syntax;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.JavaScriptCondition;
+import info.novatec.testit.webtester.utils.conditions.ConditionScripts;
+
 
 /**
  * Predicate which returns the <b>negated</b> result of another predicate. This
@@ -12,7 +15,7 @@ import com.google.common.base.Predicate;
  * @param <T> type of the wrapped predicate
  * @since 0.9.9
  */
-public class Not<T> implements Predicate<T> {
+public class Not<T> implements Predicate<T>, JavaScriptCondition {
 
     private Predicate<T> predicate;
 
@@ -25,6 +28,22 @@ public class Not<T> implements Predicate<T> {
         return !predicate.apply(pageObject);
     }
 
+    /**
+     * Returns the negated predicate.
+     *
+     * @return the negated predicate
+     * @since 1.2.0
+     */
+    public Predicate<T> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public String toJavaScript() {
+        String script = ConditionScripts.of(predicate);
+        return script != null ? "!(" + script + ')' : null;
+    }
+
     @Override
     public String toString() {
         return "not(" + predicate + ')';
@@ -50,6 +50,7 @@ public abstract class AbstractPageObjectTest {
         doReturn(new BrowserIdentification()).when(browser).getIdentification();
 
         doReturn(configuration).when(browser).getConfiguration();
+        doReturn(true).when(configuration).eventStateCaptureIsActivated();
 
         doReturn(webElement).when(webDriver).findElement(Mockito.any(By.class));
 
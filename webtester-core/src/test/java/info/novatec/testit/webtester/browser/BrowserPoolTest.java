@@ -0,0 +1,163 @@
+package info.novatec.testit.webtester.browser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.events.EventListener;
+import info.novatec.testit.webtester.api.exceptions.BrowserPoolException;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+
+
+public class BrowserPoolTest {
+
+    BrowserPool cut = new BrowserPool(2, 1, 0, TimeUnit.MINUTES);
+
+    @After
+    public void closePool() {
+        cut.close();
+    }
+
+    @Test
+    public void testThatReleasedBrowsersAreResetAndReused() {
+
+        Browser browser = cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        cut.release(browser);
+        Browser reusedBrowser = cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+
+        assertThat(reusedBrowser, is(sameInstance(browser)));
+        verify(browser.getWebDriver().manage()).deleteAllCookies();
+        verify(browser.getWebDriver()).get("about:blank");
+        verify(browser, never()).open(anyString());
+        verify(browser, never()).close();
+        assertThat(cut.getMetrics().getCreated(), is(1L));
+        assertThat(cut.getMetrics().getReused(), is(1L));
+
+    }
+
+    @Test
+    public void testThatEventListenersAreRemovedOnRelease() {
+
+        Browser browser = cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        EventSystem.getEventBus(browser).registerListener(mock(EventListener.class));
+        cut.release(browser);
+
+        assertThat(EventSystem.getEventBus(browser).getListeners(), is(empty()));
+
+    }
+
+    @Test
+    public void testThatStorageIsClearedAndScriptTimeoutIsResetOnRelease() {
+
+        Browser browser = cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        Configuration configuration = browser.getConfiguration();
+        doReturn(5000L).when(configuration).getWaitInBrowserScriptTimeout();
+        cut.release(browser);
+
+        WebDriver webDriver = browser.getWebDriver();
+        verify(( JavascriptExecutor ) webDriver).executeAsyncScript(anyString());
+        verify(webDriver.manage().timeouts()).setScriptTimeout(5000L, TimeUnit.MILLISECONDS);
+
+    }
+
+    @Test
+    public void testThatBrowsersWhichCantBeResetAreClosed() {
+
+        Browser browser = cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        WebDriver webDriver = browser.getWebDriver();
+        doThrow(new WebDriverException()).when(webDriver).get("about:blank");
+        cut.release(browser);
+
+        verify(browser).close();
+        assertThat(cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class), is(not(sameInstance(browser))));
+        assertThat(cut.getMetrics().getDiscarded(), is(1L));
+
+    }
+
+    @Test
+    public void testThatUnhealthyBrowsersAreNotLeasedAgain() {
+
+        Browser browser = cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        cut.release(browser);
+        WebDriver webDriver = browser.getWebDriver();
+        doThrow(new WebDriverException()).when(webDriver).getWindowHandles();
+
+        Browser newBrowser = cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+
+        assertThat(newBrowser, is(not(sameInstance(browser))));
+        verify(browser).close();
+
+    }
+
+    @Test
+    public void testThatIdleBrowsersAreEvictedAfterMaxIdleTime() {
+
+        BrowserPool pool = new BrowserPool(2, 0, 0, TimeUnit.MINUTES);
+        Browser browser = pool.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        pool.release(browser);
+        pool.evictIdleBrowsers();
+
+        verify(browser).close();
+        assertThat(pool.getMetrics().getSize(), is(0));
+        assertThat(pool.getMetrics().getEvicted(), is(1L));
+
+    }
+
+    @Test
+    public void testThatIdleBrowsersOfOtherFactoriesAreEvictedIfPoolIsFull() {
+
+        Browser browser1 = cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        Browser browser2 = cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        cut.release(browser1);
+
+        cut.lease(MockBrowserFactory.class, null);
+
+        verify(browser1).close();
+        verify(browser2, never()).close();
+        assertThat(cut.getMetrics().getSize(), is(2));
+
+    }
+
+    @Test(expected = BrowserPoolException.class)
+    public void testThatLeasingFromExhaustedPoolFailsAfterTimeout() {
+        cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatBrowsersWhichWereNotLeasedCantBeReleased() {
+        cut.release(mock(Browser.class));
+    }
+
+    @Test
+    public void testThatLeasedBrowsersAreClosedOnReleaseIfPoolWasClosed() {
+
+        Browser browser = cut.lease(MockBrowserFactory.class, NoProxyConfiguration.class);
+        cut.close();
+        cut.release(browser);
+
+        verify(browser).close();
+        verify(browser.getWebDriver(), never()).get("about:blank");
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package info.novatec.testit.webtester.browser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.openqa.selenium.WebDriverException;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserBuilder;
+import info.novatec.testit.webtester.api.browser.BrowserFactory;
+
+
+public class BrowserProvisioningTest {
+
+    BrowserFactory factory = mock(BrowserFactory.class);
+    BrowserBuilder builder = mock(BrowserBuilder.class);
+    Browser browser = mock(Browser.class);
+
+    @Test
+    public void testThatBrowsersCanBeCreatedInTheBackground() throws Exception {
+        doReturn(browser).when(factory).createBrowser();
+        Future<Browser> future = BrowserProvisioning.createBrowser(factory);
+        assertThat(future.get(), is(sameInstance(browser)));
+    }
+
+    @Test
+    public void testThatBrowsersCanBeBuiltInTheBackground() throws Exception {
+        doReturn(browser).when(builder).build();
+        Future<Browser> future = BrowserProvisioning.build(builder);
+        assertThat(future.get(), is(sameInstance(browser)));
+    }
+
+    @Test
+    public void testThatExceptionsAreReportedByTheFuture() throws Exception {
+        doThrow(new WebDriverException()).when(factory).createBrowser();
+        Future<Browser> future = BrowserProvisioning.createBrowser(factory);
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(WebDriverException.class)));
+            return;
+        }
+        throw new AssertionError("exception was not reported");
+    }
+
+}
@@ -0,0 +1,53 @@
+package info.novatec.testit.webtester.browser;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Collections;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserFactory;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
+import info.novatec.testit.webtester.api.browser.ProxyConfiguration;
+import info.novatec.testit.webtester.api.config.Configuration;
+
+
+/**
+ * Creates mocked browsers for mocked web drivers with a single open window.
+ */
+public class MockBrowserFactory implements BrowserFactory {
+
+    @Override
+    public Browser createBrowser() {
+        WebDriver webDriver =
+            mock(WebDriver.class, withSettings().defaultAnswer(RETURNS_DEEP_STUBS).extraInterfaces(JavascriptExecutor.class));
+        doReturn(Collections.singleton("window")).when(webDriver).getWindowHandles();
+        Browser browser = mock(Browser.class);
+        doReturn(webDriver).when(browser).getWebDriver();
+        doReturn(new BrowserIdentification()).when(browser).getIdentification();
+        doReturn(mock(Configuration.class)).when(browser).getConfiguration();
+        return browser;
+    }
+
+    @Override
+    public Browser createBrowser(WebDriver webDriver) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Browser createBrowser(DesiredCapabilities capabilities) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public BrowserFactory withProxyConfiguration(ProxyConfiguration configuration) {
+        return this;
+    }
+
+}
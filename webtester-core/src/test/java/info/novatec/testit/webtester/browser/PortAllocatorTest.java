@@ -0,0 +1,78 @@
+package info.novatec.testit.webtester.browser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+
+public class PortAllocatorTest {
+
+    @Test
+    public void testThatAllocatedPortsAreNotHandedOutAgain() {
+
+        int port1 = PortAllocator.allocate();
+        int port2 = PortAllocator.allocate();
+
+        try {
+            assertThat(port1, is(not(port2)));
+            assertThat(PortAllocator.isAllocated(port1), is(true));
+            assertThat(PortAllocator.isAllocated(port2), is(true));
+        } finally {
+            PortAllocator.release(port1);
+            PortAllocator.release(port2);
+        }
+
+    }
+
+    @Test
+    public void testThatReleasedPortsAreNoLongerAllocated() {
+        int port = PortAllocator.allocate();
+        PortAllocator.release(port);
+        assertThat(PortAllocator.isAllocated(port), is(false));
+    }
+
+    @Test
+    public void testThatPortsAllocatedInParallelAreUnique() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Integer> ports = Collections.synchronizedList(new ArrayList<Integer>());
+        try {
+
+            List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(new Callable<Integer>() {
+
+                    @Override
+                    public Integer call() {
+                        return PortAllocator.allocate();
+                    }
+
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                ports.add(future.get());
+            }
+
+            assertThat(new HashSet<Integer>(ports).size(), is(32));
+
+        } finally {
+            executor.shutdownNow();
+            for (Integer port : ports) {
+                PortAllocator.release(port);
+            }
+        }
+
+    }
+
+}
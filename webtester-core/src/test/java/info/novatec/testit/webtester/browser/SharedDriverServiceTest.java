@@ -0,0 +1,183 @@
+package info.novatec.testit.webtester.browser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+import info.novatec.testit.webtester.api.exceptions.DriverServiceException;
+
+
+public class SharedDriverServiceTest {
+
+    DriverService.Builder<DriverService, ?> builder = mockBuilder();
+    DriverService service = mock(DriverService.class);
+    DriverService restartedService = mock(DriverService.class);
+
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    SessionCountingService cut = new SessionCountingService();
+
+    @Before
+    public void setUp() throws IOException {
+        when(builder.build()).thenReturn(service, restartedService);
+        doReturn(new URL("http://localhost:1234")).when(service).getUrl();
+        doReturn(new URL("http://localhost:5678")).when(restartedService).getUrl();
+        doReturn(true).when(service).isRunning();
+        doReturn(true).when(restartedService).isRunning();
+    }
+
+    @After
+    public void stopService() {
+        cut.stop();
+    }
+
+    @Test
+    public void testThatServiceIsStartedOnceForManySessions() throws IOException {
+
+        cut.startSession(new DesiredCapabilities());
+        cut.startSession(new DesiredCapabilities());
+
+        verify(service).start();
+        verify(builder, times(1)).build();
+        assertThat(cut.sessions, is(2));
+
+    }
+
+    @Test
+    public void testThatServiceIsStartedOnAllocatedPort() {
+
+        cut.getService();
+
+        ArgumentCaptor<Integer> port = ArgumentCaptor.forClass(Integer.class);
+        verify(builder).usingPort(port.capture());
+        assertThat(PortAllocator.isAllocated(port.getValue()), is(true));
+
+        cut.stop();
+        assertThat(PortAllocator.isAllocated(port.getValue()), is(false));
+
+    }
+
+    @Test
+    public void testThatCrashedServiceIsRestarted() throws IOException {
+
+        cut.getService();
+        doReturn(false).when(service).isRunning();
+
+        DriverService current = cut.getService();
+
+        assertThat(current, is(sameInstance(restartedService)));
+        verify(service).stop();
+        verify(restartedService).start();
+        assertThat(cut.getRestarts(), is(1));
+
+    }
+
+    @Test
+    public void testThatSessionIsRetriedIfServiceCrashedDuringCreation() throws IOException {
+
+        cut.failures = 1;
+        cut.crashOnFailure = true;
+
+        RemoteWebDriver session = cut.startSession(new DesiredCapabilities());
+
+        assertThat(session, is(sameInstance(webDriver)));
+        assertThat(cut.lastUrl, is(new URL("http://localhost:5678")));
+        assertThat(cut.getRestarts(), is(1));
+
+    }
+
+    @Test(expected = WebDriverException.class)
+    public void testThatSessionIsNotRetriedIfServiceIsStillRunning() {
+        cut.failures = 1;
+        cut.startSession(new DesiredCapabilities());
+    }
+
+    @Test
+    public void testThatStoppedServiceIsStartedAgainOnDemand() throws IOException {
+
+        cut.getService();
+        cut.stop();
+        DriverService current = cut.getService();
+
+        assertThat(current, is(sameInstance(restartedService)));
+        verify(service).stop();
+        assertThat(cut.getRestarts(), is(0));
+
+    }
+
+    @Test(expected = DriverServiceException.class)
+    public void testThatFailingServiceStartIsReported() throws IOException {
+        doThrow(new IOException()).when(service).start();
+        cut.getService();
+    }
+
+    @Test
+    public void testThatPortIsReleasedIfServiceStartFails() throws IOException {
+
+        doThrow(new IOException()).when(service).start();
+        try {
+            cut.getService();
+        } catch (DriverServiceException e) {
+            // expected
+        }
+
+        ArgumentCaptor<Integer> port = ArgumentCaptor.forClass(Integer.class);
+        verify(builder).usingPort(port.capture());
+        assertThat(PortAllocator.isAllocated(port.getValue()), is(false));
+
+    }
+
+    @SuppressWarnings("unchecked")
+    static DriverService.Builder<DriverService, ?> mockBuilder() {
+        DriverService.Builder<DriverService, ?> builder = mock(DriverService.Builder.class);
+        doReturn(builder).when(builder).usingPort(anyInt());
+        return builder;
+    }
+
+    class SessionCountingService extends SharedDriverService<DriverService> {
+
+        int sessions;
+        int failures;
+        boolean crashOnFailure;
+        URL lastUrl;
+
+        SessionCountingService() {
+            super(builder);
+        }
+
+        @Override
+        protected RemoteWebDriver newSession(URL url, Capabilities capabilities) {
+            lastUrl = url;
+            if (failures > 0) {
+                failures--;
+                if (crashOnFailure) {
+                    doReturn(false).when(service).isRunning();
+                }
+                throw new WebDriverException();
+            }
+            sessions++;
+            return webDriver;
+        }
+
+    }
+
+}
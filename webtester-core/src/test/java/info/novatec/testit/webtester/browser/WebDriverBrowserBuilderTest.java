@@ -2,6 +2,8 @@ package info.novatec.testit.webtester.browser;
 
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
@@ -15,6 +17,8 @@ import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
 import info.novatec.testit.webtester.config.BaseConfiguration;
+import info.novatec.testit.webtester.eventsystem.EventBus;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.internal.pageobjects.DefaultPageObjectFactory;
 
 
@@ -50,6 +54,22 @@ public class WebDriverBrowserBuilderTest {
         assertThat(browser.getPageObjectFactory(), is(sameInstance(factory)));
     }
 
+    @Test
+    public void testThatEachBrowserGetsItsOwnEventBusByDefault() {
+        WebDriverBrowserBuilder builder = new WebDriverBrowserBuilder(webDriver);
+        Browser browser1 = builder.build();
+        Browser browser2 = builder.build();
+        assertThat(EventSystem.getEventBus(browser1), is(notNullValue()));
+        assertThat(EventSystem.getEventBus(browser1), is(not(sameInstance(EventSystem.getEventBus(browser2)))));
+    }
+
+    @Test
+    public void testThatEventBusToBeUsedCanBeSet() {
+        EventBus eventBus = new EventBus();
+        Browser browser = new WebDriverBrowserBuilder(webDriver).withEventBus(eventBus).build();
+        assertThat(EventSystem.getEventBus(browser), is(sameInstance(eventBus)));
+    }
+
     /* utilities */
 
     private void assertThatDefaultConfigurationWasSet(Browser browser) {
@@ -0,0 +1,242 @@
+package info.novatec.testit.webtester.eventsystem;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.google.common.base.Supplier;
+
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
+import info.novatec.testit.webtester.eventsystem.AsynchronousEventDispatcher.BackPressurePolicy;
+import info.novatec.testit.webtester.eventsystem.events.pageobject.TextSetEvent;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+public class AsynchronousEventDispatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 5L;
+
+    Event event1 = Mockito.mock(Event.class);
+    Event event2 = Mockito.mock(Event.class);
+    Event event3 = Mockito.mock(Event.class);
+    Event event4 = Mockito.mock(Event.class);
+
+    CountDownLatch blockingEventReached = new CountDownLatch(1);
+    CountDownLatch releaseBlockingEvent = new CountDownLatch(1);
+    RecordingListener listener = new RecordingListener();
+
+    AsynchronousEventDispatcher cut;
+
+    @After
+    public void shutdownDispatcher() {
+        releaseBlockingEvent.countDown();
+        if (cut != null) {
+            cut.shutdown();
+        }
+    }
+
+    @Test
+    public void testThatEventsAreDeliveredInOrderOfDispatching() {
+
+        cut = new AsynchronousEventDispatcher(10, BackPressurePolicy.BLOCK);
+        dispatch(event1, event2, event3);
+        cut.flush();
+
+        assertThat(listener.events, contains(event1, event2, event3));
+
+    }
+
+    @Test
+    public void testThatDispatchingDoesNotWaitForListeners() throws InterruptedException {
+
+        cut = new AsynchronousEventDispatcher(10, BackPressurePolicy.BLOCK);
+        listener.blockOn = event1;
+        dispatch(event1, event2);
+
+        assertThat(blockingEventReached.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+        assertThat(listener.events, is(empty()));
+
+        releaseBlockingEvent.countDown();
+        cut.flush();
+        assertThat(listener.events, contains(event1, event2));
+
+    }
+
+    @Test
+    public void testThatNewestEventsAreDroppedIfBufferIsFull_DropNewest() throws InterruptedException {
+
+        cut = new AsynchronousEventDispatcher(2, BackPressurePolicy.DROP_NEWEST);
+        listener.blockOn = event1;
+        dispatch(event1);
+        blockingEventReached.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        dispatch(event2, event3, event4);
+
+        releaseBlockingEvent.countDown();
+        cut.flush();
+        assertThat(listener.events, contains(event1, event2, event3));
+
+    }
+
+    @Test
+    public void testThatOldestEventsAreDroppedIfBufferIsFull_DropOldest() throws InterruptedException {
+
+        cut = new AsynchronousEventDispatcher(2, BackPressurePolicy.DROP_OLDEST);
+        listener.blockOn = event1;
+        dispatch(event1);
+        blockingEventReached.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        dispatch(event2, event3, event4);
+
+        releaseBlockingEvent.countDown();
+        cut.flush();
+        assertThat(listener.events, contains(event1, event3, event4));
+
+    }
+
+    @Test
+    public void testThatEventsAreDeliveredSynchronouslyAfterShutdown() {
+
+        cut = new AsynchronousEventDispatcher(10, BackPressurePolicy.BLOCK);
+        cut.shutdown();
+        dispatch(event1);
+
+        assertThat(listener.events, contains(event1));
+
+    }
+
+    @Test
+    public void testThatErrorsOfListenersDoNotStopDelivery() {
+
+        cut = new AsynchronousEventDispatcher(10, BackPressurePolicy.BLOCK);
+        listener.failOn = event1;
+        dispatch(event1, event2);
+        cut.flush();
+
+        assertThat(listener.events, contains(event2));
+        dispatch(event3);
+        cut.flush();
+        assertThat(listener.events, contains(event2, event3));
+
+    }
+
+    @Test
+    public void testThatShutdownDoesNotInterruptDeliveryOfEvent() throws InterruptedException {
+
+        cut = new AsynchronousEventDispatcher(10, BackPressurePolicy.BLOCK);
+        listener.blockOn = event1;
+        dispatch(event1);
+        blockingEventReached.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        Thread shutdownThread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                cut.shutdown();
+            }
+
+        });
+        shutdownThread.start();
+        releaseBlockingEvent.countDown();
+        shutdownThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        assertThat(listener.events, contains(event1));
+        assertThat(listener.interrupted, is(false));
+
+    }
+
+    @Test
+    public void testThatLazyValuesAreResolvedByTheFiringThread() {
+
+        final List<Thread> resolvingThreads = new CopyOnWriteArrayList<Thread>();
+        Supplier<String> textSupplier = new Supplier<String>() {
+
+            @Override
+            public String get() {
+                resolvingThreads.add(Thread.currentThread());
+                return "after";
+            }
+
+        };
+        PageObject pageObject = Mockito.mock(PageObject.class, Mockito.RETURNS_DEEP_STUBS);
+        TextSetEvent lazyEvent = TextSetEvent.withLazyAfter(pageObject, "before", textSupplier, "after");
+
+        cut = new AsynchronousEventDispatcher(10, BackPressurePolicy.BLOCK);
+        listener.blockOn = event1;
+        dispatch(event1);
+        dispatch(lazyEvent);
+
+        assertThat(resolvingThreads, contains(Thread.currentThread()));
+
+        releaseBlockingEvent.countDown();
+        cut.flush();
+        assertThat(listener.events, contains(event1, lazyEvent));
+        assertThat(lazyEvent.getAfter(), is("after"));
+        assertThat(resolvingThreads, contains(Thread.currentThread()));
+
+    }
+
+    @Test
+    public void testThatEventSystemCanUseAsynchronousDispatcher() {
+
+        cut = new AsynchronousEventDispatcher(10, BackPressurePolicy.BLOCK);
+        EventSystem.setDispatcher(cut);
+        EventSystem.registerListener(listener);
+        try {
+            EventSystem.fireEvent(event1);
+            EventSystem.fireEvent(event2);
+            EventSystem.flush();
+            assertThat(listener.events, contains(event1, event2));
+        } finally {
+            EventSystem.deregisterListener(listener);
+            EventSystem.setDispatcher(new SynchronousEventDispatcher());
+        }
+
+    }
+
+    /* utilities */
+
+    private void dispatch(Event... events) {
+        List<EventListener> listeners = Collections.<EventListener> singletonList(listener);
+        for (Event event : events) {
+            cut.dispatch(event, listeners);
+        }
+    }
+
+    private class RecordingListener implements EventListener {
+
+        private final List<Event> events = new CopyOnWriteArrayList<Event>();
+        private volatile Event blockOn;
+        private volatile Event failOn;
+        private volatile boolean interrupted;
+
+        @Override
+        public void eventOccurred(Event event) {
+            if (event == failOn) {
+                throw new AssertionError("listener failed");
+            }
+            if (event == blockOn) {
+                blockingEventReached.countDown();
+                try {
+                    releaseBlockingEvent.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(event);
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package info.novatec.testit.webtester.eventsystem;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.annotations.ListensTo;
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
+import info.novatec.testit.webtester.eventsystem.events.browser.AbstractBrowserEvent;
+import info.novatec.testit.webtester.eventsystem.events.browser.ExceptionEvent;
+import info.novatec.testit.webtester.eventsystem.events.browser.RefreshedPageEvent;
+
+
+public class EventBusTest {
+
+    EventListener listener1 = mock(EventListener.class);
+    EventListener listener2 = mock(EventListener.class);
+    ExceptionListener exceptionListener = new ExceptionListener();
+
+    EventBus cut = new EventBus();
+
+    @Test
+    public void testThatListenersWithoutSubscriptionAreInterestedInAllEvents() {
+        cut.registerListener(listener1);
+        assertThat(cut.getListenersFor(ExceptionEvent.class), contains(listener1));
+        assertThat(cut.getListenersFor(RefreshedPageEvent.class), contains(listener1));
+    }
+
+    @Test
+    public void testThatListenersCanBeRegisteredForSpecificEventTypes() {
+        cut.registerListener(ExceptionEvent.class, listener1);
+        assertThat(cut.getListenersFor(ExceptionEvent.class), contains(listener1));
+        assertThat(cut.getListenersFor(RefreshedPageEvent.class), is(empty()));
+    }
+
+    @Test
+    public void testThatListenersRegisteredForSuperTypesAreInformedOfSubTypes() {
+        cut.registerListener(AbstractBrowserEvent.class, listener1);
+        assertThat(cut.getListenersFor(RefreshedPageEvent.class), contains(listener1));
+        assertThat(cut.getListenersFor(ExceptionEvent.class), is(empty()));
+    }
+
+    @Test
+    public void testThatAnnotatedListenersAreOnlyInterestedInDeclaredEventTypes() {
+        cut.registerListener(exceptionListener);
+        assertThat(cut.getListenersFor(ExceptionEvent.class), contains(( EventListener ) exceptionListener));
+        assertThat(cut.hasListenersFor(RefreshedPageEvent.class), is(false));
+    }
+
+    @Test
+    public void testThatListenersAreResolvedInOrderOfRegistration() {
+        cut.registerListener(ExceptionEvent.class, listener2);
+        cut.registerListener(listener1);
+        assertThat(cut.getListenersFor(ExceptionEvent.class), contains(listener2, listener1));
+    }
+
+    @Test
+    public void testThatDispatchTableIsUpdatedWhenListenersAreRegistered() {
+        assertThat(cut.hasListenersFor(ExceptionEvent.class), is(false));
+        cut.registerListener(ExceptionEvent.class, listener1);
+        assertThat(cut.hasListenersFor(ExceptionEvent.class), is(true));
+    }
+
+    @Test
+    public void testThatDeregisteringRemovesAllSubscriptionsOfAListener() {
+        cut.registerListener(ExceptionEvent.class, listener1);
+        cut.registerListener(RefreshedPageEvent.class, listener1);
+        cut.registerListener(listener2);
+        cut.deregisterListener(listener1);
+        assertThat(cut.getListenersFor(ExceptionEvent.class), contains(listener2));
+        assertThat(cut.getListenersFor(RefreshedPageEvent.class), contains(listener2));
+    }
+
+    @Test
+    public void testThatClearingRemovesAllListeners() {
+        cut.registerListener(listener1);
+        cut.registerListener(exceptionListener);
+        cut.clearListeners();
+        assertThat(cut.getListeners(), is(empty()));
+        assertThat(cut.hasListenersFor(ExceptionEvent.class), is(false));
+    }
+
+    @ListensTo(ExceptionEvent.class)
+    static class ExceptionListener implements EventListener {
+
+        @Override
+        public void eventOccurred(Event event) {
+            // not called
+        }
+
+    }
+
+}
@@ -6,6 +6,8 @@ import static info.novatec.testit.webtester.eventsystem.EventSystem.fireEvent;
 import static info.novatec.testit.webtester.eventsystem.EventSystem.registerListener;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -26,9 +28,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
 import info.novatec.testit.webtester.api.events.Event;
 import info.novatec.testit.webtester.api.events.EventListener;
 import info.novatec.testit.webtester.browser.WebDriverBrowser;
+import info.novatec.testit.webtester.eventsystem.events.LazyEvent;
 import info.novatec.testit.webtester.eventsystem.events.browser.RefreshedPageEvent;
 
 
@@ -45,6 +49,11 @@ public class EventSystemTest {
     private EventListener listener2;
     @Mock
     private Event event;
+    @Mock
+    private Event otherEvent;
+
+    private BrowserIdentification browserId = new BrowserIdentification();
+    private BrowserIdentification otherBrowserId = new BrowserIdentification();
 
     private boolean exceptionOccured;
 
@@ -52,6 +61,8 @@ public class EventSystemTest {
     @After
     public void clearRegistry() {
         EventSystem.clearListeners();
+        EventSystem.deregisterEventBus(browserId);
+        EventSystem.deregisterEventBus(otherBrowserId);
     }
 
     @Test
@@ -84,6 +95,20 @@ public class EventSystemTest {
 
     }
 
+    @Test
+    public void testThatLazyValuesOfEventsAreResolvedAfterSynchronousDispatch() {
+
+        LazyEvent lazyEvent = mock(LazyEvent.class);
+
+        registerListener(listener1);
+        fireEvent(lazyEvent);
+
+        InOrder inOrder = inOrder(listener1, lazyEvent);
+        inOrder.verify(listener1).eventOccurred(lazyEvent);
+        inOrder.verify(lazyEvent).resolveLazyValues();
+
+    }
+
     @Test
     public void testThatAllExceptionsWhileInformingAListenerOfAnEventAreIgnored() {
 
@@ -111,6 +136,86 @@ public class EventSystemTest {
 
     }
 
+    @Test
+    public void testThatEventsAreRoutedToTheEventBusOfTheirBrowser() {
+
+        EventBus eventBus = new EventBus();
+        eventBus.registerListener(listener1);
+        EventSystem.registerEventBus(browserId, eventBus);
+
+        doReturn(browserId).when(event).getBrowserIdentification();
+        doReturn(otherBrowserId).when(otherEvent).getBrowserIdentification();
+        fireEvent(event);
+        fireEvent(otherEvent);
+
+        verify(listener1).eventOccurred(event);
+        verifyNoMoreInteractions(listener1);
+
+    }
+
+    @Test
+    public void testThatBrowserListenersAreNotifiedBeforeGlobalListeners() {
+
+        EventBus eventBus = new EventBus();
+        eventBus.registerListener(listener1);
+        EventSystem.registerEventBus(browserId, eventBus);
+        registerListener(listener2);
+
+        doReturn(browserId).when(event).getBrowserIdentification();
+        fireEvent(event);
+
+        InOrder inOrder = inOrder(listener1, listener2);
+        inOrder.verify(listener1).eventOccurred(event);
+        inOrder.verify(listener2).eventOccurred(event);
+        inOrder.verifyNoMoreInteractions();
+
+    }
+
+    @Test
+    public void testThatDeregisteredEventBusesNoLongerReceiveEvents() {
+
+        EventBus eventBus = new EventBus();
+        eventBus.registerListener(listener1);
+        EventSystem.registerEventBus(browserId, eventBus);
+        EventSystem.deregisterEventBus(browserId);
+
+        doReturn(browserId).when(event).getBrowserIdentification();
+        fireEvent(event);
+
+        verifyZeroInteractions(listener1);
+
+    }
+
+    @Test
+    public void testThatEventBusOfBrowserIsReturned() {
+
+        EventBus eventBus = new EventBus();
+        EventSystem.registerEventBus(browserId, eventBus);
+
+        Browser browser = mock(Browser.class);
+        doReturn(browserId).when(browser).getIdentification();
+
+        assertThat(EventSystem.getEventBus(browser), is(sameInstance(eventBus)));
+
+    }
+
+    @Test
+    public void testThatEventBusIsCreatedForBrowsersWithoutBus() {
+
+        Browser browser = mock(Browser.class);
+        doReturn(browserId).when(browser).getIdentification();
+
+        EventBus eventBus = EventSystem.getEventBus(browser);
+        eventBus.registerListener(listener1);
+
+        doReturn(browserId).when(event).getBrowserIdentification();
+        fireEvent(event);
+
+        assertThat(EventSystem.getEventBus(browser), is(sameInstance(eventBus)));
+        verify(listener1).eventOccurred(event);
+
+    }
+
     @Test
     public void testThatConcurrentAddingAndRemovingOfListenersWhileFireingEventsDoesNotLeadToConcurrencyIssues()
         throws InterruptedException {
@@ -0,0 +1,157 @@
+package info.novatec.testit.webtester.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import info.novatec.testit.webtester.internal.MemberAccessors.FieldAccessor;
+import info.novatec.testit.webtester.internal.MemberAccessors.MethodAccessor;
+import utils.testclasses.ClassWithFields;
+import utils.testclasses.ClassWithMethods;
+import utils.testclasses.ClassWithPrivateConstructors;
+
+
+public class MemberAccessorsTest {
+
+    private static final String TEST_VALUE = "testValue";
+
+    /* constructors */
+
+    @Test
+    public final void testForConstructor_PrivateDefaultConstructor_InstanceCreated() throws Exception {
+        ClassWithPrivateConstructors instance =
+            MemberAccessors.forConstructor(ClassWithPrivateConstructors.class.getDeclaredConstructor()).newInstance();
+        assertThat(instance.getValue(), equalTo(ClassWithPrivateConstructors.DEFAULT_VALUE));
+    }
+
+    @Test
+    public final void testForConstructor_PrivateConstructorWithValue_InstanceCreated() throws Exception {
+        ClassWithPrivateConstructors instance = MemberAccessors
+            .forConstructor(ClassWithPrivateConstructors.class.getDeclaredConstructor(String.class))
+            .newInstance(TEST_VALUE);
+        assertThat(instance.getValue(), equalTo(TEST_VALUE));
+    }
+
+    @Test
+    public final void testForConstructor_ExceptionInConstructor_ExceptionWrapped() throws Exception {
+        try {
+            MemberAccessors.forConstructor(ClassWithFailingMembers.class.getDeclaredConstructor(boolean.class))
+                .newInstance(true);
+            fail("exception expected");
+        } catch (InvocationTargetException e) {
+            assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+        }
+    }
+
+    @Test(expected = AssertionError.class)
+    public final void testForConstructor_ErrorInConstructor_ErrorNotWrapped() throws Exception {
+        MemberAccessors.forConstructor(ClassWithFailingMembers.class.getDeclaredConstructor(String.class))
+            .newInstance("error");
+    }
+
+    /* fields */
+
+    @Test
+    public final void testForField_PrivateField_FieldSetAndRead() throws Exception {
+
+        ClassWithFields instance = new ClassWithFields();
+        FieldAccessor accessor = MemberAccessors.forField(ClassWithFields.class.getDeclaredField("privateValue"));
+        assertThat(accessor.get(instance), is(nullValue()));
+
+        accessor.set(instance, TEST_VALUE);
+        assertThat(instance.getPrivateValue(), is(TEST_VALUE));
+        assertThat(accessor.get(instance), is(( Object ) TEST_VALUE));
+
+    }
+
+    @Test
+    public final void testForField_PackageProtectedField_FieldSet() throws Exception {
+        ClassWithFields instance = new ClassWithFields();
+        MemberAccessors.forField(ClassWithFields.class.getDeclaredField("packageProtectedValue"))
+            .set(instance, TEST_VALUE);
+        assertThat(instance.getPackageProtectedValue(), is(TEST_VALUE));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public final void testForField_ValueOfWrongType_ClassCastException() throws Exception {
+        MemberAccessors.forField(ClassWithFields.class.getDeclaredField("publicValue"))
+            .set(new ClassWithFields(), Integer.valueOf(1));
+    }
+
+    @Test
+    public final void testForField_SameField_SameAccessor() throws Exception {
+        Field field = ClassWithFields.class.getDeclaredField("publicValue");
+        assertThat(MemberAccessors.forField(field), is(sameInstance(MemberAccessors.forField(field))));
+    }
+
+    /* methods */
+
+    @Test
+    public final void testForMethod_PrivateMethod_MethodInvoked() throws Exception {
+        Method method = ClassWithMethods.class.getDeclaredMethod("privateMethod");
+        MethodAccessor accessor = MemberAccessors.forMethod(method);
+        assertThat(accessor.invoke(new ClassWithMethods()), is(( Object ) "private"));
+    }
+
+    @Test
+    public final void testForMethod_VoidMethod_NullReturned() throws Exception {
+        Method method = ClassWithFailingMembers.class.getDeclaredMethod("doNothing");
+        assertThat(MemberAccessors.forMethod(method).invoke(new ClassWithFailingMembers(false)), is(nullValue()));
+    }
+
+    @Test
+    public final void testForMethod_ExceptionInMethod_ExceptionWrapped() throws Exception {
+        Method method = ClassWithFailingMembers.class.getDeclaredMethod("fail");
+        try {
+            MemberAccessors.forMethod(method).invoke(new ClassWithFailingMembers(false));
+            fail("exception expected");
+        } catch (InvocationTargetException e) {
+            assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+        }
+    }
+
+    @Test(expected = AssertionError.class)
+    public final void testForMethod_ErrorInMethod_ErrorNotWrapped() throws Exception {
+        Method method = ClassWithFailingMembers.class.getDeclaredMethod("error");
+        MemberAccessors.forMethod(method).invoke(new ClassWithFailingMembers(false));
+    }
+
+    /* test classes */
+
+    static class ClassWithFailingMembers {
+
+        ClassWithFailingMembers(boolean fail) {
+            if (fail) {
+                throw new IllegalStateException();
+            }
+        }
+
+        ClassWithFailingMembers(String error) {
+            throw new AssertionError(error);
+        }
+
+        void doNothing() {
+            // nothing to do
+        }
+
+        void fail() {
+            throw new IllegalStateException();
+        }
+
+        void error() {
+            throw new AssertionError();
+        }
+
+    }
+
+}
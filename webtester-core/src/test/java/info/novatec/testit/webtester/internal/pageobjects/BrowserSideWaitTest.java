@@ -0,0 +1,90 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.config.BaseConfiguration;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+public class BrowserSideWaitTest {
+
+    private static final long CONFIGURED_SCRIPT_TIMEOUT = 12345L;
+
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    WebDriver.Options options = mock(WebDriver.Options.class);
+    WebDriver.Timeouts timeouts = mock(WebDriver.Timeouts.class);
+
+    PageObject pageObject = mock(PageObject.class);
+
+    @Before
+    public void setUp() throws Exception {
+
+        doReturn(options).when(webDriver).manage();
+        doReturn(timeouts).when(options).timeouts();
+
+        Browser browser = mock(Browser.class);
+        doReturn(webDriver).when(browser).getWebDriver();
+        doReturn(new BaseConfiguration().setWaitInBrowserScriptTimeout(CONFIGURED_SCRIPT_TIMEOUT)).when(browser)
+            .getConfiguration();
+        doReturn(browser).when(pageObject).getBrowser();
+
+        Field webElementField = PageObject.class.getDeclaredField("webElement");
+        webElementField.setAccessible(true);
+        webElementField.set(pageObject, mock(WebElement.class));
+
+    }
+
+    @Test
+    public void testThatConfiguredScriptTimeoutIsRestoredAfterWait() {
+
+        doReturn("met").when(( JavascriptExecutor ) webDriver).executeAsyncScript(anyString(), anyVararg());
+
+        Boolean result = BrowserSideWait.waitFor(pageObject, "true", 500L);
+
+        assertThat(result, is(true));
+        assertThatScriptTimeoutWasRestored();
+
+    }
+
+    @Test
+    public void testThatConfiguredScriptTimeoutIsRestoredIfScriptFails() {
+
+        doThrow(new WebDriverException()).when(( JavascriptExecutor ) webDriver)
+            .executeAsyncScript(anyString(), anyVararg());
+
+        Boolean result = BrowserSideWait.waitFor(pageObject, "true", 500L);
+
+        assertThat(result, is(nullValue()));
+        assertThatScriptTimeoutWasRestored();
+
+    }
+
+    private void assertThatScriptTimeoutWasRestored() {
+        InOrder inOrder = inOrder(timeouts, webDriver);
+        inOrder.verify(timeouts).setScriptTimeout(1500L, TimeUnit.MILLISECONDS);
+        inOrder.verify(( JavascriptExecutor ) webDriver).executeAsyncScript(anyString(), anyVararg());
+        inOrder.verify(timeouts).setScriptTimeout(CONFIGURED_SCRIPT_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+}
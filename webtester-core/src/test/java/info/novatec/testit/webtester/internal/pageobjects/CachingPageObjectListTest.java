@@ -0,0 +1,131 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.Identifications;
+
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingPageObjectListTest {
+
+    @Mock
+    Browser browser;
+    @Mock
+    WebDriver webDriver;
+    @Mock
+    JavaScriptExecutor javaScript;
+    @Mock
+    PageObjectFactory factory;
+
+    CachingPageObjectList<PageObject> cut;
+
+    @Before
+    public void init() {
+
+        doReturn(webDriver).when(browser).getWebDriver();
+        doReturn(javaScript).when(browser).javaScript();
+        doReturn(factory).when(browser).getPageObjectFactory();
+
+        WebElement element1 = mock(WebElement.class);
+        WebElement element2 = mock(WebElement.class);
+        doReturn(Arrays.asList(element1, element2)).when(webDriver).findElements(any(By.class));
+        doReturn(mock(PageObject.class)).when(factory)
+            .create(eq(PageObject.class), any(PageObjectModel.class), any(WebElement.class));
+
+        PageObjectModel model = PageObjectModel.forPageFragment(browser, Identifications.css("li"));
+        cut = new CachingPageObjectList<PageObject>(PageObject.class, model);
+
+    }
+
+    @Test
+    public void testThatElementsAreOnlyQueriedOnceIfDomDidNotChange() {
+
+        doReturn("token:1").when(javaScript).executeWithReturn(anyString());
+
+        for (int i = 0; i < cut.size(); i++) {
+            cut.get(i);
+        }
+
+        verify(webDriver, times(1)).findElements(any(By.class));
+
+    }
+
+    @Test
+    public void testThatElementsAreQueriedAgainIfDomChanged() {
+
+        doReturn("token:1").when(javaScript).executeWithReturn(anyString());
+        cut.get(0);
+        doReturn("token:2").when(javaScript).executeWithReturn(anyString());
+        cut.get(0);
+
+        verify(webDriver, times(2)).findElements(any(By.class));
+
+    }
+
+    @Test
+    public void testThatElementsAreQueriedAgainAfterInvalidation() {
+
+        doReturn("token:1").when(javaScript).executeWithReturn(anyString());
+        cut.size();
+        cut.invalidate();
+        cut.size();
+
+        verify(webDriver, times(2)).findElements(any(By.class));
+
+    }
+
+    @Test
+    public void testThatElementsAreAlwaysQueriedIfGenerationIsUnknown() {
+
+        doReturn(null).when(javaScript).executeWithReturn(anyString());
+        cut.size();
+        cut.size();
+
+        verify(webDriver, times(2)).findElements(any(By.class));
+
+    }
+
+    @Test
+    public void testThatElementsAreAlwaysQueriedIfGenerationCantBeRead() {
+
+        doThrow(WebDriverException.class).when(javaScript).executeWithReturn(anyString());
+        cut.size();
+        cut.size();
+
+        verify(webDriver, times(2)).findElements(any(By.class));
+
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testThatSnapshotCanNotBeModifiedViaIterator() {
+        doReturn("token:1").when(javaScript).executeWithReturn(anyString());
+        Iterator<PageObject> iterator = cut.iterator();
+        iterator.next();
+        iterator.remove();
+    }
+
+}
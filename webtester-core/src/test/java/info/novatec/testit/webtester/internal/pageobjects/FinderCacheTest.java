@@ -0,0 +1,61 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
+import info.novatec.testit.webtester.api.pageobjects.Identification;
+import info.novatec.testit.webtester.pageobjects.GenericElement;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.Identifications;
+
+
+public class FinderCacheTest {
+
+    Browser browser = mock(Browser.class);
+    PageObject parent = mock(PageObject.class);
+    GenericElement pageObject = mock(GenericElement.class);
+
+    @Before
+    public void identifyBrowser() {
+        doReturn(new BrowserIdentification()).when(browser).getIdentification();
+    }
+
+    @After
+    public void forgetBrowser() {
+        FinderCache.forget(browser);
+        NavigationEpochs.forget(browser);
+    }
+
+    @Test
+    public void testThatPageObjectsAreFoundByParentIdentificationAndClass() {
+        FinderCache.put(browser, parent, Identifications.css("#foo"), GenericElement.class, pageObject);
+        GenericElement found = FinderCache.get(browser, parent, Identifications.css("#foo"), GenericElement.class);
+        assertThat(found, is(sameInstance(pageObject)));
+    }
+
+    @Test
+    public void testThatPageObjectsOfOtherParentsAreNotFound() {
+        Identification identification = Identifications.css("#foo");
+        FinderCache.put(browser, parent, identification, GenericElement.class, pageObject);
+        assertThat(FinderCache.get(browser, null, identification, GenericElement.class), is(nullValue()));
+    }
+
+    @Test
+    public void testThatPageObjectsAreDroppedAfterNavigation() {
+        Identification identification = Identifications.css("#foo");
+        FinderCache.put(browser, null, identification, GenericElement.class, pageObject);
+        NavigationEpochs.advance(browser);
+        assertThat(FinderCache.get(browser, null, identification, GenericElement.class), is(nullValue()));
+    }
+
+}
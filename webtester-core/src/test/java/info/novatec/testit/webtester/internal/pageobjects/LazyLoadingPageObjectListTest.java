@@ -0,0 +1,227 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import static info.novatec.testit.webtester.utils.Conditions.invisible;
+import static info.novatec.testit.webtester.utils.Conditions.is;
+import static info.novatec.testit.webtester.utils.Conditions.visible;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.endsWith;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import com.google.common.base.Predicate;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.pageobjects.Button;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.Identifications;
+import info.novatec.testit.webtester.utils.ListProjections;
+
+
+@RunWith(MockitoJUnitRunner.class)
+public class LazyLoadingPageObjectListTest {
+
+    @Mock
+    Browser browser;
+    @Mock
+    Configuration configuration;
+    @Mock
+    PageObjectFactory factory;
+
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    WebElement element1 = mock(WebElement.class);
+    WebElement element2 = mock(WebElement.class);
+    PageObject pageObject = mock(PageObject.class);
+
+    LazyLoadingPageObjectList<PageObject> cut;
+
+    @Before
+    public void init() {
+
+        doReturn(webDriver).when(browser).getWebDriver();
+        doReturn(configuration).when(browser).getConfiguration();
+        doReturn(factory).when(browser).getPageObjectFactory();
+        doReturn(new JavaScriptExecutor(browser)).when(browser).javaScript();
+
+        doReturn(Arrays.asList(element1, element2)).when(webDriver).findElements(any(By.class));
+        doReturn(pageObject).when(factory)
+            .create(eq(PageObject.class), any(PageObjectModel.class), any(WebElement.class));
+        doReturn(true).when(pageObject).isVisible();
+
+        PageObjectModel model = PageObjectModel.forPageFragment(browser, Identifications.css("li"));
+        cut = new LazyLoadingPageObjectList<PageObject>(PageObject.class, model);
+
+    }
+
+    @Test
+    public void testThatLenientConditionsArePreFilteredInsideTheBrowserIfActivated() {
+
+        doReturn(true).when(configuration).listFilteringInBrowserIsActivated();
+        doReturn(Arrays.asList(1L, element2)).when(( JavascriptExecutor ) webDriver)
+            .executeScript(anyString(), any(), any(), any(), any());
+
+        PageObjectList<PageObject> filtered = cut.filter(is(visible()));
+
+        assertThat(filtered, hasSize(1));
+        verify(webDriver, never()).findElements(any(By.class));
+        verify(factory).create(eq(PageObject.class), any(PageObjectModel.class), eq(element2));
+        verify(pageObject, times(1)).isVisible();
+
+    }
+
+    @Test
+    public void testThatBrowserSideMatchesAreConfirmedInJava() {
+
+        doReturn(true).when(configuration).listFilteringInBrowserIsActivated();
+        doReturn(Arrays.asList(0L, element1, 1L, element2)).when(( JavascriptExecutor ) webDriver)
+            .executeScript(anyString(), any(), any(), any(), any());
+        doReturn(false).when(pageObject).isVisible();
+
+        PageObjectList<PageObject> filtered = cut.filter(is(visible()));
+
+        assertThat(filtered, hasSize(0));
+        verify(pageObject, times(2)).isVisible();
+
+    }
+
+    @Test
+    public void testThatConditionsWhichAreNotLenientAreEvaluatedInJava() {
+
+        doReturn(true).when(configuration).listFilteringInBrowserIsActivated();
+
+        PageObjectList<PageObject> filtered = cut.filter(is(invisible()));
+
+        assertThat(filtered, hasSize(0));
+        verify(( JavascriptExecutor ) webDriver, never()).executeScript(anyString(), any(), any(), any(), any());
+        verify(pageObject, times(2)).isVisible();
+
+    }
+
+    @Test
+    public void testThatElementsOfValidatedClassesAreNotFilteredInsideTheBrowser() {
+
+        doReturn(true).when(configuration).listFilteringInBrowserIsActivated();
+        Button button = mock(Button.class);
+        doReturn(true).when(button).isVisible();
+        doReturn(button).when(factory).create(eq(Button.class), any(PageObjectModel.class), any(WebElement.class));
+        PageObjectModel model = PageObjectModel.forPageFragment(browser, Identifications.css("button"));
+        LazyLoadingPageObjectList<Button> buttons = new LazyLoadingPageObjectList<Button>(Button.class, model);
+
+        PageObjectList<Button> filtered = buttons.filter(is(visible()));
+
+        assertThat(filtered, hasSize(2));
+        verify(( JavascriptExecutor ) webDriver, never()).executeScript(anyString(), any(), any(), any(), any());
+        verify(factory, times(2)).create(eq(Button.class), any(PageObjectModel.class), any(WebElement.class));
+
+    }
+
+    @Test
+    public void testThatConditionsAreEvaluatedInJavaIfNotActivated() {
+        PageObjectList<PageObject> filtered = cut.filter(is(visible()));
+        assertThat(filtered, hasSize(2));
+        verify(pageObject, times(2)).isVisible();
+    }
+
+    @Test
+    public void testThatCustomConditionsAreEvaluatedInJava() {
+
+        doReturn(true).when(configuration).listFilteringInBrowserIsActivated();
+
+        PageObjectList<PageObject> filtered = cut.filter(new Predicate<PageObject>() {
+
+            @Override
+            public boolean apply(PageObject input) {
+                return input.isVisible();
+            }
+
+        });
+
+        assertThat(filtered, hasSize(2));
+        verify(pageObject, times(2)).isVisible();
+
+    }
+
+    @Test
+    public void testThatTextsAreGatheredWithASingleScript() {
+
+        doReturn(Arrays.asList("foo", "bar")).when(( JavascriptExecutor ) webDriver)
+            .executeScript(endsWith("return results;"), any(), any(), any(), any());
+
+        List<String> texts = ListProjections.texts(cut);
+
+        assertThat(texts, contains("foo", "bar"));
+        verify(webDriver, never()).findElements(any(By.class));
+        verify(factory, never()).create(eq(PageObject.class), any(PageObjectModel.class), any(WebElement.class));
+
+    }
+
+    @Test
+    public void testThatAttributesAreProjectedWithASingleScript() {
+
+        Map<String, Object> values = new HashMap<String, Object>();
+        values.put("href", "http://foo");
+        values.put("title", null);
+        doReturn(Collections.singletonList(values)).when(( JavascriptExecutor ) webDriver)
+            .executeScript(endsWith("return results;"), any(), any(), any(), any());
+
+        List<Map<String, String>> projections = ListProjections.project(cut, "href", "title");
+
+        assertThat(projections, hasSize(1));
+        assertThat(projections.get(0).get("href"), equalTo("http://foo"));
+        assertThat(projections.get(0).containsKey("title"), equalTo(true));
+        verify(webDriver, never()).findElements(any(By.class));
+
+    }
+
+    @Test
+    public void testThatVisibilityIsGatheredPerElementIfScriptFails() {
+
+        doThrow(new WebDriverException()).when(( JavascriptExecutor ) webDriver)
+            .executeScript(endsWith("return results;"), any(), any(), any(), any());
+
+        List<Boolean> visibility = ListProjections.visibility(cut);
+
+        assertThat(visibility, contains(true, true));
+        verify(pageObject, times(2)).isVisible();
+
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testThatProjectionsAreImmutable() {
+        doReturn(Arrays.asList("foo")).when(( JavascriptExecutor ) webDriver)
+            .executeScript(endsWith("return results;"), any(), any(), any(), any());
+        ListProjections.texts(cut).add("bar");
+    }
+
+}
@@ -0,0 +1,103 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+
+public class LocatorChainsTest {
+
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+
+    /* combining XPath expressions */
+
+    @Test
+    public void testThatRelativeXPathsAreAppliedToFirstMatchOfPreviousLevel() {
+        String xpath = LocatorChains.composeXPath(chain(By.xpath("//div"), By.xpath(".//form"), By.xpath("./input")));
+        assertThat(xpath, is("((//div)[1]//form)[1]/input"));
+    }
+
+    @Test
+    public void testThatAbsoluteXPathsStartOver() {
+        String xpath = LocatorChains.composeXPath(chain(By.xpath("//div"), By.xpath("//input")));
+        assertThat(xpath, is("//input"));
+    }
+
+    @Test
+    public void testThatUnionsCanNotBeCombined() {
+        String xpath = LocatorChains.composeXPath(chain(By.xpath("//div"), By.xpath(".//a | .//b")));
+        assertThat(xpath, is(nullValue()));
+    }
+
+    @Test
+    public void testThatOtherLocatorsCanNotBeCombinedIntoXPath() {
+        String xpath = LocatorChains.composeXPath(chain(By.xpath("//div"), By.id("foo")));
+        assertThat(xpath, is(nullValue()));
+    }
+
+    /* finding */
+
+    @Test
+    public void testThatXPathChainsAreResolvedWithSingleLookup() {
+
+        WebElement element = mock(WebElement.class);
+        doReturn(element).when(webDriver).findElement(any(By.class));
+
+        WebElement found = LocatorChains.find(webDriver, webDriver, chain(By.xpath("//div"), By.xpath(".//input")));
+
+        ArgumentCaptor<By> by = ArgumentCaptor.forClass(By.class);
+        verify(webDriver).findElement(by.capture());
+        assertThat(by.getValue().toString(), is("By.xpath: (//div)[1]//input"));
+        assertThat(found, is(sameInstance(element)));
+
+    }
+
+    @Test
+    public void testThatMixedChainsAreResolvedWithSingleScript() {
+
+        WebElement element = mock(WebElement.class);
+        doReturn(element).when(( JavascriptExecutor ) webDriver).executeScript(anyString(), any(), any());
+
+        WebElement found = LocatorChains.find(webDriver, webDriver, chain(By.id("form"), By.cssSelector("input")));
+
+        verify(( JavascriptExecutor ) webDriver).executeScript(anyString(), eq(null),
+            eq(Arrays.asList("id", "form", "cssSelector", "input")));
+        assertThat(found, is(sameInstance(element)));
+
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testThatMissingElementsOfScriptLookupsLeadToException() {
+        LocatorChains.find(webDriver, webDriver, chain(By.id("form"), By.cssSelector("input")));
+    }
+
+    @Test
+    public void testThatUnsupportedLocatorsAreNotResolved() {
+        WebElement found = LocatorChains.find(webDriver, webDriver, chain(By.id("form"), By.linkText("link")));
+        assertThat(found, is(nullValue()));
+    }
+
+    List<By> chain(By... levels) {
+        return Arrays.asList(levels);
+    }
+
+}
@@ -0,0 +1,136 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.LinkedList;
+import java.util.List;
+import javax.annotation.PostConstruct;
+
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.annotations.Visible;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectInjectionPlan.FieldInjector;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectInjectionPlan.FieldType;
+import info.novatec.testit.webtester.pageobjects.Button;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.pageobjects.TextField;
+
+
+public class PageObjectInjectionPlanTest {
+
+    @Test
+    public void testThatPlansAreCachedPerClass() throws ReflectiveOperationException {
+        PageObjectInjectionPlan<ChildPage> plan1 = PageObjectInjectionPlan.forClass(ChildPage.class);
+        PageObjectInjectionPlan<ChildPage> plan2 = PageObjectInjectionPlan.forClass(ChildPage.class);
+        assertThat(plan1, is(sameInstance(plan2)));
+    }
+
+    @Test
+    public void testThatFieldInjectorsAreOrderedFromSuperClassToSubClass() throws ReflectiveOperationException {
+        PageObjectInjectionPlan<ChildPage> plan = PageObjectInjectionPlan.forClass(ChildPage.class);
+        assertThat(getFieldNames(plan.getFieldInjectors()), contains("parentButton", "textField", "textFields"));
+    }
+
+    @Test
+    public void testThatNonAnnotatedFieldsAreIgnored() throws ReflectiveOperationException {
+        PageObjectInjectionPlan<ChildPage> plan = PageObjectInjectionPlan.forClass(ChildPage.class);
+        assertThat(getFieldNames(plan.getFieldInjectors()).contains("notInjected"), is(false));
+    }
+
+    @Test
+    public void testThatFieldInjectorsArePrecomputed() throws ReflectiveOperationException {
+
+        PageObjectInjectionPlan<ChildPage> plan = PageObjectInjectionPlan.forClass(ChildPage.class);
+
+        FieldInjector textField = plan.getFieldInjectors().get(1);
+        assertThat(textField.getType(), is(FieldType.PAGE_OBJECT));
+        assertThat(textField.getName(), is(equalTo("Text Field")));
+        assertThat(textField.getIdentification().getSeleniumBy().toString(), is(equalTo("By.id: text")));
+        assertThat(textField.getListElementClass(), is(nullValue()));
+
+        FieldInjector textFields = plan.getFieldInjectors().get(2);
+        assertThat(textFields.getType(), is(FieldType.LIST));
+        assertThat(textFields.getName(), is(equalTo("")));
+        assertThat(textFields.getListElementClass(), is(equalTo(( Class<?> ) TextField.class)));
+
+    }
+
+    @Test
+    public void testThatPostConstructMethodsAreOrderedFromSuperClassToSubClass() throws ReflectiveOperationException {
+        PageObjectInjectionPlan<ChildPage> plan = PageObjectInjectionPlan.forClass(ChildPage.class);
+        assertThat(plan.getPostConstructMethods(), hasSize(2));
+        assertThat(plan.getPostConstructMethods().get(0).getMethod().getName(), is(equalTo("parentInit")));
+        assertThat(plan.getPostConstructMethods().get(1).getMethod().getName(), is(equalTo("childInit")));
+    }
+
+    @Test
+    public void testThatVisibleFieldsAreCollected() throws ReflectiveOperationException {
+        PageObjectInjectionPlan<ChildPage> plan = PageObjectInjectionPlan.forClass(ChildPage.class);
+        assertThat(getFieldNames(plan.getVisibleFields()), contains("parentButton", "textFields"));
+        assertThat(plan.getVisibleFields().get(1).getExpectedNumberOfVisibleElements(), is(3));
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void testThatClassesWithoutDefaultConstructorCanNotBePlanned() throws ReflectiveOperationException {
+        PageObjectInjectionPlan.forClass(PageWithoutDefaultConstructor.class);
+    }
+
+    /* utilities */
+
+    private List<String> getFieldNames(List<FieldInjector> injectors) {
+        List<String> names = new LinkedList<String>();
+        for (FieldInjector injector : injectors) {
+            names.add(injector.getField().getName());
+        }
+        return names;
+    }
+
+    /* test classes */
+
+    public static class ParentPage extends PageObject {
+
+        @Visible
+        @IdentifyUsing("button")
+        Button parentButton;
+
+        @PostConstruct
+        void parentInit() {
+            // nothing to do
+        }
+
+    }
+
+    public static class ChildPage extends ParentPage {
+
+        @IdentifyUsing(value = "text", elementname = "Text Field")
+        TextField textField;
+
+        @Visible(3)
+        @IdentifyUsing("texts")
+        List<TextField> textFields;
+
+        TextField notInjected;
+
+        @PostConstruct
+        void childInit() {
+            // nothing to do
+        }
+
+    }
+
+    public static class PageWithoutDefaultConstructor extends PageObject {
+
+        public PageWithoutDefaultConstructor(String value) {
+            // nothing to do
+        }
+
+    }
+
+}
@@ -0,0 +1,181 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.endsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import info.novatec.testit.webtester.AbstractPageObjectTest;
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.annotations.LazyInitialization;
+import info.novatec.testit.webtester.api.annotations.Visible;
+import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.VisiblePageObjectFieldException;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+public class VisibleFieldsCheckTest extends AbstractPageObjectTest {
+
+    WebDriver scriptingWebDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+
+    TestPage page;
+    VisibleFieldsCheck cut;
+
+    @Before
+    public void createPageAndCheck() throws ReflectiveOperationException {
+        doReturn(scriptingWebDriver).when(browser).getWebDriver();
+        doReturn(webElement).when(scriptingWebDriver).findElement(any(By.class));
+        doReturn(webElement).when(( JavascriptExecutor ) scriptingWebDriver)
+            .executeScript(endsWith("return element;"), any(), any());
+        scriptReturns(1L, 1L);
+        page = new DefaultPageObjectFactory().create(TestPage.class, model);
+        cut = new VisibleFieldsCheck(page, PageObjectInjectionPlan.forClass(TestPage.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testThatConstraintsOfVisibleFragmentsAreCheckedInOneScript() {
+
+        final List<Object> checks = new ArrayList<Object>();
+        doAnswer(new Answer<Object>() {
+
+            @Override
+            public Object answer(InvocationOnMock invocation) {
+                checks.addAll(( List<?> ) invocation.getArguments()[2]);
+                return Arrays.asList(1L, 1L);
+            }
+
+        }).when(( JavascriptExecutor ) scriptingWebDriver).executeScript(endsWith("return results;"), any(), any());
+
+        cut.get();
+
+        assertThat(( List<Object> ) checks.get(0), contains(( Object ) "single", "tagName", "html", "id", "fragment"));
+        assertThat(( List<Object> ) checks.get(1),
+            contains(( Object ) "single", "tagName", "html", "id", "fragment", "id", "nested"));
+
+    }
+
+    @Test
+    public void testThatUnmetScriptResultIsNotCheckedFromJava() {
+        scriptReturns(1L, 0L);
+        doThrow(new AssertionError("checked from Java")).when(webElement).isDisplayed();
+        assertThat(cut.get(), is(false));
+        assertThat(cut.getFirstUnmetConstraint().getOwner(), is(sameInstance(( PageObject ) page.fragment)));
+    }
+
+    @Test
+    public void testThatMetScriptResultIsConfirmedFromJava() {
+        elementIsInvisible();
+        assertThat(cut.get(), is(false));
+        assertThat(cut.getFirstUnmetConstraint().getOwner(), is(sameInstance(( PageObject ) page)));
+    }
+
+    @Test
+    public void testThatAllConstraintsAreMetIfScriptAndJavaAgree() {
+        assertThat(cut.get(), is(true));
+        assertThat(cut.getFirstUnmetConstraint(), is(nullValue()));
+    }
+
+    @Test
+    public void testThatLazyFragmentsAreExcludedFromChecksOfTheirPage() throws ReflectiveOperationException {
+        elementIsInvisible();
+        LazyTestPage lazyPage = new DefaultPageObjectFactory().create(LazyTestPage.class, model);
+        VisibleFieldsCheck check =
+            new VisibleFieldsCheck(lazyPage, PageObjectInjectionPlan.forClass(LazyTestPage.class));
+        assertThat(check.hasConstraints(), is(false));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testThatLazyFragmentsAreCheckedOnFirstUse() {
+
+        LazyTestPage lazyPage = new DefaultPageObjectFactory().create(LazyTestPage.class, model);
+
+        final List<Object> checks = new ArrayList<Object>();
+        doAnswer(new Answer<Object>() {
+
+            @Override
+            public Object answer(InvocationOnMock invocation) {
+                checks.addAll(( List<?> ) invocation.getArguments()[2]);
+                return Arrays.asList(1L, 1L);
+            }
+
+        }).when(( JavascriptExecutor ) scriptingWebDriver).executeScript(endsWith("return results;"), any(), any());
+
+        lazyPage.fragment.getWebElement();
+
+        assertThat(( List<Object> ) checks.get(0), contains(( Object ) "single", "tagName", "html", "id", "fragment"));
+        assertThat(( List<Object> ) checks.get(1),
+            contains(( Object ) "single", "tagName", "html", "id", "fragment", "id", "nested"));
+
+    }
+
+    @Test(expected = VisiblePageObjectFieldException.class)
+    public void testThatInvisibleLazyFragmentsFailOnFirstUse() {
+        LazyTestPage lazyPage = new DefaultPageObjectFactory().create(LazyTestPage.class, model);
+        elementIsInvisible();
+        lazyPage.fragment.getWebElement();
+    }
+
+    @Test(expected = VisiblePageObjectFieldException.class)
+    public void testThatFailedInitializationOfLazyFragmentsIsRepeatedOnNextUse() {
+        LazyTestPage lazyPage = new DefaultPageObjectFactory().create(LazyTestPage.class, model);
+        elementIsInvisible();
+        try {
+            lazyPage.fragment.getWebElement();
+        } catch (VisiblePageObjectFieldException e) {
+            // expected - the fragment is still not initialized
+        }
+        lazyPage.fragment.getWebElement();
+    }
+
+    void scriptReturns(Object... results) {
+        doReturn(Arrays.asList(results)).when(( JavascriptExecutor ) scriptingWebDriver)
+            .executeScript(endsWith("return results;"), any(), any());
+    }
+
+    public static class TestPage extends PageObject {
+
+        @Visible
+        @IdentifyUsing("fragment")
+        Fragment fragment;
+
+    }
+
+    @LazyInitialization
+    public static class LazyTestPage extends PageObject {
+
+        @Visible
+        @IdentifyUsing("fragment")
+        Fragment fragment;
+
+    }
+
+    public static class Fragment extends PageObject {
+
+        @Visible
+        @IdentifyUsing("nested")
+        PageObject nested;
+
+    }
+
+}
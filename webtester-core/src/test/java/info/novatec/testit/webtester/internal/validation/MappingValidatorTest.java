@@ -0,0 +1,67 @@
+package info.novatec.testit.webtester.internal.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.api.annotations.Mapping;
+import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
+
+
+public class MappingValidatorTest {
+
+    @Test
+    public void testThatValidatorsAreSharedPerClass() {
+        MappingValidator validator = MappingValidator.forClass(MappedClass.class);
+        assertThat(MappingValidator.forClass(MappedClass.class), is(sameInstance(validator)));
+    }
+
+    @Test
+    public void testThatValidElementsAreOnlyValidatedOnce() {
+
+        WebElement webElement = mock(WebElement.class);
+        doReturn("input").when(webElement).getTagName();
+
+        MappingValidator cut = new MappingValidator(MappedClass.class);
+        cut.assertValidity(webElement);
+        cut.assertValidity(webElement);
+
+        verify(webElement, times(1)).getTagName();
+
+    }
+
+    @Test
+    public void testThatInvalidElementsAreValidatedEveryTime() {
+
+        WebElement webElement = mock(WebElement.class);
+        doReturn("div").when(webElement).getTagName();
+
+        MappingValidator cut = new MappingValidator(MappedClass.class);
+        assertInvalid(cut, webElement);
+        assertInvalid(cut, webElement);
+
+        verify(webElement, times(2)).getTagName();
+
+    }
+
+    void assertInvalid(MappingValidator cut, WebElement webElement) {
+        try {
+            cut.assertValidity(webElement);
+        } catch (WrongElementClassException e) {
+            return;
+        }
+        throw new AssertionError("exception not thrown");
+    }
+
+    @Mapping(tag = "input")
+    static class MappedClass {
+    }
+
+}
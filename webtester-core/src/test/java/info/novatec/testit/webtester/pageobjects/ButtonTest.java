@@ -79,6 +79,13 @@ public class ButtonTest extends AbstractPageObjectTest {
         verify(webElement).click();
     }
 
+    @Test
+    public void testThatClickingAButtonValidatesTheElementOnlyOnce() {
+        stubWebElementTag("button");
+        cut.click();
+        verify(webElement).getTagName();
+    }
+
     @Test(expected = PageObjectIsInvisibleException.class)
     public void testThatClickingAnInvisibleButtonThrowsException() {
         stubWebElementTag("button");
@@ -0,0 +1,129 @@
+package info.novatec.testit.webtester.pageobjects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+
+import info.novatec.testit.webtester.AbstractPageObjectTest;
+import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
+import info.novatec.testit.webtester.internal.pageobjects.DefaultPageObjectFactory;
+import info.novatec.testit.webtester.internal.pageobjects.NavigationEpochs;
+import info.novatec.testit.webtester.utils.Asserts;
+
+
+public class PageObjectCachingTest extends AbstractPageObjectTest {
+
+    PageObject cut;
+
+    @Before
+    public void createPageObject() {
+        cut = new DefaultPageObjectFactory().create(PageObject.class, model);
+    }
+
+    @Test
+    public void testThatElementIsResolvedForEachActionIfCachingIsInactive() {
+        cut.click();
+        cut.click();
+        verify(webDriver, times(2)).findElement(any(By.class));
+    }
+
+    @Test
+    public void testThatCachedElementIsReusedForSubsequentActions() {
+        doReturn(true).when(configuration).webElementCachingIsActivated();
+        cut.click();
+        cut.click();
+        verify(webDriver, times(1)).findElement(any(By.class));
+    }
+
+    @Test
+    public void testThatCachedElementIsDroppedAfterNavigation() {
+        doReturn(true).when(configuration).webElementCachingIsActivated();
+        cut.click();
+        NavigationEpochs.advance(browser);
+        cut.click();
+        verify(webDriver, times(2)).findElement(any(By.class));
+    }
+
+    @Test
+    public void testThatActionIsRetriedOnceWithNewElementIfCachedElementIsStale() {
+        doReturn(true).when(configuration).webElementCachingIsActivated();
+        doThrow(new StaleElementReferenceException("stale")).doNothing().when(webElement).click();
+        cut.click();
+        verify(webDriver, times(2)).findElement(any(By.class));
+        verify(webElement, times(2)).click();
+    }
+
+    @Test
+    public void testThatActionIsRetriedIfCachedElementIsStaleWhenAssertingItsState() {
+        WebDriver scriptingWebDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        doReturn(webElement).when(scriptingWebDriver).findElement(any(By.class));
+        doThrow(new StaleElementReferenceException("stale")).doReturn(true)
+            .when(( JavascriptExecutor ) scriptingWebDriver).executeScript(anyString(), anyVararg());
+        doReturn(scriptingWebDriver).when(browser).getWebDriver();
+        doReturn(true).when(configuration).webElementCachingIsActivated();
+        Asserts.assertEnabledAndVisible(cut);
+        verify(scriptingWebDriver, times(2)).findElement(any(By.class));
+    }
+
+    @Test
+    public void testThatActionIsNotRetriedIfElementWasUsedBeforeItBecameStale() {
+        doReturn(true).when(configuration).webElementCachingIsActivated();
+        doThrow(new StaleElementReferenceException("stale")).when(webElement).click();
+        try {
+            cut.executeAction(new PageObjectCallback() {
+
+                @Override
+                public void execute(PageObject pageObject) {
+                    pageObject.getWebElement().sendKeys("foo");
+                    pageObject.getWebElement().click();
+                }
+
+            });
+            fail("exception expected");
+        } catch (StaleElementReferenceException e) {
+            verify(webElement, times(1)).sendKeys("foo");
+        }
+    }
+
+    @Test
+    public void testThatRemovedCachedElementIsNotPresent() {
+        doReturn(true).when(configuration).webElementCachingIsActivated();
+        cut.click();
+        doThrow(new StaleElementReferenceException("stale")).when(webElement).isEnabled();
+        doThrow(new NoSuchElementException("removed")).when(webDriver).findElement(any(By.class));
+        assertThat(cut.isPresent(), is(false));
+    }
+
+    @Test
+    public void testThatReplacedCachedElementIsPresent() {
+        doReturn(true).when(configuration).webElementCachingIsActivated();
+        cut.click();
+        doThrow(new StaleElementReferenceException("stale")).when(webElement).isEnabled();
+        assertThat(cut.isPresent(), is(true));
+        verify(webDriver, times(2)).findElement(any(By.class));
+    }
+
+    @Test(expected = StaleElementReferenceException.class)
+    public void testThatStaleElementsAreNotRecoveredIfCachingIsInactive() {
+        doThrow(new StaleElementReferenceException("stale")).doNothing().when(webElement).click();
+        cut.click();
+    }
+
+}
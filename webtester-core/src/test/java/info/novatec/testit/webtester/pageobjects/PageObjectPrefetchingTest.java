@@ -0,0 +1,112 @@
+package info.novatec.testit.webtester.pageobjects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.verification.VerificationMode;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.AbstractPageObjectTest;
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.internal.pageobjects.DefaultPageObjectFactory;
+import info.novatec.testit.webtester.internal.pageobjects.NavigationEpochs;
+
+
+public class PageObjectPrefetchingTest extends AbstractPageObjectTest {
+
+    WebDriver scriptingWebDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+
+    TestPage cut;
+
+    @Before
+    public void createPage() {
+        doReturn(scriptingWebDriver).when(browser).getWebDriver();
+        doReturn(webElement).when(( JavascriptExecutor ) scriptingWebDriver).executeScript(anyString(), any(), any());
+        doReturn(Arrays.asList(webElement, null)).when(( JavascriptExecutor ) scriptingWebDriver)
+            .executeScript(anyString(), any(), any(), any(), any());
+        cut = new DefaultPageObjectFactory().create(TestPage.class, model);
+    }
+
+    @Test
+    public void testThatPrefetchedElementsAreUsedWithoutLookup() {
+        cut.prefetch();
+        cut.present.click();
+        verifyLookups(never());
+    }
+
+    @Test
+    public void testThatElementsMissingWhilePrefetchingAreLookedUpAgain() {
+        cut.prefetch();
+        assertThat(cut.missing.isPresent(), is(true));
+        verifyLookups(times(1));
+    }
+
+    @Test
+    public void testThatStalePrefetchedElementsAreLookedUpAgain() {
+        WebElement staleElement = mock(WebElement.class);
+        doThrow(StaleElementReferenceException.class).when(staleElement).isEnabled();
+        doReturn(Arrays.asList(staleElement, null)).when(( JavascriptExecutor ) scriptingWebDriver)
+            .executeScript(anyString(), any(), any(), any(), any());
+        cut.prefetch();
+        assertThat(cut.present.getWebElement(), is(webElement));
+        verifyLookups(times(1));
+    }
+
+    @Test
+    public void testThatPrefetchedElementsAreOnlyUsedOnce() {
+        cut.prefetch();
+        cut.present.click();
+        cut.present.click();
+        verifyLookups(times(1));
+    }
+
+    @Test
+    public void testThatPrefetchedElementsAreDroppedAfterNavigation() {
+        cut.prefetch();
+        NavigationEpochs.advance(browser);
+        assertThat(cut.missing.isPresent(), is(true));
+        verifyLookups(times(1));
+    }
+
+    @Test
+    public void testThatPagesArePrefetchedOnCreationIfActivated() {
+        doReturn(true).when(configuration).pageFragmentPrefetchingIsActivated();
+        cut = new DefaultPageObjectFactory().create(TestPage.class, model);
+        cut.present.click();
+        verifyLookups(never());
+    }
+
+    /** Fragments of the page are looked up by resolving the locator chain using a script. */
+    void verifyLookups(VerificationMode mode) {
+        verify(( JavascriptExecutor ) scriptingWebDriver, mode).executeScript(anyString(), any(), any());
+        verify(scriptingWebDriver, never()).findElement(any(By.class));
+    }
+
+    public static class TestPage extends PageObject {
+
+        @IdentifyUsing("present")
+        PageObject present;
+
+        @IdentifyUsing("missing")
+        PageObject missing;
+
+    }
+
+}
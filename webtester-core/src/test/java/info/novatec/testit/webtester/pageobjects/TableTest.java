@@ -2,14 +2,21 @@ package info.novatec.testit.webtester.pageobjects;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -17,6 +24,7 @@ import org.mockito.Spy;
 
 import info.novatec.testit.webtester.AbstractPageObjectTest;
 import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
 
 
 public class TableTest extends AbstractPageObjectTest {
@@ -29,9 +37,17 @@ public class TableTest extends AbstractPageObjectTest {
     @Spy
     List<TableRow> tableRows = new LinkedList<TableRow>();
 
+    @Mock
+    JavaScriptExecutor javaScript;
+
     @InjectMocks
     Table cut;
 
+    @Before
+    public void stubJavaScriptExecutor() {
+        doReturn(javaScript).when(browser).javaScript();
+    }
+
     /* number of rows */
 
     @Test
@@ -77,6 +93,30 @@ public class TableTest extends AbstractPageObjectTest {
 
     }
 
+    /* read all */
+
+    @Test
+    public void testThatAllFieldTextsAreReadWithASingleScriptExecution() {
+
+        List<?> rawRows = Arrays.asList(Arrays.asList("H1", "H2"), Arrays.asList("F1", "F2"));
+        doReturn(rawRows).when(javaScript).executeWithReturn(anyString(), eq(cut));
+
+        List<List<String>> texts = cut.readAll();
+
+        assertThat(texts, hasSize(2));
+        assertThat(texts.get(0), contains("H1", "H2"));
+        assertThat(texts.get(1), contains("F1", "F2"));
+        verify(javaScript, times(1)).executeWithReturn(anyString(), eq(cut));
+
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testThatReadTextsCantBeModified() {
+        List<?> rawRows = Arrays.asList(Arrays.asList("H1", "H2"));
+        doReturn(rawRows).when(javaScript).executeWithReturn(anyString(), eq(cut));
+        cut.readAll().get(0).clear();
+    }
+
     /* correctness of class */
 
     @Test
@@ -3,10 +3,12 @@ package info.novatec.testit.webtester.pageobjects;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,6 +25,7 @@ import info.novatec.testit.webtester.AbstractPageObjectTest;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
 import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextAppendedEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextClearedEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextSetEvent;
@@ -211,6 +214,50 @@ public class TextFieldTest extends AbstractPageObjectTest {
         cut.appendText("foo");
     }
 
+    @Test
+    public void testThatTextsAreNotReadIfNobodyListensToTheEvent() {
+
+        EventSystem.deregisterListener(listener);
+        EventSystem.registerListener(TextClearedEvent.class, listener);
+        try {
+            cut.setText("foo");
+            verify(webElement, never()).getAttribute("value");
+        } finally {
+            EventSystem.deregisterListener(listener);
+            EventSystem.registerListener(listener);
+        }
+
+    }
+
+    @Test
+    public void testThatTextsAreNotReadIfStateCaptureIsDisabled() {
+
+        doReturn(false).when(configuration).eventStateCaptureIsActivated();
+
+        cut.setText("foo");
+
+        verify(webElement, never()).getAttribute("value");
+        verify(listener).eventOccurred(textSetCaptor.capture());
+        assertThat(textSetCaptor.getValue().getBefore(), is(nullValue()));
+        assertThat(textSetCaptor.getValue().getAfter(), is(nullValue()));
+
+    }
+
+    @Test
+    public void testThatNewTextIsOnlyReadOnceAfterEventWasDispatched() {
+
+        stubWebElementBeforeAndAfterTexts("some value", "foo");
+
+        cut.setText("foo");
+        verify(webElement, times(2)).getAttribute("value");
+
+        verify(listener).eventOccurred(textSetCaptor.capture());
+        assertThat(textSetCaptor.getValue().getAfter(), is("foo"));
+        assertThat(textSetCaptor.getValue().getAfter(), is("foo"));
+        verify(webElement, times(2)).getAttribute("value");
+
+    }
+
     /* pressing ENTER */
 
     @Test
@@ -1,7 +1,15 @@
 package info.novatec.testit.webtester.utils;
 
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
 import org.junit.Test;
 import org.mockito.InjectMocks;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
 
 import info.novatec.testit.webtester.AbstractPageObjectTest;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
@@ -13,6 +21,8 @@ public class AssertsTest extends AbstractPageObjectTest {
 
     @InjectMocks
     PageObject pageObject;
+    @InjectMocks
+    AlwaysDisabledPageObject alwaysDisabledPageObject;
 
     /* enabled */
 
@@ -64,4 +74,34 @@ public class AssertsTest extends AbstractPageObjectTest {
         Asserts.assertEnabledAndVisible(pageObject);
     }
 
+    @Test
+    public void testAssertEnabledAndVisible_ScriptReportsEnabledAndVisible_NoException() {
+        elementIsDisabled();
+        elementIsInvisible();
+        scriptReportsEnabledAndVisible();
+        Asserts.assertEnabledAndVisible(pageObject);
+    }
+
+    @Test(expected = PageObjectIsDisabledException.class)
+    public void testAssertEnabledAndVisible_IsEnabledOverridden_ScriptIsIgnored() {
+        elementIsVisibleAndEnabled();
+        scriptReportsEnabledAndVisible();
+        Asserts.assertEnabledAndVisible(alwaysDisabledPageObject);
+    }
+
+    void scriptReportsEnabledAndVisible() {
+        WebDriver scriptingWebDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        doReturn(true).when(( JavascriptExecutor ) scriptingWebDriver).executeScript(anyString(), anyVararg());
+        doReturn(scriptingWebDriver).when(browser).getWebDriver();
+    }
+
+    public static class AlwaysDisabledPageObject extends PageObject {
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+    }
+
 }
@@ -0,0 +1,74 @@
+package info.novatec.testit.webtester.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+public class ListProjectionsTest {
+
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+    PageObject pageObject1 = mock(PageObject.class);
+    PageObject pageObject2 = mock(PageObject.class);
+
+    @Before
+    public void init() {
+        Browser browser = mock(Browser.class);
+        doReturn(javaScript).when(browser).javaScript();
+        for (PageObject pageObject : Arrays.asList(pageObject1, pageObject2)) {
+            doReturn(browser).when(pageObject).getBrowser();
+            doReturn(mock(WebElement.class)).when(pageObject).getWebElement();
+        }
+    }
+
+    @Test
+    public void testThatAttributesOfPageObjectsAreGatheredWithASingleScript() {
+
+        doReturn(Arrays.asList("foo", null)).when(javaScript).executeWithReturn(anyString(), anyVararg());
+
+        List<String> values = ListProjections.attributes(Arrays.asList(pageObject1, pageObject2), "name");
+
+        assertThat(values, contains("foo", null));
+        verify(pageObject1, never()).getAttribute("name");
+
+    }
+
+    @Test
+    public void testThatAttributesAreGatheredPerPageObjectIfScriptFails() {
+
+        doThrow(new WebDriverException()).when(javaScript).executeWithReturn(anyString(), anyVararg());
+        doReturn("foo").when(pageObject1).getAttribute("name");
+        doReturn("bar").when(pageObject2).getAttribute("name");
+
+        List<String> values = ListProjections.attributes(Arrays.asList(pageObject1, pageObject2), "name");
+
+        assertThat(values, contains("foo", "bar"));
+
+    }
+
+    @Test
+    public void testThatEmptyListsAreProjectedWithoutScript() {
+        assertThat(ListProjections.texts(new ArrayList<PageObject>()), empty());
+    }
+
+}
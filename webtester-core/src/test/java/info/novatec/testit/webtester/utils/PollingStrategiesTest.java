@@ -0,0 +1,67 @@
+package info.novatec.testit.webtester.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.enumerations.WaitPolling;
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+
+
+public class PollingStrategiesTest {
+
+    @Test
+    public void testThatFixedPollingAlwaysReturnsTheSameDelay() {
+        PollingStrategy cut = PollingStrategies.fixed(100L);
+        assertThat(cut.getDelay(1, 0L), is(100L));
+        assertThat(cut.getDelay(50, 5000L), is(100L));
+    }
+
+    @Test
+    public void testThatExponentialBackoffDoublesTheDelayAfterEachPoll() {
+        PollingStrategy cut = PollingStrategies.exponentialBackoff(10L, 1000L);
+        assertThat(cut.getDelay(1, 0L), is(10L));
+        assertThat(cut.getDelay(2, 10L), is(20L));
+        assertThat(cut.getDelay(3, 30L), is(40L));
+        assertThat(cut.getDelay(4, 70L), is(80L));
+    }
+
+    @Test
+    public void testThatExponentialBackoffIsCappedAtMaximumDelay() {
+        PollingStrategy cut = PollingStrategies.exponentialBackoff(10L, 100L);
+        assertThat(cut.getDelay(5, 150L), is(100L));
+        assertThat(cut.getDelay(Integer.MAX_VALUE, 150L), is(100L));
+    }
+
+    @Test
+    public void testThatFastStartUsesFastIntervalDuringFastPhase() {
+        PollingStrategy cut = PollingStrategies.fastStart(200L, 10L, PollingStrategies.fixed(100L));
+        assertThat(cut.getDelay(1, 0L), is(10L));
+        assertThat(cut.getDelay(10, 195L), is(5L));
+        assertThat(cut.getDelay(20, 200L), is(100L));
+    }
+
+    @Test
+    public void testThatStrategyIsCreatedFromConfiguration() {
+
+        Configuration configuration = mock(Configuration.class);
+        doReturn(100L).when(configuration).getWaitInterval();
+
+        doReturn(WaitPolling.FIXED).when(configuration).getWaitPolling();
+        assertThat(PollingStrategies.forConfiguration(configuration).getDelay(1, 0L), is(100L));
+
+        doReturn(WaitPolling.EXPONENTIAL_BACKOFF).when(configuration).getWaitPolling();
+        assertThat(PollingStrategies.forConfiguration(configuration).getDelay(1, 0L), is(10L));
+        assertThat(PollingStrategies.forConfiguration(configuration).getDelay(10, 1000L), is(100L));
+
+        doReturn(WaitPolling.FAST_START).when(configuration).getWaitPolling();
+        assertThat(PollingStrategies.forConfiguration(configuration).getDelay(1, 0L), is(10L));
+        assertThat(PollingStrategies.forConfiguration(configuration).getDelay(60, 600L), is(100L));
+
+    }
+
+}
@@ -3,11 +3,16 @@ package info.novatec.testit.webtester.utils;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.concurrent.TimeUnit;
@@ -19,8 +24,14 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.openqa.selenium.TimeoutException;
 
+import com.google.common.base.Predicate;
 import com.google.common.base.Supplier;
 
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
 
 @RunWith(MockitoJUnitRunner.class)
 public class WaitsTest {
@@ -57,6 +68,46 @@ public class WaitsTest {
         }
     }
 
+    @Test
+    public void testGenericWaitUntil_NoDelayAfterConditionIsMet() {
+        when(supplier.get()).thenReturn(true);
+        long start = System.nanoTime();
+        Waits.waitUntil(10, TimeUnit.SECONDS, 5000, supplier);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000L, is(true));
+    }
+
+    @Test
+    public void testGenericWaitUntil_PollingStrategyIsAskedForDelays() {
+        PollingStrategy polling = mock(PollingStrategy.class);
+        doReturn(1L).when(polling).getDelay(anyInt(), anyLong());
+        when(supplier.get()).thenReturn(false, false, true);
+        Waits.waitUntil(1, TimeUnit.SECONDS, polling, supplier);
+        verify(polling).getDelay(eq(1), anyLong());
+        verify(polling).getDelay(eq(2), anyLong());
+        verifyNoMoreInteractions(polling);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWaitInBrowserUntil_ConditionsWithoutScriptAreCheckedInJava() {
+
+        Configuration configuration = mock(Configuration.class);
+        doReturn(10L).when(configuration).getWaitInterval();
+        Browser browser = mock(Browser.class);
+        doReturn(configuration).when(browser).getConfiguration();
+        PageObject pageObject = mock(PageObject.class);
+        doReturn(browser).when(pageObject).getBrowser();
+
+        Predicate<PageObject> condition = mock(Predicate.class);
+        when(condition.apply(pageObject)).thenReturn(false, true);
+
+        Waits.waitInBrowserUntil(1, TimeUnit.SECONDS, pageObject, condition);
+
+        verify(condition, times(2)).apply(pageObject);
+        verify(browser, never()).getWebDriver();
+
+    }
+
     @Test
     public void conditionIsCheckedAtLeastOnceEvenWithoutTimeout() {
 
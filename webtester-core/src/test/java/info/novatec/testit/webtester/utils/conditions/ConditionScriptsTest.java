@@ -0,0 +1,97 @@
+package info.novatec.testit.webtester.utils.conditions;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.pageobjects.traits.HasText;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.pageobjects.TextField;
+import info.novatec.testit.webtester.utils.conditions.syntax.Either;
+import info.novatec.testit.webtester.utils.conditions.syntax.Is;
+import info.novatec.testit.webtester.utils.conditions.syntax.Not;
+
+
+public class ConditionScriptsTest {
+
+    @Test
+    public void testThatSimpleTextIsQuoted() {
+        assertThat(ConditionScripts.quote("foo bar"), is("'foo bar'"));
+    }
+
+    @Test
+    public void testThatLiteralEndingCharactersAreEscaped() {
+        assertThat(ConditionScripts.quote("it's \"a\"\\\n"), is("'it\\'s \\\"a\\\"\\\\\\n'"));
+    }
+
+    @Test
+    public void testThatControlCharactersAndLineSeparatorsAreEscaped() {
+        assertThat(ConditionScripts.quote("\t\u2028"), is("'\\u0009\\u2028'"));
+    }
+
+    @Test
+    public void testThatNullIsQuotedAsNullLiteral() {
+        assertThat(ConditionScripts.quote(null), is("null"));
+    }
+
+    @Test
+    public void testThatScriptsOfWrappedConditionsAreCombined() {
+        Either<PageObject> condition = new Either<PageObject>(new Visible(), new Not<PageObject>(new Present()));
+        assertThat(ConditionScripts.of(new Is<PageObject>(condition)),
+            is("(wt.visible(element)) || (!(element != null))"));
+    }
+
+    @Test
+    public void testThatAttributeConditionsCompareTheAttributeAsString() {
+        assertThat(ConditionScripts.of(new AttributeWithValue("data-id", 42)),
+            is("wt.attribute(element, 'data-id') === '42'"));
+    }
+
+    @Test
+    public void testThatConditionsWithoutScriptResultInNull() {
+        Either<PageObject> condition = new Either<PageObject>(new Visible(), new Editable());
+        assertThat(ConditionScripts.of(condition), is(nullValue()));
+    }
+
+    @Test
+    public void testThatValueBasedTextConditionsAreEvaluatedInBrowserForTextFields() {
+        Is<HasText> condition = new Is<HasText>(new Not<HasText>(new TextEquals("foo")));
+        assertThat(ConditionScripts.of(condition, new TextField()),
+            is("!(element != null && wt.value(element) === 'foo')"));
+    }
+
+    @Test
+    public void testThatValueBasedTextConditionsAreNotEvaluatedInBrowserForOtherTexts() {
+        assertThat(ConditionScripts.of(new TextContains("foo"), mock(HasText.class)), is(nullValue()));
+        assertThat(ConditionScripts.of(new TextContains("foo"), new CustomTextField()), is(nullValue()));
+    }
+
+    @Test
+    public void testThatWrappedLenientConditionsAreLenient() {
+        Either<PageObject> condition = new Either<PageObject>(new Visible(), new Is<PageObject>(new Enabled()));
+        assertThat(ConditionScripts.isLenient(condition), is(true));
+    }
+
+    @Test
+    public void testThatNegatedConditionsAreNotLenient() {
+        assertThat(ConditionScripts.isLenient(new Not<PageObject>(new Invisible())), is(false));
+    }
+
+    @Test
+    public void testThatConditionsWithInexactExpressionsAreNotLenient() {
+        assertThat(ConditionScripts.isLenient(new Is<PageObject>(new Invisible())), is(false));
+    }
+
+    public static class CustomTextField extends TextField {
+
+        @Override
+        public String getText() {
+            return getVisibleText();
+        }
+
+    }
+
+}
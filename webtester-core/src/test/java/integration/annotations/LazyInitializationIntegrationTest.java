@@ -0,0 +1,65 @@
+package integration.annotations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import javax.annotation.PostConstruct;
+
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.annotations.LazyInitialization;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.pageobjects.TextField;
+import integration.AbstractWebTesterIntegrationTest;
+
+
+public class LazyInitializationIntegrationTest extends AbstractWebTesterIntegrationTest {
+
+    @Override
+    protected String getHTMLFilePath() {
+        return "html/annotations/visible.html";
+    }
+
+    @Test
+    public void testThatFragmentsOfLazyPagesAreInitializedOnFirstUse() {
+        LazyPage page = getBrowser().create(LazyPage.class);
+        assertThat(page.textfield.initialized, is(false));
+        assertThat(page.textfield.isVisible(), is(true));
+        assertThat(page.textfield.initialized, is(true));
+    }
+
+    @Test
+    public void testThatFragmentsOfOtherPagesAreInitializedImmediately() {
+        EagerPage page = getBrowser().create(EagerPage.class);
+        assertThat(page.textfield.initialized, is(true));
+    }
+
+    @LazyInitialization
+    public static class LazyPage extends PageObject {
+
+        @IdentifyUsing("textfield")
+        InitializationTrackingTextField textfield;
+
+    }
+
+    @LazyInitialization(false)
+    public static class EagerPage extends PageObject {
+
+        @IdentifyUsing("textfield")
+        InitializationTrackingTextField textfield;
+
+    }
+
+    public static class InitializationTrackingTextField extends TextField {
+
+        boolean initialized;
+
+        @PostConstruct
+        void initialize() {
+            initialized = true;
+        }
+
+    }
+
+}
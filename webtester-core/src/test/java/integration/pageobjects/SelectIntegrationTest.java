@@ -11,6 +11,7 @@ import integration.AbstractWebTesterIntegrationTest;
 
 import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
 import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.pageobjects.SelectOption;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 import info.novatec.testit.webtester.pageobjects.Select;
 
@@ -197,6 +198,22 @@ public class SelectIntegrationTest extends AbstractWebTesterIntegrationTest {
         assertThat(page.multiSelect.getNumberOfOptions(), is(3));
     }
 
+    /* read options */
+
+    @Test
+    public void testThatReadingOptionsWorksAsIntended_SingleSelect() {
+        assertThat(page.singleSelectWithSelection.readOptions(),
+            contains(new SelectOption("one", "1", false, 0), new SelectOption("two", "2", true, 1),
+                new SelectOption("three", "3", false, 2)));
+    }
+
+    @Test
+    public void testThatReadingOptionsWorksAsIntended_MultiSelect() {
+        assertThat(page.multiSelectWithSelection.readOptions(),
+            contains(new SelectOption("one", "1", false, 0), new SelectOption("two", "2", true, 1),
+                new SelectOption("three", "3", true, 2)));
+    }
+
     /* utilities */
 
     public static class SelectTestPage extends PageObject {
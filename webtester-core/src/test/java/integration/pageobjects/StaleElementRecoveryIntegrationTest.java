@@ -0,0 +1,76 @@
+package integration.pageobjects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import integration.AbstractWebTesterIntegrationTest;
+
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.enumerations.Method;
+import info.novatec.testit.webtester.pageobjects.Button;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.pageobjects.TextField;
+
+
+public class StaleElementRecoveryIntegrationTest extends AbstractWebTesterIntegrationTest {
+
+    @Override
+    protected String getHTMLFilePath() {
+        return "html/staleElementRecovery.html";
+    }
+
+    @Before
+    public void activateWebElementCaching() {
+        getBrowser().getConfiguration().setWebElementCachingActivated(true);
+    }
+
+    @After
+    public void deactivateWebElementCaching() {
+        getBrowser().getConfiguration().setWebElementCachingActivated(false);
+    }
+
+    @Test
+    public final void testThatStaleCachedElementIsResolvedAgain() {
+
+        TestPage page = getBrowser().create(TestPage.class);
+        page.foo.setText("before");
+
+        page.removeFoo.click();
+        page.addFoo.click();
+
+        page.foo.setText("after");
+        assertThat(page.foo.getText(), is("after"));
+        assertThat(page.foo.getAttribute("id"), is("container2:foo"));
+
+    }
+
+    @Test
+    public final void testThatCachedElementIsDroppedOnRefresh() {
+
+        TestPage page = getBrowser().create(TestPage.class);
+        page.foo.setText("before");
+
+        getBrowser().refresh();
+
+        assertThat(page.foo.getText(), is(""));
+
+    }
+
+    public static class TestPage extends PageObject {
+
+        @IdentifyUsing(method = Method.CSS, value = "input[id$=':foo']")
+        TextField foo;
+
+        @IdentifyUsing("removeFoo")
+        Button removeFoo;
+
+        @IdentifyUsing("addFoo")
+        Button addFoo;
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package integration.pageobjects;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
@@ -181,6 +182,56 @@ public class TableIntegrationTest extends AbstractWebTesterIntegrationTest {
 
     }
 
+    /* read all */
+
+    /**
+     * This test verifies that reading all fields of a table returns the texts
+     * of all fields of all rows - including header and footer rows.
+     */
+    @Test
+    public final void testThatAllFieldTextsCanBeReadFromTable() {
+
+        List<List<String>> texts = page.referenceTable.readAll();
+
+        assertThat(texts, hasSize(5));
+        assertThat(texts.get(HEADER), contains("Header 1", "Header 2", "Header 3"));
+        assertThat(texts.get(ROW_ONE), contains("R1F1", "R1F2", "R1F3"));
+        assertThat(texts.get(ROW_TWO), contains("R2F1", "R2F2", "R2F3"));
+        assertThat(texts.get(ROW_THREE), contains("R3F1", "R3F2", "R3F3"));
+        assertThat(texts.get(FOOTER), contains("Footer 1", "Footer 2", "Footer 3"));
+
+    }
+
+    /**
+     * This test verifies that reading all fields of a classical table without
+     * the thead, tbody and tfoot tags returns the texts of all rows.
+     */
+    @Test
+    public final void testThatAllFieldTextsCanBeReadFromTableWithoutHTML5Tags() {
+        List<List<String>> texts = page.minimalTable.readAll();
+        assertThat(texts, hasSize(5));
+        assertThat(texts.get(ROW_TWO), contains("R2F1", "R2F2", "R2F3"));
+    }
+
+    /**
+     * This test verifies that reading all fields of empty tables and rows
+     * returns empty lists.
+     */
+    @Test
+    public final void testThatReadingAllFieldTextsOfEmptyTablesAndRowsReturnsEmptyLists() {
+        assertThat(page.emptyTable.readAll(), hasSize(0));
+        assertThat(page.emptyRowTable.readAll().get(HEADER), hasSize(0));
+    }
+
+    /**
+     * This test verifies that reading all fields of a row returns the texts of
+     * all fields.
+     */
+    @Test
+    public final void testThatAllFieldTextsCanBeReadFromRow() {
+        assertThat(page.referenceTable.getRow(ROW_ONE).readAll(), contains("R1F1", "R1F2", "R1F3"));
+    }
+
     /* header */
 
     /**
@@ -3,12 +3,15 @@ package info.novatec.testit.webtester.browser.factories;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.browser.BrowserFactory;
 import info.novatec.testit.webtester.api.browser.ProxyConfiguration;
+import info.novatec.testit.webtester.browser.BrowserPool;
+import info.novatec.testit.webtester.browser.SharedDriverService;
 import info.novatec.testit.webtester.browser.WebDriverBrowser;
 
 
@@ -20,14 +23,35 @@ import info.novatec.testit.webtester.browser.WebDriverBrowser;
  * <b>Important information on using IE-Driver:</b>
  * https://github.com/SeleniumHQ/selenium/wiki/ChromeDriver
  * </p>
+ * By default every browser starts its own driver server. Using
+ * {@link #withSharedDriverService()} all browsers of the factory are hosted by
+ * a single, long-lived driver server instead.
+ * <p>
+ * Factories referenced by class (e.g. via the JUnit support's
+ * <code>@CreateUsing</code> or by a {@link BrowserPool}) are created with
+ * their default constructor and therefore don't use a shared driver server.
+ * In order to use one there, reference a subclass which enables it:
+ *
+ * <pre>
+ * public class SharedChromeFactory extends ChromeFactory {
+ *     public SharedChromeFactory() {
+ *         withSharedDriverService();
+ *     }
+ * }
+ * </pre>
  *
  * @see Browser
  * @see ChromeDriver
+ * @see SharedDriverService
  * @since 0.9.3
  */
 public class ChromeFactory implements BrowserFactory {
 
+    private static final SharedDriverService<ChromeDriverService> JVM_SHARED_DRIVER_SERVICE =
+        new SharedDriverService<ChromeDriverService>(new ChromeDriverService.Builder());
+
     private ProxyConfiguration proxyConfiguration;
+    private SharedDriverService<ChromeDriverService> sharedDriverService;
 
     /**
      * Creates a new {@link Browser} object for a Chrome web browser. Any
@@ -52,6 +76,9 @@ public class ChromeFactory implements BrowserFactory {
 
     @Override
     public Browser createBrowser(DesiredCapabilities capabilities) {
+        if (sharedDriverService != null) {
+            return WebDriverBrowser.buildForWebDriver(sharedDriverService.startSession(capabilities));
+        }
         return createBrowser(new ChromeDriver(capabilities));
     }
 
@@ -80,4 +107,30 @@ public class ChromeFactory implements BrowserFactory {
         return this;
     }
 
+    /**
+     * Creates all further browsers of this factory as sessions of a single
+     * chromedriver server which is shared within the JVM. The server is
+     * started with the first browser and stopped when the JVM shuts down.
+     *
+     * @return the same factory for fluent API use
+     * @since 1.2.0
+     */
+    public ChromeFactory withSharedDriverService() {
+        return withSharedDriverService(JVM_SHARED_DRIVER_SERVICE);
+    }
+
+    /**
+     * Creates all further browsers of this factory as sessions of the given
+     * shared driver service. This can be used to share a chromedriver server
+     * e.g. per browser pool instead of JVM wide.
+     *
+     * @param driverService the shared driver service to use
+     * @return the same factory for fluent API use
+     * @since 1.2.0
+     */
+    public ChromeFactory withSharedDriverService(SharedDriverService<ChromeDriverService> driverService) {
+        sharedDriverService = driverService;
+        return this;
+    }
+
 }
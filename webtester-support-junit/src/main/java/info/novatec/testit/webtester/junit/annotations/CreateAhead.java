@@ -0,0 +1,27 @@
+package info.novatec.testit.webtester.junit.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.junit.runner.WebTesterJUnitRunner;
+
+
+/**
+ * This annotation can be applied to a non static {@link Browser browser}
+ * field annotated with {@link CreateUsing @CreateUsing} and will instruct the
+ * {@link WebTesterJUnitRunner WebTester JUnit runner} to create the browser
+ * of the next test in the background while the current test is running. This
+ * hides the browser's startup time at the cost of running two browsers at the
+ * same time.
+ *
+ * @see WebTesterJUnitRunner
+ * @since 1.2.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
+public @interface CreateAhead {
+    // no properties
+}
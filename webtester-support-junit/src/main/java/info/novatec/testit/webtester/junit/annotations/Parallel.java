@@ -0,0 +1,57 @@
+package info.novatec.testit.webtester.junit.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.junit.runner.WebTesterJUnitRunner;
+import info.novatec.testit.webtester.junit.runner.WebTesterSuite;
+
+
+/**
+ * This annotation can be applied to a test class in order to execute its
+ * tests in parallel.
+ * <ul>
+ * <li>{@link #methods()} defines how many test methods of a class run by the
+ * {@link WebTesterJUnitRunner WebTester JUnit runner} are executed in
+ * parallel. Since each test method uses its own test instance, instance
+ * {@link Browser browser} fields are confined to the thread executing the
+ * test. Static browser fields are not allowed in this case - they would be
+ * shared by all threads.</li>
+ * <li>{@link #classes()} defines how many test classes of a suite run by the
+ * {@link WebTesterSuite WebTester suite} are executed in parallel.</li>
+ * </ul>
+ * The results of the tests are still reported in the order in which JUnit
+ * would have executed them sequentially.
+ *
+ * @see WebTesterJUnitRunner
+ * @see WebTesterSuite
+ * @since 1.2.0
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface Parallel {
+
+    /**
+     * The number of test methods of the annotated class to execute in
+     * parallel.
+     *
+     * @return the number of test methods to execute in parallel
+     * @since 1.2.0
+     */
+    int methods() default 1;
+
+    /**
+     * The number of test classes of the annotated suite to execute in
+     * parallel.
+     *
+     * @return the number of test classes to execute in parallel
+     * @since 1.2.0
+     */
+    int classes() default 1;
+
+}
@@ -0,0 +1,35 @@
+package info.novatec.testit.webtester.junit.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.browser.BrowserPool;
+import info.novatec.testit.webtester.junit.runner.WebTesterJUnitRunner;
+
+
+/**
+ * This annotation can be applied to a {@link Browser browser} field annotated
+ * with {@link CreateUsing @CreateUsing} and will instruct the
+ * {@link WebTesterJUnitRunner WebTester JUnit runner} to lease the browser
+ * from the {@link BrowserPool#getDefault() default browser pool} instead of
+ * creating a new one. At the end of its scope the browser is released back to
+ * the pool (which resets its state) instead of being closed.
+ * <p>
+ * This saves the browser's startup time for every test (class) but only the
+ * cookies and storage of the last opened page are cleared when the browser is
+ * reset. Tests should therefore not rely on a completely fresh browser.
+ * <p>
+ * Pooled browsers can't be combined with {@link KeepAlive @KeepAlive}, since
+ * they always have to be released back to the pool.
+ *
+ * @see BrowserPool
+ * @since 1.2.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
+public @interface Pooled {
+    // no properties
+}
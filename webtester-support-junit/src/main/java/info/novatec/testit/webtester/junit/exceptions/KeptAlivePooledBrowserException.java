@@ -0,0 +1,10 @@
+package info.novatec.testit.webtester.junit.exceptions;
+
+@SuppressWarnings("serial")
+public class KeptAlivePooledBrowserException extends IllegalTestClassStructureException {
+
+    public KeptAlivePooledBrowserException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,10 @@
+package info.novatec.testit.webtester.junit.exceptions;
+
+@SuppressWarnings("serial")
+public class NoThreadConfinedBrowserException extends IllegalTestClassStructureException {
+
+    public NoThreadConfinedBrowserException(String message) {
+        super(message);
+    }
+
+}
@@ -1,16 +1,18 @@
 package info.novatec.testit.webtester.junit.runner;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Resource;
 
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
@@ -18,18 +20,24 @@ import org.junit.runners.model.Statement;
 
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.config.Configuration;
-import info.novatec.testit.webtester.internal.ReflectionUtils;
 import info.novatec.testit.webtester.junit.annotations.ConfigurationValue;
+import info.novatec.testit.webtester.junit.annotations.CreateAhead;
 import info.novatec.testit.webtester.junit.annotations.CreateUsing;
 import info.novatec.testit.webtester.junit.annotations.EntryPoint;
+import info.novatec.testit.webtester.junit.annotations.Parallel;
+import info.novatec.testit.webtester.junit.annotations.Pooled;
 import info.novatec.testit.webtester.junit.annotations.Primary;
 import info.novatec.testit.webtester.junit.exceptions.NoManagedBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoPrimaryBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoUniquePrimaryBrowserException;
 import info.novatec.testit.webtester.junit.runner.internal.AbstractTestBrowser;
+import info.novatec.testit.webtester.junit.runner.internal.BrowsersCreatedAhead;
 import info.novatec.testit.webtester.junit.runner.internal.ClassTestBrowser;
 import info.novatec.testit.webtester.junit.runner.internal.ConfigurationValueInjector;
+import info.novatec.testit.webtester.junit.runner.internal.ManagedBrowserField;
 import info.novatec.testit.webtester.junit.runner.internal.MethodTestBrowser;
+import info.novatec.testit.webtester.junit.runner.internal.ParallelScheduler;
+import info.novatec.testit.webtester.junit.runner.internal.TestClassModel;
 import info.novatec.testit.webtester.junit.runner.internal.TestClassPlausibilityChecker;
 
 
@@ -91,6 +99,16 @@ import info.novatec.testit.webtester.junit.runner.internal.TestClassPlausibility
  * <li>static rules' after() methods</li>
  * </ol>
  * <p>
+ * Test methods are executed sequentially unless the test class is annotated
+ * with {@link Parallel @Parallel}. In that case the given number of test
+ * methods is executed in parallel - each with its own instance browsers. The
+ * results are still reported in the sequential order.
+ * <p>
+ * If there is more than one static browser to create, they are all started at
+ * the same time. The browsers of instance fields annotated with
+ * {@link CreateAhead @CreateAhead} are created in the background while the
+ * previous test is running.
+ * <p>
  * <b>Exaple test class:</b>
  * <pre>
  * <code>
@@ -126,8 +144,11 @@ import info.novatec.testit.webtester.junit.runner.internal.TestClassPlausibility
  *
  * @see Browser
  * @see ConfigurationValue
+ * @see CreateAhead
  * @see CreateUsing
  * @see EntryPoint
+ * @see Parallel
+ * @see Pooled
  * @see Primary
  * @see Resource
  * @since 0.9.7 Changed order in which configuration and browser initialization
@@ -136,12 +157,32 @@ import info.novatec.testit.webtester.junit.runner.internal.TestClassPlausibility
  */
 public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
 
-    private List<ClassTestBrowser> classBrowsers = new ArrayList<ClassTestBrowser>();
-    private List<MethodTestBrowser> methodBrowsers = new ArrayList<MethodTestBrowser>();
+    private final TestClassModel model;
+
+    private volatile List<ClassTestBrowser> classBrowsers = Collections.emptyList();
+    /* method browsers are confined to the thread executing the test method */
+    private final ThreadLocal<List<MethodTestBrowser>> methodBrowsers = new ThreadLocal<List<MethodTestBrowser>>();
+
+    private final BrowsersCreatedAhead browsersCreatedAhead = new BrowsersCreatedAhead();
+    private final AtomicInteger remainingTests = new AtomicInteger();
 
     public WebTesterJUnitRunner(Class<?> testClass) throws InitializationError {
         super(testClass);
-        new TestClassPlausibilityChecker(testClass).assertPlausibilityOfTestClass();
+        model = TestClassModel.of(testClass);
+        new TestClassPlausibilityChecker(model).assertPlausibilityOfTestClass();
+        initializeScheduler();
+    }
+
+    private void initializeScheduler() {
+        Parallel parallel = model.getParallel();
+        if (parallel != null && parallel.methods() > 1) {
+            setScheduler(new ParallelScheduler(parallel.methods()));
+        }
+    }
+
+    @Override
+    protected void runChild(FrameworkMethod method, RunNotifier notifier) {
+        super.runChild(method, ParallelScheduler.notifierFor(notifier));
     }
 
     @Override
@@ -157,28 +198,40 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
             }
 
             private void initializeClassLevel() {
-                classBrowsers.clear();
-                Class<?> testClass = getTestClass().getJavaClass();
-                for (Field field : ReflectionUtils.getAllFieldsOfClassHierarchy(testClass)) {
-                    boolean fieldIsStatic = Modifier.isStatic(field.getModifiers());
-                    boolean fieldIsABrowser = Browser.class.isAssignableFrom(field.getType());
-                    boolean fieldIsAnnotatedAsResource = field.getAnnotation(Resource.class) != null;
-                    if (fieldIsStatic && fieldIsABrowser && fieldIsAnnotatedAsResource) {
-                        classBrowsers.add(new ClassTestBrowser(field));
-                    }
+                List<ClassTestBrowser> browsers = new ArrayList<ClassTestBrowser>();
+                for (ManagedBrowserField browserField : model.getClassBrowsers()) {
+                    browsers.add(new ClassTestBrowser(browserField));
                 }
+                classBrowsers = browsers;
+                remainingTests.set(testCount());
             }
 
             private void injectConfigurationValuesIntoStaticFields() {
-                if (configurationValuesAnnotationIsUsedOnClassLevel()) {
+                if (model.usesStaticConfigurationValues()) {
                     Configuration configuration = getPrimaryBrowser().getBrowser().getConfiguration();
                     ConfigurationValueInjector.injectStatics(configuration, getTestClass().getJavaClass());
                 }
             }
 
             private void executeBeforeClassForAllBrowsers() throws ReflectiveOperationException {
-                for (ClassTestBrowser browser : classBrowsers) {
-                    browser.beforeClass();
+                if (classBrowsers.size() > 1) {
+                    for (ClassTestBrowser browser : classBrowsers) {
+                        browser.startCreation();
+                    }
+                }
+                boolean allBrowsersCreated = false;
+                try {
+                    for (ClassTestBrowser browser : classBrowsers) {
+                        browser.beforeClass();
+                    }
+                    allBrowsersCreated = true;
+                } finally {
+                    if (!allBrowsersCreated) {
+                        // browsers of the remaining fields would never be picked up
+                        for (ClassTestBrowser browser : classBrowsers) {
+                            browser.discardPendingBrowserCreation();
+                        }
+                    }
                 }
             }
 
@@ -189,19 +242,6 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
         };
     }
 
-    private boolean configurationValuesAnnotationIsUsedOnClassLevel() {
-        boolean isUsed = false;
-        Class<?> testClass = getTestClass().getJavaClass();
-        for (Field field : ReflectionUtils.getAllFieldsOfClassHierarchy(testClass)) {
-            boolean isStatic = Modifier.isStatic(field.getModifiers());
-            boolean isAnnotated = field.isAnnotationPresent(ConfigurationValue.class);
-            if (isStatic && isAnnotated) {
-                isUsed = true;
-            }
-        }
-        return isUsed;
-    }
-
     @Override
     protected Statement withAfterClasses(final Statement statement) {
         return new Statement() {
@@ -220,8 +260,12 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
             }
 
             private void executeAfterClassForAllBrowsers() {
-                for (ClassTestBrowser browser : classBrowsers) {
-                    browser.afterClass();
+                try {
+                    for (ClassTestBrowser browser : classBrowsers) {
+                        browser.afterClass();
+                    }
+                } finally {
+                    browsersCreatedAhead.discardAll();
                 }
             }
 
@@ -236,19 +280,30 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
             public void evaluate() throws Throwable {
                 initializeMethodLevel();
                 executeBeforeTestForAllBrowsers();
+                createBrowsersForNextTest();
                 injectConfigurationValuesIntoInstanceFields();
                 evaluateWithBeforesFromSuperClass();
             }
 
             private void initializeMethodLevel() {
-                methodBrowsers.clear();
-                Class<?> testClass = getTestClass().getJavaClass();
-                for (Field field : ReflectionUtils.getAllFieldsOfClassHierarchy(testClass)) {
-                    boolean fieldIsNonStatic = !Modifier.isStatic(field.getModifiers());
-                    boolean fieldIsABrowser = Browser.class.isAssignableFrom(field.getType());
-                    boolean fieldIsAnnotatedAsResource = field.getAnnotation(Resource.class) != null;
-                    if (fieldIsNonStatic && fieldIsABrowser && fieldIsAnnotatedAsResource) {
-                        methodBrowsers.add(new MethodTestBrowser(field, target));
+                List<MethodTestBrowser> browsers = new ArrayList<MethodTestBrowser>();
+                for (ManagedBrowserField browserField : model.getMethodBrowsers()) {
+                    MethodTestBrowser browser = new MethodTestBrowser(browserField, target);
+                    if (browser.isCreatedAhead()) {
+                        browsersCreatedAhead.handOverTo(browser);
+                    }
+                    browsers.add(browser);
+                }
+                methodBrowsers.set(browsers);
+            }
+
+            private void createBrowsersForNextTest() {
+                if (remainingTests.decrementAndGet() <= 0) {
+                    return;
+                }
+                for (MethodTestBrowser browser : getMethodBrowsers()) {
+                    if (browser.isCreatedAhead()) {
+                        browsersCreatedAhead.createFor(browser);
                     }
                 }
             }
@@ -257,13 +312,13 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
                 for (ClassTestBrowser browser : classBrowsers) {
                     browser.beforeTest();
                 }
-                for (MethodTestBrowser browser : methodBrowsers) {
+                for (MethodTestBrowser browser : getMethodBrowsers()) {
                     browser.beforeTest();
                 }
             }
 
             private void injectConfigurationValuesIntoInstanceFields() {
-                if (configurationValuesAnnotationIsUsedOnMethodLevel()) {
+                if (model.usesInstanceConfigurationValues()) {
                     Configuration configuration = getPrimaryBrowser().getBrowser().getConfiguration();
                     ConfigurationValueInjector.inject(configuration, target);
                 }
@@ -276,19 +331,6 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
         };
     }
 
-    private boolean configurationValuesAnnotationIsUsedOnMethodLevel() {
-        boolean isUsed = false;
-        Class<?> testClass = getTestClass().getJavaClass();
-        for (Field field : ReflectionUtils.getAllFieldsOfClassHierarchy(testClass)) {
-            boolean isStatic = Modifier.isStatic(field.getModifiers());
-            boolean isAnnotated = field.isAnnotationPresent(ConfigurationValue.class);
-            if (!isStatic && isAnnotated) {
-                isUsed = true;
-            }
-        }
-        return isUsed;
-    }
-
     @Override
     protected Statement withAfters(final FrameworkMethod method, final Object target, final Statement statement) {
         return new Statement() {
@@ -308,11 +350,15 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
             }
 
             private void executeAfterTestForAllBrowsers() {
-                for (MethodTestBrowser browser : methodBrowsers) {
-                    browser.afterTest();
-                }
-                for (ClassTestBrowser browser : classBrowsers) {
-                    browser.afterTest();
+                try {
+                    for (MethodTestBrowser browser : getMethodBrowsers()) {
+                        browser.afterTest();
+                    }
+                    for (ClassTestBrowser browser : classBrowsers) {
+                        browser.afterTest();
+                    }
+                } finally {
+                    methodBrowsers.remove();
                 }
             }
 
@@ -336,7 +382,7 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
     }
 
     private int numberOfManagedBrowsers() {
-        return classBrowsers.size() + methodBrowsers.size();
+        return classBrowsers.size() + getMethodBrowsers().size();
     }
 
     private AbstractTestBrowser getUniquePrimaryBrowserCandidate() {
@@ -359,10 +405,15 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
     private List<AbstractTestBrowser> getAllBrowsersRegardlessOfScope() {
         List<AbstractTestBrowser> allBrowser = new LinkedList<AbstractTestBrowser>();
         allBrowser.addAll(classBrowsers);
-        allBrowser.addAll(methodBrowsers);
+        allBrowser.addAll(getMethodBrowsers());
         return allBrowser;
     }
 
+    private List<MethodTestBrowser> getMethodBrowsers() {
+        List<MethodTestBrowser> browsers = methodBrowsers.get();
+        return browsers != null ? browsers : Collections.<MethodTestBrowser> emptyList();
+    }
+
     /* END primary browser calculation */
 
 }
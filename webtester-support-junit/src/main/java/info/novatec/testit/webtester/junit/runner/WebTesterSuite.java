@@ -0,0 +1,48 @@
+package info.novatec.testit.webtester.junit.runner;
+
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.Suite;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+
+import info.novatec.testit.webtester.junit.annotations.Parallel;
+import info.novatec.testit.webtester.junit.runner.internal.ParallelScheduler;
+
+
+/**
+ * This {@link Suite suite} runner behaves like the default JUnit suite runner
+ * but executes its test classes in parallel if the suite class is annotated
+ * with {@link Parallel @Parallel}.
+ * <p>
+ * <b>Example suite:</b>
+ * <pre>
+ * <code>
+ * &#64;RunWith(WebTesterSuite.class)
+ * &#64;SuiteClasses({ FooTest.class, BarTest.class })
+ * &#64;Parallel(classes = 2)
+ * public class AllTests {
+ * }
+ * </code>
+ * </pre>
+ *
+ * @see Parallel
+ * @see WebTesterJUnitRunner
+ * @since 1.2.0
+ */
+public class WebTesterSuite extends Suite {
+
+    public WebTesterSuite(Class<?> suiteClass, RunnerBuilder builder) throws InitializationError {
+        super(suiteClass, builder);
+        Parallel parallel = suiteClass.getAnnotation(Parallel.class);
+        if (parallel != null && parallel.classes() > 1) {
+            setScheduler(new ParallelScheduler(parallel.classes()));
+        }
+    }
+
+    @Override
+    protected void runChild(Runner runner, RunNotifier notifier) {
+        super.runChild(runner, ParallelScheduler.notifierFor(notifier));
+    }
+
+}
@@ -1,71 +1,160 @@
 package info.novatec.testit.webtester.junit.runner.internal;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.browser.ProxyConfiguration;
+import info.novatec.testit.webtester.browser.BrowserPool;
+import info.novatec.testit.webtester.browser.BrowserProvisioning;
 import info.novatec.testit.webtester.junit.annotations.CreateUsing;
-import info.novatec.testit.webtester.junit.annotations.EntryPoint;
-import info.novatec.testit.webtester.junit.annotations.KeepAlive;
-import info.novatec.testit.webtester.junit.annotations.Primary;
 import info.novatec.testit.webtester.junit.exceptions.NoBrowserFactoryProvidedException;
 
 
 public abstract class AbstractTestBrowser {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractTestBrowser.class);
+
+    private ManagedBrowserField browserField;
     private Field field;
 
     private Browser browser;
     private String entryPoint;
     private boolean primaryCandidate;
     private boolean closeBrowser;
+    private boolean pooled;
+    private boolean createdAhead;
+
+    private boolean leased;
+    private Object leasedFor;
+    private boolean providedByTest;
+
+    private Future<Browser> browserCreatedInBackground;
+
+    public AbstractTestBrowser(ManagedBrowserField browserField) {
+        this.browserField = browserField;
+        this.field = browserField.getField();
+        this.entryPoint = browserField.getEntryPoint();
+        this.primaryCandidate = browserField.isPrimary();
+        this.closeBrowser = !browserField.isKeepAlive();
+        this.pooled = browserField.isPooled();
+        this.createdAhead = browserField.isCreatedAhead();
+    }
 
-    public AbstractTestBrowser(Field browserField) {
-        this.field = browserField;
-        this.field.setAccessible(true);
-        initializeEntryPoint();
-        initializePrimaryCandidate();
-        initializeCloseBrowserFlag();
+    protected void createBrowserAndSetStaticField() throws ReflectiveOperationException {
+        createBrowserIfNecessary(null);
     }
 
-    private void initializeEntryPoint() {
-        EntryPoint annotation = this.field.getAnnotation(EntryPoint.class);
-        if (annotation != null) {
-            entryPoint = annotation.value();
+    protected void createBrowserIfNecessary(Object target) throws ReflectiveOperationException {
+        Object fieldValue = field.get(target);
+        providedByTest = fieldValue != null;
+        if (providedByTest) {
+            browser = ( Browser ) fieldValue;
+            discardPendingBrowserCreation();
+        } else {
+            browser = browserCreatedInBackground != null ? awaitBrowserCreatedInBackground() : createNewBrowser();
+            leased = pooled;
+            field.set(target, browser);
+            leasedFor = target;
         }
     }
 
-    private void initializeCloseBrowserFlag() {
-        closeBrowser = !annotationIsPresent(KeepAlive.class);
+    /**
+     * Starts the creation of this browser in the background in case the
+     * field is not yet set. The browser is picked up by
+     * {@link #createBrowserIfNecessary(Object)}.
+     *
+     * @param target the instance of the field or null for static fields
+     * @throws ReflectiveOperationException if the field could not be read
+     */
+    protected void startBrowserCreationIfNecessary(Object target) throws ReflectiveOperationException {
+        if (browserCreatedInBackground == null && field.get(target) == null) {
+            browserCreatedInBackground = createNewBrowserInBackground();
+        }
     }
 
-    private void initializePrimaryCandidate() {
-        primaryCandidate = annotationIsPresent(Primary.class);
+    /**
+     * Creates a new browser for this field in the background. It can be used
+     * by another instance for the same field via
+     * {@link #useBrowserCreatedInBackground(Future)} or has to be discarded
+     * with {@link #discardBrowserCreatedInBackground(Future)}.
+     *
+     * @return the future browser
+     */
+    public Future<Browser> createNewBrowserInBackground() {
+        return BrowserProvisioning.provide(new Callable<Browser>() {
+
+            @Override
+            public Browser call() throws ReflectiveOperationException {
+                return createNewBrowser();
+            }
+
+        });
     }
 
-    private boolean annotationIsPresent(Class<? extends Annotation> annotationClass) {
-        return this.field.getAnnotation(annotationClass) != null;
+    public void useBrowserCreatedInBackground(Future<Browser> future) {
+        browserCreatedInBackground = future;
     }
 
-    protected void createBrowserAndSetStaticField() throws ReflectiveOperationException {
-        createBrowserIfNecessary(null);
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void discardBrowserCreatedInBackground(Future<Browser> future) {
+        try {
+            Browser unusedBrowser = future.get();
+            if (pooled) {
+                BrowserPool.getDefault().release(unusedBrowser);
+            } else {
+                unusedBrowser.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            LOGGER.warn("could not discard browser created in background", e);
+        }
     }
 
-    protected void createBrowserIfNecessary(Object target) throws ReflectiveOperationException {
-        Object fieldValue = field.get(target);
-        if (fieldValue != null) {
-            browser = ( Browser ) fieldValue;
-        } else {
-            browser = createNewBrowser();
-            field.set(target, browser);
+    /**
+     * Discards the browser which is created in the background for this field
+     * but was not picked up - if there is one. This is necessary whenever the
+     * browser won't be picked up anymore (e.g. because a preceding step
+     * failed).
+     */
+    public void discardPendingBrowserCreation() {
+        Future<Browser> future = browserCreatedInBackground;
+        if (future != null) {
+            browserCreatedInBackground = null;
+            discardBrowserCreatedInBackground(future);
+        }
+    }
+
+    private Browser awaitBrowserCreatedInBackground() throws ReflectiveOperationException {
+        Future<Browser> future = browserCreatedInBackground;
+        browserCreatedInBackground = null;
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for browser", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ReflectiveOperationException) {
+                throw ( ReflectiveOperationException ) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw ( RuntimeException ) cause;
+            } else if (cause instanceof Error) {
+                throw ( Error ) cause;
+            }
+            throw new IllegalStateException(cause);
         }
     }
 
     private Browser createNewBrowser() throws ReflectiveOperationException {
-        CreateUsing annotation = field.getAnnotation(CreateUsing.class);
+        CreateUsing annotation = browserField.getCreateUsing();
         if (annotation == null) {
             throw new NoBrowserFactoryProvidedException();
         }
@@ -74,6 +163,9 @@ public abstract class AbstractTestBrowser {
 
     private Browser createNewBrowserFromAnnotation(CreateUsing annotation)
         throws InstantiationException, IllegalAccessException {
+        if (pooled) {
+            return BrowserPool.getDefault().lease(annotation.value(), annotation.proxy());
+        }
         ProxyConfiguration proxyConfiguration = annotation.proxy().newInstance();
         return annotation.value().newInstance().withProxyConfiguration(proxyConfiguration).createBrowser();
     }
@@ -100,11 +192,40 @@ public abstract class AbstractTestBrowser {
     }
 
     protected void closeBrowser() {
+        discardPendingBrowserCreation();
         if (browser != null && closeBrowser) {
-            browser.close();
+            if (leased) {
+                releaseBrowser();
+            } else {
+                browser.close();
+            }
         }
     }
 
+    private void releaseBrowser() {
+        leased = false;
+        try {
+            // the field must not reference a browser which might be leased by someone else
+            field.set(leasedFor, null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            BrowserPool.getDefault().release(browser);
+            browser = null;
+        }
+    }
+
+    /**
+     * Returns whether or not the field already referenced a browser (i.e.
+     * initialized by the test class itself) the last time this browser was
+     * {@link #createBrowserIfNecessary(Object) created if necessary}.
+     *
+     * @return true if the browser was provided by the test, otherwise false
+     */
+    public boolean isProvidedByTest() {
+        return providedByTest;
+    }
+
     public abstract void beforeTest() throws ReflectiveOperationException;
 
     public abstract void afterTest();
@@ -113,4 +234,12 @@ public abstract class AbstractTestBrowser {
         return primaryCandidate;
     }
 
+    public boolean isCreatedAhead() {
+        return createdAhead;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
 }
@@ -0,0 +1,84 @@
+package info.novatec.testit.webtester.junit.runner.internal;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.junit.annotations.CreateAhead;
+
+
+/**
+ * Holds the {@link Browser browsers} created in the background for the next
+ * test of a class - one per {@link CreateAhead @CreateAhead} field. Browsers
+ * which were not used by any test have to be discarded at the end of the
+ * class.
+ *
+ * @since 1.2.0
+ */
+public class BrowsersCreatedAhead {
+
+    private final ConcurrentMap<Field, CreatedAhead> browsers = new ConcurrentHashMap<Field, CreatedAhead>();
+
+    /**
+     * Hands the browser created ahead for the given test browser's field over
+     * to it - if there is one.
+     *
+     * @param browser the test browser
+     */
+    public void handOverTo(MethodTestBrowser browser) {
+        CreatedAhead createdAhead = browsers.remove(browser.getField());
+        if (createdAhead != null) {
+            browser.useBrowserCreatedInBackground(createdAhead.future);
+        }
+    }
+
+    /**
+     * Starts the creation of a browser for the next test using the given test
+     * browser's field - if there isn't one already. No browser is created if
+     * the field was already initialized by the current test instance, since
+     * the next instance will most likely initialize it as well.
+     *
+     * @param browser the test browser (after its browser was created if
+     * necessary)
+     */
+    public void createFor(MethodTestBrowser browser) {
+        if (browser.isProvidedByTest()) {
+            return;
+        }
+        Field field = browser.getField();
+        if (!browsers.containsKey(field)) {
+            CreatedAhead createdAhead = new CreatedAhead(browser, browser.createNewBrowserInBackground());
+            CreatedAhead existing = browsers.putIfAbsent(field, createdAhead);
+            if (existing != null) {
+                browser.discardBrowserCreatedInBackground(createdAhead.future);
+            }
+        }
+    }
+
+    /**
+     * Discards all browsers which were not handed over to a test.
+     */
+    public void discardAll() {
+        for (Map.Entry<Field, CreatedAhead> entry : browsers.entrySet()) {
+            if (browsers.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().creator.discardBrowserCreatedInBackground(entry.getValue().future);
+            }
+        }
+    }
+
+    private static final class CreatedAhead {
+
+        private final AbstractTestBrowser creator;
+        private final Future<Browser> future;
+
+        CreatedAhead(AbstractTestBrowser creator, Future<Browser> future) {
+            this.creator = creator;
+            this.future = future;
+        }
+
+    }
+
+}
@@ -1,7 +1,5 @@
 package info.novatec.testit.webtester.junit.runner.internal;
 
-import java.lang.reflect.Field;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,10 +8,14 @@ public class ClassTestBrowser extends AbstractTestBrowser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassTestBrowser.class);
 
-    public ClassTestBrowser(Field browserField) {
+    public ClassTestBrowser(ManagedBrowserField browserField) {
         super(browserField);
     }
 
+    public void startCreation() throws ReflectiveOperationException {
+        startBrowserCreationIfNecessary(null);
+    }
+
     public void beforeClass() throws ReflectiveOperationException {
         LOGGER.debug("beforeClass");
         createBrowserAndSetStaticField();
@@ -0,0 +1,63 @@
+package info.novatec.testit.webtester.junit.runner.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import org.apache.commons.lang.IllegalClassException;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.junit.annotations.ConfigurationValue;
+
+
+/**
+ * Immutable description of a field annotated with
+ * {@link ConfigurationValue @ConfigurationValue}. The configuration key and the
+ * injector for the field's type are looked up once on creation.
+ *
+ * @see TestClassModel
+ * @see ConfigurationValueInjector
+ * @since 1.2.0
+ */
+public final class ConfigurationValueField {
+
+    private static final String UNINJECTABLE_FIELD_TYPE = "cannot inject configuration values into fields of type ";
+
+    private final Field field;
+    private final String key;
+    private final ConfigurationValueInjector.Injector injector;
+
+    public ConfigurationValueField(Field field) {
+        this.field = field;
+        this.field.setAccessible(true);
+        this.key = field.getAnnotation(ConfigurationValue.class).value();
+        this.injector = ConfigurationValueInjector.getInjectorFor(field.getType());
+    }
+
+    /**
+     * Injects the configuration value into the field of the given target.
+     *
+     * @param config the configuration to take the value from
+     * @param target the instance to inject into or null for static fields
+     * @throws IllegalClassException if the field's type is not injectable
+     */
+    public void injectInto(Configuration config, Object target) {
+
+        if (injector == null) {
+            throw new IllegalClassException(UNINJECTABLE_FIELD_TYPE + field.getType());
+        }
+
+        try {
+            injector.injectInto(config, key, field, target);
+        } catch (IllegalAccessException e) {
+            /* since the field is set accessible on creation IllegalAccessExceptions should not occur.
+             * That makes it ok to throw an UndeclaredThrowableException */
+            throw new UndeclaredThrowableException(e);
+        }
+
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+}
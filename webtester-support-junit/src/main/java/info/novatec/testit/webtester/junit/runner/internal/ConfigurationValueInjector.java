@@ -1,22 +1,18 @@
 package info.novatec.testit.webtester.junit.runner.internal;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.commons.lang.IllegalClassException;
-
 import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.junit.annotations.ConfigurationValue;
 
 
 public final class ConfigurationValueInjector {
 
-    private static final String UNINJECTABLE_FIELD_TYPE = "cannot inject configuration values into fields of type ";
     private static final Object STATIC_TARGET = null;
 
     private static final Map<Class<?>, Injector> INJECTOR_MAP = new HashMap<Class<?>, Injector>();
@@ -86,48 +82,21 @@ public final class ConfigurationValueInjector {
     }
 
     public static void injectStatics(Configuration config, Class<?> targetClass) {
-        for (Field field : targetClass.getDeclaredFields()) {
-            if (Modifier.isStatic(field.getModifiers())) {
-                injectStaticField(config, field);
-            }
-        }
+        injectAll(config, TestClassModel.of(targetClass).getStaticConfigurationValues(), STATIC_TARGET);
     }
 
     public static void inject(Configuration config, Object target) {
-        for (Field field : target.getClass().getDeclaredFields()) {
-            if (!Modifier.isStatic(field.getModifiers())) {
-                injectField(config, field, target);
-            }
-        }
-    }
-
-    private static void injectStaticField(Configuration config, Field field) {
-        injectField(config, field, STATIC_TARGET);
+        injectAll(config, TestClassModel.of(target.getClass()).getInstanceConfigurationValues(), target);
     }
 
-    private static void injectField(Configuration config, Field field, Object target) {
-
-        ConfigurationValue configurationValue = field.getAnnotation(ConfigurationValue.class);
-        if (configurationValue == null) {
-            // field should not be injected
-            return;
-        }
-
-        field.setAccessible(true);
-
-        Injector injector = INJECTOR_MAP.get(field.getType());
-        if (injector == null) {
-            throw new IllegalClassException(UNINJECTABLE_FIELD_TYPE + field.getType());
-        }
-
-        try {
-            injector.injectInto(config, configurationValue.value(), field, target);
-        } catch (IllegalAccessException e) {
-            /* since fields are set accessible at the beginning of this method  IllegalAccessExceptions should not occur.
-             * That makes it ok to throw an UndeclaredThrowableException */
-            throw new UndeclaredThrowableException(e);
+    private static void injectAll(Configuration config, List<ConfigurationValueField> fields, Object target) {
+        for (ConfigurationValueField field : fields) {
+            field.injectInto(config, target);
         }
+    }
 
+    static Injector getInjectorFor(Class<?> fieldType) {
+        return INJECTOR_MAP.get(fieldType);
     }
 
     public static boolean canInjectValue(Field field) {
@@ -142,7 +111,7 @@ public final class ConfigurationValueInjector {
         // utility constructor
     }
 
-    private interface Injector {
+    interface Injector {
         void injectInto(Configuration config, String key, Field field, Object target) throws IllegalAccessException;
     }
 
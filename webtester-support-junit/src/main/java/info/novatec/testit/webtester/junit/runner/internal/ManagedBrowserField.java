@@ -0,0 +1,87 @@
+package info.novatec.testit.webtester.junit.runner.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import info.novatec.testit.webtester.junit.annotations.CreateAhead;
+import info.novatec.testit.webtester.junit.annotations.CreateUsing;
+import info.novatec.testit.webtester.junit.annotations.EntryPoint;
+import info.novatec.testit.webtester.junit.annotations.KeepAlive;
+import info.novatec.testit.webtester.junit.annotations.Pooled;
+import info.novatec.testit.webtester.junit.annotations.Primary;
+
+
+/**
+ * Immutable description of a managed browser field of a test class. All
+ * annotations of the field are read once on creation, so the test browsers
+ * created for each test don't have to reflect over the field again.
+ *
+ * @see TestClassModel
+ * @since 1.2.0
+ */
+public final class ManagedBrowserField {
+
+    private final Field field;
+    private final boolean staticField;
+
+    private final String entryPoint;
+    private final CreateUsing createUsing;
+    private final boolean primary;
+    private final boolean keepAlive;
+    private final boolean pooled;
+    private final boolean createdAhead;
+
+    public ManagedBrowserField(Field field) {
+        this.field = field;
+        this.field.setAccessible(true);
+        this.staticField = Modifier.isStatic(field.getModifiers());
+        EntryPoint entryPointAnnotation = field.getAnnotation(EntryPoint.class);
+        this.entryPoint = entryPointAnnotation != null ? entryPointAnnotation.value() : null;
+        this.createUsing = field.getAnnotation(CreateUsing.class);
+        this.primary = field.isAnnotationPresent(Primary.class);
+        this.keepAlive = field.isAnnotationPresent(KeepAlive.class);
+        this.pooled = field.isAnnotationPresent(Pooled.class);
+        this.createdAhead = field.isAnnotationPresent(CreateAhead.class);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public boolean isStatic() {
+        return staticField;
+    }
+
+    /**
+     * @return the entry point of the browser, an empty string for the
+     * configured default entry point or null if no entry point is declared
+     */
+    public String getEntryPoint() {
+        return entryPoint;
+    }
+
+    /**
+     * @return the {@link CreateUsing @CreateUsing} annotation of the field or
+     * null if there is none
+     */
+    public CreateUsing getCreateUsing() {
+        return createUsing;
+    }
+
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    public boolean isCreatedAhead() {
+        return createdAhead;
+    }
+
+}
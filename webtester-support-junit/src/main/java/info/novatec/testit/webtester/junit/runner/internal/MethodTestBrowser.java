@@ -1,7 +1,5 @@
 package info.novatec.testit.webtester.junit.runner.internal;
 
-import java.lang.reflect.Field;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,7 +10,7 @@ public class MethodTestBrowser extends AbstractTestBrowser {
 
     private Object target;
 
-    public MethodTestBrowser(Field browserField, Object target) {
+    public MethodTestBrowser(ManagedBrowserField browserField, Object target) {
         super(browserField);
         this.target = target;
     }
@@ -0,0 +1,218 @@
+package info.novatec.testit.webtester.junit.runner.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.RunnerScheduler;
+
+
+/**
+ * Executes the children of a runner in parallel using a fixed number of
+ * threads. The notifications of each child are recorded and replayed to the
+ * runner's notifier in the order in which the children were scheduled - so
+ * results are reported in the same order as if the children were executed
+ * sequentially.
+ * <p>
+ * Runners using this scheduler have to pass their notifier through
+ * {@link #notifierFor(RunNotifier)} when running a child.
+ *
+ * @since 1.2.0
+ */
+public class ParallelScheduler implements RunnerScheduler {
+
+    private static final ThreadLocal<RecordedNotifications> CURRENT_CHILD = new ThreadLocal<RecordedNotifications>();
+
+    private final ExecutorService executor;
+
+    private final List<Future<?>> children = new ArrayList<Future<?>>();
+    private final List<RecordedNotifications> notifications = new ArrayList<RecordedNotifications>();
+
+    public ParallelScheduler(int threads) {
+        this.executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+    }
+
+    /**
+     * Returns the notifier a child should be run with. If the current thread
+     * executes a child scheduled by a {@link ParallelScheduler}, a recording
+     * notifier is returned. Otherwise the given notifier is returned as is.
+     *
+     * @param notifier the runner's notifier
+     * @return the notifier to run the child with
+     * @since 1.2.0
+     */
+    public static RunNotifier notifierFor(RunNotifier notifier) {
+        RecordedNotifications child = CURRENT_CHILD.get();
+        if (child == null) {
+            return notifier;
+        }
+        // nested runners executed by the same thread must not record again
+        CURRENT_CHILD.remove();
+        return child.recordFor(notifier);
+    }
+
+    @Override
+    public void schedule(final Runnable childStatement) {
+        final RecordedNotifications child = new RecordedNotifications();
+        notifications.add(child);
+        children.add(executor.submit(new Runnable() {
+
+            @Override
+            public void run() {
+                CURRENT_CHILD.set(child);
+                try {
+                    childStatement.run();
+                } finally {
+                    CURRENT_CHILD.remove();
+                }
+            }
+
+        }));
+    }
+
+    @Override
+    public void finished() {
+        try {
+            for (int i = 0; i < children.size(); i++) {
+                waitFor(children.get(i));
+                notifications.get(i).replay();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void waitFor(Future<?> child) {
+        try {
+            child.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for parallel tests", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw ( RuntimeException ) cause;
+            } else if (cause instanceof Error) {
+                throw ( Error ) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+        private final int poolNumber = POOL_NUMBER.incrementAndGet();
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            String name = "webtester-junit-" + poolNumber + "-worker-" + threadNumber.incrementAndGet();
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+    /**
+     * Records all notifications of a single child in order to replay them to
+     * the runner's notifier later on.
+     */
+    private static final class RecordedNotifications extends RunListener {
+
+        private final List<Notification> recorded = new ArrayList<Notification>();
+        private RunNotifier target;
+
+        RunNotifier recordFor(RunNotifier notifier) {
+            this.target = notifier;
+            RunNotifier recorder = new RunNotifier();
+            recorder.addListener(this);
+            return recorder;
+        }
+
+        @Override
+        public synchronized void testStarted(Description description) {
+            recorded.add(new Notification(NotificationType.STARTED, description, null));
+        }
+
+        @Override
+        public synchronized void testFinished(Description description) {
+            recorded.add(new Notification(NotificationType.FINISHED, description, null));
+        }
+
+        @Override
+        public synchronized void testFailure(Failure failure) {
+            recorded.add(new Notification(NotificationType.FAILURE, null, failure));
+        }
+
+        @Override
+        public synchronized void testAssumptionFailure(Failure failure) {
+            recorded.add(new Notification(NotificationType.ASSUMPTION_FAILURE, null, failure));
+        }
+
+        @Override
+        public synchronized void testIgnored(Description description) {
+            recorded.add(new Notification(NotificationType.IGNORED, description, null));
+        }
+
+        synchronized void replay() {
+            if (target == null) {
+                return;
+            }
+            for (Notification notification : recorded) {
+                notification.replayTo(target);
+            }
+        }
+
+    }
+
+    private enum NotificationType {
+        STARTED, FINISHED, FAILURE, ASSUMPTION_FAILURE, IGNORED
+    }
+
+    private static final class Notification {
+
+        private final NotificationType type;
+        private final Description description;
+        private final Failure failure;
+
+        Notification(NotificationType type, Description description, Failure failure) {
+            this.type = type;
+            this.description = description;
+            this.failure = failure;
+        }
+
+        void replayTo(RunNotifier notifier) {
+            switch (type) {
+                case STARTED:
+                    notifier.fireTestStarted(description);
+                    break;
+                case FINISHED:
+                    notifier.fireTestFinished(description);
+                    break;
+                case FAILURE:
+                    notifier.fireTestFailure(failure);
+                    break;
+                case ASSUMPTION_FAILURE:
+                    notifier.fireTestAssumptionFailed(failure);
+                    break;
+                default:
+                    notifier.fireTestIgnored(description);
+                    break;
+            }
+        }
+
+    }
+
+}
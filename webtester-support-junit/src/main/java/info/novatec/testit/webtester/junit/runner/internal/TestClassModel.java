@@ -0,0 +1,189 @@
+package info.novatec.testit.webtester.junit.runner.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Resource;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.internal.ReflectionUtils;
+import info.novatec.testit.webtester.junit.annotations.ConfigurationValue;
+import info.novatec.testit.webtester.junit.annotations.Parallel;
+
+
+/**
+ * Immutable model of everything the runner needs to know about a test class:
+ * its managed browser fields (with their annotations) and its
+ * {@link ConfigurationValue @ConfigurationValue} fields (with their
+ * injectors). The model is computed once per class and cached - running a test
+ * method doesn't need any further reflection over the test class.
+ *
+ * @see ManagedBrowserField
+ * @see ConfigurationValueField
+ * @see TestClassPlausibilityChecker
+ * @since 1.2.0
+ */
+public final class TestClassModel {
+
+    private static final ConcurrentMap<Class<?>, TestClassModel> MODELS =
+        new ConcurrentHashMap<Class<?>, TestClassModel>();
+
+    private final Parallel parallel;
+
+    private final List<ManagedBrowserField> managedBrowsers;
+    private final List<ManagedBrowserField> classBrowsers;
+    private final List<ManagedBrowserField> methodBrowsers;
+
+    private final List<Field> configurationValueFields;
+    private final boolean staticConfigurationValuesUsed;
+    private final boolean instanceConfigurationValuesUsed;
+
+    private final List<ConfigurationValueField> staticConfigurationValues;
+    private final List<ConfigurationValueField> instanceConfigurationValues;
+
+    /**
+     * Returns the model of the given test class. The model is created on the
+     * first call for each class.
+     *
+     * @param testClass the test class
+     * @return the model of the class
+     */
+    public static TestClassModel of(Class<?> testClass) {
+        TestClassModel model = MODELS.get(testClass);
+        if (model == null) {
+            model = new TestClassModel(testClass);
+            TestClassModel existingModel = MODELS.putIfAbsent(testClass, model);
+            if (existingModel != null) {
+                model = existingModel;
+            }
+        }
+        return model;
+    }
+
+    private TestClassModel(Class<?> testClass) {
+
+        this.parallel = testClass.getAnnotation(Parallel.class);
+
+        List<ManagedBrowserField> allBrowsers = new ArrayList<ManagedBrowserField>();
+        List<ManagedBrowserField> staticBrowsers = new ArrayList<ManagedBrowserField>();
+        List<ManagedBrowserField> instanceBrowsers = new ArrayList<ManagedBrowserField>();
+        List<Field> valueFields = new ArrayList<Field>();
+        boolean staticValues = false;
+        boolean instanceValues = false;
+
+        for (Field field : ReflectionUtils.getAllFieldsOfClassHierarchy(testClass)) {
+            if (isManagedBrowser(field)) {
+                ManagedBrowserField browserField = new ManagedBrowserField(field);
+                allBrowsers.add(browserField);
+                if (browserField.isStatic()) {
+                    staticBrowsers.add(browserField);
+                } else {
+                    instanceBrowsers.add(browserField);
+                }
+            }
+            if (field.isAnnotationPresent(ConfigurationValue.class)) {
+                valueFields.add(field);
+                if (isStatic(field)) {
+                    staticValues = true;
+                } else {
+                    instanceValues = true;
+                }
+            }
+        }
+
+        this.managedBrowsers = Collections.unmodifiableList(allBrowsers);
+        this.classBrowsers = Collections.unmodifiableList(staticBrowsers);
+        this.methodBrowsers = Collections.unmodifiableList(instanceBrowsers);
+        this.configurationValueFields = Collections.unmodifiableList(valueFields);
+        this.staticConfigurationValuesUsed = staticValues;
+        this.instanceConfigurationValuesUsed = instanceValues;
+
+        // configuration values are only injected into fields declared by the test class itself
+        List<ConfigurationValueField> staticValueFields = new ArrayList<ConfigurationValueField>();
+        List<ConfigurationValueField> instanceValueFields = new ArrayList<ConfigurationValueField>();
+        for (Field field : testClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(ConfigurationValue.class)) {
+                if (isStatic(field)) {
+                    staticValueFields.add(new ConfigurationValueField(field));
+                } else {
+                    instanceValueFields.add(new ConfigurationValueField(field));
+                }
+            }
+        }
+        this.staticConfigurationValues = Collections.unmodifiableList(staticValueFields);
+        this.instanceConfigurationValues = Collections.unmodifiableList(instanceValueFields);
+
+    }
+
+    private static boolean isManagedBrowser(Field field) {
+        return Browser.class.isAssignableFrom(field.getType()) && field.isAnnotationPresent(Resource.class);
+    }
+
+    private static boolean isStatic(Field field) {
+        return Modifier.isStatic(field.getModifiers());
+    }
+
+    /**
+     * @return the {@link Parallel @Parallel} annotation of the test class or
+     * null if there is none
+     */
+    public Parallel getParallel() {
+        return parallel;
+    }
+
+    /**
+     * @return all managed browser fields of the class hierarchy
+     */
+    public List<ManagedBrowserField> getManagedBrowsers() {
+        return managedBrowsers;
+    }
+
+    /**
+     * @return all static managed browser fields of the class hierarchy
+     */
+    public List<ManagedBrowserField> getClassBrowsers() {
+        return classBrowsers;
+    }
+
+    /**
+     * @return all non static managed browser fields of the class hierarchy
+     */
+    public List<ManagedBrowserField> getMethodBrowsers() {
+        return methodBrowsers;
+    }
+
+    /**
+     * @return all fields of the class hierarchy annotated with
+     * {@link ConfigurationValue @ConfigurationValue}
+     */
+    public List<Field> getConfigurationValueFields() {
+        return configurationValueFields;
+    }
+
+    public boolean usesStaticConfigurationValues() {
+        return staticConfigurationValuesUsed;
+    }
+
+    public boolean usesInstanceConfigurationValues() {
+        return instanceConfigurationValuesUsed;
+    }
+
+    /**
+     * @return the static configuration value fields to inject
+     */
+    public List<ConfigurationValueField> getStaticConfigurationValues() {
+        return staticConfigurationValues;
+    }
+
+    /**
+     * @return the instance configuration value fields to inject
+     */
+    public List<ConfigurationValueField> getInstanceConfigurationValues() {
+        return instanceConfigurationValues;
+    }
+
+}
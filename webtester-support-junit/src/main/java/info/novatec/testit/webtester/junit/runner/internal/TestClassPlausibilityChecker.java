@@ -4,33 +4,38 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
-import javax.annotation.Resource;
 
-import info.novatec.testit.webtester.api.browser.Browser;
-import info.novatec.testit.webtester.internal.ReflectionUtils;
-import info.novatec.testit.webtester.junit.annotations.ConfigurationValue;
-import info.novatec.testit.webtester.junit.annotations.Primary;
+import info.novatec.testit.webtester.junit.annotations.Parallel;
+import info.novatec.testit.webtester.junit.exceptions.KeptAlivePooledBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoManagedBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoPrimaryBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoStaticPrimaryBrowserException;
+import info.novatec.testit.webtester.junit.exceptions.NoThreadConfinedBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoUniquePrimaryBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NotOfInjectableFieldTypeException;
 
 
 public class TestClassPlausibilityChecker {
 
-    private Set<Field> allFields;
+    private TestClassModel model;
+    private Parallel parallel;
 
     public TestClassPlausibilityChecker(Class<?> testClass) {
-        this.allFields = ReflectionUtils.getAllFieldsOfClassHierarchy(testClass);
+        this(TestClassModel.of(testClass));
+    }
+
+    public TestClassPlausibilityChecker(TestClassModel model) {
+        this.model = model;
+        this.parallel = model.getParallel();
     }
 
     public void assertPlausibilityOfTestClass() {
 
         assertThatNoMoreThenOnePrimaryBrowserIsDeclared();
+        assertThatNoBrowserIsSharedByParallelTests();
+        assertThatNoPooledBrowserIsKeptAlive();
 
-        List<Field> configurationValueFields = getConfigurationValueFields();
+        List<Field> configurationValueFields = model.getConfigurationValueFields();
         // TODO start page ticket - get all fields
         if (!configurationValueFields.isEmpty()) {
             Field primaryBrowserField = getRequiredPrimaryBrowserInstance();
@@ -41,13 +46,34 @@ public class TestClassPlausibilityChecker {
     }
 
     private void assertThatNoMoreThenOnePrimaryBrowserIsDeclared() {
-        List<Field> managedBrowserFields = getManagedBrowserFields();
-        List<Field> primaryBrowserFields = getPrimaryBrowserFields(managedBrowserFields);
+        List<ManagedBrowserField> managedBrowserFields = model.getManagedBrowsers();
+        List<ManagedBrowserField> primaryBrowserFields = getPrimaryBrowserFields(managedBrowserFields);
         if (primaryBrowserFields.size() > 1) {
             throw new NoUniquePrimaryBrowserException();
         }
     }
 
+    private void assertThatNoBrowserIsSharedByParallelTests() {
+        if (parallel == null || parallel.methods() <= 1) {
+            return;
+        }
+        for (ManagedBrowserField browserField : model.getManagedBrowsers()) {
+            if (browserField.isStatic()) {
+                throw new NoThreadConfinedBrowserException("the static browser field '" + browserField.getField().getName()
+                    + "' would be shared by tests running in parallel!");
+            }
+        }
+    }
+
+    private void assertThatNoPooledBrowserIsKeptAlive() {
+        for (ManagedBrowserField browserField : model.getManagedBrowsers()) {
+            if (browserField.isPooled() && browserField.isKeepAlive()) {
+                throw new KeptAlivePooledBrowserException("the pooled browser field '" + browserField.getField().getName()
+                    + "' can't be kept alive - it has to be released back to the pool!");
+            }
+        }
+    }
+
     private void assertPlausibilityOfConfigurationValueFields(List<Field> configurationValueFields,
         Field primaryBrowserField) {
         for (Field field : configurationValueFields) {
@@ -60,21 +86,21 @@ public class TestClassPlausibilityChecker {
 
     private Field getRequiredPrimaryBrowserInstance() {
 
-        List<Field> managedBrowserFields = getManagedBrowserFields();
+        List<ManagedBrowserField> managedBrowserFields = model.getManagedBrowsers();
         if (managedBrowserFields.isEmpty()) {
             throw new NoManagedBrowserException();
         }
 
         Field primaryBrowserField;
         if (managedBrowserFields.size() == 1) {
-            primaryBrowserField = managedBrowserFields.get(0);
+            primaryBrowserField = managedBrowserFields.get(0).getField();
         } else {
-            List<Field> primaryBrowserFields = getPrimaryBrowserFields(managedBrowserFields);
+            List<ManagedBrowserField> primaryBrowserFields = getPrimaryBrowserFields(managedBrowserFields);
             if (primaryBrowserFields.isEmpty()) {
                 throw new NoPrimaryBrowserException();
             }
             if (primaryBrowserFields.size() == 1) {
-                primaryBrowserField = primaryBrowserFields.get(0);
+                primaryBrowserField = primaryBrowserFields.get(0).getField();
             } else {
                 throw new NoUniquePrimaryBrowserException();
             }
@@ -84,44 +110,16 @@ public class TestClassPlausibilityChecker {
 
     }
 
-    private List<Field> getManagedBrowserFields() {
-        List<Field> managedBrowserFields = new LinkedList<Field>();
-        for (Field field : allFields) {
-            if (isBrowser(field) && isManaged(field)) {
-                managedBrowserFields.add(field);
-            }
-        }
-        return managedBrowserFields;
-    }
-
-    private boolean isBrowser(Field field) {
-        return Browser.class.isAssignableFrom(field.getType());
-    }
-
-    private boolean isManaged(Field field) {
-        return field.isAnnotationPresent(Resource.class);
-    }
-
-    private List<Field> getPrimaryBrowserFields(List<Field> managedBrowserFields) {
-        List<Field> primaryBowserFields = new LinkedList<Field>();
-        for (Field field : managedBrowserFields) {
-            if (field.isAnnotationPresent(Primary.class)) {
-                primaryBowserFields.add(field);
+    private List<ManagedBrowserField> getPrimaryBrowserFields(List<ManagedBrowserField> managedBrowserFields) {
+        List<ManagedBrowserField> primaryBowserFields = new LinkedList<ManagedBrowserField>();
+        for (ManagedBrowserField browserField : managedBrowserFields) {
+            if (browserField.isPrimary()) {
+                primaryBowserFields.add(browserField);
             }
         }
         return primaryBowserFields;
     }
 
-    private List<Field> getConfigurationValueFields() {
-        List<Field> configurationValueFields = new LinkedList<Field>();
-        for (Field field : allFields) {
-            if (field.isAnnotationPresent(ConfigurationValue.class)) {
-                configurationValueFields.add(field);
-            }
-        }
-        return configurationValueFields;
-    }
-
     private void assertInjectableTypeForConfigurationValueField(Field field) {
         if (!ConfigurationValueInjector.canInjectValue(field)) {
             throw new NotOfInjectableFieldTypeException(field);
@@ -0,0 +1,59 @@
+package info.novatec.testit.webtester.junit.runner;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserFactory;
+import info.novatec.testit.webtester.api.browser.ProxyConfiguration;
+import info.novatec.testit.webtester.browser.WebDriverBrowser;
+
+
+/**
+ * Creates browsers for mocked web drivers with a single open window. The
+ * names of the creating threads and the created web drivers are recorded and
+ * have to be cleared by the tests using them.
+ */
+public class MockBrowserFactory implements BrowserFactory {
+
+    static final List<String> CREATING_THREADS = Collections.synchronizedList(new ArrayList<String>());
+    static final List<WebDriver> CREATED_WEB_DRIVERS = Collections.synchronizedList(new ArrayList<WebDriver>());
+
+    static void reset() {
+        CREATING_THREADS.clear();
+        CREATED_WEB_DRIVERS.clear();
+    }
+
+    @Override
+    public Browser createBrowser() {
+        CREATING_THREADS.add(Thread.currentThread().getName());
+        WebDriver webDriver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        doReturn(Collections.singleton("window")).when(webDriver).getWindowHandles();
+        CREATED_WEB_DRIVERS.add(webDriver);
+        return createBrowser(webDriver);
+    }
+
+    @Override
+    public Browser createBrowser(WebDriver webDriver) {
+        return WebDriverBrowser.buildForWebDriver(webDriver);
+    }
+
+    @Override
+    public Browser createBrowser(DesiredCapabilities capabilities) {
+        return createBrowser();
+    }
+
+    @Override
+    public BrowserFactory withProxyConfiguration(ProxyConfiguration configuration) {
+        return this;
+    }
+
+}
@@ -0,0 +1,173 @@
+package info.novatec.testit.webtester.junit.runner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.verify;
+
+import javax.annotation.Resource;
+
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.junit.annotations.CreateAhead;
+import info.novatec.testit.webtester.junit.annotations.CreateUsing;
+import info.novatec.testit.webtester.junit.annotations.Primary;
+
+
+public class WebTesterJUnitRunnerBrowserProvisioningTest {
+
+    private static final String PROVISIONING_THREAD = "webtester-browser-provisioning-";
+
+    @Test
+    public void testThatBrowsersOfNextTestsAreCreatedAhead() {
+
+        MockBrowserFactory.reset();
+
+        Result result = JUnitCore.runClasses(CreatedAheadTestClass.class);
+
+        assertThat(result.wasSuccessful(), is(true));
+        // the first browser is created when needed, all others ahead of time
+        assertThat(MockBrowserFactory.CREATING_THREADS, hasSize(3));
+        assertThat(MockBrowserFactory.CREATING_THREADS.subList(1, 3), everyItem(startsWith(PROVISIONING_THREAD)));
+
+    }
+
+    @Test
+    public void testThatNoBrowsersAreCreatedAheadForFieldsInitializedByTheTest() {
+
+        MockBrowserFactory.reset();
+
+        Result result = JUnitCore.runClasses(InitializedCreatedAheadTestClass.class);
+
+        assertThat(result.wasSuccessful(), is(true));
+        // one browser per test instance, created by the field initializer
+        assertThat(MockBrowserFactory.CREATING_THREADS, hasSize(2));
+        assertThat(MockBrowserFactory.CREATING_THREADS, everyItem(not(startsWith(PROVISIONING_THREAD))));
+
+    }
+
+    @Test
+    public void testThatStaticBrowsersAreCreatedAtTheSameTime() {
+
+        MockBrowserFactory.reset();
+
+        Result result = JUnitCore.runClasses(StaticBrowsersTestClass.class);
+
+        assertThat(result.wasSuccessful(), is(true));
+        assertThat(MockBrowserFactory.CREATING_THREADS, hasSize(2));
+        assertThat(MockBrowserFactory.CREATING_THREADS, everyItem(startsWith(PROVISIONING_THREAD)));
+
+    }
+
+    @Test
+    public void testThatBrowsersCreatedInBackgroundAreClosedIfAnotherBrowserCantBeCreated() {
+
+        MockBrowserFactory.reset();
+
+        Result result = JUnitCore.runClasses(FailingStaticBrowserTestClass.class);
+
+        assertThat(result.wasSuccessful(), is(false));
+        assertThat(MockBrowserFactory.CREATED_WEB_DRIVERS, hasSize(1));
+        verify(MockBrowserFactory.CREATED_WEB_DRIVERS.get(0)).quit();
+
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class CreatedAheadTestClass {
+
+        @Resource
+        @CreateAhead
+        @CreateUsing(MockBrowserFactory.class)
+        Browser browser;
+
+        @Test
+        public void test1() {
+            // nothing to do
+        }
+
+        @Test
+        public void test2() {
+            // nothing to do
+        }
+
+        @Test
+        public void test3() {
+            // nothing to do
+        }
+
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class InitializedCreatedAheadTestClass {
+
+        @Resource
+        @CreateAhead
+        @CreateUsing(MockBrowserFactory.class)
+        Browser browser = new MockBrowserFactory().createBrowser();
+
+        @Test
+        public void test1() {
+            // nothing to do
+        }
+
+        @Test
+        public void test2() {
+            // nothing to do
+        }
+
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class StaticBrowsersTestClass {
+
+        @Primary
+        @Resource
+        @CreateUsing(MockBrowserFactory.class)
+        static Browser browser1;
+
+        @Resource
+        @CreateUsing(MockBrowserFactory.class)
+        static Browser browser2;
+
+        @Test
+        public void test() {
+            // nothing to do
+        }
+
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class FailingStaticBrowserTestClass {
+
+        @Resource
+        @CreateUsing(FailingFactory.class)
+        static Browser browser1;
+
+        @Resource
+        @CreateUsing(MockBrowserFactory.class)
+        static Browser browser2;
+
+        @Test
+        public void test() {
+            // nothing to do
+        }
+
+    }
+
+    public static class FailingFactory extends MockBrowserFactory {
+
+        @Override
+        public Browser createBrowser() {
+            throw new IllegalStateException("browser could not be started");
+        }
+
+    }
+
+}
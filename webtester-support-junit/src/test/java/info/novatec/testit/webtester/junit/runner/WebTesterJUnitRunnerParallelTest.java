@@ -0,0 +1,137 @@
+package info.novatec.testit.webtester.junit.runner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Resource;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.RunListener;
+import org.junit.runners.MethodSorters;
+import org.junit.runners.Suite.SuiteClasses;
+import org.mockito.Mockito;
+import org.openqa.selenium.WebDriver;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.browser.WebDriverBrowser;
+import info.novatec.testit.webtester.junit.annotations.Parallel;
+
+
+public class WebTesterJUnitRunnerParallelTest {
+
+    static CountDownLatch allMethodsStarted;
+    static CountDownLatch allClassesStarted;
+
+    @Test
+    public void testThatMethodsAreExecutedInParallelAndReportedInOrder() {
+
+        allMethodsStarted = new CountDownLatch(3);
+        List<String> reported = new ArrayList<String>();
+
+        Result result = run(ParallelMethods.class, reported);
+
+        assertThat(result.wasSuccessful(), is(true));
+        assertThat(reported, contains("a", "b", "c"));
+
+    }
+
+    @Test
+    public void testThatClassesOfSuiteAreExecutedInParallelAndReportedInOrder() {
+
+        allClassesStarted = new CountDownLatch(2);
+        List<String> reported = new ArrayList<String>();
+
+        Result result = run(ParallelClasses.class, reported);
+
+        assertThat(result.wasSuccessful(), is(true));
+        assertThat(reported, contains("first", "second"));
+
+    }
+
+    private static Result run(Class<?> testClass, final List<String> reported) {
+        JUnitCore core = new JUnitCore();
+        core.addListener(new RunListener() {
+
+            @Override
+            public void testFinished(Description description) {
+                reported.add(description.getMethodName());
+            }
+
+        });
+        return core.run(testClass);
+    }
+
+    private static void awaitOthers(CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        assertThat("tests were not executed in parallel", latch.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    @Parallel(methods = 3)
+    @FixMethodOrder(MethodSorters.NAME_ASCENDING)
+    public static class ParallelMethods {
+
+        @Resource
+        Browser browser = WebDriverBrowser.buildForWebDriver(Mockito.mock(WebDriver.class));
+
+        @Test
+        public void a() throws InterruptedException {
+            awaitOthers(allMethodsStarted);
+            // finishes last but is still reported first
+            Thread.sleep(100);
+            assertThat(browser, is(notNullValue()));
+        }
+
+        @Test
+        public void b() throws InterruptedException {
+            awaitOthers(allMethodsStarted);
+            assertThat(browser, is(notNullValue()));
+        }
+
+        @Test
+        public void c() throws InterruptedException {
+            awaitOthers(allMethodsStarted);
+            assertThat(browser, is(notNullValue()));
+        }
+
+    }
+
+    @RunWith(WebTesterSuite.class)
+    @SuiteClasses({ FirstClass.class, SecondClass.class })
+    @Parallel(classes = 2)
+    public static class ParallelClasses {
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class FirstClass {
+
+        @Test
+        public void first() throws InterruptedException {
+            awaitOthers(allClassesStarted);
+            Thread.sleep(100);
+        }
+
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class SecondClass {
+
+        @Test
+        public void second() throws InterruptedException {
+            awaitOthers(allClassesStarted);
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package info.novatec.testit.webtester.junit.runner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import javax.annotation.Resource;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.junit.annotations.CreateUsing;
+import info.novatec.testit.webtester.junit.annotations.Pooled;
+
+
+@RunWith(WebTesterJUnitRunner.class)
+public class WebTesterJUnitRunnerPooledBrowserTest {
+
+    private static Browser firstBrowser;
+
+    @Pooled
+    @Resource
+    @CreateUsing(MockBrowserFactory.class)
+    private Browser browser;
+
+    @Test
+    public void test1() {
+        assertThatBrowserIsReused();
+    }
+
+    @Test
+    public void test2() {
+        assertThatBrowserIsReused();
+    }
+
+    private void assertThatBrowserIsReused() {
+        assertThat(browser, is(notNullValue()));
+        if (firstBrowser == null) {
+            firstBrowser = browser;
+        } else {
+            assertThat(browser, is(sameInstance(firstBrowser)));
+        }
+    }
+
+}
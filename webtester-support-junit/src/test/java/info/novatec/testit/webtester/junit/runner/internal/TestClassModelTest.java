@@ -0,0 +1,136 @@
+package info.novatec.testit.webtester.junit.runner.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Resource;
+
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.junit.annotations.ConfigurationValue;
+import info.novatec.testit.webtester.junit.annotations.CreateAhead;
+import info.novatec.testit.webtester.junit.annotations.EntryPoint;
+import info.novatec.testit.webtester.junit.annotations.KeepAlive;
+import info.novatec.testit.webtester.junit.annotations.Parallel;
+import info.novatec.testit.webtester.junit.annotations.Pooled;
+import info.novatec.testit.webtester.junit.annotations.Primary;
+
+
+public class TestClassModelTest {
+
+    @Test
+    public void testThatModelIsCachedPerClass() {
+        assertThat(TestClassModel.of(TestClass.class), is(sameInstance(TestClassModel.of(TestClass.class))));
+    }
+
+    @Test
+    public void testThatManagedBrowsersAreSeparatedByScope() {
+
+        TestClassModel model = TestClassModel.of(TestClass.class);
+
+        assertThat(model.getManagedBrowsers().size(), is(2));
+        assertThat(names(model.getClassBrowsers()), contains("staticBrowser"));
+        assertThat(names(model.getMethodBrowsers()), contains("browser"));
+
+    }
+
+    @Test
+    public void testThatBrowserAnnotationsAreCaptured() {
+
+        ManagedBrowserField staticBrowser = TestClassModel.of(TestClass.class).getClassBrowsers().get(0);
+        assertThat(staticBrowser.isPrimary(), is(true));
+        assertThat(staticBrowser.isKeepAlive(), is(true));
+        assertThat(staticBrowser.getEntryPoint(), is("http://localhost"));
+        assertThat(staticBrowser.isPooled(), is(false));
+
+        ManagedBrowserField browser = TestClassModel.of(TestClass.class).getMethodBrowsers().get(0);
+        assertThat(browser.isPrimary(), is(false));
+        assertThat(browser.isKeepAlive(), is(false));
+        assertThat(browser.getEntryPoint(), is(nullValue()));
+        assertThat(browser.isPooled(), is(true));
+        assertThat(browser.isCreatedAhead(), is(true));
+        assertThat(browser.getCreateUsing(), is(nullValue()));
+
+    }
+
+    @Test
+    public void testThatConfigurationValuesAreSeparatedByScope() {
+
+        TestClassModel model = TestClassModel.of(TestClass.class);
+
+        assertThat(model.usesStaticConfigurationValues(), is(true));
+        assertThat(model.usesInstanceConfigurationValues(), is(true));
+        assertThat(model.getConfigurationValueFields().size(), is(2));
+        assertThat(model.getStaticConfigurationValues().get(0).getField().getName(), is("staticProperty"));
+        assertThat(model.getInstanceConfigurationValues().get(0).getField().getName(), is("property"));
+
+    }
+
+    @Test
+    public void testThatParallelAnnotationIsCaptured() {
+        assertThat(TestClassModel.of(TestClass.class).getParallel().methods(), is(2));
+        assertThat(TestClassModel.of(EmptyTestClass.class).getParallel(), is(nullValue()));
+    }
+
+    @Test
+    public void testThatClassWithoutAnnotatedFieldsHasEmptyModel() {
+
+        TestClassModel model = TestClassModel.of(EmptyTestClass.class);
+
+        assertThat(model.getManagedBrowsers().isEmpty(), is(true));
+        assertThat(model.getConfigurationValueFields().isEmpty(), is(true));
+        assertThat(model.usesStaticConfigurationValues(), is(false));
+        assertThat(model.usesInstanceConfigurationValues(), is(false));
+
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testThatModelIsImmutable() {
+        TestClassModel.of(TestClass.class).getMethodBrowsers().clear();
+    }
+
+    private static List<String> names(List<ManagedBrowserField> browserFields) {
+        List<String> names = new ArrayList<String>();
+        for (ManagedBrowserField browserField : browserFields) {
+            names.add(browserField.getField().getName());
+        }
+        return names;
+    }
+
+    @Parallel(methods = 2)
+    private static class TestClass {
+
+        @Primary
+        @KeepAlive
+        @Resource
+        @EntryPoint("http://localhost")
+        static Browser staticBrowser;
+
+        @Pooled
+        @CreateAhead
+        @Resource
+        Browser browser;
+
+        Browser unmanagedBrowser;
+
+        @ConfigurationValue("static.property")
+        static String staticProperty;
+
+        @ConfigurationValue("property")
+        String property;
+
+    }
+
+    private static class EmptyTestClass {
+
+        String value;
+
+    }
+
+}
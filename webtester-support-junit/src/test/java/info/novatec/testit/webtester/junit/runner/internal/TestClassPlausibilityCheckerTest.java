@@ -7,10 +7,15 @@ import org.junit.Test;
 
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.junit.annotations.ConfigurationValue;
+import info.novatec.testit.webtester.junit.annotations.KeepAlive;
+import info.novatec.testit.webtester.junit.annotations.Parallel;
+import info.novatec.testit.webtester.junit.annotations.Pooled;
 import info.novatec.testit.webtester.junit.annotations.Primary;
+import info.novatec.testit.webtester.junit.exceptions.KeptAlivePooledBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoManagedBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoPrimaryBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoStaticPrimaryBrowserException;
+import info.novatec.testit.webtester.junit.exceptions.NoThreadConfinedBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoUniquePrimaryBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NotOfInjectableFieldTypeException;
 
@@ -123,6 +128,46 @@ public class TestClassPlausibilityCheckerTest {
 
     }
 
+    @Test(expected = NoThreadConfinedBrowserException.class)
+    public void testThatParallelTestsCantShareStaticBrowsers() {
+        assertTestClass(ParallelTestClassWithStaticBrowser.class);
+    }
+
+    @Parallel(methods = 2)
+    private static class ParallelTestClassWithStaticBrowser {
+
+        @Resource
+        static Browser staticBrowser;
+
+    }
+
+    @Test
+    public void testThatParallelTestsCanUseInstanceBrowsers() {
+        assertTestClass(ParallelTestClassWithInstanceBrowser.class);
+    }
+
+    @Parallel(methods = 2)
+    private static class ParallelTestClassWithInstanceBrowser {
+
+        @Resource
+        Browser browser;
+
+    }
+
+    @Test(expected = KeptAlivePooledBrowserException.class)
+    public void testThatPooledBrowsersCantBeKeptAlive() {
+        assertTestClass(KeptAlivePooledBrowserTestClass.class);
+    }
+
+    private static class KeptAlivePooledBrowserTestClass {
+
+        @Pooled
+        @KeepAlive
+        @Resource
+        Browser browser;
+
+    }
+
     /* utilities */
 
     private void assertTestClass(Class<?> testClass) {
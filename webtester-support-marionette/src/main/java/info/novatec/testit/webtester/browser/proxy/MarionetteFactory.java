@@ -10,20 +10,42 @@ import org.openqa.selenium.remote.DesiredCapabilities;
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.browser.BrowserFactory;
 import info.novatec.testit.webtester.api.browser.ProxyConfiguration;
+import info.novatec.testit.webtester.browser.BrowserPool;
+import info.novatec.testit.webtester.browser.SharedDriverService;
 import info.novatec.testit.webtester.browser.WebDriverBrowser;
 
 
 /**
  * Factory class for creating Firefox {@link Browser} objects using the Marionette driver.
+ * <p>
+ * By default every browser starts its own geckodriver server. Using
+ * {@link #withSharedDriverService()} the browsers of the factory reuse a single,
+ * long-lived geckodriver server instead. Since a geckodriver server can only
+ * host one session at a time, the browsers of a shared service must not be
+ * used in parallel - use a separate {@link SharedDriverService} per thread
+ * (see {@link #withSharedDriverService(SharedDriverService)}) in that case.
+ * <p>
+ * Factories referenced by class (e.g. via the JUnit support's
+ * <code>@CreateUsing</code>) are created with their default constructor and
+ * therefore don't use a shared driver server. A subclass calling
+ * {@link #withSharedDriverService()} in its constructor can be referenced
+ * instead. Such a factory must not be used by a {@link BrowserPool}: idle
+ * pooled browsers keep their session open, so no further browser could be
+ * created.
  *
  * @see Browser
  * @see MarionetteDriver
  * @see GeckoDriverService
+ * @see SharedDriverService
  * @since 1.2
  */
 public class MarionetteFactory implements BrowserFactory {
 
+    private static final SharedDriverService<GeckoDriverService> JVM_SHARED_DRIVER_SERVICE =
+        new SharedDriverService<GeckoDriverService>(new GeckoDriverService.Builder());
+
     private ProxyConfiguration proxyConfiguration;
+    private SharedDriverService<GeckoDriverService> sharedDriverService;
 
     /**
      * Creates a new {@link Browser} object for a Firefox Marionette web browser with a
@@ -45,13 +67,16 @@ public class MarionetteFactory implements BrowserFactory {
     @Override
     public Browser createBrowser() {
 
-        GeckoDriverService service = GeckoDriverService.createDefaultService();
-
         DesiredCapabilities capabilities = new DesiredCapabilities();
         capabilities.setCapability(CapabilityType.HAS_NATIVE_EVENTS, false);
         capabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, true);
         setOptionalProxyConfiguration(capabilities);
 
+        if (sharedDriverService != null) {
+            return createBrowser(capabilities);
+        }
+
+        GeckoDriverService service = GeckoDriverService.createDefaultService();
         return createBrowser(new MarionetteDriver(service, capabilities));
     }
 
@@ -88,6 +113,9 @@ public class MarionetteFactory implements BrowserFactory {
 
     @Override
     public Browser createBrowser(DesiredCapabilities capabilities) {
+        if (sharedDriverService != null) {
+            return WebDriverBrowser.buildForWebDriver(sharedDriverService.startSession(capabilities));
+        }
         return createBrowser(new MarionetteDriver(capabilities));
     }
 
@@ -116,4 +144,31 @@ public class MarionetteFactory implements BrowserFactory {
         return this;
     }
 
+    /**
+     * Creates all further browsers of this factory as sessions of a single
+     * geckodriver server which is shared within the JVM. The server is started
+     * with the first browser and stopped when the JVM shuts down. A browser
+     * has to be closed before the next one can be created.
+     *
+     * @return the same factory for fluent API use
+     * @since 1.2.0
+     */
+    public MarionetteFactory withSharedDriverService() {
+        return withSharedDriverService(JVM_SHARED_DRIVER_SERVICE);
+    }
+
+    /**
+     * Creates all further browsers of this factory as sessions of the given
+     * shared driver service. This can be used to share a geckodriver server
+     * e.g. per thread instead of JVM wide.
+     *
+     * @param driverService the shared driver service to use
+     * @return the same factory for fluent API use
+     * @since 1.2.0
+     */
+    public MarionetteFactory withSharedDriverService(SharedDriverService<GeckoDriverService> driverService) {
+        sharedDriverService = driverService;
+        return this;
+    }
+
 }